@@ -20,12 +20,15 @@ import static com.linecorp.armeria.internal.common.KeepAliveHandlerUtil.needsKee
 
 import com.google.common.collect.ImmutableList;
 
+import com.linecorp.armeria.common.Flags;
 import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.metric.MoreMeters;
 import com.linecorp.armeria.internal.common.AbstractHttp2ConnectionHandler;
 import com.linecorp.armeria.internal.common.KeepAliveHandler;
 import com.linecorp.armeria.internal.common.NoopKeepAliveHandler;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 import io.netty.channel.Channel;
@@ -43,13 +46,26 @@ final class Http2ClientConnectionHandler extends AbstractHttp2ConnectionHandler
                                  HttpClientFactory clientFactory, SessionProtocol protocol) {
 
         super(decoder, encoder, initialSettings,
-              newKeepAliveHandler(encoder, channel, clientFactory, protocol));
+              newKeepAliveHandler(encoder, channel, clientFactory, protocol),
+              newWritesPerFlush(clientFactory, protocol));
 
         responseDecoder = new Http2ResponseDecoder(channel, encoder(), clientFactory, keepAliveHandler());
         connection().addListener(responseDecoder);
         decoder().frameListener(responseDecoder);
     }
 
+    @Nullable
+    private static DistributionSummary newWritesPerFlush(HttpClientFactory clientFactory,
+                                                         SessionProtocol protocol) {
+        if (!Flags.consolidateHttp2Flushes()) {
+            // Do not register the meter for the flush consolidation which is not enabled.
+            return null;
+        }
+        return MoreMeters.newDistributionSummary(clientFactory.meterRegistry(),
+                                                 "armeria.client.http2.writes.per.flush",
+                                                 ImmutableList.of(Tag.of("protocol", protocol.uriText())));
+    }
+
     private static KeepAliveHandler newKeepAliveHandler(
             Http2ConnectionEncoder encoder, Channel channel,
             HttpClientFactory clientFactory, SessionProtocol protocol) {
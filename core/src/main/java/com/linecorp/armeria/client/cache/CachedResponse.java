@@ -0,0 +1,301 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.cache;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.base.Ascii;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import com.linecorp.armeria.common.ClientCacheControl;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpHeaders;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.ResponseHeadersBuilder;
+import com.linecorp.armeria.common.ServerCacheControl;
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.buffer.Unpooled;
+import io.netty.util.AsciiString;
+
+/**
+ * An {@link HttpResponse} stored in the cache of {@link CachingClient}, with the information required to
+ * determine its freshness as defined in
+ * <a href="https://datatracker.ietf.org/doc/html/rfc9111">RFC 9111</a>.
+ */
+final class CachedResponse {
+
+    /**
+     * The status codes which are cacheable by default.
+     * See <a href="https://datatracker.ietf.org/doc/html/rfc9110#section-15.1">RFC 9110, Section 15.1</a>.
+     */
+    private static final Set<Integer> cacheableStatusCodes =
+            ImmutableSet.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501);
+
+    /**
+     * The upper bound of the heuristic freshness lifetime computed from {@code "last-modified"}.
+     */
+    private static final long MAX_HEURISTIC_FRESHNESS_NANOS = SECONDS.toNanos(86400);
+
+    private static final Splitter VARY_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    /**
+     * The headers which must not be updated by a {@code "304 Not Modified"} response.
+     */
+    private static final Set<AsciiString> nonUpdatableHeaders =
+            ImmutableSet.of(HttpHeaderNames.CONTENT_LENGTH, HttpHeaderNames.CONTENT_ENCODING,
+                            HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderNames.CONTENT_RANGE);
+
+    /**
+     * Returns whether the response with the specified {@link ResponseHeaders} may be stored.
+     */
+    static boolean isCacheable(ResponseHeaders headers) {
+        if (!cacheableStatusCodes.contains(headers.status().code())) {
+            return false;
+        }
+        if (ServerCacheControl.parse(headers.getAll(HttpHeaderNames.CACHE_CONTROL)).noStore()) {
+            return false;
+        }
+        for (String name : VARY_SPLITTER.split(headers.get(HttpHeaderNames.VARY, ""))) {
+            if ("*".equals(name)) {
+                return false;
+            }
+        }
+        // A response which cannot be reused without revalidation and has no validators is useless.
+        return freshnessLifetimeNanos(headers) > 0 ||
+               headers.contains(HttpHeaderNames.ETAG) ||
+               headers.contains(HttpHeaderNames.LAST_MODIFIED);
+    }
+
+    static CachedResponse of(RequestHeaders requestHeaders, ResponseHeaders headers, byte[] content,
+                             HttpHeaders trailers, long responseTimeNanos, boolean offHeap) {
+        return new CachedResponse(varyValues(requestHeaders, headers), headers, content, trailers,
+                                  responseTimeNanos, offHeap);
+    }
+
+    private static Map<String, String> varyValues(RequestHeaders requestHeaders, ResponseHeaders headers) {
+        final String vary = headers.get(HttpHeaderNames.VARY);
+        if (vary == null) {
+            return ImmutableMap.of();
+        }
+        final ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+        for (String name : ImmutableSet.copyOf(VARY_SPLITTER.split(Ascii.toLowerCase(vary)))) {
+            builder.put(name, String.join(",", requestHeaders.getAll(name)));
+        }
+        return builder.build();
+    }
+
+    private static long freshnessLifetimeNanos(ResponseHeaders headers) {
+        final ServerCacheControl cacheControl =
+                ServerCacheControl.parse(headers.getAll(HttpHeaderNames.CACHE_CONTROL));
+        if (cacheControl.noCache()) {
+            return 0;
+        }
+        // "s-maxage" is ignored because this is a private cache.
+        if (cacheControl.maxAgeSeconds() >= 0) {
+            return SECONDS.toNanos(cacheControl.maxAgeSeconds());
+        }
+
+        final Long date = headers.getTimeMillis(HttpHeaderNames.DATE);
+        final long dateMillis = date != null ? date : System.currentTimeMillis();
+        if (headers.contains(HttpHeaderNames.EXPIRES)) {
+            // An invalid "expires" means the response is already expired.
+            final Long expires = headers.getTimeMillis(HttpHeaderNames.EXPIRES);
+            return expires != null ? MILLISECONDS.toNanos(Math.max(0, expires - dateMillis)) : 0;
+        }
+
+        final Long lastModified = headers.getTimeMillis(HttpHeaderNames.LAST_MODIFIED);
+        if (lastModified != null) {
+            // Use 10% of the time since the last modification as suggested by RFC 9111, Section 4.2.2.
+            return Math.min(MAX_HEURISTIC_FRESHNESS_NANOS,
+                            MILLISECONDS.toNanos(Math.max(0, dateMillis - lastModified) / 10));
+        }
+        return 0;
+    }
+
+    private final Map<String, String> varyValues;
+    private final ResponseHeaders headers;
+    @Nullable
+    private final byte[] heapContent;
+    @Nullable
+    private final ByteBuffer offHeapContent;
+    private final HttpHeaders trailers;
+    private final long responseTimeNanos;
+    private final long initialAgeNanos;
+    private final long freshnessLifetimeNanos;
+    private final boolean mustRevalidate;
+    private final int weight;
+
+    private CachedResponse(Map<String, String> varyValues, ResponseHeaders headers, byte[] content,
+                           HttpHeaders trailers, long responseTimeNanos, boolean offHeap) {
+        this.varyValues = varyValues;
+        this.headers = headers;
+        if (offHeap && content.length > 0) {
+            final ByteBuffer buf = ByteBuffer.allocateDirect(content.length);
+            buf.put(content).flip();
+            heapContent = null;
+            offHeapContent = buf;
+        } else {
+            heapContent = content;
+            offHeapContent = null;
+        }
+        this.trailers = trailers;
+        this.responseTimeNanos = responseTimeNanos;
+        initialAgeNanos = SECONDS.toNanos(Math.max(0, headers.getLong(HttpHeaderNames.AGE, 0)));
+        freshnessLifetimeNanos = freshnessLifetimeNanos(headers);
+        mustRevalidate = ServerCacheControl.parse(headers.getAll(HttpHeaderNames.CACHE_CONTROL))
+                                           .mustRevalidate();
+
+        int headersSize = 0;
+        for (Map.Entry<AsciiString, String> e : headers) {
+            headersSize += e.getKey().length() + e.getValue().length();
+        }
+        weight = headersSize + content.length;
+    }
+
+    /**
+     * Returns whether this response was selected with the same values of the headers listed in
+     * {@code "vary"} as the specified {@link RequestHeaders}.
+     */
+    boolean matches(RequestHeaders requestHeaders) {
+        for (Map.Entry<String, String> e : varyValues.entrySet()) {
+            if (!e.getValue().equals(String.join(",", requestHeaders.getAll(e.getKey())))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether this response can be served without revalidation for a request with
+     * the specified {@link ClientCacheControl}.
+     */
+    boolean isFresh(ClientCacheControl cacheControl, long nowNanos) {
+        if (cacheControl.noCache()) {
+            return false;
+        }
+        final long ageNanos = ageNanos(nowNanos);
+        if (cacheControl.maxAgeSeconds() >= 0 && ageNanos > SECONDS.toNanos(cacheControl.maxAgeSeconds())) {
+            return false;
+        }
+        final long minFreshNanos = SECONDS.toNanos(Math.max(0, cacheControl.minFreshSeconds()));
+        if (freshnessLifetimeNanos - ageNanos > minFreshNanos) {
+            return true;
+        }
+        if (mustRevalidate || !cacheControl.hasMaxStale()) {
+            return false;
+        }
+        final long maxStaleSeconds = cacheControl.maxStaleSeconds();
+        return maxStaleSeconds < 0 ||
+               ageNanos - freshnessLifetimeNanos <= SECONDS.toNanos(maxStaleSeconds);
+    }
+
+    @Nullable
+    String etag() {
+        return headers.get(HttpHeaderNames.ETAG);
+    }
+
+    @Nullable
+    String lastModified() {
+        return headers.get(HttpHeaderNames.LAST_MODIFIED);
+    }
+
+    boolean hasValidator() {
+        return headers.contains(HttpHeaderNames.ETAG) || headers.contains(HttpHeaderNames.LAST_MODIFIED);
+    }
+
+    int weight() {
+        return weight;
+    }
+
+    /**
+     * Returns a new {@link CachedResponse} whose headers are updated with the specified headers of
+     * a {@code "304 Not Modified"} response.
+     */
+    CachedResponse revalidated(ResponseHeaders notModifiedHeaders, long responseTimeNanos) {
+        final ResponseHeadersBuilder builder = headers.toBuilder();
+        for (Map.Entry<AsciiString, String> e : notModifiedHeaders) {
+            final AsciiString name = e.getKey();
+            if (name.byteAt(0) != ':' && !nonUpdatableHeaders.contains(name)) {
+                builder.remove(name);
+            }
+        }
+        for (Map.Entry<AsciiString, String> e : notModifiedHeaders) {
+            final AsciiString name = e.getKey();
+            if (name.byteAt(0) != ':' && !nonUpdatableHeaders.contains(name)) {
+                builder.add(name, e.getValue());
+            }
+        }
+        if (!notModifiedHeaders.contains(HttpHeaderNames.AGE)) {
+            builder.remove(HttpHeaderNames.AGE);
+        }
+        final byte[] content = heapContent != null ? heapContent : copyOffHeapContent();
+        return new CachedResponse(varyValues, builder.build(), content, trailers, responseTimeNanos,
+                                  offHeapContent != null);
+    }
+
+    private byte[] copyOffHeapContent() {
+        assert offHeapContent != null;
+        final byte[] content = new byte[offHeapContent.remaining()];
+        offHeapContent.duplicate().get(content);
+        return content;
+    }
+
+    /**
+     * Returns a new {@link HttpResponse} which serves this cached response.
+     */
+    HttpResponse toResponse(long nowNanos) {
+        final HttpData content;
+        if (heapContent != null) {
+            content = HttpData.wrap(heapContent);
+        } else {
+            assert offHeapContent != null;
+            // The wrapped buffer does not free the ByteBuffer when released.
+            content = HttpData.wrap(Unpooled.wrappedBuffer(offHeapContent.duplicate()));
+        }
+        final long ageSeconds = NANOSECONDS.toSeconds(ageNanos(nowNanos));
+        final ResponseHeaders headers = this.headers.toBuilder()
+                                                    .setLong(HttpHeaderNames.AGE, ageSeconds)
+                                                    .build();
+        return HttpResponse.of(headers, content, trailers);
+    }
+
+    private long ageNanos(long nowNanos) {
+        return initialAgeNanos + Math.max(0, nowNanos - responseTimeNanos);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("headers", headers)
+                          .add("freshnessLifetimeNanos", freshnessLifetimeNanos)
+                          .add("weight", weight)
+                          .toString();
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.DecoratingClient;
+import com.linecorp.armeria.client.HttpClient;
+import com.linecorp.armeria.client.SimpleDecoratingHttpClient;
+import com.linecorp.armeria.common.ClientCacheControl;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpHeaders;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpObject;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.RequestHeadersBuilder;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.SplitHttpResponse;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLogProperty;
+import com.linecorp.armeria.common.stream.NoopSubscriber;
+import com.linecorp.armeria.common.util.Ticker;
+
+/**
+ * A {@link DecoratingClient} that caches the responses of {@code GET} requests in memory and serves them
+ * while they are fresh, following the {@code "cache-control"}, {@code "expires"}, {@code "etag"} and
+ * {@code "last-modified"} headers as a private cache defined in
+ * <a href="https://datatracker.ietf.org/doc/html/rfc9111">RFC 9111</a>.
+ *
+ * <p>When a cached response becomes stale, {@link CachingClient} revalidates it by sending a conditional
+ * request with {@code "if-none-match"} or {@code "if-modified-since"}. If the server responds with
+ * {@code "304 Not Modified"}, the cached content is served with the updated headers.
+ *
+ * <p>The {@code "cache-control"} directives of a request such as {@code "no-cache"}, {@code "no-store"},
+ * {@code "max-age"}, {@code "max-stale"}, {@code "min-fresh"} and {@code "only-if-cached"} are respected.
+ * See {@link ClientCacheControl}. A successful request with an unsafe method such as {@code POST}
+ * invalidates the cached response of the same URI.
+ *
+ * <pre>{@code
+ * WebClient client =
+ *     WebClient.builder("https://catalog.example.com")
+ *              .decorator(CachingClient.builder()
+ *                                      .maxCacheSizeBytes(64 * 1024 * 1024)
+ *                                      .newDecorator())
+ *              .build();
+ * }</pre>
+ */
+@UnstableApi
+public final class CachingClient extends SimpleDecoratingHttpClient {
+
+    /**
+     * Returns a new {@link HttpClient} decorator that caches responses with the default settings.
+     */
+    public static Function<? super HttpClient, CachingClient> newDecorator() {
+        return builder().newDecorator();
+    }
+
+    /**
+     * Returns a new {@link CachingClientBuilder}.
+     */
+    public static CachingClientBuilder builder() {
+        return new CachingClientBuilder();
+    }
+
+    private final Cache<String, CachedResponse> cache;
+    private final int maxContentLength;
+    private final boolean offHeap;
+    private final Ticker ticker;
+
+    CachingClient(HttpClient delegate, long maxCacheSizeBytes, int maxContentLength, boolean offHeap,
+                  Ticker ticker) {
+        super(delegate);
+        cache = Caffeine.newBuilder()
+                        .maximumWeight(maxCacheSizeBytes)
+                        .<String, CachedResponse>weigher((key, value) -> key.length() + value.weight())
+                        .build();
+        this.maxContentLength = maxContentLength;
+        this.offHeap = offHeap;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public HttpResponse execute(ClientRequestContext ctx, HttpRequest req) throws Exception {
+        final RequestHeaders headers = req.headers();
+        final HttpMethod method = headers.method();
+        if (method != HttpMethod.GET) {
+            if (!isSafe(method)) {
+                invalidateOnSuccess(ctx, cacheKey(ctx));
+            }
+            return unwrap().execute(ctx, req);
+        }
+        if (isConditionalOrRange(headers)) {
+            // Let the caller handle the response by itself.
+            return unwrap().execute(ctx, req);
+        }
+
+        final ClientCacheControl cacheControl =
+                ClientCacheControl.parse(headers.getAll(HttpHeaderNames.CACHE_CONTROL));
+        if (cacheControl.noStore()) {
+            return unwrap().execute(ctx, req);
+        }
+
+        final String key = cacheKey(ctx);
+        final CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null && cached.matches(headers)) {
+            final long now = ticker.read();
+            if (cached.isFresh(cacheControl, now)) {
+                return cached.toResponse(now);
+            }
+            if (!cacheControl.onlyIfCached() && cached.hasValidator()) {
+                return revalidate(ctx, req, key, cached);
+            }
+        }
+
+        if (cacheControl.onlyIfCached()) {
+            return HttpResponse.of(HttpStatus.GATEWAY_TIMEOUT);
+        }
+        return fetch(ctx, req, key);
+    }
+
+    private HttpResponse fetch(ClientRequestContext ctx, HttpRequest req, String key) throws Exception {
+        return collect(req.headers(), key, unwrap().execute(ctx, req));
+    }
+
+    private HttpResponse revalidate(ClientRequestContext ctx, HttpRequest req, String key,
+                                    CachedResponse cached) throws Exception {
+        final RequestHeadersBuilder builder = req.headers().toBuilder();
+        final String etag = cached.etag();
+        if (etag != null) {
+            builder.set(HttpHeaderNames.IF_NONE_MATCH, etag);
+        }
+        final String lastModified = cached.lastModified();
+        if (lastModified != null) {
+            builder.set(HttpHeaderNames.IF_MODIFIED_SINCE, lastModified);
+        }
+        final HttpRequest conditionalReq = req.withHeaders(builder);
+        ctx.updateRequest(conditionalReq);
+
+        final SplitHttpResponse splitResponse = unwrap().execute(ctx, conditionalReq).split();
+        return HttpResponse.of(splitResponse.headers().thenApply(headers -> {
+            if (headers.status() == HttpStatus.NOT_MODIFIED) {
+                // A "304 Not Modified" response does not have content.
+                splitResponse.body().subscribe(NoopSubscriber.get());
+                final long now = ticker.read();
+                final CachedResponse revalidated = cached.revalidated(headers, now);
+                cache.put(key, revalidated);
+                return revalidated.toResponse(now);
+            }
+            final HttpResponse res = HttpResponse.of(
+                    headers, splitResponse.body(),
+                    unused -> splitResponse.trailers().getNow(HttpHeaders.of()));
+            return collect(req.headers(), key, res);
+        }));
+    }
+
+    /**
+     * Returns a new {@link HttpResponse} which stores the specified {@link HttpResponse} into the cache
+     * when it is complete, if the response is cacheable.
+     */
+    private HttpResponse collect(RequestHeaders requestHeaders, String key, HttpResponse res) {
+        final ResponseCollector collector = new ResponseCollector();
+        // Store the response before the completion is signaled so that the subsequent requests can use it.
+        return HttpResponse.of(res.peek(collector).endWith(cause -> {
+            if (cause == null) {
+                final CachedResponse cached = collector.toCachedResponse(requestHeaders);
+                if (cached != null) {
+                    cache.put(key, cached);
+                } else {
+                    cache.invalidate(key);
+                }
+            }
+            return null;
+        }));
+    }
+
+    private void invalidateOnSuccess(ClientRequestContext ctx, String key) {
+        ctx.log().whenAvailable(RequestLogProperty.RESPONSE_HEADERS).thenAccept(log -> {
+            final HttpStatus status = log.responseHeaders().status();
+            if (status.isSuccess() || status.isRedirection()) {
+                cache.invalidate(key);
+            }
+        });
+    }
+
+    @VisibleForTesting
+    long cacheSize() {
+        return cache.estimatedSize();
+    }
+
+    private static boolean isSafe(HttpMethod method) {
+        switch (method) {
+            case GET:
+            case HEAD:
+            case OPTIONS:
+            case TRACE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isConditionalOrRange(RequestHeaders headers) {
+        return headers.contains(HttpHeaderNames.IF_NONE_MATCH) ||
+               headers.contains(HttpHeaderNames.IF_MODIFIED_SINCE) ||
+               headers.contains(HttpHeaderNames.IF_MATCH) ||
+               headers.contains(HttpHeaderNames.IF_UNMODIFIED_SINCE) ||
+               headers.contains(HttpHeaderNames.RANGE);
+    }
+
+    private static String cacheKey(ClientRequestContext ctx) {
+        return ctx.uri().toString();
+    }
+
+    /**
+     * Copies the {@link HttpObject}s of a cacheable response while they are sent to the caller.
+     */
+    private final class ResponseCollector implements Consumer<HttpObject> {
+
+        @Nullable
+        private ResponseHeaders headers;
+        @Nullable
+        private ByteArrayOutputStream content;
+        private HttpHeaders trailers = HttpHeaders.of();
+        private long responseTimeNanos;
+
+        @Override
+        public void accept(HttpObject obj) {
+            if (obj instanceof ResponseHeaders) {
+                final ResponseHeaders headers = (ResponseHeaders) obj;
+                if (headers.status().isInformational()) {
+                    return;
+                }
+                responseTimeNanos = ticker.read();
+                if (CachedResponse.isCacheable(headers) &&
+                    headers.contentLength() <= maxContentLength) {
+                    this.headers = headers;
+                    content = new ByteArrayOutputStream();
+                }
+                return;
+            }
+
+            final ByteArrayOutputStream content = this.content;
+            if (content == null) {
+                return;
+            }
+            if (obj instanceof HttpData) {
+                final HttpData data = (HttpData) obj;
+                if (content.size() + data.length() > maxContentLength) {
+                    // Too large to cache.
+                    this.content = null;
+                    return;
+                }
+                content.write(data.array(), 0, data.length());
+            } else if (obj instanceof HttpHeaders) {
+                trailers = (HttpHeaders) obj;
+            }
+        }
+
+        @Nullable
+        CachedResponse toCachedResponse(RequestHeaders requestHeaders) {
+            final ResponseHeaders headers = this.headers;
+            final ByteArrayOutputStream content = this.content;
+            if (headers == null || content == null) {
+                return null;
+            }
+            return CachedResponse.of(requestHeaders, headers, content.toByteArray(), trailers,
+                                     responseTimeNanos, offHeap);
+        }
+    }
+}
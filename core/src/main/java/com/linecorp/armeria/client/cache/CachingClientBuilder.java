@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.client.HttpClient;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.util.Ticker;
+
+/**
+ * A builder for creating a new {@link CachingClient}.
+ */
+@UnstableApi
+public final class CachingClientBuilder {
+
+    static final long DEFAULT_MAX_CACHE_SIZE_BYTES = 32 * 1024 * 1024;
+    static final int DEFAULT_MAX_CONTENT_LENGTH = 1024 * 1024;
+
+    private long maxCacheSizeBytes = DEFAULT_MAX_CACHE_SIZE_BYTES;
+    private int maxContentLength = DEFAULT_MAX_CONTENT_LENGTH;
+    private boolean offHeap;
+    private Ticker ticker = Ticker.systemTicker();
+
+    CachingClientBuilder() {}
+
+    /**
+     * Sets the maximum total size of the cached responses in bytes, including their headers.
+     * The least recently used responses are evicted when the cache exceeds the limit.
+     * Defaults to {@value #DEFAULT_MAX_CACHE_SIZE_BYTES} if unspecified.
+     */
+    public CachingClientBuilder maxCacheSizeBytes(long maxCacheSizeBytes) {
+        checkArgument(maxCacheSizeBytes > 0, "maxCacheSizeBytes: %s (expected: > 0)", maxCacheSizeBytes);
+        this.maxCacheSizeBytes = maxCacheSizeBytes;
+        return this;
+    }
+
+    /**
+     * Sets the maximum length of the content of a response to be cached. A response whose content is longer
+     * than the limit is not cached and passed through without being buffered.
+     * Defaults to {@value #DEFAULT_MAX_CONTENT_LENGTH} if unspecified.
+     */
+    public CachingClientBuilder maxContentLength(int maxContentLength) {
+        checkArgument(maxContentLength >= 0, "maxContentLength: %s (expected: >= 0)", maxContentLength);
+        this.maxContentLength = maxContentLength;
+        return this;
+    }
+
+    /**
+     * Sets whether to store the content of the cached responses in direct memory instead of the heap.
+     * Storing a large cache off-heap reduces the pressure on the garbage collector. Note that the direct
+     * memory of an evicted response is reclaimed when the response is garbage-collected.
+     * Defaults to {@code false} if unspecified.
+     */
+    public CachingClientBuilder offHeap(boolean offHeap) {
+        this.offHeap = offHeap;
+        return this;
+    }
+
+    @VisibleForTesting
+    CachingClientBuilder ticker(Ticker ticker) {
+        this.ticker = requireNonNull(ticker, "ticker");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link CachingClient} based on the properties of this builder.
+     */
+    public CachingClient build(HttpClient delegate) {
+        requireNonNull(delegate, "delegate");
+        return new CachingClient(delegate, maxCacheSizeBytes, maxContentLength, offHeap, ticker);
+    }
+
+    /**
+     * Returns a newly-created decorator that decorates an {@link HttpClient} with a new
+     * {@link CachingClient} based on the properties of this builder.
+     */
+    public Function<? super HttpClient, CachingClient> newDecorator() {
+        return this::build;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.coalescing;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.DecoratingClient;
+import com.linecorp.armeria.client.HttpClient;
+import com.linecorp.armeria.client.SimpleDecoratingHttpClient;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.internal.common.RequestCoalescer;
+
+import io.netty.util.AsciiString;
+
+/**
+ * A {@link DecoratingClient} that collapses concurrent identical {@code GET} and {@code HEAD} requests
+ * into a single request. While a request is in flight, the identical requests do not send a request to
+ * the server but receive a duplicate of the response of the in-flight request.
+ * This prevents a thundering herd, e.g. many callers fetching the same resource right after a local cache
+ * expires.
+ *
+ * <p>Two requests are identical if their method, URI and the request headers specified with
+ * {@link CoalescingClientBuilder#keyHeaders(CharSequence...)} are equal. {@code "authorization"} and
+ * {@code "cookie"} headers are always compared so that the requests of different users are not collapsed.
+ *
+ * <p>Note that the collapsed requests share the fate of the in-flight request. For example, if the
+ * in-flight request times out, all collapsed requests fail with the same cause.
+ */
+@UnstableApi
+public final class CoalescingClient extends SimpleDecoratingHttpClient {
+
+    /**
+     * Returns a new {@link HttpClient} decorator that collapses identical requests.
+     */
+    public static Function<? super HttpClient, CoalescingClient> newDecorator() {
+        return builder().newDecorator();
+    }
+
+    /**
+     * Returns a new {@link CoalescingClientBuilder}.
+     */
+    public static CoalescingClientBuilder builder() {
+        return new CoalescingClientBuilder();
+    }
+
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+    private final List<AsciiString> keyHeaders;
+
+    CoalescingClient(HttpClient delegate, List<AsciiString> keyHeaders) {
+        super(delegate);
+        this.keyHeaders = keyHeaders;
+    }
+
+    @Override
+    public HttpResponse execute(ClientRequestContext ctx, HttpRequest req) throws Exception {
+        final HttpMethod method = req.method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return unwrap().execute(ctx, req);
+        }
+
+        final StringBuilder buf = new StringBuilder(64);
+        buf.append(method.name()).append(' ').append(ctx.uri());
+        RequestCoalescer.appendHeaders(buf, req.headers(), keyHeaders);
+        return coalescer.execute(buf.toString(), ctx.eventLoop(), ctx.maxResponseLength(),
+                                 () -> unwrap().execute(ctx, req));
+    }
+
+    @VisibleForTesting
+    int numInflights() {
+        return coalescer.numInflights();
+    }
+}
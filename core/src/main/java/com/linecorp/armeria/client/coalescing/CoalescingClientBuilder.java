@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.coalescing;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Streams;
+
+import com.linecorp.armeria.client.HttpClient;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+import io.netty.util.AsciiString;
+
+/**
+ * A builder for creating a new {@link CoalescingClient}.
+ */
+@UnstableApi
+public final class CoalescingClientBuilder {
+
+    private List<AsciiString> keyHeaders = ImmutableList.of();
+
+    CoalescingClientBuilder() {}
+
+    /**
+     * Sets the names of the request headers which must be equal for two requests to be collapsed,
+     * in addition to {@code "authorization"} and {@code "cookie"}. For example, {@code "accept"} should
+     * be specified if the server returns a different representation depending on it.
+     */
+    public CoalescingClientBuilder keyHeaders(CharSequence... keyHeaders) {
+        requireNonNull(keyHeaders, "keyHeaders");
+        return keyHeaders(ImmutableList.copyOf(keyHeaders));
+    }
+
+    /**
+     * Sets the names of the request headers which must be equal for two requests to be collapsed,
+     * in addition to {@code "authorization"} and {@code "cookie"}. For example, {@code "accept"} should
+     * be specified if the server returns a different representation depending on it.
+     */
+    public CoalescingClientBuilder keyHeaders(Iterable<? extends CharSequence> keyHeaders) {
+        requireNonNull(keyHeaders, "keyHeaders");
+        this.keyHeaders = Streams.stream(keyHeaders)
+                                 .map(AsciiString::of)
+                                 .map(AsciiString::toLowerCase)
+                                 .distinct()
+                                 .collect(ImmutableList.toImmutableList());
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link CoalescingClient} based on the properties of this builder.
+     */
+    public CoalescingClient build(HttpClient delegate) {
+        requireNonNull(delegate, "delegate");
+        return new CoalescingClient(delegate, keyHeaders);
+    }
+
+    /**
+     * Returns a newly-created decorator that decorates an {@link HttpClient} with a new
+     * {@link CoalescingClient} based on the properties of this builder.
+     */
+    public Function<? super HttpClient, CoalescingClient> newDecorator() {
+        return this::build;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.endpoint;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.client.endpoint.DefaultEndpointSelector.LoadBalancerFactory;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.loadbalancer.LoadBalancer;
+
+/**
+ * An {@link EndpointSelector} strategy which implements consistent hashing using the ring hash or
+ * Maglev algorithm with the user passed {@link ToLongFunction} to compute hashes of
+ * {@link ClientRequestContext}s.
+ *
+ * <p>Unlike {@link StickyEndpointSelectionStrategy}, an {@link Endpoint} is placed by the hash of its
+ * address rather than its index in the {@link EndpointGroup}, so only a small portion of requests are
+ * remapped when the {@link EndpointGroup} is updated.
+ */
+final class ConsistentHashEndpointSelectionStrategy
+        implements EndpointSelectionStrategy,
+                   LoadBalancerFactory<LoadBalancer<Endpoint, ClientRequestContext>> {
+
+    enum Algorithm {
+        RING_HASH,
+        MAGLEV
+    }
+
+    private final Algorithm algorithm;
+    private final ToLongFunction<? super ClientRequestContext> requestContextHasher;
+
+    ConsistentHashEndpointSelectionStrategy(Algorithm algorithm,
+                                            ToLongFunction<? super ClientRequestContext> requestContextHasher) {
+        this.algorithm = algorithm;
+        this.requestContextHasher = requireNonNull(requestContextHasher, "requestContextHasher");
+    }
+
+    @Override
+    public EndpointSelector newSelector(EndpointGroup endpointGroup) {
+        return new DefaultEndpointSelector<>(endpointGroup, this);
+    }
+
+    @Override
+    public LoadBalancer<Endpoint, ClientRequestContext> newLoadBalancer(
+            @Nullable LoadBalancer<Endpoint, ClientRequestContext> oldLoadBalancer, List<Endpoint> candidates) {
+        switch (algorithm) {
+            case RING_HASH:
+                return LoadBalancer.ofRingHash(candidates, ConsistentHashEndpointSelectionStrategy::key,
+                                               requestContextHasher);
+            case MAGLEV:
+                return LoadBalancer.ofMaglev(candidates, ConsistentHashEndpointSelectionStrategy::key,
+                                             requestContextHasher);
+            default:
+                throw new Error(); // Should never reach here.
+        }
+    }
+
+    /**
+     * Returns the key of the specified {@link Endpoint} which does not depend on its weight or attributes.
+     */
+    @VisibleForTesting
+    static String key(Endpoint endpoint) {
+        final String ipAddr = endpoint.ipAddr();
+        if (ipAddr == null) {
+            return endpoint.authority();
+        }
+        return endpoint.authority() + '/' + ipAddr;
+    }
+}
@@ -52,6 +52,23 @@ public interface EndpointSelectionStrategy {
         return RoundRobinStrategy.INSTANCE;
     }
 
+    /**
+     * Returns a least-request strategy which selects an {@link Endpoint} with fewer outstanding requests
+     * using the power of two choices algorithm. Two {@link Endpoint}s are chosen at random, and the one with
+     * the smaller number of outstanding requests relative to its {@link Endpoint#weight()} is selected.
+     * A request is considered outstanding until its {@link ClientRequestContext#log()} is complete.
+     *
+     * <p>This strategy is useful when the {@link Endpoint}s have different capacity or latency,
+     * because a slower {@link Endpoint} gets fewer requests as its outstanding requests pile up.
+     *
+     * @see #roundRobin()
+     * @see #weightedRoundRobin()
+     */
+    @UnstableApi
+    static EndpointSelectionStrategy leastRequest() {
+        return LeastRequestStrategy.INSTANCE;
+    }
+
     /**
      * Returns a weight ramping up {@link EndpointSelectionStrategy} which ramps the weight of newly added
      * {@link Endpoint}s using {@link WeightTransition#linear()}. The {@link Endpoint} is selected
@@ -99,6 +116,57 @@ public interface EndpointSelectionStrategy {
         return new StickyEndpointSelectionStrategy(requestContextHasher);
     }
 
+    /**
+     * Returns a consistent hashing strategy which uses the ring hash algorithm with a user passed
+     * {@link ToLongFunction} to compute hashes of {@link ClientRequestContext}s. Each {@link Endpoint} is
+     * placed on a hash ring multiple times in proportion to its {@link Endpoint#weight()}.
+     *
+     * <p>Unlike {@link #sticky(ToLongFunction)}, the position of an {@link Endpoint} only depends on its
+     * address, so only the requests that were routed to the added or removed {@link Endpoint}s are
+     * remapped when the {@link EndpointGroup} is updated. This helps to keep the hit ratio of the local
+     * caches of the backend servers when they are added or removed dynamically.
+     *
+     * <pre>{@code
+     * EndpointSelectionStrategy strategy = EndpointSelectionStrategy.ringHash(ctx -> {
+     *     return ctx.path().hashCode();
+     * });
+     * }</pre>
+     *
+     * @see #maglev(ToLongFunction)
+     * @see #sticky(ToLongFunction)
+     */
+    @UnstableApi
+    static EndpointSelectionStrategy ringHash(
+            ToLongFunction<? super ClientRequestContext> requestContextHasher) {
+        return new ConsistentHashEndpointSelectionStrategy(
+                ConsistentHashEndpointSelectionStrategy.Algorithm.RING_HASH, requestContextHasher);
+    }
+
+    /**
+     * Returns a consistent hashing strategy which uses
+     * <a href="https://research.google/pubs/pub44824/">Maglev</a> hashing with a user passed
+     * {@link ToLongFunction} to compute hashes of {@link ClientRequestContext}s. An {@link Endpoint} is
+     * selected with a single lookup of the table populated in proportion to {@link Endpoint#weight()}.
+     *
+     * <p>Compared to {@link #ringHash(ToLongFunction)}, the selection is faster and the requests are spread
+     * more evenly, at the cost of slightly more requests being remapped when the {@link EndpointGroup}
+     * is updated.
+     *
+     * <pre>{@code
+     * EndpointSelectionStrategy strategy = EndpointSelectionStrategy.maglev(ctx -> {
+     *     return ((HttpRequest) ctx.request()).headers().get("x-user-id", "").hashCode();
+     * });
+     * }</pre>
+     *
+     * @see #ringHash(ToLongFunction)
+     * @see #sticky(ToLongFunction)
+     */
+    @UnstableApi
+    static EndpointSelectionStrategy maglev(ToLongFunction<? super ClientRequestContext> requestContextHasher) {
+        return new ConsistentHashEndpointSelectionStrategy(
+                ConsistentHashEndpointSelectionStrategy.Algorithm.MAGLEV, requestContextHasher);
+    }
+
     /**
      * Creates a new {@link EndpointSelector} that selects an {@link Endpoint} from the specified
      * {@link EndpointGroup}.
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.endpoint;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.client.endpoint.DefaultEndpointSelector.LoadBalancerFactory;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.loadbalancer.LoadBalancer;
+import com.linecorp.armeria.common.loadbalancer.SimpleLoadBalancer;
+
+/**
+ * An {@link EndpointSelectionStrategy} that selects an {@link Endpoint} with fewer outstanding requests
+ * using the power of two choices algorithm.
+ *
+ * <p>The number of outstanding requests is counted per {@link EndpointSelector}. It is increased when
+ * an {@link Endpoint} is selected for a request and decreased when the {@link ClientRequestContext#log()}
+ * of the request is complete. The counters are kept across the updates of the {@link EndpointGroup}
+ * as long as the {@link Endpoint} remains in the group.
+ */
+enum LeastRequestStrategy implements EndpointSelectionStrategy {
+
+    INSTANCE;
+
+    @Override
+    public EndpointSelector newSelector(EndpointGroup endpointGroup) {
+        return new DefaultEndpointSelector<>(endpointGroup, new LeastRequestLoadBalancerFactory());
+    }
+
+    @VisibleForTesting
+    static final class LeastRequestLoadBalancerFactory
+            implements LoadBalancerFactory<LoadBalancer<Endpoint, ClientRequestContext>> {
+
+        private final Map<Endpoint, LongAdder> numRequests = new ConcurrentHashMap<>();
+
+        @Override
+        public LoadBalancer<Endpoint, ClientRequestContext> newLoadBalancer(
+                @Nullable LoadBalancer<Endpoint, ClientRequestContext> oldLoadBalancer,
+                List<Endpoint> candidates) {
+            // Remove the counters of the removed endpoints. The in-flight requests to them will decrease
+            // the removed counters, which is harmless.
+            final ImmutableSet<Endpoint> newEndpoints = ImmutableSet.copyOf(candidates);
+            numRequests.keySet().retainAll(newEndpoints);
+            for (Endpoint endpoint : newEndpoints) {
+                numRequests.computeIfAbsent(endpoint, unused -> new LongAdder());
+            }
+
+            final SimpleLoadBalancer<Endpoint> delegate =
+                    LoadBalancer.ofLeastRequest(candidates, this::numRequests);
+            return new LeastRequestLoadBalancer(delegate);
+        }
+
+        @VisibleForTesting
+        long numRequests(Endpoint endpoint) {
+            final LongAdder counter = numRequests.get(endpoint);
+            return counter != null ? counter.sum() : 0;
+        }
+
+        private final class LeastRequestLoadBalancer implements LoadBalancer<Endpoint, ClientRequestContext> {
+
+            private final SimpleLoadBalancer<Endpoint> delegate;
+
+            LeastRequestLoadBalancer(SimpleLoadBalancer<Endpoint> delegate) {
+                this.delegate = delegate;
+            }
+
+            @Nullable
+            @Override
+            public Endpoint pick(ClientRequestContext ctx) {
+                final Endpoint endpoint = delegate.pick();
+                if (endpoint == null) {
+                    return null;
+                }
+                final LongAdder counter = numRequests.get(endpoint);
+                if (counter != null) {
+                    counter.increment();
+                    ctx.log().whenComplete().thenRun(counter::decrement);
+                }
+                return endpoint;
+            }
+
+            @Override
+            public String toString() {
+                return MoreObjects.toStringHelper(this)
+                                  .add("delegate", delegate)
+                                  .add("numRequests", numRequests)
+                                  .toString();
+            }
+        }
+    }
+}
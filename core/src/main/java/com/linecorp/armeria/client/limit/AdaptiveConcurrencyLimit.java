@@ -0,0 +1,328 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.limit;
+
+import static com.linecorp.armeria.client.limit.ConcurrencyLimitBuilder.noLimitFuture;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.client.ResponseTimeoutException;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.util.SafeCloseable;
+import com.linecorp.armeria.common.util.Ticker;
+import com.linecorp.armeria.common.util.UnmodifiableFuture;
+import com.linecorp.armeria.internal.common.util.AdaptiveConcurrencyLimiter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * A {@link ConcurrencyLimit} whose limit is adjusted automatically from the latency and the errors of
+ * the responses, rather than a fixed {@code maxConcurrency}. A separate limit is kept for each
+ * {@link Endpoint}, so that a slow upstream does not affect the requests to the other upstreams.
+ *
+ * <p>The latency of each request is measured from when a permit is acquired until it is closed. The permit is
+ * given back when the {@link RequestLog} is complete, so that the request is classified with its final
+ * response cause.
+ * When the latency of recent requests goes up compared to the long-term average, the limit of the
+ * {@link Endpoint} is reduced. While the latency is stable, the limit grows gradually. The limit is also
+ * reduced when the upstream looks overloaded, i.e. a {@link ResponseTimeoutException} is raised or
+ * a {@link HttpStatus#SERVICE_UNAVAILABLE} or {@link HttpStatus#TOO_MANY_REQUESTS} response is received.
+ *
+ * <p>Unlike the {@link ConcurrencyLimit} created by {@link ConcurrencyLimit#builder(int)}, an acquisition
+ * is not queued when the limit is reached, because waiting for a permit would hide the latency that the
+ * limit is calculated from. The {@link CompletableFuture} returned by {@link #acquire(ClientRequestContext)}
+ * is completed immediately with a {@link TooManyPendingAcquisitionsException} instead.
+ *
+ * <p>The following meters are exported with the {@link MeterIdPrefix} specified in
+ * {@link AdaptiveConcurrencyLimitBuilder#meterIdPrefix(MeterIdPrefix)} and the {@code endpoint} tag:
+ * <ul>
+ *   <li>{@code <prefix>.limit} (gauge) - the current concurrency limit</li>
+ *   <li>{@code <prefix>.in.flight} (gauge) - the number of requests being executed</li>
+ * </ul>
+ *
+ * @see ConcurrencyLimit#adaptive()
+ */
+@UnstableApi
+public final class AdaptiveConcurrencyLimit implements ConcurrencyLimit {
+
+    private static final AtomicLongFieldUpdater<AdaptiveConcurrencyLimit> nextCleanupNanosUpdater =
+            AtomicLongFieldUpdater.newUpdater(AdaptiveConcurrencyLimit.class, "nextCleanupNanos");
+
+    private static final AtomicIntegerFieldUpdater<EndpointLimit> numUsersUpdater =
+            AtomicIntegerFieldUpdater.newUpdater(EndpointLimit.class, "numUsers");
+
+    // The numUsers of an EndpointLimit which is removed because it has been idle.
+    private static final int RETIRED = -1;
+
+    private static final String UNKNOWN_ENDPOINT = "unknown";
+
+    /**
+     * Returns a new {@link AdaptiveConcurrencyLimitBuilder}.
+     */
+    public static AdaptiveConcurrencyLimitBuilder builder() {
+        return new AdaptiveConcurrencyLimitBuilder();
+    }
+
+    private final Map<Endpoint, EndpointLimit> endpointLimits = new ConcurrentHashMap<>();
+    private final EndpointLimit unknownEndpointLimit;
+
+    private final Supplier<AdaptiveConcurrencyLimiter> limiterFactory;
+    private final Predicate<? super ClientRequestContext> predicate;
+    private final MeterRegistry meterRegistry;
+    private final MeterIdPrefix meterIdPrefix;
+    private final long idleTimeoutNanos;
+    private final Ticker ticker;
+
+    private volatile long nextCleanupNanos;
+
+    AdaptiveConcurrencyLimit(Supplier<AdaptiveConcurrencyLimiter> limiterFactory,
+                             Predicate<? super ClientRequestContext> predicate,
+                             MeterRegistry meterRegistry, MeterIdPrefix meterIdPrefix,
+                             long idleTimeoutNanos, Ticker ticker) {
+        this.limiterFactory = limiterFactory;
+        this.predicate = predicate;
+        this.meterRegistry = meterRegistry;
+        this.meterIdPrefix = meterIdPrefix;
+        this.idleTimeoutNanos = idleTimeoutNanos;
+        this.ticker = ticker;
+        unknownEndpointLimit = new EndpointLimit(UNKNOWN_ENDPOINT);
+        nextCleanupNanos = ticker.read() + idleTimeoutNanos;
+    }
+
+    /**
+     * Returns the current concurrency limit of the specified {@link Endpoint}, or {@code -1} if no request
+     * has been sent to the {@link Endpoint} recently.
+     */
+    public int limit(Endpoint endpoint) {
+        final EndpointLimit endpointLimit = endpointLimits.get(endpoint);
+        return endpointLimit != null ? endpointLimit.limiter.limit() : -1;
+    }
+
+    /**
+     * Returns the number of the requests being executed for the specified {@link Endpoint}.
+     */
+    public int inFlight(Endpoint endpoint) {
+        final EndpointLimit endpointLimit = endpointLimits.get(endpoint);
+        return endpointLimit != null ? endpointLimit.limiter.inFlight() : 0;
+    }
+
+    @Override
+    public CompletableFuture<SafeCloseable> acquire(ClientRequestContext ctx) {
+        if (!predicate.test(ctx)) {
+            return noLimitFuture;
+        }
+
+        final long currentNanos = ticker.read();
+        cleanupIdleLimits(currentNanos);
+
+        final Endpoint endpoint = ctx.endpoint();
+        EndpointLimit endpointLimit;
+        if (endpoint == null) {
+            endpointLimit = unknownEndpointLimit;
+            endpointLimit.retain();
+        } else {
+            for (;;) {
+                endpointLimit = endpointLimits.computeIfAbsent(
+                        endpoint, key -> new EndpointLimit(key.authority()));
+                if (endpointLimit.retain()) {
+                    break;
+                }
+                // Retired by cleanupIdleLimits() concurrently. Make sure it's removed and get a new one.
+                removeEndpointLimit(endpoint, endpointLimit);
+            }
+        }
+        endpointLimit.lastAccessNanos = currentNanos;
+
+        if (!endpointLimit.limiter.tryAcquire()) {
+            endpointLimit.release();
+            return UnmodifiableFuture.exceptionallyCompletedFuture(TooManyPendingAcquisitionsException.get());
+        }
+        return UnmodifiableFuture.completedFuture(new Permit(ctx, endpointLimit, currentNanos));
+    }
+
+    private void cleanupIdleLimits(long currentNanos) {
+        final long nextCleanupNanos = this.nextCleanupNanos;
+        if (currentNanos - nextCleanupNanos < 0 ||
+            !nextCleanupNanosUpdater.compareAndSet(this, nextCleanupNanos, currentNanos + idleTimeoutNanos)) {
+            return;
+        }
+
+        endpointLimits.forEach((endpoint, endpointLimit) -> {
+            // Retire only when nobody is using the limit, so that no permit is acquired from
+            // the removed limit.
+            if (currentNanos - endpointLimit.lastAccessNanos >= idleTimeoutNanos &&
+                endpointLimit.tryRetire()) {
+                removeEndpointLimit(endpoint, endpointLimit);
+            }
+        });
+    }
+
+    /**
+     * Removes the specified retired {@link EndpointLimit} and its meters if it has not been removed yet.
+     * The meters are removed atomically with the mapping, so that they are never removed after a new
+     * {@link EndpointLimit} for the same {@link Endpoint} registers its meters.
+     */
+    private void removeEndpointLimit(Endpoint endpoint, EndpointLimit endpointLimit) {
+        endpointLimits.computeIfPresent(endpoint, (unused, existing) -> {
+            if (existing != endpointLimit) {
+                return existing;
+            }
+            endpointLimit.removeMeters();
+            return null;
+        });
+    }
+
+    @VisibleForTesting
+    int numEndpointLimits() {
+        return endpointLimits.size();
+    }
+
+    private static boolean isOverloaded(RequestLog log) {
+        if (log.responseCause() instanceof ResponseTimeoutException) {
+            return true;
+        }
+        final HttpStatus status = log.responseHeaders().status();
+        return status == HttpStatus.SERVICE_UNAVAILABLE || status == HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("endpointLimits", endpointLimits.values())
+                          .add("unknownEndpointLimit", unknownEndpointLimit)
+                          .add("idleTimeoutNanos", idleTimeoutNanos)
+                          .toString();
+    }
+
+    private final class EndpointLimit {
+
+        private final String endpoint;
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final Gauge limitGauge;
+        private final Gauge inFlightGauge;
+
+        volatile long lastAccessNanos;
+        // The number of the acquisitions in progress and the permits not released yet, or RETIRED.
+        volatile int numUsers;
+
+        EndpointLimit(String endpoint) {
+            this.endpoint = endpoint;
+            limiter = limiterFactory.get();
+            limitGauge = Gauge.builder(meterIdPrefix.name("limit"), limiter, AdaptiveConcurrencyLimiter::limit)
+                              .tags(meterIdPrefix.tags())
+                              .tag("endpoint", endpoint)
+                              .description("The current concurrency limit")
+                              .register(meterRegistry);
+            inFlightGauge = Gauge.builder(meterIdPrefix.name("in.flight"), limiter,
+                                          AdaptiveConcurrencyLimiter::inFlight)
+                                 .tags(meterIdPrefix.tags())
+                                 .tag("endpoint", endpoint)
+                                 .description("The number of requests being executed")
+                                 .register(meterRegistry);
+        }
+
+        /**
+         * Marks this limit as being used. Returns {@code false} if this limit has been retired.
+         */
+        boolean retain() {
+            for (;;) {
+                final int numUsers = this.numUsers;
+                if (numUsers == RETIRED) {
+                    return false;
+                }
+                if (numUsersUpdater.compareAndSet(this, numUsers, numUsers + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            numUsersUpdater.decrementAndGet(this);
+        }
+
+        /**
+         * Retires this limit if nobody is using it.
+         */
+        boolean tryRetire() {
+            return numUsersUpdater.compareAndSet(this, 0, RETIRED);
+        }
+
+        void removeMeters() {
+            meterRegistry.remove(limitGauge);
+            meterRegistry.remove(inFlightGauge);
+        }
+
+        @Override
+        public String toString() {
+            return endpoint + '=' + limiter;
+        }
+    }
+
+    private final class Permit implements SafeCloseable {
+
+        private final ClientRequestContext ctx;
+        private final EndpointLimit endpointLimit;
+        private final long acquiredNanos;
+        private boolean closed;
+
+        Permit(ClientRequestContext ctx, EndpointLimit endpointLimit, long acquiredNanos) {
+            this.ctx = ctx;
+            this.endpointLimit = endpointLimit;
+            this.acquiredNanos = acquiredNanos;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            final long latencyNanos = ticker.read() - acquiredNanos;
+            // The response stream is closed before the response cause is set, so wait for the complete log.
+            ctx.log().whenComplete().thenAccept(log -> release(log, latencyNanos));
+        }
+
+        private void release(RequestLog log, long latencyNanos) {
+            final AdaptiveConcurrencyLimiter limiter = endpointLimit.limiter;
+            final boolean overloaded = isOverloaded(log);
+            if (!overloaded && log.responseCause() != null) {
+                // Failed for a reason other than overload, e.g. a connection failure. The latency of
+                // such a request does not represent the load of the upstream.
+                limiter.release();
+            } else {
+                limiter.release(latencyNanos, overloaded);
+            }
+            endpointLimit.release();
+        }
+    }
+}
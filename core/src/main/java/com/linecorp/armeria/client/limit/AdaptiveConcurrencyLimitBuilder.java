@@ -0,0 +1,227 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.limit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.util.Ticker;
+import com.linecorp.armeria.internal.common.util.AdaptiveConcurrencyLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * A builder for creating a new {@link AdaptiveConcurrencyLimit}.
+ */
+@UnstableApi
+public final class AdaptiveConcurrencyLimitBuilder {
+
+    static final int DEFAULT_INITIAL_LIMIT = 20;
+    static final int DEFAULT_MIN_LIMIT = 1;
+    static final int DEFAULT_MAX_LIMIT = 1000;
+    static final double DEFAULT_SMOOTHING = 0.2;
+    static final double DEFAULT_TOLERANCE = 1.5;
+    static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    static final int DEFAULT_LONG_TERM_WINDOWS = 600;
+    static final long DEFAULT_WINDOW_MILLIS = 100;
+    static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 600_000;
+
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double smoothing = DEFAULT_SMOOTHING;
+    private double tolerance = DEFAULT_TOLERANCE;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private int longTermWindows = DEFAULT_LONG_TERM_WINDOWS;
+    private Duration window = Duration.ofMillis(DEFAULT_WINDOW_MILLIS);
+    private Duration idleTimeout = Duration.ofMillis(DEFAULT_IDLE_TIMEOUT_MILLIS);
+    private Predicate<? super ClientRequestContext> predicate = requestContext -> true;
+    private MeterRegistry meterRegistry = Flags.meterRegistry();
+    private MeterIdPrefix meterIdPrefix = new MeterIdPrefix("armeria.client.concurrency.limit");
+    private Ticker ticker = Ticker.systemTicker();
+
+    AdaptiveConcurrencyLimitBuilder() {}
+
+    /**
+     * Sets the initial concurrency limit of an {@link Endpoint}.
+     * Defaults to {@value #DEFAULT_INITIAL_LIMIT} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitBuilder initialLimit(int initialLimit) {
+        checkArgument(initialLimit > 0, "initialLimit: %s (expected: > 0)", initialLimit);
+        this.initialLimit = initialLimit;
+        return this;
+    }
+
+    /**
+     * Sets the minimum and maximum of the concurrency limit of an {@link Endpoint}.
+     * Defaults to {@value #DEFAULT_MIN_LIMIT} and {@value #DEFAULT_MAX_LIMIT} respectively if unspecified.
+     */
+    public AdaptiveConcurrencyLimitBuilder limitRange(int minLimit, int maxLimit) {
+        checkArgument(minLimit > 0, "minLimit: %s (expected: > 0)", minLimit);
+        checkArgument(maxLimit >= minLimit, "maxLimit: %s (expected: >= %s)", maxLimit, minLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    /**
+     * Sets the weight of a newly calculated limit against the current limit, between {@code 0} (exclusive)
+     * and {@code 1} (inclusive). A smaller value makes the limit change more slowly.
+     * Defaults to {@value #DEFAULT_SMOOTHING} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitBuilder smoothing(double smoothing) {
+        checkArgument(smoothing > 0 && smoothing <= 1, "smoothing: %s (expected: 0 < smoothing <= 1)",
+                      smoothing);
+        this.smoothing = smoothing;
+        return this;
+    }
+
+    /**
+     * Sets how much the recent latency may exceed the long-term average latency before the limit is
+     * reduced. For example, {@code 1.5} tolerates 50% increase of the latency.
+     * Defaults to {@value #DEFAULT_TOLERANCE} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitBuilder tolerance(double tolerance) {
+        checkArgument(tolerance >= 1, "tolerance: %s (expected: >= 1)", tolerance);
+        this.tolerance = tolerance;
+        return this;
+    }
+
+    /**
+     * Sets the ratio to multiply to the limit when the upstream looks overloaded.
+     * Defaults to {@value #DEFAULT_BACKOFF_RATIO} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitBuilder backoffRatio(double backoffRatio) {
+        checkArgument(backoffRatio > 0 && backoffRatio < 1,
+                      "backoffRatio: %s (expected: 0 < backoffRatio < 1)", backoffRatio);
+        this.backoffRatio = backoffRatio;
+        return this;
+    }
+
+    /**
+     * Sets the duration of a sampling window. The limit is recalculated at most once per window.
+     * Defaults to {@value #DEFAULT_WINDOW_MILLIS} milliseconds if unspecified.
+     */
+    public AdaptiveConcurrencyLimitBuilder window(Duration window) {
+        requireNonNull(window, "window");
+        checkArgument(!window.isNegative() && !window.isZero(), "window: %s (expected: > 0)", window);
+        this.window = window;
+        return this;
+    }
+
+    /**
+     * Sets the duration of a sampling window in milliseconds. The limit is recalculated at most once
+     * per window. Defaults to {@value #DEFAULT_WINDOW_MILLIS} milliseconds if unspecified.
+     */
+    public AdaptiveConcurrencyLimitBuilder windowMillis(long windowMillis) {
+        return window(Duration.ofMillis(windowMillis));
+    }
+
+    /**
+     * Sets the number of sampling windows that the long-term average latency is calculated over.
+     * Defaults to {@value #DEFAULT_LONG_TERM_WINDOWS} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitBuilder longTermWindows(int longTermWindows) {
+        checkArgument(longTermWindows > 0, "longTermWindows: %s (expected: > 0)", longTermWindows);
+        this.longTermWindows = longTermWindows;
+        return this;
+    }
+
+    /**
+     * Sets the amount of time after which the limit of an {@link Endpoint} without any requests is
+     * discarded. Defaults to {@value #DEFAULT_IDLE_TIMEOUT_MILLIS} milliseconds if unspecified.
+     */
+    public AdaptiveConcurrencyLimitBuilder idleTimeout(Duration idleTimeout) {
+        requireNonNull(idleTimeout, "idleTimeout");
+        checkArgument(!idleTimeout.isNegative() && !idleTimeout.isZero(),
+                      "idleTimeout: %s (expected: > 0)", idleTimeout);
+        this.idleTimeout = idleTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the amount of time in milliseconds after which the limit of an {@link Endpoint} without any
+     * requests is discarded. Defaults to {@value #DEFAULT_IDLE_TIMEOUT_MILLIS} milliseconds if unspecified.
+     */
+    public AdaptiveConcurrencyLimitBuilder idleTimeoutMillis(long idleTimeoutMillis) {
+        return idleTimeout(Duration.ofMillis(idleTimeoutMillis));
+    }
+
+    /**
+     * Sets the {@link Predicate} for which to apply the concurrency limit.
+     */
+    public AdaptiveConcurrencyLimitBuilder predicate(Predicate<? super ClientRequestContext> predicate) {
+        this.predicate = requireNonNull(predicate, "predicate");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterRegistry} where the current limits are exported.
+     * Defaults to {@link Flags#meterRegistry()} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitBuilder meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterIdPrefix} of the exported meters.
+     * Defaults to {@code armeria.client.concurrency.limit} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitBuilder meterIdPrefix(MeterIdPrefix meterIdPrefix) {
+        this.meterIdPrefix = requireNonNull(meterIdPrefix, "meterIdPrefix");
+        return this;
+    }
+
+    @VisibleForTesting
+    AdaptiveConcurrencyLimitBuilder ticker(Ticker ticker) {
+        this.ticker = requireNonNull(ticker, "ticker");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link AdaptiveConcurrencyLimit} based on the properties of this builder.
+     */
+    public AdaptiveConcurrencyLimit build() {
+        checkState(initialLimit >= minLimit && initialLimit <= maxLimit,
+                   "initialLimit: %s (expected: %s <= initialLimit <= %s)", initialLimit, minLimit, maxLimit);
+        final int initialLimit = this.initialLimit;
+        final int minLimit = this.minLimit;
+        final int maxLimit = this.maxLimit;
+        final double smoothing = this.smoothing;
+        final double tolerance = this.tolerance;
+        final double backoffRatio = this.backoffRatio;
+        final int longTermWindows = this.longTermWindows;
+        final long windowNanos = window.toNanos();
+        final Ticker ticker = this.ticker;
+        return new AdaptiveConcurrencyLimit(
+                () -> new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, smoothing, tolerance,
+                                                     backoffRatio, longTermWindows, windowNanos, ticker),
+                predicate, meterRegistry, meterIdPrefix, idleTimeout.toNanos(), ticker);
+    }
+}
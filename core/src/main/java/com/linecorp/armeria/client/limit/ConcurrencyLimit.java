@@ -24,6 +24,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.IntSupplier;
 
 import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
 import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.util.SafeCloseable;
 import com.linecorp.armeria.common.util.SettableIntSupplier;
@@ -116,6 +117,17 @@ public interface ConcurrencyLimit {
         return new ConcurrencyLimitBuilder(maxConcurrency);
     }
 
+    /**
+     * Returns a newly-created {@link AdaptiveConcurrencyLimit} with the default settings, which adjusts
+     * the limit of each {@link Endpoint} automatically from the latency and the errors of the responses.
+     *
+     * @see AdaptiveConcurrencyLimit#builder()
+     */
+    @UnstableApi
+    static AdaptiveConcurrencyLimit adaptive() {
+        return AdaptiveConcurrencyLimit.builder().build();
+    }
+
     /**
      * Acquires a {@link SafeCloseable} that allows you to execute a job under the limit.
      * The {@link SafeCloseable} must be closed after the job is done:
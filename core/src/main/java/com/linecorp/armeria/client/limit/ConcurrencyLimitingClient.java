@@ -24,6 +24,7 @@ import java.util.function.Function;
 import java.util.function.IntSupplier;
 
 import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
 import com.linecorp.armeria.client.HttpClient;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
@@ -39,6 +40,11 @@ import com.linecorp.armeria.common.annotation.UnstableApi;
  * WebClient client = builder.build();
  * }</pre>
  *
+ * <p>Use {@link ConcurrencyLimit#adaptive()} if you want the limit to be adjusted automatically for each
+ * {@link Endpoint} instead of specifying a fixed number:
+ * <pre>{@code
+ * builder.decorator(ConcurrencyLimitingClient.newDecorator(ConcurrencyLimit.adaptive()));
+ * }</pre>
  */
 public final class ConcurrencyLimitingClient
         extends AbstractConcurrencyLimitingClient<HttpRequest, HttpResponse> implements HttpClient {
@@ -42,12 +42,17 @@ abstract class AbstractLoggingClient<I extends Request, O extends Response>
 
     AbstractLoggingClient(Client<I, O> delegate, LogWriter logWriter,
                           Sampler<? super ClientRequestContext> successSampler,
-                          Sampler<? super ClientRequestContext> failureSampler) {
+                          Sampler<? super ClientRequestContext> failureSampler,
+                          Sampler<? super RequestLog> tailSampler) {
         super(requireNonNull(delegate, "delegate"));
         this.logWriter = requireNonNull(logWriter, "logWriter");
         requireNonNull(successSampler, "successSampler");
         requireNonNull(failureSampler, "failureSampler");
+        requireNonNull(tailSampler, "tailSampler");
         sampler = requestLog -> {
+            if (tailSampler.isSampled(requestLog)) {
+                return true;
+            }
             final ClientRequestContext ctx = (ClientRequestContext) requestLog.context();
             if (ctx.options().successFunction().isSuccess(ctx, requestLog)) {
                 return successSampler.isSampled(ctx);
@@ -22,6 +22,8 @@ import static java.util.Objects.requireNonNull;
 import com.linecorp.armeria.client.ClientRequestContext;
 import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.logging.LoggingDecoratorBuilder;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.logging.TailSampler;
 import com.linecorp.armeria.common.util.Sampler;
 
 /**
@@ -33,6 +35,8 @@ abstract class AbstractLoggingClientBuilder extends LoggingDecoratorBuilder {
 
     private Sampler<? super ClientRequestContext> failureSampler = Sampler.always();
 
+    private Sampler<? super RequestLog> tailSampler = Sampler.never();
+
     /**
      * Sets the {@link Sampler} that determines which request needs logging.
      */
@@ -107,4 +111,21 @@ abstract class AbstractLoggingClientBuilder extends LoggingDecoratorBuilder {
                       successSamplingRate);
         return successSampler(Sampler.random(successSamplingRate));
     }
+
+    /**
+     * Sets the {@link Sampler} that determines which request needs logging when its {@link RequestLog} is
+     * complete, e.g. a {@link TailSampler} which samples the slow or failed requests. A request is logged
+     * if it is sampled by either this {@link Sampler} or the success and failure samplers, so that
+     * you can log a small fraction of the requests and all the requests which need attention.
+     * No request is sampled by default.
+     */
+    @UnstableApi
+    public AbstractLoggingClientBuilder tailSampler(Sampler<? super RequestLog> tailSampler) {
+        this.tailSampler = requireNonNull(tailSampler, "tailSampler");
+        return this;
+    }
+
+    final Sampler<? super RequestLog> tailSampler() {
+        return tailSampler;
+    }
 }
@@ -28,6 +28,7 @@ import com.linecorp.armeria.common.Request;
 import com.linecorp.armeria.common.Response;
 import com.linecorp.armeria.common.logging.LogLevel;
 import com.linecorp.armeria.common.logging.LogWriter;
+import com.linecorp.armeria.common.logging.RequestLog;
 import com.linecorp.armeria.common.util.Sampler;
 
 /**
@@ -56,7 +57,8 @@ public final class LoggingClient extends AbstractLoggingClient<HttpRequest, Http
 
     LoggingClient(HttpClient delegate, LogWriter logWriter,
                   Sampler<? super ClientRequestContext> successSampler,
-                  Sampler<? super ClientRequestContext> failureSampler) {
-        super(delegate, logWriter, successSampler, failureSampler);
+                  Sampler<? super ClientRequestContext> failureSampler,
+                  Sampler<? super RequestLog> tailSampler) {
+        super(delegate, logWriter, successSampler, failureSampler, tailSampler);
     }
 }
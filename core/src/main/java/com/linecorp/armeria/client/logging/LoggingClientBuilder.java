@@ -48,7 +48,8 @@ public final class LoggingClientBuilder extends AbstractLoggingClientBuilder {
      * this builder.
      */
     public LoggingClient build(HttpClient delegate) {
-        return new LoggingClient(delegate, logWriter(), successSampler(), failureSampler());
+        return new LoggingClient(delegate, logWriter(), successSampler(), failureSampler(),
+                                tailSampler());
     }
 
     /**
@@ -95,6 +96,11 @@ public final class LoggingClientBuilder extends AbstractLoggingClientBuilder {
         return (LoggingClientBuilder) super.failureSamplingRate(samplingRate);
     }
 
+    @Override
+    public LoggingClientBuilder tailSampler(Sampler<? super RequestLog> tailSampler) {
+        return (LoggingClientBuilder) super.tailSampler(tailSampler);
+    }
+
     @Override
     public LoggingClientBuilder logWriter(LogWriter logWriter) {
         return (LoggingClientBuilder) super.logWriter(logWriter);
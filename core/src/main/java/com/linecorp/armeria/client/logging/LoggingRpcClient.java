@@ -29,6 +29,7 @@ import com.linecorp.armeria.common.RpcRequest;
 import com.linecorp.armeria.common.RpcResponse;
 import com.linecorp.armeria.common.logging.LogLevel;
 import com.linecorp.armeria.common.logging.LogWriter;
+import com.linecorp.armeria.common.logging.RequestLog;
 import com.linecorp.armeria.common.util.Sampler;
 
 /**
@@ -57,7 +58,8 @@ public final class LoggingRpcClient extends AbstractLoggingClient<RpcRequest, Rp
 
     LoggingRpcClient(RpcClient delegate, LogWriter logWriter,
                      Sampler<? super ClientRequestContext> successSampler,
-                     Sampler<? super ClientRequestContext> failureSampler) {
-        super(delegate, logWriter, successSampler, failureSampler);
+                     Sampler<? super ClientRequestContext> failureSampler,
+                     Sampler<? super RequestLog> tailSampler) {
+        super(delegate, logWriter, successSampler, failureSampler, tailSampler);
     }
 }
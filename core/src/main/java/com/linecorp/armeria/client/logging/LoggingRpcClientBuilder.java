@@ -51,7 +51,8 @@ public final class LoggingRpcClientBuilder extends AbstractLoggingClientBuilder
      * this builder.
      */
     public LoggingRpcClient build(RpcClient delegate) {
-        return new LoggingRpcClient(delegate, logWriter(), successSampler(), failureSampler());
+        return new LoggingRpcClient(delegate, logWriter(), successSampler(), failureSampler(),
+                                   tailSampler());
     }
 
     /**
@@ -98,6 +99,11 @@ public final class LoggingRpcClientBuilder extends AbstractLoggingClientBuilder
         return (LoggingRpcClientBuilder) super.failureSamplingRate(samplingRate);
     }
 
+    @Override
+    public LoggingRpcClientBuilder tailSampler(Sampler<? super RequestLog> tailSampler) {
+        return (LoggingRpcClientBuilder) super.tailSampler(tailSampler);
+    }
+
     @Override
     public LoggingRpcClientBuilder logWriter(LogWriter logWriter) {
         return (LoggingRpcClientBuilder) super.logWriter(logWriter);
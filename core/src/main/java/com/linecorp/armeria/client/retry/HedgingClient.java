@@ -0,0 +1,389 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.retry;
+
+import static com.linecorp.armeria.client.retry.RetryingClient.abortResponse;
+import static com.linecorp.armeria.client.retry.RetryingClient.completeLogIfBytesNotTransferred;
+import static com.linecorp.armeria.client.retry.RetryingClient.handleException;
+import static com.linecorp.armeria.client.retry.RetryingClient.warnIfExceptionIsRaised;
+import static com.linecorp.armeria.internal.client.ClientUtil.executeWithFallback;
+import static com.linecorp.armeria.internal.client.ClientUtil.initContextAndExecuteWithFallback;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.HttpClient;
+import com.linecorp.armeria.client.ResponseTimeoutException;
+import com.linecorp.armeria.client.endpoint.EndpointGroup;
+import com.linecorp.armeria.common.AggregationOptions;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpRequestDuplicator;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.RequestHeadersBuilder;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.SplitHttpResponse;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.logging.RequestLogProperty;
+import com.linecorp.armeria.common.util.Exceptions;
+import com.linecorp.armeria.internal.client.AggregatedHttpRequestDuplicator;
+import com.linecorp.armeria.internal.client.ClientPendingThrowableUtil;
+import com.linecorp.armeria.internal.client.ClientRequestContextExtension;
+import com.linecorp.armeria.internal.common.util.LatencyPercentileTracker;
+
+/**
+ * An {@link HttpClient} decorator that sends speculative duplicate attempts of an HTTP request to reduce
+ * the tail latency. If no response is received within the hedging delay, another attempt is sent to
+ * an {@link com.linecorp.armeria.client.Endpoint} selected again from the {@link EndpointGroup} while
+ * the previous attempts are still in progress. The first response wins, and the other attempts are
+ * cancelled.
+ *
+ * <p>The {@link RetryRule} of the {@link RetryConfig} decides whether a response is acceptable. When it
+ * decides to retry, the response is discarded and the next attempt is sent immediately without waiting
+ * for the hedging delay. Note that the {@link Backoff} of the {@link RetryDecision} is not used because
+ * the attempts are sent with the hedging delay. The maximum number of attempts, including the hedged
+ * ones, is limited by {@link RetryConfig#maxTotalAttempts()}.
+ *
+ * <p>For example:
+ * <pre>{@code
+ * WebClient client =
+ *     WebClient.builder(endpointGroup)
+ *              .decorator(HedgingClient.builder(RetryRule.failsafe())
+ *                                      .hedgingDelay(Duration.ofMillis(50))
+ *                                      .newDecorator())
+ *              .build();
+ * }</pre>
+ *
+ * <p>Only idempotent requests should be hedged, because the same request may be processed by more than
+ * one server.
+ */
+@UnstableApi
+public final class HedgingClient extends AbstractRetryingClient<HttpRequest, HttpResponse>
+        implements HttpClient {
+
+    /**
+     * Returns a new {@link HedgingClientBuilder} with the specified {@link RetryRule}.
+     */
+    public static HedgingClientBuilder builder(RetryRule retryRule) {
+        return new HedgingClientBuilder(RetryConfig.<HttpResponse>builder0(retryRule).build());
+    }
+
+    /**
+     * Returns a new {@link HedgingClientBuilder} with the specified {@link RetryConfig}.
+     * Note that a {@link RetryConfig} with a {@link RetryRuleWithContent} is not supported.
+     */
+    public static HedgingClientBuilder builder(RetryConfig<HttpResponse> retryConfig) {
+        return new HedgingClientBuilder(retryConfig);
+    }
+
+    /**
+     * Creates a new {@link HttpClient} decorator that sends a hedged attempt after the specified
+     * {@code hedgingDelay}.
+     */
+    public static Function<? super HttpClient, HedgingClient> newDecorator(RetryRule retryRule,
+                                                                         Duration hedgingDelay) {
+        return builder(retryRule).hedgingDelay(hedgingDelay).newDecorator();
+    }
+
+    private final long hedgingDelayMillis;
+    @Nullable
+    private final LatencyPercentileTracker latencyTracker;
+    private final Backoff hedgingBackoff = attempt -> hedgingDelayMillis();
+
+    HedgingClient(HttpClient delegate, RetryConfig<HttpResponse> retryConfig, long hedgingDelayMillis,
+                  @Nullable LatencyPercentileTracker latencyTracker) {
+        super(delegate, (ctx, req) -> retryConfig, retryConfig);
+        this.hedgingDelayMillis = hedgingDelayMillis;
+        this.latencyTracker = latencyTracker;
+    }
+
+    /**
+     * Returns the current hedging delay in milliseconds.
+     */
+    long hedgingDelayMillis() {
+        if (latencyTracker != null) {
+            final long percentileNanos = latencyTracker.percentileNanos();
+            if (percentileNanos >= 0) {
+                // Do not round a sub-millisecond percentile down to zero, which would send the hedged
+                // attempt immediately.
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(percentileNanos));
+            }
+        }
+        return hedgingDelayMillis;
+    }
+
+    @Override
+    protected HttpResponse doExecute(ClientRequestContext ctx, HttpRequest req) throws Exception {
+        final CompletableFuture<HttpResponse> responseFuture = new CompletableFuture<>();
+        final HttpResponse res = HttpResponse.of(responseFuture, ctx.eventLoop());
+        if (ctx.exchangeType().isRequestStreaming()) {
+            final HttpRequestDuplicator reqDuplicator = req.toDuplicator(ctx.eventLoop().withoutContext(), 0);
+            new HedgedRequest(ctx, reqDuplicator, req, responseFuture).start();
+        } else {
+            req.aggregate(AggregationOptions.usePooledObjects(ctx.alloc(), ctx.eventLoop()))
+               .handle((agg, cause) -> {
+                   if (cause != null) {
+                       handleException(ctx, null, responseFuture, cause, true);
+                   } else {
+                       final HttpRequestDuplicator reqDuplicator = new AggregatedHttpRequestDuplicator(agg);
+                       new HedgedRequest(ctx, reqDuplicator, req, responseFuture).start();
+                   }
+                   return null;
+               });
+        }
+        return res;
+    }
+
+    /**
+     * The state of a logical request whose attempts are hedged. All methods are invoked by the
+     * {@link ClientRequestContext#eventLoop()} of the logical request.
+     */
+    private final class HedgedRequest {
+
+        private final ClientRequestContext ctx;
+        private final HttpRequestDuplicator rootReqDuplicator;
+        private final HttpRequest originalReq;
+        private final CompletableFuture<HttpResponse> future;
+        private final List<Attempt> inFlightAttempts = new ArrayList<>(2);
+
+        private int numAttempts;
+        private boolean completed;
+        // Whether the next attempt was counted in by getNextDelay() and is scheduled.
+        private boolean nextAttemptScheduled;
+        // Incremented to invalidate the scheduled attempt.
+        private int scheduleSeq;
+
+        HedgedRequest(ClientRequestContext ctx, HttpRequestDuplicator rootReqDuplicator,
+                      HttpRequest originalReq, CompletableFuture<HttpResponse> future) {
+            this.ctx = ctx;
+            this.rootReqDuplicator = rootReqDuplicator;
+            this.originalReq = originalReq;
+            this.future = future;
+        }
+
+        void start() {
+            runInEventLoop(this::sendAttempt);
+        }
+
+        private void sendAttempt() {
+            nextAttemptScheduled = false;
+            if (completed) {
+                return;
+            }
+            final boolean initialAttempt = numAttempts == 0;
+            if (originalReq.whenComplete().isCompletedExceptionally()) {
+                originalReq.whenComplete().handle((unused, cause) -> {
+                    runInEventLoop(() -> fail(cause, initialAttempt));
+                    return null;
+                });
+                return;
+            }
+            if (!setResponseTimeout(ctx)) {
+                if (inFlightAttempts.isEmpty()) {
+                    fail(ResponseTimeoutException.get(), initialAttempt);
+                }
+                return;
+            }
+
+            final HttpRequest duplicateReq;
+            if (initialAttempt) {
+                duplicateReq = rootReqDuplicator.duplicate();
+            } else {
+                final RequestHeadersBuilder newHeaders = originalReq.headers().toBuilder();
+                newHeaders.setInt(ARMERIA_RETRY_COUNT, numAttempts);
+                duplicateReq = rootReqDuplicator.duplicate(newHeaders.build());
+            }
+            numAttempts++;
+
+            final ClientRequestContext derivedCtx;
+            try {
+                derivedCtx = newDerivedContext(ctx, duplicateReq, ctx.rpcRequest(), initialAttempt);
+            } catch (Throwable t) {
+                duplicateReq.abort(t);
+                if (inFlightAttempts.isEmpty()) {
+                    fail(t, initialAttempt);
+                }
+                return;
+            }
+
+            final HttpRequest ctxReq = derivedCtx.request();
+            assert ctxReq != null;
+            final HttpResponse response;
+            final ClientRequestContextExtension ctxExtension =
+                    derivedCtx.as(ClientRequestContextExtension.class);
+            if (!initialAttempt && ctxExtension != null && derivedCtx.endpoint() == null) {
+                // clear the pending throwable to retry endpoint selection
+                ClientPendingThrowableUtil.removePendingThrowable(derivedCtx);
+                // if the endpoint hasn't been selected, try to initialize the ctx with a new endpoint
+                // and event loop
+                response = initContextAndExecuteWithFallback(
+                        unwrap(), ctxExtension, HttpResponse::of,
+                        (context, cause) -> HttpResponse.ofFailure(cause), ctxReq, false);
+            } else {
+                response = executeWithFallback(unwrap(), derivedCtx,
+                                               (context, cause) -> HttpResponse.ofFailure(cause), ctxReq,
+                                               false);
+            }
+
+            final Attempt attempt = new Attempt(derivedCtx, response);
+            inFlightAttempts.add(attempt);
+            final SplitHttpResponse splitResponse = response.split();
+            splitResponse.headers().handle((headers, cause) -> {
+                attempt.latencyNanos = System.nanoTime() - attempt.startNanos;
+                onResponseHeaders(attempt, splitResponse, headers, cause);
+                return null;
+            });
+
+            scheduleNextAttempt();
+        }
+
+        private void scheduleNextAttempt() {
+            final long nextDelay = getNextDelay(ctx, hedgingBackoff);
+            if (nextDelay < 0) {
+                return;
+            }
+            nextAttemptScheduled = true;
+            final int seq = ++scheduleSeq;
+            scheduleNextRetry(ctx, cause -> runInEventLoop(() -> {
+                if (seq == scheduleSeq) {
+                    nextAttemptScheduled = false;
+                    if (inFlightAttempts.isEmpty()) {
+                        fail(cause, false);
+                    }
+                }
+            }), () -> {
+                if (seq == scheduleSeq) {
+                    sendAttempt();
+                }
+            }, nextDelay);
+        }
+
+        private void onResponseHeaders(Attempt attempt, SplitHttpResponse splitResponse,
+                                       @Nullable ResponseHeaders headers, @Nullable Throwable headersCause) {
+            final ClientRequestContext derivedCtx = attempt.ctx;
+            final Throwable responseCause;
+            if (headersCause == null) {
+                final RequestLog log = derivedCtx.log().getIfAvailable(RequestLogProperty.RESPONSE_CAUSE);
+                responseCause = log != null ? log.responseCause() : null;
+            } else {
+                responseCause = Exceptions.peel(headersCause);
+            }
+            completeLogIfBytesNotTransferred(attempt.response, headers, derivedCtx, responseCause);
+
+            final HttpResponse response;
+            if (responseCause != null) {
+                splitResponse.body().abort(responseCause);
+                response = HttpResponse.ofFailure(responseCause);
+            } else {
+                assert headers != null;
+                response = HttpResponse.of(headers, splitResponse.body());
+            }
+
+            derivedCtx.log().whenAvailable(RequestLogProperty.RESPONSE_HEADERS).thenRun(() -> {
+                final RetryRule retryRule = retryRule();
+                try {
+                    retryRule.shouldRetry(derivedCtx, responseCause).handle((decision, cause) -> {
+                        warnIfExceptionIsRaised(retryRule, cause);
+                        final boolean acceptable = decision == null || decision.backoff() == null;
+                        runInEventLoop(() -> onAttemptComplete(attempt, response, acceptable));
+                        return null;
+                    });
+                } catch (Throwable cause) {
+                    warnIfExceptionIsRaised(retryRule, cause);
+                    runInEventLoop(() -> onAttemptComplete(attempt, response, true));
+                }
+            });
+        }
+
+        private void onAttemptComplete(Attempt attempt, HttpResponse response, boolean acceptable) {
+            inFlightAttempts.remove(attempt);
+            if (completed) {
+                // Lost the race.
+                abortResponse(response, attempt.ctx);
+                return;
+            }
+
+            if (!acceptable) {
+                if (nextAttemptScheduled) {
+                    // Send the scheduled attempt right away instead of waiting for the hedging delay.
+                    abortResponse(response, attempt.ctx);
+                    scheduleSeq++;
+                    sendAttempt();
+                    return;
+                }
+                if (!inFlightAttempts.isEmpty()) {
+                    // Wait for the other attempts.
+                    abortResponse(response, attempt.ctx);
+                    return;
+                }
+                // No more attempts. Complete with the last response.
+            } else if (latencyTracker != null) {
+                latencyTracker.record(attempt.latencyNanos);
+            }
+
+            completed = true;
+            scheduleSeq++;
+            for (Attempt loser : inFlightAttempts) {
+                abortResponse(loser.response, loser.ctx);
+            }
+            inFlightAttempts.clear();
+            ctx.logBuilder().endResponseWithChild(attempt.ctx.log());
+            future.complete(response);
+            rootReqDuplicator.close();
+        }
+
+        private void fail(Throwable cause, boolean endRequestLog) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            scheduleSeq++;
+            for (Attempt attempt : inFlightAttempts) {
+                abortResponse(attempt.response, attempt.ctx);
+            }
+            inFlightAttempts.clear();
+            handleException(ctx, rootReqDuplicator, future, cause, endRequestLog);
+        }
+
+        private void runInEventLoop(Runnable task) {
+            if (ctx.eventLoop().inEventLoop()) {
+                task.run();
+            } else {
+                ctx.eventLoop().withoutContext().execute(task);
+            }
+        }
+    }
+
+    private static final class Attempt {
+
+        final ClientRequestContext ctx;
+        final HttpResponse response;
+        final long startNanos = System.nanoTime();
+        long latencyNanos;
+
+        Attempt(ClientRequestContext ctx, HttpResponse response) {
+            this.ctx = ctx;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.retry;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.client.HttpClient;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.util.Ticker;
+import com.linecorp.armeria.internal.common.util.LatencyPercentileTracker;
+
+/**
+ * Builds a new {@link HedgingClient} or its decorator function.
+ */
+@UnstableApi
+public final class HedgingClientBuilder {
+
+    static final long DEFAULT_HEDGING_DELAY_MILLIS = 100;
+
+    private static final int LATENCY_SAMPLE_SIZE = 1024;
+    private static final int MIN_LATENCY_SAMPLES = 100;
+    private static final long LATENCY_UPDATE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RetryConfig<HttpResponse> retryConfig;
+    private long hedgingDelayMillis = DEFAULT_HEDGING_DELAY_MILLIS;
+    private double hedgingDelayPercentile = -1;
+
+    HedgingClientBuilder(RetryConfig<HttpResponse> retryConfig) {
+        requireNonNull(retryConfig, "retryConfig");
+        checkArgument(!retryConfig.needsContentInRule(),
+                      "retryConfig: %s (expected: a RetryConfig with a RetryRule)", retryConfig);
+        this.retryConfig = retryConfig;
+    }
+
+    /**
+     * Sets the delay after which a hedged attempt is sent if no response is received.
+     * If {@link #hedgingDelayPercentile(double)} is specified, this delay is used until enough latencies
+     * are observed. Defaults to {@value #DEFAULT_HEDGING_DELAY_MILLIS} milliseconds if unspecified.
+     */
+    public HedgingClientBuilder hedgingDelay(Duration hedgingDelay) {
+        requireNonNull(hedgingDelay, "hedgingDelay");
+        checkArgument(!hedgingDelay.isNegative(), "hedgingDelay: %s (expected: >= 0)", hedgingDelay);
+        return hedgingDelayMillis(hedgingDelay.toMillis());
+    }
+
+    /**
+     * Sets the delay in milliseconds after which a hedged attempt is sent if no response is received.
+     * If {@link #hedgingDelayPercentile(double)} is specified, this delay is used until enough latencies
+     * are observed. Defaults to {@value #DEFAULT_HEDGING_DELAY_MILLIS} milliseconds if unspecified.
+     */
+    public HedgingClientBuilder hedgingDelayMillis(long hedgingDelayMillis) {
+        checkArgument(hedgingDelayMillis >= 0, "hedgingDelayMillis: %s (expected: >= 0)", hedgingDelayMillis);
+        this.hedgingDelayMillis = hedgingDelayMillis;
+        return this;
+    }
+
+    /**
+     * Makes the hedging delay follow the specified percentile of the latencies until the response headers
+     * of the recent requests. For example, {@code 0.95} sends a hedged attempt for the requests slower
+     * than 95% of the recent requests, which limits the additional load to about 5%.
+     */
+    public HedgingClientBuilder hedgingDelayPercentile(double percentile) {
+        checkArgument(percentile > 0 && percentile < 1,
+                      "percentile: %s (expected: 0 < percentile < 1)", percentile);
+        hedgingDelayPercentile = percentile;
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link HedgingClient} based on the properties of this builder.
+     */
+    public HedgingClient build(HttpClient delegate) {
+        requireNonNull(delegate, "delegate");
+        final LatencyPercentileTracker latencyTracker;
+        if (hedgingDelayPercentile > 0) {
+            latencyTracker = new LatencyPercentileTracker(hedgingDelayPercentile, LATENCY_SAMPLE_SIZE,
+                                                          MIN_LATENCY_SAMPLES, LATENCY_UPDATE_INTERVAL_NANOS,
+                                                          Ticker.systemTicker());
+        } else {
+            latencyTracker = null;
+        }
+        return new HedgingClient(delegate, retryConfig, hedgingDelayMillis, latencyTracker);
+    }
+
+    /**
+     * Returns a newly-created decorator that decorates an {@link HttpClient} with a new
+     * {@link HedgingClient} based on the properties of this builder.
+     */
+    public Function<? super HttpClient, HedgingClient> newDecorator() {
+        return this::build;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("retryConfig", retryConfig)
+                          .add("hedgingDelayMillis", hedgingDelayMillis)
+                          .add("hedgingDelayPercentile", hedgingDelayPercentile)
+                          .toString();
+    }
+}
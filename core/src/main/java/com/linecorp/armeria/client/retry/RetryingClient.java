@@ -476,7 +476,7 @@ public final class RetryingClient extends AbstractRetryingClient<HttpRequest, Ht
         }
     }
 
-    private static void completeLogIfBytesNotTransferred(
+    static void completeLogIfBytesNotTransferred(
             HttpResponse response, @Nullable ResponseHeaders headers, ClientRequestContext ctx,
             @Nullable Throwable responseCause) {
         if (!ctx.log().isAvailable(RequestLogProperty.REQUEST_FIRST_BYTES_TRANSFERRED_TIME)) {
@@ -501,16 +501,16 @@ public final class RetryingClient extends AbstractRetryingClient<HttpRequest, Ht
         }
     }
 
-    private static void warnIfExceptionIsRaised(Object retryRule, @Nullable Throwable cause) {
+    static void warnIfExceptionIsRaised(Object retryRule, @Nullable Throwable cause) {
         if (cause != null) {
             logger.warn("Unexpected exception is raised from {}.", retryRule, cause);
         }
     }
 
-    private static void handleException(ClientRequestContext ctx,
-                                        @Nullable HttpRequestDuplicator rootReqDuplicator,
-                                        CompletableFuture<HttpResponse> future, Throwable cause,
-                                        boolean endRequestLog) {
+    static void handleException(ClientRequestContext ctx,
+                                @Nullable HttpRequestDuplicator rootReqDuplicator,
+                                CompletableFuture<HttpResponse> future, Throwable cause,
+                                boolean endRequestLog) {
         future.completeExceptionally(cause);
         if (rootReqDuplicator != null) {
             rootReqDuplicator.abort(cause);
@@ -543,7 +543,7 @@ public final class RetryingClient extends AbstractRetryingClient<HttpRequest, Ht
         rootReqDuplicator.close();
     }
 
-    private static void abortResponse(HttpResponse originalRes, ClientRequestContext derivedCtx) {
+    static void abortResponse(HttpResponse originalRes, ClientRequestContext derivedCtx) {
         // Set response content with null to make sure that the log is complete.
         final RequestLogBuilder logBuilder = derivedCtx.logBuilder();
         logBuilder.responseContent(null, null);
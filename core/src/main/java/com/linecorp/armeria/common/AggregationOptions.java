@@ -16,6 +16,8 @@
 
 package com.linecorp.armeria.common;
 
+import java.nio.file.Path;
+
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.unsafe.PooledObjects;
@@ -79,4 +81,20 @@ public interface AggregationOptions {
      */
     @Nullable
     ByteBufAllocator alloc();
+
+    /**
+     * Returns the number of bytes of the content above which the content is written to a temporary file
+     * instead of being kept in the memory, or {@code 0} if the content is always kept in the memory.
+     *
+     * @see AggregationOptionsBuilder#spillToFile(long, Path)
+     */
+    long spillThresholdBytes();
+
+    /**
+     * Returns the directory where the temporary file is created when the content exceeds
+     * {@link #spillThresholdBytes()}. If {@code null}, the default temporary-file directory of the system
+     * is used.
+     */
+    @Nullable
+    Path spillDirectory();
 }
@@ -16,8 +16,11 @@
 
 package com.linecorp.armeria.common;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.unsafe.PooledObjects;
@@ -37,6 +40,9 @@ public final class AggregationOptionsBuilder {
     private ByteBufAllocator alloc;
     private boolean cacheResult;
     private boolean preferCached = true;
+    private long spillThresholdBytes;
+    @Nullable
+    private Path spillDirectory;
 
     AggregationOptionsBuilder() {}
 
@@ -59,6 +65,9 @@ public final class AggregationOptionsBuilder {
         if (alloc != null) {
             throw new IllegalStateException("Can't cache pooled objects");
         }
+        if (spillThresholdBytes > 0) {
+            throw new IllegalStateException("Can't cache the content spilled to a file");
+        }
         cacheResult = cache;
         return this;
     }
@@ -134,10 +143,54 @@ public final class AggregationOptionsBuilder {
         return this;
     }
 
+    /**
+     * Writes the content to a temporary file in the default temporary-file directory of the system once
+     * the content exceeds the specified number of bytes.
+     *
+     * @see #spillToFile(long, Path)
+     */
+    public AggregationOptionsBuilder spillToFile(long thresholdBytes) {
+        return spillToFile0(thresholdBytes, null);
+    }
+
+    /**
+     * Writes the content to a temporary file in the specified directory once the content exceeds
+     * the specified number of bytes, so that the memory used for aggregating a large content, e.g.
+     * an upload of hundreds of megabytes, is bounded by the threshold. The content of the aggregated
+     * {@link HttpMessage} is backed by the file and is read into the memory only when accessed, e.g. via
+     * {@link HttpData#array()}. Such a content is a {@link FileBackedHttpData}, which can be read without
+     * loading it into the memory via {@link FileBackedHttpData#toInputStream()}. A content which does not
+     * exceed the threshold is kept in the memory as usual.
+     *
+     * <p>Note that a server buffers the whole request in the memory before invoking a service whose
+     * {@link ExchangeType} is not request streaming. A service which accepts large uploads should return
+     * a request streaming {@link ExchangeType} so that this option bounds the memory.
+     *
+     * <p>The temporary file is deleted when the content is read into the memory or closed. Therefore,
+     * the content must be closed via {@link HttpData#close()} if it is not read.
+     * The content cannot be cached since the file has its own life cycle, so this method and
+     * {@link #cacheResult(boolean)} are mutually exclusive. If {@link #cacheResult(boolean)} is enabled and
+     * this option is set, an {@link IllegalStateException} will be raised.
+     */
+    public AggregationOptionsBuilder spillToFile(long thresholdBytes, Path directory) {
+        return spillToFile0(thresholdBytes, requireNonNull(directory, "directory"));
+    }
+
+    private AggregationOptionsBuilder spillToFile0(long thresholdBytes, @Nullable Path directory) {
+        checkArgument(thresholdBytes > 0, "thresholdBytes: %s (expected: > 0)", thresholdBytes);
+        if (cacheResult) {
+            throw new IllegalStateException("Can't cache the content spilled to a file");
+        }
+        spillThresholdBytes = thresholdBytes;
+        spillDirectory = directory;
+        return this;
+    }
+
     /**
      * Returns a newly created {@link AggregationOptions} with the properties set so far.
      */
     public AggregationOptions build() {
-        return new DefaultAggregationOptions(executor, alloc, preferCached, cacheResult);
+        return new DefaultAggregationOptions(executor, alloc, preferCached, cacheResult,
+                                             spillThresholdBytes, spillDirectory);
     }
 }
@@ -38,9 +38,13 @@ public final class CommonPools {
 
     private static final Logger logger = LoggerFactory.getLogger(CommonPools.class);
 
-    // Threads spawned as needed and reused, with a 60s timeout and unbounded work queue.
+    // Threads spawned as needed and reused, with a 60s timeout and unbounded work queue,
+    // or a new virtual thread per task if enabled.
     private static final BlockingTaskExecutor BLOCKING_TASK_EXECUTOR =
-            BlockingTaskExecutor.builder().threadNamePrefix("armeria-common-blocking-tasks").build();
+            BlockingTaskExecutor.builder()
+                                .threadNamePrefix("armeria-common-blocking-tasks")
+                                .useVirtualThreads(Flags.useVirtualThreadBlockingTaskExecutor())
+                                .build();
     private static final EventLoopGroup WORKER_GROUP =
             EventLoopGroups.newEventLoopGroup(Flags.numCommonWorkers(), "armeria-common-worker", true);
 
@@ -16,6 +16,7 @@
 
 package com.linecorp.armeria.common;
 
+import java.nio.file.Path;
 import java.util.Objects;
 
 import com.google.common.base.MoreObjects;
@@ -33,13 +34,19 @@ final class DefaultAggregationOptions implements AggregationOptions {
     private final ByteBufAllocator alloc;
     private final boolean preferCached;
     private final boolean cacheResult;
+    private final long spillThresholdBytes;
+    @Nullable
+    private final Path spillDirectory;
 
     DefaultAggregationOptions(@Nullable EventExecutor executor, @Nullable ByteBufAllocator alloc,
-                              boolean preferCached, boolean cacheResult) {
+                              boolean preferCached, boolean cacheResult,
+                              long spillThresholdBytes, @Nullable Path spillDirectory) {
         this.executor = executor;
         this.alloc = alloc;
         this.preferCached = preferCached;
         this.cacheResult = cacheResult;
+        this.spillThresholdBytes = spillThresholdBytes;
+        this.spillDirectory = spillDirectory;
     }
 
     @Nullable
@@ -64,6 +71,17 @@ final class DefaultAggregationOptions implements AggregationOptions {
         return alloc;
     }
 
+    @Override
+    public long spillThresholdBytes() {
+        return spillThresholdBytes;
+    }
+
+    @Nullable
+    @Override
+    public Path spillDirectory() {
+        return spillDirectory;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -75,13 +93,15 @@ final class DefaultAggregationOptions implements AggregationOptions {
         final AggregationOptions that = (AggregationOptions) o;
         return cacheResult == that.cacheResult() &&
                preferCached == that.preferCached() &&
+               spillThresholdBytes == that.spillThresholdBytes() &&
                Objects.equals(executor, that.executor()) &&
-               Objects.equals(alloc, that.alloc());
+               Objects.equals(alloc, that.alloc()) &&
+               Objects.equals(spillDirectory, that.spillDirectory());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(executor, alloc, cacheResult, preferCached);
+        return Objects.hash(executor, alloc, cacheResult, preferCached, spillThresholdBytes, spillDirectory);
     }
 
     @Override
@@ -91,6 +111,8 @@ final class DefaultAggregationOptions implements AggregationOptions {
                           .add("alloc", alloc)
                           .add("cacheResult", cacheResult)
                           .add("preferCached", preferCached)
+                          .add("spillThresholdBytes", spillThresholdBytes)
+                          .add("spillDirectory", spillDirectory)
                           .toString();
     }
 }
@@ -71,6 +71,7 @@ final class DefaultFlagsProvider implements FlagsProvider {
     static final int DEFAULT_HTTP1_MAX_INITIAL_LINE_LENGTH = 4096; // from Netty
     static final int DEFAULT_HTTP1_MAX_HEADER_SIZE = 8192; // from Netty
     static final int DEFAULT_HTTP1_MAX_CHUNK_SIZE = 8192; // from Netty
+    static final int DEFAULT_RESPONSE_WRITE_BATCH_SIZE = 1;
     static final long DEFAULT_PING_INTERVAL_MILLIS = 0; // Disabled
     static final int DEFAULT_MAX_SERVER_NUM_REQUESTS_PER_CONNECTION = 0; // Disabled
     static final int DEFAULT_MAX_CLIENT_NUM_REQUESTS_PER_CONNECTION = 0; // Disabled
@@ -200,6 +201,11 @@ final class DefaultFlagsProvider implements FlagsProvider {
         return NUM_COMMON_BLOCKING_TASK_THREADS;
     }
 
+    @Override
+    public Boolean useVirtualThreadBlockingTaskExecutor() {
+        return false;
+    }
+
     @Override
     public Long defaultMaxRequestLength() {
         return DEFAULT_MAX_REQUEST_LENGTH;
@@ -265,6 +271,16 @@ final class DefaultFlagsProvider implements FlagsProvider {
         return DEFAULT_HTTP1_MAX_CHUNK_SIZE;
     }
 
+    @Override
+    public Integer responseWriteBatchSize() {
+        return DEFAULT_RESPONSE_WRITE_BATCH_SIZE;
+    }
+
+    @Override
+    public Boolean consolidateHttp2Flushes() {
+        return false;
+    }
+
     @Override
     public Boolean defaultUseHttp2Preface() {
         return true;
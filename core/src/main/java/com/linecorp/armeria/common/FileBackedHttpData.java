@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * An {@link HttpData} whose content is stored in a region of a file rather than in the memory, such as
+ * the content spilled to a temporary file by {@link AggregationOptionsBuilder#spillToFile(long, Path)}.
+ *
+ * <p>Use {@link #toInputStream()} to read the content without loading it into the memory. Accessing
+ * the content via {@link #array()} or {@link #byteBuf()} reads the whole region into the memory.
+ * The content can be read only until this {@link HttpData} is closed or read into the memory.
+ */
+@UnstableApi
+public interface FileBackedHttpData extends HttpData {
+
+    /**
+     * Returns the {@link Path} of the file which stores the content. Note that a temporary file may not be
+     * accessible via the returned {@link Path}, because some platforms remove the name of a file opened
+     * with {@link java.nio.file.StandardOpenOption#DELETE_ON_CLOSE} immediately. Use
+     * {@link #toInputStream()} to read such a file.
+     */
+    Path path();
+
+    /**
+     * Returns the offset in the file where the content starts.
+     */
+    long position();
+
+    /**
+     * Returns the number of bytes of the content. Unlike {@link #length()}, the returned value is not
+     * limited to {@link Integer#MAX_VALUE}.
+     */
+    long contentLength();
+
+    /**
+     * Returns a new {@link InputStream} which reads the content from the file directly, without loading
+     * the whole content into the memory. Closing the returned {@link InputStream} closes this
+     * {@link HttpData}.
+     */
+    @Override
+    InputStream toInputStream();
+}
@@ -52,6 +52,7 @@ import com.linecorp.armeria.client.retry.RetryingClient;
 import com.linecorp.armeria.client.retry.RetryingRpcClient;
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.util.BlockingTaskExecutorBuilder;
 import com.linecorp.armeria.common.util.Exceptions;
 import com.linecorp.armeria.common.util.Sampler;
 import com.linecorp.armeria.common.util.SystemInfo;
@@ -59,6 +60,7 @@ import com.linecorp.armeria.common.util.TlsEngineType;
 import com.linecorp.armeria.common.util.TransportType;
 import com.linecorp.armeria.internal.common.FlagsLoaded;
 import com.linecorp.armeria.internal.common.util.SslContextUtil;
+import com.linecorp.armeria.internal.common.util.VirtualThreadBlockingTaskExecutor;
 import com.linecorp.armeria.server.HttpService;
 import com.linecorp.armeria.server.MultipartRemovalStrategy;
 import com.linecorp.armeria.server.ServerBuilder;
@@ -222,6 +224,11 @@ public final class Flags {
             getValue(FlagsProvider::numCommonBlockingTaskThreads, "numCommonBlockingTaskThreads",
                      value -> value > 0);
 
+    private static final boolean USE_VIRTUAL_THREAD_BLOCKING_TASK_EXECUTOR =
+            getValue(FlagsProvider::useVirtualThreadBlockingTaskExecutor,
+                     "useVirtualThreadBlockingTaskExecutor",
+                     value -> !value || VirtualThreadBlockingTaskExecutor.isAvailable());
+
     private static final long DEFAULT_MAX_REQUEST_LENGTH =
             getValue(FlagsProvider::defaultMaxRequestLength, "defaultMaxRequestLength",
                      value -> value >= 0);
@@ -325,6 +332,12 @@ public final class Flags {
             getValue(FlagsProvider::defaultHttp1MaxChunkSize,
                      "defaultHttp1MaxChunkSize", value -> value >= 0);
 
+    private static final int RESPONSE_WRITE_BATCH_SIZE =
+            getValue(FlagsProvider::responseWriteBatchSize, "responseWriteBatchSize", value -> value > 0);
+
+    private static final boolean CONSOLIDATE_HTTP2_FLUSHES =
+            getValue(FlagsProvider::consolidateHttp2Flushes, "consolidateHttp2Flushes");
+
     private static final boolean DEFAULT_USE_HTTP2_PREFACE =
             getValue(FlagsProvider::defaultUseHttp2Preface, "defaultUseHttp2Preface");
 
@@ -711,6 +724,24 @@ public final class Flags {
         return NUM_COMMON_BLOCKING_TASK_THREADS;
     }
 
+    /**
+     * Returns whether the {@linkplain CommonPools#blockingTaskExecutor() common blocking task executor}
+     * runs each task in a new virtual thread instead of a thread pool. If enabled,
+     * {@link #numCommonBlockingTaskThreads()} is ignored. Note that this flag has no effect if a user
+     * specified the blocking task executor explicitly via
+     * {@link ServerBuilder#blockingTaskExecutor(ScheduledExecutorService, boolean)}, or if the current JVM
+     * does not support virtual threads.
+     *
+     * <p>This flag is disabled by default. Specify the
+     * {@code -Dcom.linecorp.armeria.useVirtualThreadBlockingTaskExecutor=true} JVM option to enable it.
+     *
+     * @see BlockingTaskExecutorBuilder#useVirtualThreads(boolean)
+     */
+    @UnstableApi
+    public static boolean useVirtualThreadBlockingTaskExecutor() {
+        return USE_VIRTUAL_THREAD_BLOCKING_TASK_EXECUTOR;
+    }
+
     /**
      * Returns the default server-side maximum length of a request. Note that this flag has no effect if a user
      * specified the value explicitly via {@link ServerBuilder#maxRequestLength(long)}.
@@ -880,6 +911,42 @@ public final class Flags {
         return DEFAULT_HTTP1_MAX_CHUNK_SIZE;
     }
 
+    /**
+     * Returns the maximum number of the {@link HttpObject}s of a server-side {@link HttpResponse} which are
+     * requested and written to a connection before the previous writes complete. If greater than {@code 1},
+     * the written {@link HttpObject}s are flushed together once per event loop iteration rather than one by
+     * one, so that a streaming response which emits many small chunks, e.g. Server-Sent Events, costs fewer
+     * flushes and system calls because the transport writes the pending buffers with a gathering write.
+     * Note that this flag has no effect if a user specified the value explicitly via
+     * {@link ServerBuilder#responseWriteBatchSize(int)}.
+     *
+     * <p>The default value of this flag is
+     * {@value DefaultFlagsProvider#DEFAULT_RESPONSE_WRITE_BATCH_SIZE}, which writes and flushes
+     * the {@link HttpObject}s one by one. Specify the
+     * {@code -Dcom.linecorp.armeria.responseWriteBatchSize=<integer>} JVM option to override the default value.
+     */
+    @UnstableApi
+    public static int responseWriteBatchSize() {
+        return RESPONSE_WRITE_BATCH_SIZE;
+    }
+
+    /**
+     * Returns whether the flushes of the streams of an HTTP/2 connection are consolidated into one flush
+     * per event loop iteration. If enabled, many small frames written outside of a read, e.g. the responses
+     * completed by a blocking task executor, are sent with fewer flushes and system calls at the cost of
+     * the latency until the current event loop iteration ends. Note that a server-side streaming response
+     * whose {@link ServerBuilder#responseWriteBatchSize(int)} is greater than {@code 1} already defers its
+     * flush to the end of the event loop iteration. Enabling this flag as well defers such a flush once more,
+     * so the frames are sent one task later without a further reduction of the flushes of that response.
+     *
+     * <p>This flag is disabled by default. Specify the
+     * {@code -Dcom.linecorp.armeria.consolidateHttp2Flushes=true} JVM option to enable it.
+     */
+    @UnstableApi
+    public static boolean consolidateHttp2Flushes() {
+        return CONSOLIDATE_HTTP2_FLUSHES;
+    }
+
     /**
      * Returns the default value of the {@link ClientFactoryBuilder#useHttp2Preface(boolean)} option.
      * If enabled, the HTTP/2 connection preface is sent immediately for a cleartext HTTP/2 connection,
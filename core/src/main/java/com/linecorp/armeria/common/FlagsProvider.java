@@ -40,6 +40,7 @@ import com.linecorp.armeria.client.retry.RetryingClient;
 import com.linecorp.armeria.client.retry.RetryingRpcClient;
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.util.BlockingTaskExecutorBuilder;
 import com.linecorp.armeria.common.util.Exceptions;
 import com.linecorp.armeria.common.util.Sampler;
 import com.linecorp.armeria.common.util.SystemInfo;
@@ -284,6 +285,25 @@ public interface FlagsProvider {
         return null;
     }
 
+    /**
+     * Returns whether the {@linkplain CommonPools#blockingTaskExecutor() common blocking task executor}
+     * runs each task in a new virtual thread instead of a thread pool. If enabled,
+     * {@link #numCommonBlockingTaskThreads()} is ignored. Note that this flag has no effect if a user
+     * specified the blocking task executor explicitly via
+     * {@link ServerBuilder#blockingTaskExecutor(ScheduledExecutorService, boolean)}, or if the current JVM
+     * does not support virtual threads.
+     *
+     * <p>This flag is disabled by default. Specify the
+     * {@code -Dcom.linecorp.armeria.useVirtualThreadBlockingTaskExecutor=true} JVM option to enable it.
+     *
+     * @see BlockingTaskExecutorBuilder#useVirtualThreads(boolean)
+     */
+    @Nullable
+    @UnstableApi
+    default Boolean useVirtualThreadBlockingTaskExecutor() {
+        return null;
+    }
+
     /**
      * Returns the default server-side maximum length of a request. Note that this flag has no effect if a user
      * specified the value explicitly via {@link ServerBuilder#maxRequestLength(long)}.
@@ -466,6 +486,44 @@ public interface FlagsProvider {
         return null;
     }
 
+    /**
+     * Returns the maximum number of the {@link HttpObject}s of a server-side {@link HttpResponse} which are
+     * requested and written to a connection before the previous writes complete. If greater than {@code 1},
+     * the written {@link HttpObject}s are flushed together once per event loop iteration rather than one by
+     * one, so that a streaming response which emits many small chunks, e.g. Server-Sent Events, costs fewer
+     * flushes and system calls because the transport writes the pending buffers with a gathering write.
+     * Note that this flag has no effect if a user specified the value explicitly via
+     * {@link ServerBuilder#responseWriteBatchSize(int)}.
+     *
+     * <p>The default value of this flag is
+     * {@value DefaultFlagsProvider#DEFAULT_RESPONSE_WRITE_BATCH_SIZE}, which writes and flushes
+     * the {@link HttpObject}s one by one. Specify the
+     * {@code -Dcom.linecorp.armeria.responseWriteBatchSize=<integer>} JVM option to override the default value.
+     */
+    @Nullable
+    @UnstableApi
+    default Integer responseWriteBatchSize() {
+        return null;
+    }
+
+    /**
+     * Returns whether the flushes of the streams of an HTTP/2 connection are consolidated into one flush
+     * per event loop iteration. If enabled, many small frames written outside of a read, e.g. the responses
+     * completed by a blocking task executor, are sent with fewer flushes and system calls at the cost of
+     * the latency until the current event loop iteration ends. Note that a server-side streaming response
+     * whose {@link ServerBuilder#responseWriteBatchSize(int)} is greater than {@code 1} already defers its
+     * flush to the end of the event loop iteration. Enabling this flag as well defers such a flush once more,
+     * so the frames are sent one task later without a further reduction of the flushes of that response.
+     *
+     * <p>This flag is disabled by default. Specify the
+     * {@code -Dcom.linecorp.armeria.consolidateHttp2Flushes=true} JVM option to enable it.
+     */
+    @Nullable
+    @UnstableApi
+    default Boolean consolidateHttp2Flushes() {
+        return null;
+    }
+
     /**
      * Returns the default value of the {@link ClientFactoryBuilder#useHttp2Preface(boolean)} option.
      * If enabled, the HTTP/2 connection preface is sent immediately for a cleartext HTTP/2 connection,
@@ -200,6 +200,12 @@ final class SystemPropertyFlagsProvider implements FlagsProvider {
         return getInt("numCommonBlockingTaskThreads");
     }
 
+    @Nullable
+    @Override
+    public Boolean useVirtualThreadBlockingTaskExecutor() {
+        return getBoolean("useVirtualThreadBlockingTaskExecutor");
+    }
+
     @Nullable
     @Override
     public Long defaultMaxRequestLength() {
@@ -266,6 +272,18 @@ final class SystemPropertyFlagsProvider implements FlagsProvider {
         return getInt("defaultHttp1MaxChunkSize");
     }
 
+    @Nullable
+    @Override
+    public Integer responseWriteBatchSize() {
+        return getInt("responseWriteBatchSize");
+    }
+
+    @Nullable
+    @Override
+    public Boolean consolidateHttp2Flushes() {
+        return getBoolean("consolidateHttp2Flushes");
+    }
+
     @Nullable
     @Override
     public Boolean defaultUseHttp2Preface() {
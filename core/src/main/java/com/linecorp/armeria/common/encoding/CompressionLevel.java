@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.encoding;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * How hard the content is compressed when it is encoded.
+ */
+@UnstableApi
+public enum CompressionLevel {
+    /**
+     * The content is not compressed. If the content encoding has been decided already, the content is
+     * written in the encoding with the least effort, e.g. as stored blocks for {@code "gzip"}.
+     */
+    NONE,
+    /**
+     * The content is compressed with the fastest level of the encoding, which trades the compression
+     * ratio for CPU time.
+     */
+    FASTEST,
+    /**
+     * The content is compressed with the default level of the encoding.
+     */
+    DEFAULT
+}
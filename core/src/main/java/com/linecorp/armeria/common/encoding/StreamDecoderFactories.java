@@ -25,6 +25,7 @@ import io.netty.handler.codec.compression.Brotli;
 import io.netty.handler.codec.compression.BrotliDecoder;
 import io.netty.handler.codec.compression.SnappyFrameDecoder;
 import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.Zstd;
 
 enum StreamDecoderFactories implements StreamDecoderFactory {
     BROTLI {
@@ -70,15 +71,32 @@ enum StreamDecoderFactories implements StreamDecoderFactory {
         public StreamDecoder newDecoder(ByteBufAllocator alloc, int maxLength) {
             return new SnappyStreamDecoder(new SnappyFrameDecoder(), alloc, maxLength);
         }
+    },
+    ZSTD {
+        @Override
+        public String encodingHeaderValue() {
+            return "zstd";
+        }
+
+        @Override
+        public StreamDecoder newDecoder(ByteBufAllocator alloc, int maxLength) {
+            return new ZstdStreamDecoder(null, alloc, maxLength);
+        }
     };
 
     static final List<StreamDecoderFactory> ALL;
 
     static {
-        if (Brotli.isAvailable()) {
-            ALL = ImmutableList.copyOf(values());
-        } else {
-            ALL = ImmutableList.of(GZIP, DEFLATE, SNAPPY);
+        final ImmutableList.Builder<StreamDecoderFactory> builder = ImmutableList.builder();
+        for (StreamDecoderFactories factory : values()) {
+            if (factory == BROTLI && !Brotli.isAvailable()) {
+                continue;
+            }
+            if (factory == ZSTD && !Zstd.isAvailable()) {
+                continue;
+            }
+            builder.add(factory);
         }
+        ALL = builder.build();
     }
 }
@@ -16,6 +16,9 @@
 
 package com.linecorp.armeria.common.encoding;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 
 import com.linecorp.armeria.common.ContentTooLargeException;
@@ -69,6 +72,28 @@ public interface StreamDecoderFactory extends com.linecorp.armeria.client.encodi
         return StreamDecoderFactories.SNAPPY;
     }
 
+    /**
+     * Returns the {@link StreamDecoderFactory} for {@code "zstd"} content encoding.
+     * Note that <a href="https://github.com/luben/zstd-jni">zstd-jni</a> must be in the class path.
+     */
+    @UnstableApi
+    static StreamDecoderFactory zstd() {
+        return StreamDecoderFactories.ZSTD;
+    }
+
+    /**
+     * Returns a new {@link StreamDecoderFactory} for {@code "zstd"} content encoding, which decompresses
+     * the content with the specified dictionary. The dictionary must be the same one which was used to
+     * compress the content. The content compressed without a dictionary can also be decompressed.
+     * Note that <a href="https://github.com/luben/zstd-jni">zstd-jni</a> must be in the class path.
+     */
+    @UnstableApi
+    static StreamDecoderFactory zstd(byte[] dictionary) {
+        requireNonNull(dictionary, "dictionary");
+        checkArgument(dictionary.length > 0, "dictionary is empty.");
+        return new ZstdStreamDecoderFactory(dictionary);
+    }
+
     /**
      * Returns the value of the Content-Encoding header which this factory applies to.
      */
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.encoding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.compression.DecompressionException;
+
+/**
+ * A {@link StreamDecoder} that decompresses data encoded with Zstandard ('zstd').
+ */
+final class ZstdStreamDecoder extends AbstractStreamDecoder {
+
+    ZstdStreamDecoder(@Nullable ZstdDictDecompress dictionary, ByteBufAllocator alloc, int maxLength) {
+        // Like BrotliDecoder, ZstdDecoder does not limit the max output size. The max length is checked at
+        // the `StreamDecoder` level after decoding.
+        super(new ZstdDecoder(dictionary), alloc, maxLength);
+    }
+
+    /**
+     * Decompresses a Zstandard stream. Unlike Netty's {@code ZstdDecoder}, a dictionary can be specified.
+     */
+    private static final class ZstdDecoder extends ByteToMessageDecoder {
+
+        private static final int OUTPUT_CHUNK_SIZE = (int) ZstdInputStreamNoFinalizer.recommendedDOutSize();
+
+        @Nullable
+        private final ZstdDictDecompress dictionary;
+        private final ByteBufInputStream source = new ByteBufInputStream();
+        @Nullable
+        private ZstdInputStreamNoFinalizer zstd;
+
+        ZstdDecoder(@Nullable ZstdDictDecompress dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+            source.current = in;
+            try {
+                final ZstdInputStreamNoFinalizer zstd = zstd();
+                for (;;) {
+                    final ByteBuf decoded = ctx.alloc().heapBuffer(OUTPUT_CHUNK_SIZE);
+                    int readBytes;
+                    do {
+                        readBytes = decoded.writeBytes(zstd, decoded.writableBytes());
+                    } while (readBytes > 0 && decoded.isWritable());
+
+                    if (decoded.isReadable()) {
+                        out.add(decoded);
+                    } else {
+                        decoded.release();
+                    }
+                    if (readBytes <= 0) {
+                        // Need more input or reached the end of the stream.
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                throw new DecompressionException(e);
+            } finally {
+                source.current = null;
+            }
+        }
+
+        private ZstdInputStreamNoFinalizer zstd() throws IOException {
+            ZstdInputStreamNoFinalizer zstd = this.zstd;
+            if (zstd == null) {
+                zstd = new ZstdInputStreamNoFinalizer(source);
+                // Return what has been decompressed so far instead of failing when the input is not
+                // a complete frame yet.
+                zstd.setContinuous(true);
+                if (dictionary != null) {
+                    zstd.setDict(dictionary);
+                }
+                this.zstd = zstd;
+            }
+            return zstd;
+        }
+
+        @Override
+        protected void handlerRemoved0(ChannelHandlerContext ctx) throws Exception {
+            final ZstdInputStreamNoFinalizer zstd = this.zstd;
+            if (zstd != null) {
+                this.zstd = null;
+                // Release the native resources.
+                zstd.close();
+            }
+        }
+    }
+
+    /**
+     * An {@link InputStream} which reads the {@link ByteBuf} being decoded currently.
+     */
+    private static final class ByteBufInputStream extends InputStream {
+
+        @Nullable
+        ByteBuf current;
+
+        @Override
+        public int read() {
+            final ByteBuf current = this.current;
+            if (current == null || !current.isReadable()) {
+                return -1;
+            }
+            return current.readByte() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            final ByteBuf current = this.current;
+            if (len == 0) {
+                return 0;
+            }
+            if (current == null || !current.isReadable()) {
+                return -1;
+            }
+            final int readBytes = Math.min(len, current.readableBytes());
+            current.readBytes(b, off, readBytes);
+            return readBytes;
+        }
+
+        @Override
+        public int available() {
+            final ByteBuf current = this.current;
+            return current != null ? current.readableBytes() : 0;
+        }
+    }
+}
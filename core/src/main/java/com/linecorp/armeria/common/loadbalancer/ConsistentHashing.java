@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.loadbalancer;
+
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Hash functions used by {@link RingHashLoadBalancer} and {@link MaglevLoadBalancer}.
+ */
+final class ConsistentHashing {
+
+    /**
+     * Returns the hash of the specified key of a candidate. The hash is stable across JVMs so that
+     * the clients that share the same candidates make the same decision.
+     */
+    static long hashKey(String key, int seed) {
+        return Hashing.murmur3_128(seed).hashString(key, StandardCharsets.UTF_8).asLong();
+    }
+
+    /**
+     * Spreads the bits of the specified hash of a context using the finalization mix of MurmurHash3,
+     * because a user-provided hash such as {@link String#hashCode()} is often poorly distributed.
+     */
+    static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private ConsistentHashing() {}
+}
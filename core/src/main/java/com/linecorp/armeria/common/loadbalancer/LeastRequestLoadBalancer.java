@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.loadbalancer;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Streams;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.internal.common.loadbalancer.WeightedObject;
+
+/**
+ * A {@link LoadBalancer} that selects the candidate with fewer outstanding requests using the
+ * <a href="https://www.eecs.harvard.edu/~michaelm/postscripts/tpds2001.pdf">power of two choices</a>
+ * algorithm. Two candidates are chosen at random, and the one with the smaller number of outstanding
+ * requests relative to its weight is selected. Unlike picking the least loaded candidate among all,
+ * this does not require a scan of all candidates and avoids sending a burst of requests to the same
+ * candidate whose counter has not been updated yet.
+ */
+final class LeastRequestLoadBalancer<T> implements SimpleLoadBalancer<T> {
+
+    private final List<WeightedObject<T>> candidates;
+    private final ToLongFunction<? super T> numRequestsFunction;
+
+    LeastRequestLoadBalancer(Iterable<? extends T> candidates,
+                             @Nullable ToIntFunction<? super T> weightFunction,
+                             ToLongFunction<? super T> numRequestsFunction) {
+        @SuppressWarnings("unchecked")
+        final List<WeightedObject<T>> weightedCandidates =
+                Streams.stream((Iterable<T>) candidates)
+                       .map(e -> {
+                           if (weightFunction == null) {
+                               return new WeightedObject<>(e, ((Weighted) e).weight());
+                           } else {
+                               return new WeightedObject<>(e, weightFunction.applyAsInt(e));
+                           }
+                       })
+                       .filter(e -> e.weight() > 0)
+                       .collect(toImmutableList());
+        this.candidates = weightedCandidates;
+        this.numRequestsFunction = numRequestsFunction;
+    }
+
+    @VisibleForTesting
+    List<WeightedObject<T>> candidates() {
+        return candidates;
+    }
+
+    @Nullable
+    @Override
+    public T pick() {
+        final int size = candidates.size();
+        if (size == 0) {
+            return null;
+        }
+        if (size == 1) {
+            return candidates.get(0).get();
+        }
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        final WeightedObject<T> a = candidates.get(first);
+        final WeightedObject<T> b = candidates.get(second);
+
+        // Compare (numRequests + 1) / weight without division.
+        final long loadA = (numRequestsFunction.applyAsLong(a.get()) + 1) * b.weight();
+        final long loadB = (numRequestsFunction.applyAsLong(b.get()) + 1) * a.weight();
+        return loadA <= loadB ? a.get() : b.get();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("candidates", candidates)
+                          .add("numRequestsFunction", numRequestsFunction)
+                          .toString();
+    }
+}
@@ -18,6 +18,7 @@ package com.linecorp.armeria.common.loadbalancer;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Function;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 
@@ -110,6 +111,58 @@ public interface LoadBalancer<T, C> extends SafeCloseable {
         return new StickyLoadBalancer<>(candidates, contextHasher);
     }
 
+    /**
+     * Returns a {@link LoadBalancer} that selects a candidate using the ring hash algorithm.
+     * Each candidate is placed on a hash ring multiple times in proportion to its {@link Weighted#weight()},
+     * and a context is mapped to the nearest candidate on the ring from the hash computed by
+     * the {@link ToLongFunction}.
+     *
+     * <p>Unlike {@link #ofSticky(Iterable, ToLongFunction)}, the position of a candidate on the ring only
+     * depends on its key, so adding or removing a candidate remaps only the contexts that were mapped to it.
+     * This is useful when the backend servers have a local cache and the candidates change frequently.
+     *
+     * @param candidateKeyFunction the function which returns the key of a candidate. The key must identify
+     *                             the candidate and should not change while the candidate is alive.
+     * @param contextHasher the function which computes the hash of a context.
+     *
+     * @see #ofMaglev(Iterable, Function, ToLongFunction)
+     */
+    @UnstableApi
+    static <T extends Weighted, C> LoadBalancer<T, C> ofRingHash(
+            Iterable<? extends T> candidates, Function<? super T, String> candidateKeyFunction,
+            ToLongFunction<? super C> contextHasher) {
+        requireNonNull(candidates, "candidates");
+        requireNonNull(candidateKeyFunction, "candidateKeyFunction");
+        requireNonNull(contextHasher, "contextHasher");
+        return new RingHashLoadBalancer<>(candidates, candidateKeyFunction, contextHasher);
+    }
+
+    /**
+     * Returns a {@link LoadBalancer} that selects a candidate using
+     * <a href="https://research.google/pubs/pub44824/">Maglev</a> consistent hashing.
+     * A lookup table is populated with the candidates in proportion to their {@link Weighted#weight()},
+     * and a context is mapped to a candidate with a single table lookup using the hash computed by
+     * the {@link ToLongFunction}.
+     *
+     * <p>Compared to {@link #ofRingHash(Iterable, Function, ToLongFunction)}, the selection is faster and
+     * the load is spread more evenly at the cost of a slightly larger disruption when the candidates change.
+     *
+     * @param candidateKeyFunction the function which returns the key of a candidate. The key must identify
+     *                             the candidate and should not change while the candidate is alive.
+     * @param contextHasher the function which computes the hash of a context.
+     *
+     * @see #ofRingHash(Iterable, Function, ToLongFunction)
+     */
+    @UnstableApi
+    static <T extends Weighted, C> LoadBalancer<T, C> ofMaglev(
+            Iterable<? extends T> candidates, Function<? super T, String> candidateKeyFunction,
+            ToLongFunction<? super C> contextHasher) {
+        requireNonNull(candidates, "candidates");
+        requireNonNull(candidateKeyFunction, "candidateKeyFunction");
+        requireNonNull(contextHasher, "contextHasher");
+        return new MaglevLoadBalancer<>(candidates, candidateKeyFunction, contextHasher);
+    }
+
     /**
      * Returns a {@link LoadBalancer} that selects a candidate using the weighted random distribution strategy.
      *
@@ -140,6 +193,49 @@ public interface LoadBalancer<T, C> extends SafeCloseable {
         return ofWeightedRandom(ImmutableList.copyOf(candidates));
     }
 
+    /**
+     * Returns a {@link LoadBalancer} that selects a candidate with fewer outstanding requests using
+     * the power of two choices algorithm. Two candidates are chosen at random, and the one with the smaller
+     * number of outstanding requests relative to its weight is selected.
+     *
+     * <p>Note that the returned {@link LoadBalancer} does not track the number of outstanding requests by
+     * itself. The caller should keep the counters up to date, e.g. increase the counter of the candidate
+     * when a request is sent to it and decrease it when the response is complete.
+     *
+     * @param weightFunction the weight function which returns the weight of the candidate.
+     * @param numRequestsFunction the function which returns the number of outstanding requests
+     *                            of the candidate.
+     */
+    @UnstableApi
+    static <T> SimpleLoadBalancer<T> ofLeastRequest(Iterable<? extends T> candidates,
+                                                    ToIntFunction<? super T> weightFunction,
+                                                    ToLongFunction<? super T> numRequestsFunction) {
+        requireNonNull(candidates, "candidates");
+        requireNonNull(weightFunction, "weightFunction");
+        requireNonNull(numRequestsFunction, "numRequestsFunction");
+        return new LeastRequestLoadBalancer<>(candidates, weightFunction, numRequestsFunction);
+    }
+
+    /**
+     * Returns a {@link LoadBalancer} that selects a candidate with fewer outstanding requests using
+     * the power of two choices algorithm. Two candidates are chosen at random, and the one with the smaller
+     * number of outstanding requests relative to its {@link Weighted#weight()} is selected.
+     *
+     * <p>Note that the returned {@link LoadBalancer} does not track the number of outstanding requests by
+     * itself. The caller should keep the counters up to date, e.g. increase the counter of the candidate
+     * when a request is sent to it and decrease it when the response is complete.
+     *
+     * @param numRequestsFunction the function which returns the number of outstanding requests
+     *                            of the candidate.
+     */
+    @UnstableApi
+    static <T extends Weighted> SimpleLoadBalancer<T> ofLeastRequest(
+            Iterable<? extends T> candidates, ToLongFunction<? super T> numRequestsFunction) {
+        requireNonNull(candidates, "candidates");
+        requireNonNull(numRequestsFunction, "numRequestsFunction");
+        return new LeastRequestLoadBalancer<>(candidates, null, numRequestsFunction);
+    }
+
     /**
      * Returns a weight ramping up {@link LoadBalancer} which ramps the weight of newly added
      * candidates using {@link WeightTransition#linear()}. The candidate is selected
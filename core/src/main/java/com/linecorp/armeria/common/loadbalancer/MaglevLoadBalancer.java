@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.loadbalancer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.math.IntMath;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+/**
+ * A {@link LoadBalancer} that selects a candidate using
+ * <a href="https://research.google/pubs/pub44824/">Maglev</a> consistent hashing.
+ * A lookup table whose size is a prime number is populated with the candidates in proportion to their
+ * weights, following the permutation derived from the key of each candidate. A context is then mapped to
+ * a candidate with a single table lookup. Adding or removing a candidate changes only a small portion of
+ * the table.
+ */
+final class MaglevLoadBalancer<T extends Weighted, C> implements LoadBalancer<T, C> {
+
+    static final int DEFAULT_TABLE_SIZE = 65537;
+    private static final int TABLE_SIZE_PER_CANDIDATE = 100;
+
+    private final ToLongFunction<? super C> contextHasher;
+    private final List<T> table;
+
+    MaglevLoadBalancer(Iterable<? extends T> candidates,
+                       Function<? super T, String> candidateKeyFunction,
+                       ToLongFunction<? super C> contextHasher) {
+        this.contextHasher = contextHasher;
+
+        final List<Entry<T>> entries = new ArrayList<>();
+        int maxWeight = 0;
+        for (T candidate : candidates) {
+            final int weight = candidate.weight();
+            if (weight > 0) {
+                entries.add(new Entry<>(candidateKeyFunction.apply(candidate), candidate));
+                maxWeight = Math.max(maxWeight, weight);
+            }
+        }
+        if (entries.isEmpty()) {
+            table = new ArrayList<>(0);
+            return;
+        }
+        // Sort by the key so that the table does not depend on the order of the candidates.
+        entries.sort(Comparator.comparing(e -> e.key));
+        table = populate(entries, tableSize(entries.size()), maxWeight);
+    }
+
+    private static int tableSize(int numCandidates) {
+        final long minSize = (long) numCandidates * TABLE_SIZE_PER_CANDIDATE;
+        if (minSize <= DEFAULT_TABLE_SIZE) {
+            return DEFAULT_TABLE_SIZE;
+        }
+        int size = (int) Math.min(Integer.MAX_VALUE, minSize);
+        while (!IntMath.isPrime(size)) {
+            size++;
+        }
+        return size;
+    }
+
+    private static <T extends Weighted> List<T> populate(List<Entry<T>> entries, int tableSize,
+                                                         int maxWeight) {
+        final Object[] table = new Object[tableSize];
+        for (Entry<T> entry : entries) {
+            entry.offset = Math.floorMod(ConsistentHashing.hashKey(entry.key, 0), (long) tableSize);
+            entry.skip = Math.floorMod(ConsistentHashing.hashKey(entry.key, 1), (long) tableSize - 1) + 1;
+        }
+
+        // A candidate takes its turn only when its accumulated weight catches up with the largest weight,
+        // so that the number of slots of each candidate is proportional to its weight.
+        int numFilled = 0;
+        for (long iteration = 1; numFilled < tableSize; iteration++) {
+            for (Entry<T> entry : entries) {
+                final long weight = entry.candidate.weight();
+                if (iteration * weight < entry.targetWeight) {
+                    continue;
+                }
+                entry.targetWeight += maxWeight;
+
+                int slot = entry.nextSlot(tableSize);
+                while (table[slot] != null) {
+                    slot = entry.nextSlot(tableSize);
+                }
+                table[slot] = entry.candidate;
+                if (++numFilled == tableSize) {
+                    break;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        final List<T> cast = (List<T>) (List<?>) Arrays.asList(table);
+        return cast;
+    }
+
+    @VisibleForTesting
+    List<T> table() {
+        return table;
+    }
+
+    @Nullable
+    @Override
+    public T pick(C context) {
+        final List<T> table = this.table;
+        if (table.isEmpty()) {
+            return null;
+        }
+
+        final long hash = ConsistentHashing.mix(contextHasher.applyAsLong(context));
+        return table.get((int) Math.floorMod(hash, (long) table.size()));
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("contextHasher", contextHasher)
+                          .add("tableSize", table.size())
+                          .toString();
+    }
+
+    private static final class Entry<T extends Weighted> {
+        final String key;
+        final T candidate;
+        long offset;
+        long skip;
+        long next;
+        long targetWeight;
+
+        Entry(String key, T candidate) {
+            this.key = key;
+            this.candidate = candidate;
+        }
+
+        int nextSlot(int tableSize) {
+            return (int) ((offset + skip * next++) % tableSize);
+        }
+    }
+}
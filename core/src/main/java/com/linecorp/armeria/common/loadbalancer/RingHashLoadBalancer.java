@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.loadbalancer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+/**
+ * A {@link LoadBalancer} that selects a candidate using the ring hash algorithm, a.k.a. Ketama.
+ * Each candidate is placed on a hash ring multiple times in proportion to its weight, and a context is
+ * mapped to the first candidate found clockwise from the hash of the context. Unlike
+ * {@link StickyLoadBalancer}, adding or removing a candidate remaps only the keys that belong to it.
+ */
+final class RingHashLoadBalancer<T extends Weighted, C> implements LoadBalancer<T, C> {
+
+    /**
+     * The number of replicas of the candidate with the largest weight. The number of replicas of
+     * a candidate depends only on its weight relative to the largest weight, so that the replicas of
+     * the other candidates are not moved when a candidate is added or removed.
+     */
+    private static final int MAX_REPLICAS = 160;
+    private static final int MAX_RING_SIZE = 1 << 23;
+
+    private final ToLongFunction<? super C> contextHasher;
+    private final long[] ring;
+    private final List<T> owners;
+
+    RingHashLoadBalancer(Iterable<? extends T> candidates,
+                         Function<? super T, String> candidateKeyFunction,
+                         ToLongFunction<? super C> contextHasher) {
+        this.contextHasher = contextHasher;
+
+        final List<T> weightedCandidates = new ArrayList<>();
+        int maxWeight = 0;
+        for (T candidate : candidates) {
+            final int weight = candidate.weight();
+            if (weight > 0) {
+                weightedCandidates.add(candidate);
+                maxWeight = Math.max(maxWeight, weight);
+            }
+        }
+        if (weightedCandidates.isEmpty()) {
+            ring = new long[0];
+            owners = new ArrayList<>(0);
+            return;
+        }
+
+        final int maxReplicas = Math.max(1, Math.min(MAX_REPLICAS, MAX_RING_SIZE / weightedCandidates.size()));
+        final List<Entry<T>> entries = new ArrayList<>();
+        for (T candidate : weightedCandidates) {
+            final String key = candidateKeyFunction.apply(candidate);
+            final long numReplicas = Math.max(1, Math.round((double) maxReplicas * candidate.weight() /
+                                                            maxWeight));
+            for (long i = 0; i < numReplicas; i++) {
+                entries.add(new Entry<>(ConsistentHashing.hashKey(key + '_' + i, 0), key, candidate));
+            }
+        }
+        // Sort by the key as well so that the ring does not depend on the order of the candidates
+        // even if hashes collide.
+        entries.sort(Comparator.<Entry<T>>comparingLong(e -> e.hash).thenComparing(e -> e.key));
+
+        final int size = entries.size();
+        ring = new long[size];
+        owners = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Entry<T> entry = entries.get(i);
+            ring[i] = entry.hash;
+            owners.add(entry.candidate);
+        }
+    }
+
+    @VisibleForTesting
+    int ringSize() {
+        return ring.length;
+    }
+
+    @Nullable
+    @Override
+    public T pick(C context) {
+        if (ring.length == 0) {
+            return null;
+        }
+
+        final long hash = ConsistentHashing.mix(contextHasher.applyAsLong(context));
+        int index = Arrays.binarySearch(ring, hash);
+        if (index < 0) {
+            index = -index - 1;
+            if (index == ring.length) {
+                index = 0;
+            }
+        }
+        return owners.get(index);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("contextHasher", contextHasher)
+                          .add("ringSize", ring.length)
+                          .toString();
+    }
+
+    private static final class Entry<T> {
+        final long hash;
+        final String key;
+        final T candidate;
+
+        Entry(long hash, String key, T candidate) {
+            this.hash = hash;
+            this.key = key;
+            this.candidate = candidate;
+        }
+    }
+}
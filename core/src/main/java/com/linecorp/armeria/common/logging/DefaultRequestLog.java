@@ -604,6 +604,15 @@ final class DefaultRequestLog implements RequestLog, RequestLogBuilder {
         propagateResponseSideLog(lastChild.partial());
     }
 
+    @Override
+    public void endResponseWithChild(RequestLogAccess child) {
+        requireNonNull(child, "child");
+        checkState(!hasLastChild, "last child is already added");
+        checkState(children != null && children.contains(child), "child is not added: %s", child);
+        hasLastChild = true;
+        propagateResponseSideLog(child.partial());
+    }
+
     private void propagateResponseSideLog(RequestLog lastChild) {
         if (lastChild.isAvailable(RequestLogProperty.RESPONSE_CAUSE)) {
             // Update responseCause first if available because callbacks of the other properties may need it
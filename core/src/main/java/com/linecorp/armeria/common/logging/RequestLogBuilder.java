@@ -28,6 +28,7 @@ import com.linecorp.armeria.common.RpcRequest;
 import com.linecorp.armeria.common.SerializationFormat;
 import com.linecorp.armeria.common.SessionProtocol;
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.util.SystemInfo;
 import com.linecorp.armeria.server.HttpService;
 import com.linecorp.armeria.server.logging.AccessLogWriter;
@@ -442,4 +443,13 @@ public interface RequestLogBuilder extends RequestLogAccess {
      * in the child log will be propagated immediately.
      */
     void endResponseWithLastChild();
+
+    /**
+     * Fills the response-side logs from the specified {@code child}, which must have been added with
+     * {@link #addChild(RequestLogAccess)}. This is useful when the children are executed concurrently and
+     * the child that completes the response is not the last added one, e.g. hedged requests.
+     * Note that already collected properties in the child log will be propagated immediately.
+     */
+    @UnstableApi
+    void endResponseWithChild(RequestLogAccess child);
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.logging;
+
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.HttpStatusClass;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.util.Sampler;
+
+/**
+ * A {@link Sampler} which decides whether to log a request after its {@link RequestLog} is complete,
+ * so that the slow or failed requests are always logged regardless of the head sampling rate.
+ * A {@link RequestLog} is sampled if any of the following conditions is met:
+ * <ul>
+ *   <li>the {@linkplain RequestLog#totalDurationNanos() total duration} is equal to or longer than
+ *       the threshold</li>
+ *   <li>the status of the response matches one of the statuses or the status classes</li>
+ *   <li>the {@linkplain RequestLog#responseCause() response cause} is an instance of one of
+ *       the exception types</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * LoggingService.builder()
+ *               // Log 0.1% of the requests ...
+ *               .samplingRate(0.001f)
+ *               // ... and all the slow or failed ones.
+ *               .tailSampler(TailSampler.builder()
+ *                                       .totalDurationThreshold(Duration.ofSeconds(1))
+ *                                       .statusClass(HttpStatusClass.SERVER_ERROR)
+ *                                       .anyResponseCause()
+ *                                       .build())
+ *               .newDecorator();
+ * }</pre>
+ *
+ * @see com.linecorp.armeria.server.logging.LoggingServiceBuilder#tailSampler(Sampler)
+ * @see com.linecorp.armeria.client.logging.LoggingClientBuilder#tailSampler(Sampler)
+ */
+@UnstableApi
+public final class TailSampler implements Sampler<RequestLog> {
+
+    /**
+     * Returns a new {@link TailSamplerBuilder}.
+     */
+    public static TailSamplerBuilder builder() {
+        return new TailSamplerBuilder();
+    }
+
+    private final long totalDurationThresholdNanos;
+    private final Set<HttpStatus> statuses;
+    private final Set<HttpStatusClass> statusClasses;
+    private final List<Class<? extends Throwable>> responseCauses;
+    private final boolean anyResponseCause;
+
+    TailSampler(long totalDurationThresholdNanos, Set<HttpStatus> statuses,
+                Set<HttpStatusClass> statusClasses, List<Class<? extends Throwable>> responseCauses,
+                boolean anyResponseCause) {
+        this.totalDurationThresholdNanos = totalDurationThresholdNanos;
+        this.statuses = statuses;
+        this.statusClasses = statusClasses;
+        this.responseCauses = responseCauses;
+        this.anyResponseCause = anyResponseCause;
+    }
+
+    @Override
+    public boolean isSampled(RequestLog log) {
+        if (totalDurationThresholdNanos >= 0 && log.totalDurationNanos() >= totalDurationThresholdNanos) {
+            return true;
+        }
+
+        if (!statuses.isEmpty() || !statusClasses.isEmpty()) {
+            final HttpStatus status = log.responseHeaders().status();
+            if (statuses.contains(status) || statusClasses.contains(status.codeClass())) {
+                return true;
+            }
+        }
+
+        final Throwable responseCause = log.responseCause();
+        if (responseCause == null) {
+            return false;
+        }
+        if (anyResponseCause) {
+            return true;
+        }
+        for (Class<? extends Throwable> type : responseCauses) {
+            if (type.isInstance(responseCause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .omitNullValues()
+                          .add("totalDurationThresholdNanos",
+                               totalDurationThresholdNanos >= 0 ? totalDurationThresholdNanos : null)
+                          .add("statuses", statuses)
+                          .add("statusClasses", statusClasses)
+                          .add("responseCauses", anyResponseCause ? "*" : responseCauses)
+                          .toString();
+    }
+}
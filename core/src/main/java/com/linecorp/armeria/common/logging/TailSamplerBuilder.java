@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.logging;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.HttpStatusClass;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * A builder for creating a {@link TailSampler}.
+ */
+@UnstableApi
+public final class TailSamplerBuilder {
+
+    private long totalDurationThresholdNanos = -1;
+    private final ImmutableSet.Builder<HttpStatus> statuses = ImmutableSet.builder();
+    private final ImmutableSet.Builder<HttpStatusClass> statusClasses = ImmutableSet.builder();
+    private final ImmutableList.Builder<Class<? extends Throwable>> responseCauses = ImmutableList.builder();
+    private boolean anyResponseCause;
+
+    TailSamplerBuilder() {}
+
+    /**
+     * Samples the requests whose {@linkplain RequestLog#totalDurationNanos() total duration} is equal to
+     * or longer than the specified {@link Duration}.
+     */
+    public TailSamplerBuilder totalDurationThreshold(Duration totalDurationThreshold) {
+        requireNonNull(totalDurationThreshold, "totalDurationThreshold");
+        checkArgument(!totalDurationThreshold.isNegative(),
+                      "totalDurationThreshold: %s (expected: >= 0)", totalDurationThreshold);
+        totalDurationThresholdNanos = totalDurationThreshold.toNanos();
+        return this;
+    }
+
+    /**
+     * Samples the requests whose {@linkplain RequestLog#totalDurationNanos() total duration} is equal to
+     * or longer than the specified milliseconds.
+     */
+    public TailSamplerBuilder totalDurationThresholdMillis(long totalDurationThresholdMillis) {
+        checkArgument(totalDurationThresholdMillis >= 0,
+                      "totalDurationThresholdMillis: %s (expected: >= 0)", totalDurationThresholdMillis);
+        totalDurationThresholdNanos = TimeUnit.MILLISECONDS.toNanos(totalDurationThresholdMillis);
+        return this;
+    }
+
+    /**
+     * Samples the requests whose response status is one of the specified {@link HttpStatus}es.
+     */
+    public TailSamplerBuilder status(HttpStatus... statuses) {
+        requireNonNull(statuses, "statuses");
+        return status(ImmutableList.copyOf(statuses));
+    }
+
+    /**
+     * Samples the requests whose response status is one of the specified {@link HttpStatus}es.
+     */
+    public TailSamplerBuilder status(Iterable<HttpStatus> statuses) {
+        requireNonNull(statuses, "statuses");
+        this.statuses.addAll(statuses);
+        return this;
+    }
+
+    /**
+     * Samples the requests whose response status belongs to one of the specified {@link HttpStatusClass}es.
+     */
+    public TailSamplerBuilder statusClass(HttpStatusClass... statusClasses) {
+        requireNonNull(statusClasses, "statusClasses");
+        return statusClass(ImmutableList.copyOf(statusClasses));
+    }
+
+    /**
+     * Samples the requests whose response status belongs to one of the specified {@link HttpStatusClass}es.
+     */
+    public TailSamplerBuilder statusClass(Iterable<HttpStatusClass> statusClasses) {
+        requireNonNull(statusClasses, "statusClasses");
+        this.statusClasses.addAll(statusClasses);
+        return this;
+    }
+
+    /**
+     * Samples the requests whose {@linkplain RequestLog#responseCause() response cause} is an instance of
+     * the specified exception type.
+     */
+    public TailSamplerBuilder responseCause(Class<? extends Throwable> responseCause) {
+        responseCauses.add(requireNonNull(responseCause, "responseCause"));
+        return this;
+    }
+
+    /**
+     * Samples the requests which have a {@linkplain RequestLog#responseCause() response cause}.
+     */
+    public TailSamplerBuilder anyResponseCause() {
+        anyResponseCause = true;
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link TailSampler} based on the properties of this builder.
+     */
+    public TailSampler build() {
+        return new TailSampler(totalDurationThresholdNanos, statuses.build(), statusClasses.build(),
+                               responseCauses.build(), anyResponseCause);
+    }
+}
@@ -35,6 +35,7 @@ import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.util.Exceptions;
 import com.linecorp.armeria.internal.common.HttpMessageAggregator;
+import com.linecorp.armeria.internal.common.SpillingHttpObjectCollector;
 
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.util.concurrent.EventExecutor;
@@ -108,8 +109,8 @@ public abstract class AggregationSupport {
             if (executor == null) {
                 executor = httpMessage.defaultSubscriberExecutor();
             }
-            return httpMessage.collect(executor, subscriptionOptions)
-                              .thenApply(objects -> aggregate(objects, headers, alloc));
+            return collect(httpMessage, executor, subscriptionOptions, options)
+                    .thenApply(objects -> aggregate(objects, headers, alloc));
         }
 
         final CompletableFuture<U> aggregationFuture = new CompletableFuture<>();
@@ -123,20 +124,31 @@ public abstract class AggregationSupport {
         if (executor == null) {
             executor = httpMessage.defaultSubscriberExecutor();
         }
-        httpMessage.collect(executor, subscriptionOptions)
-                   .thenApply(objects -> aggregate(objects, headers, alloc)).handle((res, cause) -> {
-                       if (cause != null) {
-                           cause = Exceptions.peel(cause);
-                           aggregationFuture.completeExceptionally(cause);
-                       } else {
-                           //noinspection unchecked
-                           aggregationFuture.complete((U) res);
-                       }
-                       return null;
-                   });
+        collect(httpMessage, executor, subscriptionOptions, options)
+                .thenApply(objects -> aggregate(objects, headers, alloc)).handle((res, cause) -> {
+                    if (cause != null) {
+                        cause = Exceptions.peel(cause);
+                        aggregationFuture.completeExceptionally(cause);
+                    } else {
+                        //noinspection unchecked
+                        aggregationFuture.complete((U) res);
+                    }
+                    return null;
+                });
         return aggregationFuture;
     }
 
+    private static CompletableFuture<List<HttpObject>> collect(HttpMessage httpMessage, EventExecutor executor,
+                                                               SubscriptionOption[] subscriptionOptions,
+                                                               AggregationOptions options) {
+        final long spillThresholdBytes = options.spillThresholdBytes();
+        if (spillThresholdBytes > 0) {
+            return SpillingHttpObjectCollector.collect(httpMessage, executor, subscriptionOptions,
+                                                       spillThresholdBytes, options.spillDirectory());
+        }
+        return httpMessage.collect(executor, subscriptionOptions);
+    }
+
     @SuppressWarnings("unchecked")
     private static <U extends AggregatedHttpMessage> U aggregate(List<HttpObject> objects,
                                                                  @Nullable RequestHeaders headers,
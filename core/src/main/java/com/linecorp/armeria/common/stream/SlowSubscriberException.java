@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.stream;
+
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * A {@link RuntimeException} that is raised when a subscriber of a {@link StreamMessageBroadcaster}
+ * has been disconnected because it could not keep up with the upstream {@link StreamMessage}.
+ *
+ * @see SlowSubscriberPolicy#DISCONNECT
+ */
+@UnstableApi
+public final class SlowSubscriberException extends RuntimeException {
+
+    private static final long serialVersionUID = 2857913356286386862L;
+
+    private static final SlowSubscriberException INSTANCE = new SlowSubscriberException(false);
+
+    /**
+     * Returns a {@link SlowSubscriberException} which may be a singleton or a new instance, depending
+     * on {@link Flags#verboseExceptionSampler()}'s decision.
+     */
+    public static SlowSubscriberException get() {
+        return Flags.verboseExceptionSampler().isSampled(SlowSubscriberException.class) ?
+               new SlowSubscriberException() : INSTANCE;
+    }
+
+    private SlowSubscriberException() {}
+
+    private SlowSubscriberException(@SuppressWarnings("unused") boolean dummy) {
+        super(null, null, false, false);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.stream;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * Specifies how a {@link StreamMessageBroadcaster} deals with a subscriber which cannot keep up with
+ * the upstream {@link StreamMessage}, i.e. a subscriber which lags behind by more than the size of
+ * the ring buffer of the {@link StreamMessageBroadcaster}.
+ */
+@UnstableApi
+public enum SlowSubscriberPolicy {
+    /**
+     * Drops the elements the slow subscriber missed, so that it resumes from the oldest element which
+     * remains in the ring buffer. The upstream {@link StreamMessage} is never held back.
+     */
+    DROP,
+    /**
+     * Aborts the stream of the slow subscriber with a {@link SlowSubscriberException}.
+     * The upstream {@link StreamMessage} is never held back.
+     */
+    DISCONNECT,
+    /**
+     * Lets the slow subscriber lag behind without losing any elements, by holding back the upstream
+     * {@link StreamMessage} until the slowest subscriber consumes the elements in the ring buffer.
+     * Note that a single slow subscriber slows down all the other subscribers.
+     */
+    LAG
+}
@@ -0,0 +1,726 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.stream;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.linecorp.armeria.common.util.Exceptions.throwIfFatal;
+import static com.linecorp.armeria.internal.common.stream.InternalStreamMessageUtil.containsNotifyCancellation;
+import static io.netty.util.internal.MathUtil.findNextPositivePowerOfTwo;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.math.LongMath;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.util.CompositeException;
+import com.linecorp.armeria.common.util.EventLoopCheckingFuture;
+import com.linecorp.armeria.common.util.SafeCloseable;
+import com.linecorp.armeria.internal.common.stream.AbortingSubscriber;
+import com.linecorp.armeria.internal.common.stream.NeverInvokedSubscriber;
+import com.linecorp.armeria.internal.common.stream.StreamMessageUtil;
+import com.linecorp.armeria.internal.common.stream.SubscriberUtil;
+import com.linecorp.armeria.unsafe.PooledObjects;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+
+/**
+ * Broadcasts the elements of a {@link StreamMessage} to a large number of subscribers, such as
+ * the clients of a Server-Sent Events or WebSocket service.
+ *
+ * <p>Unlike {@link StreamMessageDuplicator} which keeps every signal until all subscribers consume it
+ * and serializes the deliveries on a single executor, this broadcaster keeps only the most recent
+ * elements in a ring buffer shared by all subscribers. Each subscriber reads the ring buffer with its own
+ * cursor on its own executor without acquiring a lock, and a subscriber which cannot keep up with
+ * the upstream is handled according to the {@link SlowSubscriberPolicy}.
+ * <pre>{@code
+ * StreamMessage<ServerSentEvent> ticks = ...
+ * StreamMessageBroadcaster<ServerSentEvent> broadcaster =
+ *         StreamMessageBroadcaster.builder(ticks)
+ *                                 .bufferSize(4096)
+ *                                 .slowSubscriberPolicy(SlowSubscriberPolicy.DROP)
+ *                                 .build();
+ *
+ * // For each client:
+ * HttpResponse res = ServerSentEvents.fromPublisher(broadcaster.newStream());
+ * }</pre>
+ *
+ * <p>A subscriber receives only the elements published after it subscribes. A pooled {@link HttpData}
+ * published by the upstream is copied only once when it enters the ring buffer, and the copy is shared
+ * by all subscribers. Therefore, do not modify the published elements.
+ *
+ * <p>Call {@link #close()} to prevent further {@linkplain #newStream() broadcast streams} from being
+ * created, or {@link #abort()} to stop consuming the upstream and abort all broadcast streams.
+ *
+ * @param <T> the type of elements
+ */
+@UnstableApi
+public final class StreamMessageBroadcaster<T> implements SafeCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamMessageBroadcaster.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<StreamMessageBroadcaster, Throwable>
+            abortCauseUpdater = AtomicReferenceFieldUpdater.newUpdater(
+            StreamMessageBroadcaster.class, Throwable.class, "abortCause");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<StreamMessageBroadcaster> refillScheduledUpdater =
+            AtomicIntegerFieldUpdater.newUpdater(StreamMessageBroadcaster.class, "refillScheduled");
+
+    /**
+     * Returns a new {@link StreamMessageBroadcaster} which broadcasts the elements of the specified
+     * {@link StreamMessage} with the default settings.
+     */
+    public static <T> StreamMessageBroadcaster<T> of(StreamMessage<? extends T> upstream) {
+        return builder(upstream).build();
+    }
+
+    /**
+     * Returns a new {@link StreamMessageBroadcasterBuilder} for the specified {@link StreamMessage}.
+     */
+    public static <T> StreamMessageBroadcasterBuilder<T> builder(StreamMessage<? extends T> upstream) {
+        requireNonNull(upstream, "upstream");
+        return new StreamMessageBroadcasterBuilder<>(upstream);
+    }
+
+    private final StreamMessage<? extends T> upstream;
+    private final EventExecutor executor;
+    private final SlowSubscriberPolicy slowSubscriberPolicy;
+    private final Entry<T>[] ring;
+    private final int capacity;
+    private final int mask;
+    private final Set<BroadcastSubscription<T>> subscriptions = ConcurrentHashMap.newKeySet();
+
+    // Accessed only by the executor.
+    @Nullable
+    private Subscription upstreamSubscription;
+    private long requested;
+
+    /**
+     * The sequence of the next element. Written only by the executor after the element is stored
+     * in the ring buffer, so that a subscriber can read the elements before the tail without a lock.
+     */
+    private volatile long tail;
+    /**
+     * The cause of the upstream termination. Written before {@link #done} is set.
+     */
+    @Nullable
+    private volatile Throwable doneCause;
+    private volatile boolean done;
+    @Nullable
+    private volatile Throwable abortCause;
+    private volatile boolean closed;
+
+    // Used only by SlowSubscriberPolicy.LAG.
+    private volatile boolean stalled;
+    private volatile long stalledCursor;
+    @SuppressWarnings("unused")
+    private volatile int refillScheduled;
+
+    StreamMessageBroadcaster(StreamMessage<? extends T> upstream, EventExecutor executor,
+                             int bufferSize, SlowSubscriberPolicy slowSubscriberPolicy) {
+        this.upstream = upstream;
+        this.executor = executor;
+        this.slowSubscriberPolicy = slowSubscriberPolicy;
+        capacity = findNextPositivePowerOfTwo(bufferSize);
+        mask = capacity - 1;
+        @SuppressWarnings("unchecked")
+        final Entry<T>[] ring = new Entry[capacity];
+        this.ring = ring;
+        upstream.subscribe(new UpstreamSubscriber(), executor, SubscriptionOption.WITH_POOLED_OBJECTS);
+    }
+
+    /**
+     * Returns a new {@link StreamMessage} which publishes the elements of the upstream
+     * {@link StreamMessage} published after it is subscribed.
+     *
+     * @throws IllegalStateException if this broadcaster has been closed or aborted already
+     */
+    public StreamMessage<T> newStream() {
+        if (closed) {
+            throw new IllegalStateException("broadcaster is closed.");
+        }
+        return new BroadcastStreamMessage<>(this);
+    }
+
+    /**
+     * Returns the number of the subscribers which are currently receiving the elements.
+     */
+    public int numSubscribers() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Closes this broadcaster and prevents it from creating further broadcast streams.
+     * {@link #newStream()} will raise an {@link IllegalStateException} after this method is invoked.
+     * The previously created broadcast streams continue to publish the elements until the upstream
+     * {@link StreamMessage} is complete.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Closes this broadcaster, cancels the subscription to the upstream {@link StreamMessage} and
+     * aborts all broadcast streams with an {@link AbortedStreamException}.
+     */
+    public void abort() {
+        abort(AbortedStreamException.get());
+    }
+
+    /**
+     * Closes this broadcaster, cancels the subscription to the upstream {@link StreamMessage} and
+     * aborts all broadcast streams with the specified {@link Throwable}.
+     */
+    public void abort(Throwable cause) {
+        requireNonNull(cause, "cause");
+        closed = true;
+        if (!abortCauseUpdater.compareAndSet(this, null, cause)) {
+            return;
+        }
+        if (executor.inEventLoop()) {
+            cancelUpstream();
+        } else {
+            executor.execute(this::cancelUpstream);
+        }
+        for (BroadcastSubscription<T> s : subscriptions) {
+            s.abort(cause);
+        }
+    }
+
+    private void cancelUpstream() {
+        final Subscription upstreamSubscription = this.upstreamSubscription;
+        if (upstreamSubscription != null) {
+            this.upstreamSubscription = null;
+            upstreamSubscription.cancel();
+        }
+    }
+
+    /**
+     * Attaches the specified {@link BroadcastSubscription} to this broadcaster and invokes
+     * {@link Subscriber#onSubscribe(Subscription)}.
+     */
+    private void register(BroadcastSubscription<T> subscription) {
+        if (executor.inEventLoop()) {
+            register0(subscription);
+        } else {
+            executor.execute(() -> register0(subscription));
+        }
+    }
+
+    // Called by the executor.
+    private void register0(BroadcastSubscription<T> subscription) {
+        // Read the tail on the executor which publishes the elements, so that no element is published
+        // between reading the tail and adding the subscription. Otherwise, SlowSubscriberPolicy.LAG could
+        // overwrite the element at the tail before it sees the subscription, and the subscription would
+        // skip the elements published after it subscribed.
+        subscription.cursor = tail;
+        subscriptions.add(subscription);
+
+        final Throwable abortCause = this.abortCause;
+        if (abortCause != null) {
+            subscription.abort(abortCause);
+        }
+        subscription.invokeOnSubscribe();
+    }
+
+    private void unregister(BroadcastSubscription<T> subscription) {
+        if (subscriptions.remove(subscription) && stalled) {
+            // The removed subscription might have been the slowest one.
+            scheduleRefill();
+        }
+    }
+
+    // Called by the executor.
+    private void publish(T obj) {
+        final long seq = tail;
+        final long newTail = seq + 1;
+        ring[(int) seq & mask] = new Entry<>(seq, obj);
+        tail = newTail;
+
+        final boolean disconnect = slowSubscriberPolicy == SlowSubscriberPolicy.DISCONNECT;
+        for (BroadcastSubscription<T> s : subscriptions) {
+            // Wake up only the subscribers which can receive the element or have to be disconnected,
+            // e.g. a subscriber whose demand is held back by a congested connection.
+            if (s.demand != 0 || (disconnect && newTail - s.cursor > capacity)) {
+                s.signal();
+            }
+        }
+
+        if (slowSubscriberPolicy == SlowSubscriberPolicy.LAG && requested - newTail <= (capacity >>> 1)) {
+            refill();
+        }
+    }
+
+    // Called by the executor.
+    private void complete(@Nullable Throwable cause) {
+        doneCause = cause;
+        done = true;
+        upstreamSubscription = null;
+        for (BroadcastSubscription<T> s : subscriptions) {
+            s.signal();
+        }
+    }
+
+    /**
+     * Requests more elements from the upstream so that the producer is ahead of the slowest subscriber
+     * by at most the capacity of the ring buffer. Called by the executor.
+     */
+    private void refill() {
+        for (;;) {
+            final Subscription upstreamSubscription = this.upstreamSubscription;
+            if (upstreamSubscription == null) {
+                return;
+            }
+            final long minCursor = minCursor();
+            final long limit = minCursor + capacity;
+            if (limit > requested) {
+                // Update 'requested' first because the upstream may publish the elements synchronously.
+                final long n = limit - requested;
+                requested = limit;
+                upstreamSubscription.request(n);
+            }
+            if (requested != tail) {
+                stalled = false;
+                return;
+            }
+
+            // The slowest subscriber holds back the upstream. Let it schedule a refill when it consumes
+            // a half of the ring buffer, so that the upstream is not requested one element at a time.
+            stalledCursor = minCursor;
+            stalled = true;
+            if (minCursor() == minCursor) {
+                return;
+            }
+        }
+    }
+
+    private long minCursor() {
+        long minCursor = tail;
+        for (BroadcastSubscription<T> s : subscriptions) {
+            minCursor = Math.min(minCursor, s.cursor);
+        }
+        return minCursor;
+    }
+
+    private void scheduleRefill() {
+        if (refillScheduledUpdater.compareAndSet(this, 0, 1)) {
+            executor.execute(() -> {
+                refillScheduled = 0;
+                refill();
+            });
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("upstream", upstream)
+                .add("capacity", capacity)
+                .add("slowSubscriberPolicy", slowSubscriberPolicy)
+                .add("tail", tail)
+                .add("numSubscribers", subscriptions.size())
+                .add("closed", closed)
+                .toString();
+    }
+
+    private final class UpstreamSubscriber implements Subscriber<T> {
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (abortCause != null) {
+                subscription.cancel();
+                return;
+            }
+            upstreamSubscription = subscription;
+            if (slowSubscriberPolicy == SlowSubscriberPolicy.LAG) {
+                requested = capacity;
+                subscription.request(capacity);
+            } else {
+                requested = Long.MAX_VALUE;
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(T obj) {
+            if (abortCause != null) {
+                StreamMessageUtil.closeOrAbort(obj);
+                return;
+            }
+            // Copy a pooled object once so that all subscribers can share it without reference counting.
+            publish(PooledObjects.copyAndClose(obj));
+        }
+
+        @Override
+        public void onError(Throwable cause) {
+            complete(cause);
+        }
+
+        @Override
+        public void onComplete() {
+            complete(null);
+        }
+    }
+
+    private static final class Entry<T> {
+
+        final long seq;
+        final T value;
+
+        Entry(long seq, T value) {
+            this.seq = seq;
+            this.value = value;
+        }
+    }
+
+    private static final class BroadcastStreamMessage<T> implements StreamMessage<T> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<BroadcastStreamMessage, BroadcastSubscription>
+                subscriptionUpdater = AtomicReferenceFieldUpdater.newUpdater(
+                BroadcastStreamMessage.class, BroadcastSubscription.class, "subscription");
+
+        private final StreamMessageBroadcaster<T> broadcaster;
+        private final CompletableFuture<Void> completionFuture = new EventLoopCheckingFuture<>();
+
+        @Nullable
+        private volatile BroadcastSubscription<T> subscription;
+
+        BroadcastStreamMessage(StreamMessageBroadcaster<T> broadcaster) {
+            this.broadcaster = broadcaster;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !broadcaster.done && !completionFuture.isDone();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !isOpen() && broadcaster.tail == 0;
+        }
+
+        @Override
+        public long demand() {
+            final BroadcastSubscription<T> subscription = this.subscription;
+            return subscription != null ? subscription.demand : 0;
+        }
+
+        @Override
+        public CompletableFuture<Void> whenComplete() {
+            return completionFuture;
+        }
+
+        @Override
+        public EventExecutor defaultSubscriberExecutor() {
+            return broadcaster.executor;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super T> subscriber, EventExecutor executor,
+                              SubscriptionOption... options) {
+            requireNonNull(subscriber, "subscriber");
+            requireNonNull(executor, "executor");
+            requireNonNull(options, "options");
+
+            final BroadcastSubscription<T> subscription = new BroadcastSubscription<>(
+                    this, subscriber, executor, containsNotifyCancellation(options));
+            if (!subscriptionUpdater.compareAndSet(this, null, subscription)) {
+                final BroadcastSubscription<T> oldSubscription = this.subscription;
+                assert oldSubscription != null;
+                SubscriberUtil.failLateSubscriber(executor, subscriber, oldSubscription.subscriber);
+                return;
+            }
+            broadcaster.register(subscription);
+        }
+
+        @Override
+        public void abort() {
+            abort(AbortedStreamException.get());
+        }
+
+        @Override
+        public void abort(Throwable cause) {
+            requireNonNull(cause, "cause");
+            BroadcastSubscription<T> subscription = this.subscription;
+            if (subscription == null) {
+                final BroadcastSubscription<T> abortingSubscription = new BroadcastSubscription<>(
+                        this, AbortingSubscriber.get(cause), ImmediateEventExecutor.INSTANCE, false);
+                if (subscriptionUpdater.compareAndSet(this, null, abortingSubscription)) {
+                    broadcaster.register(abortingSubscription);
+                }
+                subscription = this.subscription;
+                assert subscription != null;
+            }
+            subscription.abort(cause);
+        }
+    }
+
+    private static final class BroadcastSubscription<T> implements Subscription {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<BroadcastSubscription> demandUpdater =
+                AtomicLongFieldUpdater.newUpdater(BroadcastSubscription.class, "demand");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<BroadcastSubscription> wipUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(BroadcastSubscription.class, "wip");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<BroadcastSubscription, Throwable>
+                cancelledOrAbortedUpdater = AtomicReferenceFieldUpdater.newUpdater(
+                BroadcastSubscription.class, Throwable.class, "cancelledOrAborted");
+
+        private final BroadcastStreamMessage<T> streamMessage;
+        private final StreamMessageBroadcaster<T> broadcaster;
+        private final EventExecutor executor;
+        private final boolean notifyCancellation;
+        private final Runnable drainTask = this::drain;
+        private Subscriber<? super T> subscriber;
+
+        /**
+         * The sequence of the next element to deliver. Initialized by the executor of the broadcaster before
+         * {@link Subscriber#onSubscribe(Subscription)} is invoked, and then written only by {@link #executor}.
+         */
+        volatile long cursor = Long.MAX_VALUE;
+        volatile long demand;
+        @SuppressWarnings("unused")
+        private volatile int wip;
+        /**
+         * {@link CancelledSubscriptionException} if cancelled. {@link Throwable} if aborted.
+         */
+        @Nullable
+        private volatile Throwable cancelledOrAborted;
+
+        // Accessed only by the executor.
+        private boolean invokedOnSubscribe;
+        private boolean terminated;
+
+        BroadcastSubscription(BroadcastStreamMessage<T> streamMessage, Subscriber<? super T> subscriber,
+                              EventExecutor executor, boolean notifyCancellation) {
+            this.streamMessage = streamMessage;
+            broadcaster = streamMessage.broadcaster;
+            this.subscriber = subscriber;
+            this.executor = executor;
+            this.notifyCancellation = notifyCancellation;
+        }
+
+        void invokeOnSubscribe() {
+            if (executor.inEventLoop()) {
+                invokeOnSubscribe0();
+            } else {
+                executor.execute(this::invokeOnSubscribe0);
+            }
+        }
+
+        private void invokeOnSubscribe0() {
+            // Prevent the elements from being delivered before Subscriber.onSubscribe() returns.
+            final boolean drain = wipUpdater.getAndIncrement(this) == 0;
+            invokedOnSubscribe = true;
+            try {
+                subscriber.onSubscribe(this);
+            } catch (Throwable t) {
+                abort(t);
+                throwIfFatal(t);
+                logger.warn("Subscriber.onSubscribe() should not raise an exception. subscriber: {}",
+                            subscriber, t);
+            }
+            if (drain) {
+                // Deliver the termination signal even if the subscriber does not request any elements.
+                drain();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                abort(new IllegalArgumentException(
+                        "n: " + n + " (expected: > 0, see Reactive Streams specification rule 3.9)"));
+                return;
+            }
+
+            for (;;) {
+                final long oldDemand = demand;
+                final long newDemand = LongMath.saturatedAdd(oldDemand, n);
+                if (demandUpdater.compareAndSet(this, oldDemand, newDemand)) {
+                    signal();
+                    break;
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            abort(subscriber instanceof AbortingSubscriber ? ((AbortingSubscriber<?>) subscriber).cause()
+                                                           : CancelledSubscriptionException.get());
+        }
+
+        void abort(Throwable cause) {
+            if (cancelledOrAbortedUpdater.compareAndSet(this, null, cause)) {
+                signal();
+            }
+        }
+
+        void signal() {
+            if (wipUpdater.getAndIncrement(this) != 0) {
+                // The executor is draining already and will see the new signal.
+                return;
+            }
+            if (executor.inEventLoop()) {
+                drain();
+            } else {
+                executor.execute(drainTask);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            for (;;) {
+                drain0();
+                missed = wipUpdater.addAndGet(this, -missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void drain0() {
+            if (!invokedOnSubscribe || terminated) {
+                return;
+            }
+
+            final Entry<T>[] ring = broadcaster.ring;
+            final int capacity = broadcaster.capacity;
+            final int mask = broadcaster.mask;
+            for (;;) {
+                final Throwable cancelledOrAborted = this.cancelledOrAborted;
+                if (cancelledOrAborted != null) {
+                    terminate(cancelledOrAborted);
+                    return;
+                }
+
+                // Read 'done' before 'tail' so that 'tail' is final if 'done' is true.
+                final boolean done = broadcaster.done;
+                final long tail = broadcaster.tail;
+                long cursor = this.cursor;
+                if (cursor == tail) {
+                    if (done) {
+                        terminate(broadcaster.doneCause);
+                    }
+                    return;
+                }
+
+                if (tail - cursor > capacity) {
+                    // The producer has overwritten the elements this subscriber did not consume yet.
+                    if (broadcaster.slowSubscriberPolicy == SlowSubscriberPolicy.DISCONNECT) {
+                        terminate(SlowSubscriberException.get());
+                        return;
+                    }
+                    cursor = tail - capacity;
+                    this.cursor = cursor;
+                }
+
+                final long demand = this.demand;
+                if (demand == 0) {
+                    return;
+                }
+
+                final Entry<T> entry = ring[(int) cursor & mask];
+                if (entry.seq != cursor) {
+                    // Overwritten while reading. Check the tail again.
+                    continue;
+                }
+
+                if (demand != Long.MAX_VALUE && !demandUpdater.compareAndSet(this, demand, demand - 1)) {
+                    // Failed to decrement the demand due to contention.
+                    continue;
+                }
+
+                this.cursor = cursor + 1;
+                if (broadcaster.stalled && cursor - broadcaster.stalledCursor == (capacity >>> 1)) {
+                    // This subscriber was the slowest one which held back the upstream.
+                    broadcaster.scheduleRefill();
+                }
+
+                try {
+                    subscriber.onNext(entry.value);
+                } catch (Throwable t) {
+                    terminate(t);
+                    throwIfFatal(t);
+                    logger.warn("Subscriber.onNext({}) should not raise an exception. subscriber: {}",
+                                entry.value, subscriber, t);
+                    return;
+                }
+            }
+        }
+
+        private void terminate(@Nullable Throwable cause) {
+            terminated = true;
+            broadcaster.unregister(this);
+
+            final Subscriber<? super T> subscriber = this.subscriber;
+            if (!(subscriber instanceof AbortingSubscriber)) {
+                // Replace the subscriber with a placeholder so that it can be garbage-collected and
+                // we conform to the Reactive Streams specification rule 3.13.
+                this.subscriber = NeverInvokedSubscriber.get();
+            }
+
+            final CompletableFuture<Void> completionFuture = streamMessage.whenComplete();
+            if (cause == null) {
+                try {
+                    subscriber.onComplete();
+                    completionFuture.complete(null);
+                } catch (Throwable t) {
+                    completionFuture.completeExceptionally(t);
+                    throwIfFatal(t);
+                    logger.warn("Subscriber.onComplete() should not raise an exception. subscriber: {}",
+                                subscriber, t);
+                }
+                return;
+            }
+
+            try {
+                if (notifyCancellation || !(cause instanceof CancelledSubscriptionException)) {
+                    subscriber.onError(cause);
+                }
+                completionFuture.completeExceptionally(cause);
+            } catch (Throwable t) {
+                final Exception composite = new CompositeException(t, cause);
+                completionFuture.completeExceptionally(composite);
+                throwIfFatal(t);
+                logger.warn("Subscriber.onError() should not raise an exception. subscriber: {}",
+                            subscriber, composite);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * A builder for creating a {@link StreamMessageBroadcaster}.
+ *
+ * @param <T> the type of elements
+ */
+@UnstableApi
+public final class StreamMessageBroadcasterBuilder<T> {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1024;
+    private static final int MAX_BUFFER_SIZE = 1 << 30;
+
+    private final StreamMessage<? extends T> upstream;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private SlowSubscriberPolicy slowSubscriberPolicy = SlowSubscriberPolicy.LAG;
+    @Nullable
+    private EventExecutor executor;
+
+    StreamMessageBroadcasterBuilder(StreamMessage<? extends T> upstream) {
+        this.upstream = upstream;
+    }
+
+    /**
+     * Sets the number of the most recent elements kept in the ring buffer shared by all subscribers.
+     * The specified value is rounded up to the next power of two.
+     * If unspecified, {@value #DEFAULT_BUFFER_SIZE} is used.
+     */
+    public StreamMessageBroadcasterBuilder<T> bufferSize(int bufferSize) {
+        checkArgument(bufferSize > 0 && bufferSize <= MAX_BUFFER_SIZE,
+                      "bufferSize: %s (expected: 0 < bufferSize <= %s)", bufferSize, MAX_BUFFER_SIZE);
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Sets the {@link SlowSubscriberPolicy} which determines how to deal with a subscriber which lags
+     * behind by more than {@link #bufferSize(int)}.
+     * If unspecified, {@link SlowSubscriberPolicy#LAG} is used.
+     */
+    public StreamMessageBroadcasterBuilder<T> slowSubscriberPolicy(SlowSubscriberPolicy slowSubscriberPolicy) {
+        this.slowSubscriberPolicy = requireNonNull(slowSubscriberPolicy, "slowSubscriberPolicy");
+        return this;
+    }
+
+    /**
+     * Sets the {@link EventExecutor} which subscribes to the upstream {@link StreamMessage}. It is also
+     * used as the default executor of the broadcast {@link StreamMessage}s.
+     * If unspecified, {@link StreamMessage#defaultSubscriberExecutor()} of the upstream is used.
+     */
+    public StreamMessageBroadcasterBuilder<T> executor(EventExecutor executor) {
+        this.executor = requireNonNull(executor, "executor");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link StreamMessageBroadcaster} which starts to consume the upstream
+     * {@link StreamMessage} immediately.
+     */
+    public StreamMessageBroadcaster<T> build() {
+        final EventExecutor executor = this.executor != null ? this.executor
+                                                             : upstream.defaultSubscriberExecutor();
+        return new StreamMessageBroadcaster<>(upstream, executor, bufferSize, slowSubscriberPolicy);
+    }
+}
@@ -28,6 +28,8 @@ import java.util.function.Function;
 
 import com.linecorp.armeria.common.CommonPools;
 import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.internal.common.util.VirtualThreadBlockingTaskExecutor;
 
 /**
  * A builder that is useful for creating a {@link ScheduledExecutorService}.
@@ -43,6 +45,7 @@ public final class BlockingTaskExecutorBuilder {
     private boolean daemon = true;
     private int priority = Thread.NORM_PRIORITY;
     private Function<? super Runnable, ? extends Runnable> taskFunction = Function.identity();
+    private boolean useVirtualThreads;
 
     BlockingTaskExecutorBuilder() {}
 
@@ -124,10 +127,35 @@ public final class BlockingTaskExecutorBuilder {
         return this;
     }
 
+    /**
+     * Sets whether to run each task in a new virtual thread instead of a thread pool. When enabled,
+     * the number of concurrently running tasks is not bounded by {@link #numThreads(int)}, and
+     * {@link #keepAliveTime(Duration)}, {@link #daemon(boolean)} and {@link #priority(int)} are ignored
+     * because virtual threads are always daemon threads with the normal priority and are never reused.
+     * Note that this option requires Java 21 or later.
+     *
+     * <p>Virtual threads are a good fit for the tasks that spend most of their time waiting for I/O,
+     * such as JDBC calls. Avoid the tasks that block while holding a monitor lock ({@code synchronized}),
+     * because such a task pins its carrier thread. Pinning can be observed with the
+     * {@code jdk.VirtualThreadPinned} JFR event.
+     */
+    @UnstableApi
+    public BlockingTaskExecutorBuilder useVirtualThreads(boolean useVirtualThreads) {
+        this.useVirtualThreads = useVirtualThreads;
+        return this;
+    }
+
     /**
      * Returns a newly-created {@link BlockingTaskExecutor} with the properties given so far.
+     *
+     * @throws IllegalStateException if {@link #useVirtualThreads(boolean)} is enabled but the current JVM
+     *                               does not support virtual threads
      */
     public BlockingTaskExecutor build() {
+        if (useVirtualThreads) {
+            return new VirtualThreadBlockingTaskExecutor(threadNamePrefix, taskFunction);
+        }
+
         final ThreadFactory threadFactory = ThreadFactories.builder(threadNamePrefix)
                                                            .daemon(daemon)
                                                            .priority(priority)
@@ -34,6 +34,7 @@ import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.util.Exceptions;
 import com.linecorp.armeria.server.Server;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
@@ -72,6 +73,8 @@ public abstract class AbstractHttp2ConnectionHandler extends Http2ConnectionHand
     };
 
     private final KeepAliveHandler keepAliveHandler;
+    @Nullable
+    private final DistributionSummary writesPerFlush;
 
     private boolean closing;
     private boolean handlingConnectionError;
@@ -81,12 +84,16 @@ public abstract class AbstractHttp2ConnectionHandler extends Http2ConnectionHand
 
     /**
      * Creates a new instance.
+     *
+     * @param writesPerFlush the {@link DistributionSummary} which records the number of writes per flush,
+     *                       or {@code null} if the flushes of this connection should not be consolidated
      */
     protected AbstractHttp2ConnectionHandler(
             Http2ConnectionDecoder decoder, Http2ConnectionEncoder encoder, Http2Settings initialSettings,
-            KeepAliveHandler keepAliveHandler) {
+            KeepAliveHandler keepAliveHandler, @Nullable DistributionSummary writesPerFlush) {
         super(decoder, encoder, initialSettings);
         this.keepAliveHandler = keepAliveHandler;
+        this.writesPerFlush = writesPerFlush;
     }
 
     /**
@@ -103,6 +110,16 @@ public abstract class AbstractHttp2ConnectionHandler extends Http2ConnectionHand
         return closing;
     }
 
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        if (writesPerFlush != null) {
+            // Coalesce the flushes from the streams of this connection into one flush per event loop
+            // iteration.
+            ctx.pipeline().addBefore(ctx.name(), null, new Http2FlushConsolidationHandler(writesPerFlush));
+        }
+        super.handlerAdded(ctx);
+    }
+
     @Override
     protected final void onConnectionError(ChannelHandlerContext ctx, boolean outbound,
                                            Throwable cause, Http2Exception http2Ex) {
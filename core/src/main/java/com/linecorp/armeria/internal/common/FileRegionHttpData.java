@@ -0,0 +1,358 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.google.common.primitives.Ints;
+
+import com.linecorp.armeria.common.FileBackedHttpData;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.util.ByteBufAccessMode;
+import com.linecorp.armeria.internal.common.util.TransportTypeProvider;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.EventLoop;
+import io.netty.channel.FileRegion;
+import io.netty.handler.codec.DecoderResult;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.HttpObject;
+
+/**
+ * A {@link FileBackedHttpData} which refers to a region of a file instead of holding its content in memory.
+ * {@link Http1ObjectEncoder} writes it as a {@link FileRegion} to a cleartext HTTP/1 connection, so that
+ * the content is transferred without being copied into the user space, e.g. using {@code sendfile()}.
+ *
+ * <p>If the content is accessed via {@link #array()} or {@link #byteBuf(ByteBufAccessMode)}, e.g. by
+ * a decorator that transforms the content or by an encoder that cannot write a {@link FileRegion},
+ * the region is read into the memory on demand and this {@link HttpData} behaves like an ordinary one.
+ * {@link #toInputStream()} reads the region from the file directly without loading it into the memory.
+ */
+public final class FileRegionHttpData implements FileBackedHttpData {
+
+    /**
+     * Returns whether a {@link FileRegionHttpData} can be written to a connection of the specified
+     * {@link SessionProtocol} which is handled by the specified {@link EventLoop}.
+     */
+    public static boolean isSupported(SessionProtocol protocol, EventLoop eventLoop) {
+        requireNonNull(protocol, "protocol");
+        requireNonNull(eventLoop, "eventLoop");
+        if (protocol != SessionProtocol.H1C) {
+            // A FileRegion cannot be encrypted by SslHandler nor framed by the HTTP/2 codec.
+            return false;
+        }
+        // io_uring transport does not support FileRegion.
+        final TransportTypeProvider ioUring = TransportTypeProvider.IO_URING;
+        return ioUring.unavailabilityCause() != null || !ioUring.eventLoopType().isInstance(eventLoop);
+    }
+
+    /**
+     * Opens the file at the specified {@link Path} and returns a new {@link FileRegionHttpData} which
+     * refers to the specified region of the file.
+     */
+    public static FileRegionHttpData of(Path path, long position, long length) throws IOException {
+        requireNonNull(path, "path");
+        checkArgument(position >= 0, "position: %s (expected: >= 0)", position);
+        checkArgument(length >= 0, "length: %s (expected: >= 0)", length);
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new FileRegionHttpData(path, channel, position, length, false);
+    }
+
+    /**
+     * Returns a new {@link FileRegionHttpData} which refers to the specified region of the file opened as
+     * the specified {@link FileChannel}. The returned {@link FileRegionHttpData} takes the ownership of
+     * the {@link FileChannel}.
+     */
+    public static FileRegionHttpData of(Path path, FileChannel channel, long position, long length) {
+        requireNonNull(path, "path");
+        requireNonNull(channel, "channel");
+        checkArgument(position >= 0, "position: %s (expected: >= 0)", position);
+        checkArgument(length >= 0, "length: %s (expected: >= 0)", length);
+        return new FileRegionHttpData(path, channel, position, length, false);
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long position;
+    private final long length;
+    private final boolean endOfStream;
+
+    @Nullable
+    private HttpData content;
+    private boolean closed;
+
+    private FileRegionHttpData(Path path, FileChannel channel, long position, long length,
+                               boolean endOfStream) {
+        this.path = path;
+        this.channel = channel;
+        this.position = position;
+        this.length = length;
+        this.endOfStream = endOfStream;
+    }
+
+    /**
+     * Returns a new {@link FileRegion} which transfers the region of the file this {@link HttpData} refers
+     * to. The returned {@link FileRegion} takes the ownership of the underlying {@link FileChannel}, and thus
+     * this {@link HttpData} must not be used anymore.
+     */
+    HttpFileRegion toFileRegion() {
+        checkState(!closed, "closed already");
+        checkState(content == null, "loaded into the memory already");
+        closed = true;
+        return new HttpFileRegion(channel, position, length);
+    }
+
+    /**
+     * Returns whether the content of this {@link HttpData} has been read into the memory.
+     */
+    public boolean isLoaded() {
+        return content != null;
+    }
+
+    private HttpData content() {
+        final HttpData content = this.content;
+        if (content != null) {
+            return content;
+        }
+        checkState(!closed, "closed already");
+        checkState(length <= Integer.MAX_VALUE, "too large to read into the memory: %s", this);
+
+        final byte[] array = new byte[(int) length];
+        final ByteBuffer buf = ByteBuffer.wrap(array);
+        try {
+            while (buf.hasRemaining()) {
+                final int readBytes = channel.read(buf, position + buf.position());
+                if (readBytes < 0) {
+                    // The file has been truncated.
+                    throw new EOFException(path.toString());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            closeChannel();
+        }
+        return this.content = HttpData.wrap(array);
+    }
+
+    @Override
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    @Override
+    public byte[] array() {
+        return content().array();
+    }
+
+    @Override
+    public int length() {
+        return Ints.saturatedCast(length);
+    }
+
+    @Override
+    public String toString(Charset charset) {
+        return content().toString(charset);
+    }
+
+    @Override
+    public InputStream toInputStream() {
+        final HttpData content = this.content;
+        if (content != null) {
+            return content.toInputStream();
+        }
+        checkState(!closed, "closed already");
+        return new RegionInputStream();
+    }
+
+    @Override
+    public boolean isPooled() {
+        return false;
+    }
+
+    @Override
+    public ByteBuf byteBuf(ByteBufAccessMode mode) {
+        return content().byteBuf(mode);
+    }
+
+    @Override
+    public ByteBuf byteBuf(int offset, int length, ByteBufAccessMode mode) {
+        return content().byteBuf(offset, length, mode);
+    }
+
+    @Override
+    public HttpData withEndOfStream(boolean endOfStream) {
+        if (this.endOfStream == endOfStream) {
+            return this;
+        }
+        final HttpData content = this.content;
+        if (content != null) {
+            return content.withEndOfStream(endOfStream);
+        }
+        return new FileRegionHttpData(path, channel, position, length, endOfStream);
+    }
+
+    @Override
+    public boolean isEndOfStream() {
+        return endOfStream;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (content == null) {
+            closeChannel();
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Nothing to do.
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder();
+        buf.append('{').append(length).append("B, file=").append(path)
+           .append(", position=").append(position).append('}');
+        if (endOfStream) {
+            buf.append(", {EOS}");
+        }
+        return buf.toString();
+    }
+
+    /**
+     * An {@link InputStream} which reads the region with positional reads, so that it neither copies
+     * the whole region into the memory nor changes the position of the shared {@link FileChannel}.
+     */
+    private final class RegionInputStream extends InputStream {
+
+        private final byte[] singleByte = new byte[1];
+        private long offset;
+
+        @Override
+        public int read() throws IOException {
+            final int readBytes = read(singleByte, 0, 1);
+            return readBytes < 0 ? -1 : singleByte[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            final long remaining = length - offset;
+            if (remaining <= 0) {
+                return -1;
+            }
+            final ByteBuffer buf = ByteBuffer.wrap(b, off, (int) Math.min(len, remaining));
+            final int readBytes = channel.read(buf, position + offset);
+            if (readBytes < 0) {
+                // The file has been truncated.
+                throw new EOFException(path.toString());
+            }
+            offset += readBytes;
+            return readBytes;
+        }
+
+        @Override
+        public long skip(long n) {
+            if (n <= 0) {
+                return 0;
+            }
+            final long skipped = Math.min(n, length - offset);
+            offset += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return Ints.saturatedCast(length - offset);
+        }
+
+        @Override
+        public void close() {
+            FileRegionHttpData.this.close();
+        }
+    }
+
+    /**
+     * A {@link DefaultFileRegion} which can be written via {@link Http1ObjectEncoder}. Netty's HTTP/1 encoder
+     * handles it as a {@link FileRegion} because it is neither an {@link HttpMessage} nor
+     * an {@link HttpContent}. It extends {@link DefaultFileRegion} so that the transport can use
+     * {@code sendfile()}.
+     */
+    static final class HttpFileRegion extends DefaultFileRegion implements HttpObject {
+
+        private DecoderResult decoderResult = DecoderResult.SUCCESS;
+
+        HttpFileRegion(FileChannel channel, long position, long count) {
+            super(channel, position, count);
+        }
+
+        @Override
+        public DecoderResult decoderResult() {
+            return decoderResult;
+        }
+
+        @Override
+        @Deprecated
+        public DecoderResult getDecoderResult() {
+            return decoderResult();
+        }
+
+        @Override
+        public void setDecoderResult(DecoderResult result) {
+            decoderResult = requireNonNull(result, "result");
+        }
+    }
+}
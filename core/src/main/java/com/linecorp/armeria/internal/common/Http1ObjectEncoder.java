@@ -177,6 +177,11 @@ public abstract class Http1ObjectEncoder implements HttpObjectEncoder {
         }
 
         try {
+            if (data instanceof FileRegionHttpData && !((FileRegionHttpData) data).isLoaded() &&
+                FileRegionHttpData.isSupported(protocol, ch.eventLoop())) {
+                // Cleartext connection; transfer the file content without copying it.
+                return doWriteFileRegion(id, (FileRegionHttpData) data, endStream);
+            }
             if (!protocol.isTls() || length <= MAX_TLS_DATA_LENGTH) {
                 // Cleartext connection or data.length() <= MAX_TLS_DATA_LENGTH
                 return doWriteUnsplitData(id, data, endStream);
@@ -211,6 +216,16 @@ public abstract class Http1ObjectEncoder implements HttpObjectEncoder {
         }
     }
 
+    private ChannelFuture doWriteFileRegion(int id, FileRegionHttpData data, boolean endStream) {
+        // Do not flush here; the caller flushes the region and the last chunk at once when the write unit
+        // is done.
+        final ChannelFuture future = write(id, data.toFileRegion(), false);
+        if (!endStream) {
+            return future;
+        }
+        return write(id, LastHttpContent.EMPTY_LAST_CONTENT, true);
+    }
+
     private ChannelFuture doWriteSplitData(int id, HttpData data, boolean endStream) {
         try {
             int offset = 0;
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.flush.FlushConsolidationHandler;
+
+/**
+ * Coalesces the flushes from the streams of an HTTP/2 connection into a single flush per event loop
+ * iteration. Unlike {@link FlushConsolidationHandler} which consolidates the flushes only while a read is
+ * in progress, this handler also consolidates the flushes triggered outside of a read, e.g. the response
+ * of a unary call completed by a blocking task executor. This handler is placed right in front of
+ * {@link AbstractHttp2ConnectionHandler} so that it can record the number of outbound writes, i.e.
+ * the encoded HTTP/2 frames or their fragments, per actual flush. It is added only if
+ * {@link Flags#consolidateHttp2Flushes()} is enabled.
+ *
+ * <p>A server-side streaming response with a write batch size greater than {@code 1} schedules its own
+ * flush task, and this handler schedules another one when the task flushes. The second deferral only
+ * delays the actual flush by one task; it does not make the first one redundant, because this handler
+ * also merges the flushes of the other streams of the connection.
+ */
+final class Http2FlushConsolidationHandler extends ChannelDuplexHandler {
+
+    private final DistributionSummary writesPerFlush;
+    private final Runnable flushTask;
+
+    @Nullable
+    private ChannelHandlerContext ctx;
+    private int pendingWrites;
+    private boolean flushScheduled;
+
+    Http2FlushConsolidationHandler(DistributionSummary writesPerFlush) {
+        this.writesPerFlush = writesPerFlush;
+        flushTask = this::flushIfScheduled;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        flushIfScheduled();
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        pendingWrites++;
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        if (flushScheduled) {
+            return;
+        }
+        if (!ctx.channel().isWritable()) {
+            // Flush immediately so that the channel becomes writable again as soon as possible.
+            flushNow();
+            return;
+        }
+        flushScheduled = true;
+        ctx.executor().execute(flushTask);
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (!ctx.channel().isWritable()) {
+            flushIfScheduled();
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        flushIfScheduled();
+        ctx.close(promise);
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        flushIfScheduled();
+        ctx.disconnect(promise);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        flushIfScheduled();
+        ctx.fireExceptionCaught(cause);
+    }
+
+    @VisibleForTesting
+    int pendingWrites() {
+        return pendingWrites;
+    }
+
+    private void flushIfScheduled() {
+        if (flushScheduled) {
+            flushNow();
+        }
+    }
+
+    private void flushNow() {
+        flushScheduled = false;
+        final int pendingWrites = this.pendingWrites;
+        if (pendingWrites > 0) {
+            this.pendingWrites = 0;
+            writesPerFlush.record(pendingWrites);
+        }
+        assert ctx != null;
+        ctx.flush();
+    }
+}
@@ -214,6 +214,13 @@ public final class HttpMessageAggregator {
 
     private static HttpData aggregateData(List<HttpObject> objects, int contentLength, int start, int end,
                                           @Nullable ByteBufAllocator alloc) {
+        if (end - start == 1) {
+            final HttpData data = (HttpData) objects.get(start);
+            if (data instanceof FileRegionHttpData) {
+                // Keep the content spilled to a file by SpillingHttpObjectCollector out of the memory.
+                return data;
+            }
+        }
         if (alloc != null) {
             final ByteBuf merged = alloc.buffer(contentLength);
             for (int i = start; i < end; i++) {
@@ -18,15 +18,18 @@ package com.linecorp.armeria.internal.common;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.ByteBuffer;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.linecorp.armeria.common.RequestContext;
+import com.linecorp.armeria.internal.common.util.TemporaryThreadLocals;
 
 /**
  * Contains APIs that are implemented differently based on the version of Java being run. This class implements
@@ -71,6 +74,49 @@ public class JavaVersionSpecific {
         return new ContextAwareFuture<>(requireNonNull(ctx, "ctx"));
     }
 
+    /**
+     * Sets the remaining bytes of the specified {@link ByteBuffer} as the input of the {@link Deflater}.
+     * The caller must not modify the {@link ByteBuffer} until {@link Deflater#needsInput()} returns
+     * {@code true}. The position of the {@link ByteBuffer} may or may not be updated.
+     */
+    public void setInput(Deflater deflater, ByteBuffer input) {
+        final int length = input.remaining();
+        if (input.hasArray()) {
+            deflater.setInput(input.array(), input.arrayOffset() + input.position(), length);
+        } else {
+            // Deflater.setInput(ByteBuffer) is not available until Java 11.
+            final byte[] copy = new byte[length];
+            input.duplicate().get(copy);
+            deflater.setInput(copy);
+        }
+    }
+
+    /**
+     * Compresses the input data of the {@link Deflater} and fills the remaining space of the specified
+     * {@link ByteBuffer} with the compressed data. The position of the {@link ByteBuffer} is increased by
+     * the number of the bytes written.
+     *
+     * @return the number of the bytes written
+     */
+    public int deflate(Deflater deflater, ByteBuffer output, int flush) {
+        final int length = output.remaining();
+        if (output.hasArray()) {
+            final int position = output.position();
+            final int written =
+                    deflater.deflate(output.array(), output.arrayOffset() + position, length, flush);
+            output.position(position + written);
+            return written;
+        }
+
+        // Deflater.deflate(ByteBuffer, int) is not available until Java 11.
+        try (TemporaryThreadLocals tempThreadLocals = TemporaryThreadLocals.acquire()) {
+            final byte[] buf = tempThreadLocals.byteArray(length);
+            final int written = deflater.deflate(buf, 0, length, flush);
+            output.put(buf, 0, written);
+            return written;
+        }
+    }
+
     long java9CurrentTimeMicros() {
         final Instant now = Clock.systemUTC().instant();
         return TimeUnit.SECONDS.toMicros(now.getEpochSecond()) +
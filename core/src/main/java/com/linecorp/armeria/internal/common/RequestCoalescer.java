@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpResponseDuplicator;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.util.Exceptions;
+
+import io.netty.util.AsciiString;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Collapses the concurrent requests of the same key into a single execution. The first request of a key
+ * executes the actual request, and the other requests which arrive before the response is complete
+ * receive the duplicates of the response.
+ */
+public final class RequestCoalescer {
+
+    /**
+     * Appends the values of the specified request headers to the specified cache key.
+     * {@code "authorization"} and {@code "cookie"} are always appended so that the requests of different
+     * users are never coalesced.
+     */
+    public static void appendHeaders(StringBuilder buf, RequestHeaders headers, List<AsciiString> names) {
+        appendHeader(buf, headers, HttpHeaderNames.AUTHORIZATION);
+        appendHeader(buf, headers, HttpHeaderNames.COOKIE);
+        for (AsciiString name : names) {
+            appendHeader(buf, headers, name);
+        }
+    }
+
+    private static void appendHeader(StringBuilder buf, RequestHeaders headers, AsciiString name) {
+        final List<String> values = headers.getAll(name);
+        if (values.isEmpty()) {
+            return;
+        }
+        buf.append('\n').append(name).append(':');
+        for (String value : values) {
+            buf.append(value).append(',');
+        }
+    }
+
+    private final ConcurrentMap<String, Inflight> inflights = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the response of the in-flight request of the specified {@code key} if exists. Otherwise,
+     * executes the specified {@link Callable} and shares its response with the requests of the same
+     * {@code key} until the response is complete.
+     */
+    public HttpResponse execute(String key, EventExecutor executor, long maxResponseLength,
+                                Callable<HttpResponse> execution) throws Exception {
+        for (;;) {
+            final Inflight existing = inflights.get(key);
+            if (existing != null) {
+                final HttpResponse res = existing.join();
+                if (res != null) {
+                    return res;
+                }
+                // The response is complete. Execute a new request.
+                inflights.remove(key, existing);
+                continue;
+            }
+
+            final Inflight inflight = new Inflight();
+            if (inflights.putIfAbsent(key, inflight) != null) {
+                continue;
+            }
+
+            final HttpResponse res;
+            try {
+                res = execution.call();
+            } catch (Throwable cause) {
+                inflights.remove(key, inflight);
+                inflight.fail(cause);
+                throw cause;
+            }
+            return inflight.start(res, executor, maxResponseLength, () -> inflights.remove(key, inflight));
+        }
+    }
+
+    @VisibleForTesting
+    public int numInflights() {
+        return inflights.size();
+    }
+
+    private static final class Inflight {
+
+        @Nullable
+        private HttpResponseDuplicator duplicator;
+        @Nullable
+        private List<CompletableFuture<HttpResponse>> waiters;
+        @Nullable
+        private Throwable cause;
+        private boolean closed;
+
+        /**
+         * Returns a duplicate of the shared response, or {@code null} if the shared response is complete.
+         */
+        @Nullable
+        synchronized HttpResponse join() {
+            if (closed) {
+                if (cause != null) {
+                    return HttpResponse.ofFailure(cause);
+                }
+                return null;
+            }
+            if (duplicator != null) {
+                return duplicator.duplicate();
+            }
+            if (waiters == null) {
+                waiters = new ArrayList<>();
+            }
+            final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+            waiters.add(future);
+            return HttpResponse.of(future);
+        }
+
+        HttpResponse start(HttpResponse res, EventExecutor executor, long maxResponseLength,
+                           Runnable onComplete) {
+            final HttpResponseDuplicator duplicator = res.toDuplicator(executor, maxResponseLength);
+            final HttpResponse firstResponse;
+            synchronized (this) {
+                this.duplicator = duplicator;
+                firstResponse = duplicator.duplicate();
+                if (waiters != null) {
+                    for (CompletableFuture<HttpResponse> waiter : waiters) {
+                        waiter.complete(duplicator.duplicate());
+                    }
+                    waiters = null;
+                }
+            }
+
+            res.whenComplete().handle((unused, unused2) -> {
+                onComplete.run();
+                synchronized (this) {
+                    closed = true;
+                }
+                duplicator.close();
+                return null;
+            });
+            return firstResponse;
+        }
+
+        void fail(Throwable cause) {
+            final Throwable peeled = Exceptions.peel(cause);
+            final List<CompletableFuture<HttpResponse>> waiters;
+            synchronized (this) {
+                closed = true;
+                this.cause = peeled;
+                waiters = this.waiters;
+                this.waiters = null;
+            }
+            if (waiters != null) {
+                for (CompletableFuture<HttpResponse> waiter : waiters) {
+                    waiter.completeExceptionally(peeled);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.linecorp.armeria.common.CommonPools;
+import com.linecorp.armeria.common.ContentTooLargeException;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpObject;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.stream.StreamMessage;
+import com.linecorp.armeria.common.stream.SubscriptionOption;
+import com.linecorp.armeria.unsafe.PooledObjects;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Collects the {@link HttpObject}s of an {@link StreamMessage} like {@link StreamMessage#collect()}, but
+ * writes the content to a temporary file once the content exceeds the threshold. The {@link HttpData}s
+ * written to the file are released immediately and the next {@link HttpData} is requested only after
+ * the previous one is written, so that the memory used for collecting is bounded by the threshold.
+ * The collected {@link HttpData}s are replaced with a {@link FileRegionHttpData} which refers to the file.
+ * The file is opened with {@link StandardOpenOption#DELETE_ON_CLOSE}, and thus it is deleted when
+ * the {@link FileRegionHttpData} is read into the memory or closed.
+ */
+public final class SpillingHttpObjectCollector implements Subscriber<HttpObject> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpillingHttpObjectCollector.class);
+
+    /**
+     * Collects the {@link HttpObject}s of the specified {@link StreamMessage}, spilling the content to
+     * a temporary file in the specified directory once the content exceeds {@code spillThresholdBytes}.
+     */
+    public static CompletableFuture<List<HttpObject>> collect(StreamMessage<? extends HttpObject> message,
+                                                              EventExecutor executor,
+                                                              SubscriptionOption[] options,
+                                                              long spillThresholdBytes,
+                                                              @Nullable Path spillDirectory) {
+        requireNonNull(message, "message");
+        requireNonNull(executor, "executor");
+        requireNonNull(options, "options");
+        final SpillingHttpObjectCollector collector = new SpillingHttpObjectCollector(
+                executor, CommonPools.blockingTaskExecutor(), spillThresholdBytes, spillDirectory);
+        message.subscribe(collector, executor, options);
+        return collector.future;
+    }
+
+    private final CompletableFuture<List<HttpObject>> future = new CompletableFuture<>();
+    private final List<HttpObject> objects = new ArrayList<>();
+    private final EventExecutor eventExecutor;
+    private final Executor blockingTaskExecutor;
+    private final long spillThresholdBytes;
+    @Nullable
+    private final Path spillDirectory;
+
+    @Nullable
+    private Subscription subscription;
+    private long contentLength;
+    // The index of the first HttpData in 'objects', where the FileRegionHttpData is inserted on completion.
+    private int contentIndex = -1;
+    @Nullable
+    private Path path;
+    @Nullable
+    private FileChannel channel;
+
+    private boolean writing;
+    private boolean completing;
+    private boolean done;
+
+    private SpillingHttpObjectCollector(EventExecutor eventExecutor, Executor blockingTaskExecutor,
+                                        long spillThresholdBytes, @Nullable Path spillDirectory) {
+        this.eventExecutor = eventExecutor;
+        this.blockingTaskExecutor = blockingTaskExecutor;
+        this.spillThresholdBytes = spillThresholdBytes;
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(HttpObject obj) {
+        assert subscription != null;
+        if (done) {
+            PooledObjects.close(obj);
+            return;
+        }
+        if (!(obj instanceof HttpData)) {
+            objects.add(obj);
+            subscription.request(1);
+            return;
+        }
+
+        final HttpData data = (HttpData) obj;
+        if (data.isEmpty()) {
+            data.close();
+            subscription.request(1);
+            return;
+        }
+        contentLength += data.length();
+        // The aggregated content is still an HttpData whose length() is an int, e.g. when it is converted
+        // back to a message with a 'content-length' header.
+        if (contentLength > Integer.MAX_VALUE) {
+            data.close();
+            fail(ContentTooLargeException.builder()
+                                         .maxContentLength(Integer.MAX_VALUE)
+                                         .transferred(contentLength)
+                                         .build(), true);
+            return;
+        }
+        if (contentIndex < 0) {
+            contentIndex = objects.size();
+        }
+
+        if (channel != null) {
+            final List<HttpData> pending = new ArrayList<>(1);
+            pending.add(data);
+            write(pending, false);
+        } else if (contentLength > spillThresholdBytes) {
+            // Move the content collected so far to the file.
+            final List<HttpData> pending = new ArrayList<>();
+            objects.removeIf(o -> {
+                if (o instanceof HttpData) {
+                    pending.add((HttpData) o);
+                    return true;
+                }
+                return false;
+            });
+            pending.add(data);
+            write(pending, true);
+        } else {
+            objects.add(data);
+            subscription.request(1);
+        }
+    }
+
+    private void write(List<HttpData> pending, boolean open) {
+        writing = true;
+        final FileChannel channel = this.channel;
+        blockingTaskExecutor.execute(() -> {
+            Path path = null;
+            FileChannel newChannel = null;
+            Throwable cause = null;
+            try {
+                if (open) {
+                    path = spillDirectory != null ? Files.createTempFile(spillDirectory, "armeria-", ".tmp")
+                                                  : Files.createTempFile("armeria-", ".tmp");
+                    newChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                                                  StandardOpenOption.DELETE_ON_CLOSE);
+                }
+                final FileChannel target = open ? newChannel : channel;
+                assert target != null;
+                for (HttpData data : pending) {
+                    writeFully(target, data);
+                }
+            } catch (Throwable t) {
+                cause = t;
+                if (path != null && newChannel == null) {
+                    deleteFile(path);
+                }
+            } finally {
+                for (HttpData data : pending) {
+                    data.close();
+                }
+            }
+
+            final Path finalPath = path;
+            final FileChannel finalChannel = newChannel;
+            final Throwable finalCause = cause;
+            eventExecutor.execute(() -> onWritten(finalPath, finalChannel, finalCause));
+        });
+    }
+
+    private static void writeFully(FileChannel channel, HttpData data) throws IOException {
+        final ByteBuf buf = data.byteBuf();
+        if (buf.nioBufferCount() == 1) {
+            final ByteBuffer nioBuffer = buf.nioBuffer();
+            while (nioBuffer.hasRemaining()) {
+                channel.write(nioBuffer);
+            }
+        } else {
+            for (ByteBuffer nioBuffer : buf.nioBuffers()) {
+                while (nioBuffer.hasRemaining()) {
+                    channel.write(nioBuffer);
+                }
+            }
+        }
+    }
+
+    private void onWritten(@Nullable Path path, @Nullable FileChannel newChannel, @Nullable Throwable cause) {
+        writing = false;
+        if (newChannel != null) {
+            this.path = path;
+            channel = newChannel;
+        }
+        if (done) {
+            // Failed while writing.
+            closeChannel();
+            return;
+        }
+        if (cause != null) {
+            fail(cause, true);
+            return;
+        }
+        if (completing) {
+            complete();
+        } else {
+            assert subscription != null;
+            subscription.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable cause) {
+        fail(cause, false);
+    }
+
+    @Override
+    public void onComplete() {
+        if (writing) {
+            completing = true;
+        } else {
+            complete();
+        }
+    }
+
+    private void complete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (channel != null) {
+            assert path != null;
+            objects.add(contentIndex, FileRegionHttpData.of(path, channel, 0, contentLength));
+            channel = null;
+        }
+        future.complete(objects);
+    }
+
+    private void fail(Throwable cause, boolean cancel) {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (cancel) {
+            assert subscription != null;
+            subscription.cancel();
+        }
+        for (HttpObject obj : objects) {
+            PooledObjects.close(obj);
+        }
+        objects.clear();
+        if (!writing) {
+            closeChannel();
+        }
+        future.completeExceptionally(cause);
+    }
+
+    private void closeChannel() {
+        final FileChannel channel = this.channel;
+        if (channel == null) {
+            return;
+        }
+        this.channel = null;
+        try {
+            // The file is deleted when closed.
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close a temporary file: {}", path, e);
+        }
+    }
+
+    private static void deleteFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete a temporary file: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.encoding;
+
+import java.util.ArrayDeque;
+import java.util.zip.Deflater;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.internal.common.util.EventLoopThread;
+
+import io.netty.util.concurrent.FastThreadLocal;
+
+/**
+ * Pools {@link Deflater}s per event loop thread. Creating a {@link Deflater} allocates hundreds of
+ * kilobytes of native memory for the compression state, which is reused when a {@link Deflater} is
+ * released and acquired again on the same event loop. A {@link Deflater} is not pooled when acquired or
+ * released on a non-event loop thread.
+ */
+final class DeflaterPool {
+
+    /**
+     * The maximum number of the idle {@link Deflater}s of each kind kept for an event loop thread.
+     */
+    @VisibleForTesting
+    static final int MAX_POOLED_DEFLATERS = 4;
+
+    private static final FastThreadLocal<DeflaterPool> pools = new FastThreadLocal<DeflaterPool>() {
+        @Override
+        protected DeflaterPool initialValue() {
+            return new DeflaterPool();
+        }
+
+        @Override
+        protected void onRemoval(DeflaterPool pool) {
+            pool.clear();
+        }
+    };
+
+    /**
+     * Returns a {@link Deflater} with the default compression level.
+     *
+     * @param nowrap whether to omit the zlib header and checksum, e.g. for {@code "gzip"}
+     */
+    static Deflater acquire(boolean nowrap) {
+        if (Thread.currentThread() instanceof EventLoopThread) {
+            final Deflater deflater = pools.get().deflaters(nowrap).pollLast();
+            if (deflater != null) {
+                return deflater;
+            }
+        }
+        return new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap);
+    }
+
+    /**
+     * Resets the specified {@link Deflater} and returns it to the pool, or releases its native resources
+     * if the pool is full.
+     */
+    static void release(Deflater deflater, boolean nowrap) {
+        if (Thread.currentThread() instanceof EventLoopThread) {
+            final ArrayDeque<Deflater> deflaters = pools.get().deflaters(nowrap);
+            if (deflaters.size() < MAX_POOLED_DEFLATERS) {
+                deflater.reset();
+                // The level may have been changed by ZlibOutputStream.
+                deflater.setLevel(Deflater.DEFAULT_COMPRESSION);
+                deflaters.addLast(deflater);
+                return;
+            }
+        }
+        deflater.end();
+    }
+
+    @VisibleForTesting
+    static int numPooled(boolean nowrap) {
+        return pools.get().deflaters(nowrap).size();
+    }
+
+    private final ArrayDeque<Deflater> zlibDeflaters = new ArrayDeque<>(MAX_POOLED_DEFLATERS);
+    private final ArrayDeque<Deflater> rawDeflaters = new ArrayDeque<>(MAX_POOLED_DEFLATERS);
+
+    private DeflaterPool() {}
+
+    private ArrayDeque<Deflater> deflaters(boolean nowrap) {
+        return nowrap ? rawDeflaters : zlibDeflaters;
+    }
+
+    private void clear() {
+        for (Deflater deflater : zlibDeflaters) {
+            deflater.end();
+        }
+        zlibDeflaters.clear();
+        for (Deflater deflater : rawDeflaters) {
+            deflater.end();
+        }
+        rawDeflaters.clear();
+    }
+}
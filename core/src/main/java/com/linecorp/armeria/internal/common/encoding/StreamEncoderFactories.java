@@ -18,12 +18,11 @@ package com.linecorp.armeria.internal.common.encoding;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.GZIPOutputStream;
 
 import com.aayushatharva.brotli4j.encoder.BrotliOutputStream;
 import com.aayushatharva.brotli4j.encoder.Encoder;
 
+import com.linecorp.armeria.common.encoding.CompressionLevel;
 import com.linecorp.armeria.common.encoding.StreamDecoderFactory;
 
 import io.netty.buffer.ByteBufOutputStream;
@@ -38,11 +37,24 @@ public enum StreamEncoderFactories implements StreamEncoderFactory {
 
         @Override
         public OutputStream newEncoder(ByteBufOutputStream os) {
+            return newEncoder(os, CompressionLevel.DEFAULT);
+        }
+
+        @Override
+        public OutputStream newEncoder(ByteBufOutputStream os, CompressionLevel level) {
+            final Encoder.Parameters parameters;
+            switch (level) {
+                case NONE:
+                    parameters = BROTLI_NONE_PARAMETERS;
+                    break;
+                case FASTEST:
+                    parameters = BROTLI_FASTEST_PARAMETERS;
+                    break;
+                default:
+                    parameters = BROTLI_PARAMETERS;
+            }
             try {
-                // We use 4 as the default level because it would save more bytes
-                // than GZIP's default setting and compress data faster.
-                // See: https://blogs.akamai.com/2016/02/understanding-brotlis-potential.html
-                return new BrotliOutputStream(os, BROTLI_PARAMETERS);
+                return new BrotliOutputStream(os, parameters);
             } catch (IOException e) {
                 throw new IllegalStateException(
                         "Error writing brotli header. This should not happen with byte arrays.", e);
@@ -57,12 +69,12 @@ public enum StreamEncoderFactories implements StreamEncoderFactory {
 
         @Override
         public OutputStream newEncoder(ByteBufOutputStream os) {
-            try {
-                return new GZIPOutputStream(os, true);
-            } catch (IOException e) {
-                throw new IllegalStateException(
-                        "Error writing gzip header. This should not happen with byte arrays.", e);
-            }
+            return ZlibOutputStream.gzip(os);
+        }
+
+        @Override
+        public OutputStream newEncoder(ByteBufOutputStream os, CompressionLevel level) {
+            return ZlibOutputStream.gzip(os, level);
         }
     },
     DEFLATE {
@@ -73,7 +85,12 @@ public enum StreamEncoderFactories implements StreamEncoderFactory {
 
         @Override
         public OutputStream newEncoder(ByteBufOutputStream os) {
-            return new DeflaterOutputStream(os, true);
+            return ZlibOutputStream.deflate(os);
+        }
+
+        @Override
+        public OutputStream newEncoder(ByteBufOutputStream os, CompressionLevel level) {
+            return ZlibOutputStream.deflate(os, level);
         }
     },
     SNAPPY {
@@ -86,6 +103,22 @@ public enum StreamEncoderFactories implements StreamEncoderFactory {
         public OutputStream newEncoder(ByteBufOutputStream os) {
             return new SnappyFramedOutputStream(os.buffer());
         }
+    },
+    ZSTD {
+        @Override
+        public String encodingHeaderValue() {
+            return StreamDecoderFactory.zstd().encodingHeaderValue();
+        }
+
+        @Override
+        public OutputStream newEncoder(ByteBufOutputStream os) {
+            return ZstdStreamEncoderFactory.newEncoder(os, null);
+        }
+
+        @Override
+        public OutputStream newEncoder(ByteBufOutputStream os, CompressionLevel level) {
+            return ZstdStreamEncoderFactory.newEncoder(os, null, level);
+        }
     };
 
     static {
@@ -93,5 +126,10 @@ public enum StreamEncoderFactories implements StreamEncoderFactory {
         Brotli.isAvailable();
     }
 
+    // We use 4 as the default level because it would save more bytes
+    // than GZIP's default setting and compress data faster.
+    // See: https://blogs.akamai.com/2016/02/understanding-brotlis-potential.html
     private static final Encoder.Parameters BROTLI_PARAMETERS = new Encoder.Parameters().setQuality(4);
+    private static final Encoder.Parameters BROTLI_FASTEST_PARAMETERS = new Encoder.Parameters().setQuality(1);
+    private static final Encoder.Parameters BROTLI_NONE_PARAMETERS = new Encoder.Parameters().setQuality(0);
 }
@@ -18,6 +18,8 @@ package com.linecorp.armeria.internal.common.encoding;
 
 import java.io.OutputStream;
 
+import com.linecorp.armeria.common.encoding.CompressionLevel;
+
 import io.netty.buffer.ByteBufOutputStream;
 
 public interface StreamEncoderFactory {
@@ -27,4 +29,12 @@ public interface StreamEncoderFactory {
     String encodingHeaderValue();
 
     OutputStream newEncoder(ByteBufOutputStream os);
+
+    /**
+     * Returns a new encoder which compresses with the specified {@link CompressionLevel}. The encoders that
+     * have no notion of levels, e.g. {@code "x-snappy-framed"}, ignore the {@link CompressionLevel}.
+     */
+    default OutputStream newEncoder(ByteBufOutputStream os, CompressionLevel level) {
+        return newEncoder(os);
+    }
 }
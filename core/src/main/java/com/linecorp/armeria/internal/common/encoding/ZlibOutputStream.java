@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.encoding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import com.google.common.base.Preconditions;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.encoding.CompressionLevel;
+import com.linecorp.armeria.internal.common.JavaVersionSpecific;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+
+/**
+ * An {@link OutputStream} which compresses data in {@code "gzip"} or {@code "deflate"} format using
+ * a {@link Deflater}. Unlike {@link java.util.zip.GZIPOutputStream}, it writes the compressed data into
+ * the {@link ByteBuf} of a {@link ByteBufOutputStream} directly, and {@link #write(ByteBuf)} reads
+ * a {@link ByteBuf} without copying it into a byte array when running on Java 11 or later. The
+ * {@link Deflater} is borrowed from the {@link DeflaterPool} and returned when this stream is closed.
+ *
+ * <p>Like {@link java.util.zip.GZIPOutputStream} created with {@code syncFlush}, {@link #flush()} flushes
+ * all pending output with {@link Deflater#SYNC_FLUSH}.
+ */
+public final class ZlibOutputStream extends OutputStream {
+
+    // The same header as the one of GZIPOutputStream.
+    private static final byte[] GZIP_HEADER = {
+            0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+    };
+
+    private static final int MIN_WRITABLE_BYTES = 1024;
+
+    /**
+     * Returns a new {@link ZlibOutputStream} which compresses data in {@code "gzip"} format.
+     */
+    static ZlibOutputStream gzip(ByteBufOutputStream os) {
+        return gzip(os, CompressionLevel.DEFAULT);
+    }
+
+    /**
+     * Returns a new {@link ZlibOutputStream} which compresses data in {@code "gzip"} format with
+     * the specified {@link CompressionLevel}.
+     */
+    static ZlibOutputStream gzip(ByteBufOutputStream os, CompressionLevel level) {
+        return new ZlibOutputStream(os.buffer(), true, level);
+    }
+
+    /**
+     * Returns a new {@link ZlibOutputStream} which compresses data in {@code "deflate"} format, i.e.
+     * the zlib format.
+     */
+    static ZlibOutputStream deflate(ByteBufOutputStream os) {
+        return deflate(os, CompressionLevel.DEFAULT);
+    }
+
+    /**
+     * Returns a new {@link ZlibOutputStream} which compresses data in {@code "deflate"} format with
+     * the specified {@link CompressionLevel}.
+     */
+    static ZlibOutputStream deflate(ByteBufOutputStream os, CompressionLevel level) {
+        return new ZlibOutputStream(os.buffer(), false, level);
+    }
+
+    private static int deflaterLevel(CompressionLevel level) {
+        switch (level) {
+            case NONE:
+                return Deflater.NO_COMPRESSION;
+            case FASTEST:
+                return Deflater.BEST_SPEED;
+            default:
+                return Deflater.DEFAULT_COMPRESSION;
+        }
+    }
+
+    private final ByteBuf out;
+    private final boolean gzip;
+    @Nullable
+    private final CRC32 crc;
+    @Nullable
+    private Deflater deflater;
+
+    private ZlibOutputStream(ByteBuf out, boolean gzip, CompressionLevel level) {
+        this.out = out;
+        this.gzip = gzip;
+        deflater = DeflaterPool.acquire(gzip);
+        if (level != CompressionLevel.DEFAULT) {
+            deflater.setLevel(deflaterLevel(level));
+        }
+        if (gzip) {
+            crc = new CRC32();
+            out.writeBytes(GZIP_HEADER);
+        } else {
+            crc = null;
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Preconditions.checkPositionIndexes(off, off + len, b.length);
+        if (len == 0) {
+            return;
+        }
+        write(ByteBuffer.wrap(b, off, len));
+    }
+
+    /**
+     * Compresses the readable bytes of the specified {@link ByteBuf}. The reader index of
+     * the {@link ByteBuf} is not changed.
+     */
+    public void write(ByteBuf buf) throws IOException {
+        if (!buf.isReadable()) {
+            ensureOpen();
+            return;
+        }
+        if (buf.nioBufferCount() == 1) {
+            write(buf.nioBuffer());
+        } else {
+            for (ByteBuffer nioBuffer : buf.nioBuffers()) {
+                write(nioBuffer);
+            }
+        }
+    }
+
+    private void write(ByteBuffer input) throws IOException {
+        final Deflater deflater = ensureOpen();
+        if (crc != null) {
+            crc.update(input.duplicate());
+        }
+        JavaVersionSpecific.get().setInput(deflater, input);
+        while (!deflater.needsInput()) {
+            deflate(deflater, Deflater.NO_FLUSH);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        final Deflater deflater = ensureOpen();
+        for (;;) {
+            if (!deflate(deflater, Deflater.SYNC_FLUSH)) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        final Deflater deflater = this.deflater;
+        if (deflater == null) {
+            return;
+        }
+        this.deflater = null;
+        try {
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflate(deflater, Deflater.NO_FLUSH);
+            }
+            if (crc != null) {
+                out.writeIntLE((int) crc.getValue());
+                out.writeIntLE((int) deflater.getBytesRead());
+            }
+        } finally {
+            DeflaterPool.release(deflater, gzip);
+        }
+    }
+
+    /**
+     * Compresses the pending input into the output {@link ByteBuf}.
+     *
+     * @return {@code true} if the output was full, i.e. there may be more output to write
+     */
+    private boolean deflate(Deflater deflater, int flush) {
+        out.ensureWritable(MIN_WRITABLE_BYTES);
+        final int writerIndex = out.writerIndex();
+        final int writableBytes = out.writableBytes();
+        final int written;
+        if (out.nioBufferCount() == 1) {
+            // Write into the memory of the ByteBuf directly.
+            final ByteBuffer output = out.nioBuffer(writerIndex, writableBytes);
+            written = JavaVersionSpecific.get().deflate(deflater, output, flush);
+        } else {
+            final byte[] output = new byte[writableBytes];
+            written = deflater.deflate(output, 0, writableBytes, flush);
+            out.setBytes(writerIndex, output, 0, written);
+        }
+        out.writerIndex(writerIndex + written);
+        return written == writableBytes;
+    }
+
+    private Deflater ensureOpen() throws IOException {
+        final Deflater deflater = this.deflater;
+        if (deflater == null) {
+            throw new IOException("Stream closed");
+        }
+        return deflater;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.encoding;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdOutputStreamNoFinalizer;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.encoding.CompressionLevel;
+import com.linecorp.armeria.common.encoding.StreamDecoderFactory;
+
+import io.netty.buffer.ByteBufOutputStream;
+
+/**
+ * A {@link StreamEncoderFactory} for {@code "zstd"} content encoding which compresses the content with
+ * a dictionary. Use {@link StreamEncoderFactories#ZSTD} to compress without a dictionary.
+ */
+public final class ZstdStreamEncoderFactory implements StreamEncoderFactory {
+
+    // The default level of Zstandard, which compresses better than gzip at a higher speed.
+    private static final int LEVEL = 3;
+
+    // The fastest standard level. The negative levels are faster but barely compress the content.
+    private static final int FASTEST_LEVEL = 1;
+
+    static OutputStream newEncoder(ByteBufOutputStream os, @Nullable ZstdDictCompress dictionary) {
+        return newEncoder(os, dictionary, CompressionLevel.DEFAULT);
+    }
+
+    static OutputStream newEncoder(ByteBufOutputStream os, @Nullable ZstdDictCompress dictionary,
+                                   CompressionLevel level) {
+        final int zstdLevel;
+        switch (level) {
+            case NONE:
+                zstdLevel = Zstd.minCompressionLevel();
+                break;
+            case FASTEST:
+                zstdLevel = FASTEST_LEVEL;
+                break;
+            default:
+                zstdLevel = LEVEL;
+        }
+        try {
+            // The native resources are released when the encoder is closed.
+            // Note that the level of a dictionary overrides the level of the encoder.
+            final ZstdOutputStreamNoFinalizer encoder = new ZstdOutputStreamNoFinalizer(os, zstdLevel);
+            if (dictionary != null) {
+                encoder.setDict(dictionary);
+            }
+            return encoder;
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                    "Error creating a zstd encoder. This should not happen with byte arrays.", e);
+        }
+    }
+
+    private final ZstdDictCompress dictionary;
+    private final int dictionaryLength;
+
+    /**
+     * Creates a new instance with the specified dictionary. The native dictionary is prepared once and
+     * shared by all encoders created by this factory.
+     */
+    public ZstdStreamEncoderFactory(byte[] dictionary) {
+        requireNonNull(dictionary, "dictionary");
+        checkArgument(dictionary.length > 0, "dictionary is empty.");
+        this.dictionary = new ZstdDictCompress(dictionary, LEVEL);
+        dictionaryLength = dictionary.length;
+    }
+
+    @Override
+    public String encodingHeaderValue() {
+        return StreamDecoderFactory.zstd().encodingHeaderValue();
+    }
+
+    @Override
+    public OutputStream newEncoder(ByteBufOutputStream os) {
+        return newEncoder(os, dictionary);
+    }
+
+    @Override
+    public OutputStream newEncoder(ByteBufOutputStream os, CompressionLevel level) {
+        return newEncoder(os, dictionary, level);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("encoding", encodingHeaderValue())
+                          .add("dictionaryLength", dictionaryLength)
+                          .toString();
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.util.Ticker;
+
+/**
+ * A concurrency limiter whose limit is adjusted automatically using a gradient of the observed latency.
+ *
+ * <p>The latency samples are accumulated into a time window. When a window is over, the average latency of
+ * the window (short-term latency) is compared with the exponential moving average of the previous windows
+ * (long-term latency), and the limit is multiplied by their ratio:
+ * <pre>{@code
+ * gradient = clamp(tolerance * longTermLatency / shortTermLatency, 0.5, 1.0)
+ * newLimit = limit * gradient + sqrt(limit)
+ * }</pre>
+ * i.e. the limit shrinks when the latency goes up because of queueing, and grows slowly by
+ * {@code sqrt(limit)} while the latency is stable. The limit is not grown when less than half of the
+ * limit is in use, and it is multiplied by {@code backoffRatio} when a dropped request, e.g. a timeout,
+ * is observed in a window.
+ *
+ * <p>Both {@link #tryAcquire()} and {@link #release(long, boolean)} are lock-free. The permit counter is
+ * updated with a single atomic increment rather than a compare-and-set loop, so that the counter does not
+ * become a contention point under heavy load. As a result, the number of in-flight requests may exceed
+ * the limit momentarily by the number of racing threads. The limit itself is recalculated by only one
+ * thread per window.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private static final AtomicIntegerFieldUpdater<AdaptiveConcurrencyLimiter> inFlightUpdater =
+            AtomicIntegerFieldUpdater.newUpdater(AdaptiveConcurrencyLimiter.class, "inFlight");
+
+    private static final AtomicLongFieldUpdater<AdaptiveConcurrencyLimiter> nextUpdateNanosUpdater =
+            AtomicLongFieldUpdater.newUpdater(AdaptiveConcurrencyLimiter.class, "nextUpdateNanos");
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double MAX_GRADIENT = 1.0;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final double longTermSmoothing;
+    private final long windowNanos;
+    private final Ticker ticker;
+
+    private final LongAdder windowLatencySumNanos = new LongAdder();
+    private final LongAdder windowNumSamples = new LongAdder();
+    private volatile boolean windowDropped;
+
+    // Updated only by the thread that won the race on nextUpdateNanos.
+    private volatile double estimatedLimit;
+    private volatile double longTermLatencyNanos;
+
+    private volatile int limit;
+    private volatile int inFlight;
+    private volatile long nextUpdateNanos;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param initialLimit the initial limit
+     * @param minLimit the minimum limit
+     * @param maxLimit the maximum limit
+     * @param smoothing the weight of a newly calculated limit, between {@code 0} (exclusive) and
+     *                  {@code 1} (inclusive)
+     * @param tolerance how much the short-term latency may exceed the long-term latency before the limit
+     *                  is reduced, e.g. {@code 1.5} tolerates 50% increase
+     * @param backoffRatio the ratio to multiply to the limit when a dropped request is observed
+     * @param longTermWindows the number of windows that the long-term latency is averaged over
+     * @param windowNanos the duration of a sampling window in nanoseconds
+     * @param ticker the {@link Ticker} that measures a sampling window
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double smoothing, double tolerance, double backoffRatio,
+                                      int longTermWindows, long windowNanos, Ticker ticker) {
+        checkArgument(minLimit > 0, "minLimit: %s (expected: > 0)", minLimit);
+        checkArgument(maxLimit >= minLimit, "maxLimit: %s (expected: >= minLimit(%s))", maxLimit, minLimit);
+        checkArgument(initialLimit >= minLimit && initialLimit <= maxLimit,
+                      "initialLimit: %s (expected: %s <= initialLimit <= %s)",
+                      initialLimit, minLimit, maxLimit);
+        checkArgument(smoothing > 0 && smoothing <= 1, "smoothing: %s (expected: 0 < smoothing <= 1)",
+                      smoothing);
+        checkArgument(tolerance >= 1, "tolerance: %s (expected: >= 1)", tolerance);
+        checkArgument(backoffRatio > 0 && backoffRatio < 1,
+                      "backoffRatio: %s (expected: 0 < backoffRatio < 1)", backoffRatio);
+        checkArgument(longTermWindows > 0, "longTermWindows: %s (expected: > 0)", longTermWindows);
+        checkArgument(windowNanos > 0, "windowNanos: %s (expected: > 0)", windowNanos);
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        longTermSmoothing = 2.0 / (longTermWindows + 1);
+        this.windowNanos = windowNanos;
+        this.ticker = requireNonNull(ticker, "ticker");
+
+        estimatedLimit = initialLimit;
+        limit = initialLimit;
+        nextUpdateNanos = ticker.read() + windowNanos;
+    }
+
+    /**
+     * Returns the current limit.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of the permits acquired currently.
+     */
+    public int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Acquires a permit if the number of in-flight requests is less than the current limit.
+     *
+     * @return {@code true} if a permit was acquired. {@link #release(long, boolean)} or
+     *         {@link #release()} must be called for the acquired permit.
+     */
+    public boolean tryAcquire() {
+        if (inFlightUpdater.incrementAndGet(this) <= limit) {
+            return true;
+        }
+        inFlightUpdater.decrementAndGet(this);
+        return false;
+    }
+
+    /**
+     * Releases a permit without recording a latency sample, e.g. when a request was cancelled
+     * before it is sent.
+     */
+    public void release() {
+        inFlightUpdater.decrementAndGet(this);
+    }
+
+    /**
+     * Releases a permit and records a latency sample.
+     *
+     * @param latencyNanos the latency of the request
+     * @param dropped whether the request was dropped because of overload, e.g. timed out
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        final int inFlight = inFlightUpdater.getAndDecrement(this);
+        if (dropped) {
+            windowDropped = true;
+        } else if (latencyNanos > 0) {
+            windowLatencySumNanos.add(latencyNanos);
+            windowNumSamples.increment();
+        }
+
+        final long nextUpdateNanos = this.nextUpdateNanos;
+        final long currentNanos = ticker.read();
+        if (currentNanos - nextUpdateNanos < 0) {
+            return;
+        }
+        if (!nextUpdateNanosUpdater.compareAndSet(this, nextUpdateNanos, currentNanos + windowNanos)) {
+            // Another thread is updating the limit.
+            return;
+        }
+        updateLimit(inFlight);
+    }
+
+    private void updateLimit(int inFlight) {
+        final boolean dropped = windowDropped;
+        windowDropped = false;
+        final long numSamples = windowNumSamples.sumThenReset();
+        final long latencySumNanos = windowLatencySumNanos.sumThenReset();
+
+        double newLimit;
+        if (dropped) {
+            newLimit = estimatedLimit * backoffRatio;
+        } else if (numSamples == 0) {
+            return;
+        } else {
+            final double shortTermLatencyNanos = (double) latencySumNanos / numSamples;
+            if (longTermLatencyNanos == 0) {
+                longTermLatencyNanos = shortTermLatencyNanos;
+            } else {
+                longTermLatencyNanos = longTermLatencyNanos * (1 - longTermSmoothing) +
+                                       shortTermLatencyNanos * longTermSmoothing;
+            }
+
+            // Recover quickly from a steady-state increase of the latency, e.g. a slower deployment,
+            // so that the limit is not kept low forever.
+            if (longTermLatencyNanos / shortTermLatencyNanos > 2) {
+                longTermLatencyNanos *= 0.95;
+            }
+
+            if (inFlight < estimatedLimit / 2) {
+                // The limit is not the bottleneck. Do not grow the limit.
+                return;
+            }
+
+            final double gradient = Math.max(MIN_GRADIENT, Math.min(
+                    MAX_GRADIENT, tolerance * longTermLatencyNanos / shortTermLatencyNanos));
+            newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        }
+
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        estimatedLimit = newLimit;
+        limit = (int) newLimit;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("limit", limit)
+                          .add("inFlight", inFlight)
+                          .add("minLimit", minLimit)
+                          .add("maxLimit", maxLimit)
+                          .toString();
+    }
+}
@@ -110,6 +110,10 @@ public final class ChannelUtil {
     private static ChannelOption<Integer> ioUringTcpKeepidle;
     @Nullable
     private static ChannelOption<Integer> ioUringTcpKeepintvl;
+    @Nullable
+    private static ChannelOption<Boolean> epollReusePort;
+    @Nullable
+    private static ChannelOption<Boolean> ioUringReusePort;
 
     private static final Set<ChannelOption<?>> tcpOptions;
 
@@ -119,6 +123,7 @@ public final class ChannelUtil {
         ChannelOption<Integer> epollTcpUserTimeout = null;
         ChannelOption<Integer> epollTcpKeepidle = null;
         ChannelOption<Integer> epollTcpKeepintvl = null;
+        ChannelOption<Boolean> epollReusePort = null;
 
         try {
             final Class<?> clazz = Class.forName(
@@ -130,6 +135,8 @@ public final class ChannelUtil {
             epollTcpKeepidle = (ChannelOption<Integer>) findChannelOption(clazz, "TCP_KEEPIDLE");
             //noinspection unchecked
             epollTcpKeepintvl = (ChannelOption<Integer>) findChannelOption(clazz, "TCP_KEEPINTVL");
+            //noinspection unchecked
+            epollReusePort = (ChannelOption<Boolean>) findChannelOption(clazz, "SO_REUSEPORT");
 
             if (epollTcpUserTimeout != null) {
                 tcpOptionsBuilder.add(epollTcpUserTimeout);
@@ -147,11 +154,13 @@ public final class ChannelUtil {
         ChannelUtil.epollTcpUserTimeout = epollTcpUserTimeout;
         ChannelUtil.epollTcpKeepidle = epollTcpKeepidle;
         ChannelUtil.epollTcpKeepintvl = epollTcpKeepintvl;
+        ChannelUtil.epollReusePort = epollReusePort;
 
         if (INCUBATOR_CHANNEL_PACKAGE_NAME != null) {
             ChannelOption<Integer> ioUringTcpUserTimeout = null;
             ChannelOption<Integer> ioUringTcpKeepidle = null;
             ChannelOption<Integer> ioUringTcpKeepintvl = null;
+            ChannelOption<Boolean> ioUringReusePort = null;
 
             try {
                 final Class<?> clazz = Class.forName(
@@ -163,6 +172,8 @@ public final class ChannelUtil {
                 ioUringTcpKeepidle = (ChannelOption<Integer>) findChannelOption(clazz, "TCP_KEEPIDLE");
                 //noinspection unchecked
                 ioUringTcpKeepintvl = (ChannelOption<Integer>) findChannelOption(clazz, "TCP_KEEPINTVL");
+                //noinspection unchecked
+                ioUringReusePort = (ChannelOption<Boolean>) findChannelOption(clazz, "SO_REUSEPORT");
 
                 if (ioUringTcpUserTimeout != null) {
                     tcpOptionsBuilder.add(ioUringTcpUserTimeout);
@@ -180,6 +191,7 @@ public final class ChannelUtil {
             ChannelUtil.ioUringTcpUserTimeout = ioUringTcpUserTimeout;
             ChannelUtil.ioUringTcpKeepidle = ioUringTcpKeepidle;
             ChannelUtil.ioUringTcpKeepintvl = ioUringTcpKeepintvl;
+            ChannelUtil.ioUringReusePort = ioUringReusePort;
         }
 
         tcpOptions = tcpOptionsBuilder.build();
@@ -340,6 +352,22 @@ public final class ChannelUtil {
         return tcpOptions.contains(option);
     }
 
+    /**
+     * Returns the {@code SO_REUSEPORT} {@link ChannelOption} of the specified {@link TransportType},
+     * or {@code null} if the {@link TransportType} does not support it.
+     */
+    @Nullable
+    public static ChannelOption<Boolean> reusePortOption(TransportType transportType) {
+        switch (transportType) {
+            case EPOLL:
+                return epollReusePort;
+            case IO_URING:
+                return ioUringReusePort;
+            default:
+                return null;
+        }
+    }
+
     @Nullable
     public static InetSocketAddress localAddress(@Nullable Channel ch) {
         if (ch == null) {
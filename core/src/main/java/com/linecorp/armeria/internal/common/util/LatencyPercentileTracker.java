@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.math.IntMath;
+
+import com.linecorp.armeria.common.util.Ticker;
+
+/**
+ * Tracks a percentile of the recently recorded latencies.
+ *
+ * <p>The latencies are recorded into a fixed-size ring buffer without any locks, so that
+ * {@link #record(long)} is cheap enough to be called for every request. The percentile is recalculated
+ * from the snapshot of the ring buffer by only one thread at most once per update interval, and
+ * the cached value is returned in the meantime.
+ */
+public final class LatencyPercentileTracker {
+
+    private static final AtomicLongFieldUpdater<LatencyPercentileTracker> nextUpdateNanosUpdater =
+            AtomicLongFieldUpdater.newUpdater(LatencyPercentileTracker.class, "nextUpdateNanos");
+
+    private static final AtomicLongFieldUpdater<LatencyPercentileTracker> numRecordedUpdater =
+            AtomicLongFieldUpdater.newUpdater(LatencyPercentileTracker.class, "numRecorded");
+
+    private final double percentile;
+    private final int minSamples;
+    private final long updateIntervalNanos;
+    private final Ticker ticker;
+    private final AtomicLongArray samples;
+    private final int mask;
+
+    private volatile long numRecorded;
+    private volatile long nextUpdateNanos;
+    private volatile long percentileNanos = -1;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param percentile the percentile to track, between {@code 0} and {@code 1} (exclusive),
+     *                   e.g. {@code 0.95}
+     * @param sampleSize the number of the latest samples that the percentile is calculated from.
+     *                   Must be a power of two.
+     * @param minSamples the minimum number of samples required to calculate the percentile
+     * @param updateIntervalNanos the minimum interval between the recalculations of the percentile
+     * @param ticker the {@link Ticker} that measures the update interval
+     */
+    public LatencyPercentileTracker(double percentile, int sampleSize, int minSamples,
+                                    long updateIntervalNanos, Ticker ticker) {
+        checkArgument(percentile > 0 && percentile < 1, "percentile: %s (expected: 0 < percentile < 1)",
+                      percentile);
+        checkArgument(sampleSize > 0 && IntMath.isPowerOfTwo(sampleSize),
+                      "sampleSize: %s (expected: a power of two)", sampleSize);
+        checkArgument(minSamples > 0 && minSamples <= sampleSize,
+                      "minSamples: %s (expected: 0 < minSamples <= %s)", minSamples, sampleSize);
+        checkArgument(updateIntervalNanos >= 0, "updateIntervalNanos: %s (expected: >= 0)",
+                      updateIntervalNanos);
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.updateIntervalNanos = updateIntervalNanos;
+        this.ticker = requireNonNull(ticker, "ticker");
+        samples = new AtomicLongArray(sampleSize);
+        mask = sampleSize - 1;
+        nextUpdateNanos = ticker.read();
+    }
+
+    /**
+     * Records the specified latency.
+     */
+    public void record(long latencyNanos) {
+        if (latencyNanos < 0) {
+            return;
+        }
+        final long index = numRecordedUpdater.getAndIncrement(this);
+        samples.lazySet((int) (index & mask), latencyNanos);
+    }
+
+    /**
+     * Returns the tracked percentile of the recent latencies in nanoseconds, or {@code -1} if not enough
+     * samples were recorded yet.
+     */
+    public long percentileNanos() {
+        final long nextUpdateNanos = this.nextUpdateNanos;
+        final long currentNanos = ticker.read();
+        if (currentNanos - nextUpdateNanos >= 0 &&
+            nextUpdateNanosUpdater.compareAndSet(this, nextUpdateNanos, currentNanos + updateIntervalNanos)) {
+            update();
+        }
+        return percentileNanos;
+    }
+
+    private void update() {
+        final int numSamples = (int) Math.min(numRecorded, samples.length());
+        if (numSamples < minSamples) {
+            return;
+        }
+        final long[] snapshot = new long[numSamples];
+        for (int i = 0; i < numSamples; i++) {
+            snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+        final int index = Math.min(numSamples - 1, (int) Math.ceil(percentile * numSamples) - 1);
+        percentileNanos = snapshot[Math.max(0, index)];
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("percentile", percentile)
+                          .add("percentileNanos", percentileNanos)
+                          .add("numRecorded", numRecorded)
+                          .toString();
+    }
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableList;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.util.BlockingTaskExecutor;
+import com.linecorp.armeria.common.util.ThreadFactories;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+/**
+ * A {@link BlockingTaskExecutor} that runs every submitted task in a new virtual thread.
+ * Delayed and periodic tasks are timed by a single platform thread and handed off to a virtual thread
+ * when they are due, so that a blocking task never delays the other scheduled tasks.
+ *
+ * <p>Note that this class loads the virtual thread API reflectively, so that Armeria can still run on
+ * the Java versions which do not support virtual threads.
+ */
+public final class VirtualThreadBlockingTaskExecutor extends AbstractExecutorService
+        implements BlockingTaskExecutor {
+
+    @Nullable
+    private static final Throwable UNAVAILABILITY_CAUSE;
+
+    static {
+        Throwable cause = null;
+        try {
+            newVirtualThreadFactory("armeria-virtual-thread-probe");
+        } catch (Throwable t) {
+            cause = t;
+        }
+        UNAVAILABILITY_CAUSE = cause;
+    }
+
+    /**
+     * Returns whether the current JVM supports virtual threads.
+     */
+    public static boolean isAvailable() {
+        return UNAVAILABILITY_CAUSE == null;
+    }
+
+    /**
+     * Returns the cause of the unavailability of virtual threads, or {@code null} if virtual threads are
+     * available.
+     */
+    @Nullable
+    public static Throwable unavailabilityCause() {
+        return UNAVAILABILITY_CAUSE;
+    }
+
+    private static ThreadFactory newVirtualThreadFactory(String threadNamePrefix) throws Exception {
+        // Equivalent to: Thread.ofVirtual().name(threadNamePrefix + '-', 0).factory()
+        final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        builderClass.getMethod("name", String.class, long.class)
+                    .invoke(builder, threadNamePrefix + '-', 0L);
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
+
+    private final ThreadFactory threadFactory;
+    private final Function<? super Runnable, ? extends Runnable> taskFunction;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Set<Thread> runningThreads = ConcurrentHashMap.newKeySet();
+    private final Set<ScheduledTask<?>> scheduledTasks = ConcurrentHashMap.newKeySet();
+    private final LongAdder submittedTasks = new LongAdder();
+    private final LongAdder completedTasks = new LongAdder();
+    private final CountDownLatch terminationLatch = new CountDownLatch(1);
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a new instance.
+     *
+     * @throws IllegalStateException if the current JVM does not support virtual threads
+     */
+    public VirtualThreadBlockingTaskExecutor(String threadNamePrefix,
+                                             Function<? super Runnable, ? extends Runnable> taskFunction) {
+        requireNonNull(threadNamePrefix, "threadNamePrefix");
+        this.taskFunction = requireNonNull(taskFunction, "taskFunction");
+        if (UNAVAILABILITY_CAUSE != null) {
+            throw new IllegalStateException("Virtual threads are not available. (Java 21 or later required)",
+                                            UNAVAILABILITY_CAUSE);
+        }
+        try {
+            threadFactory = newVirtualThreadFactory(threadNamePrefix);
+        } catch (Exception e) {
+            throw new IllegalStateException("failed to create a virtual thread factory", e);
+        }
+
+        scheduler = new ScheduledThreadPoolExecutor(
+                1, ThreadFactories.newThreadFactory(threadNamePrefix + "-scheduler", true));
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        scheduler.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Returns the number of the tasks which are currently running in a virtual thread.
+     */
+    public int activeTasks() {
+        return runningThreads.size();
+    }
+
+    /**
+     * Returns the number of the delayed or periodic tasks which are waiting for their turn.
+     */
+    public int pendingScheduledTasks() {
+        return scheduler.getQueue().size();
+    }
+
+    /**
+     * Returns the total number of the tasks which were handed off to a virtual thread.
+     */
+    public long submittedTasks() {
+        return submittedTasks.sum();
+    }
+
+    /**
+     * Returns the total number of the tasks which were completed, either successfully or exceptionally.
+     */
+    public long completedTasks() {
+        return completedTasks.sum();
+    }
+
+    /**
+     * Registers the meters of this executor to the specified {@link MeterRegistry}. The meter names follow
+     * the convention of Micrometer's {@code ExecutorServiceMetrics}, so that the existing dashboards for
+     * a thread pool-based {@link BlockingTaskExecutor} keep working.
+     */
+    public void bindTo(MeterRegistry registry, String executorName, String metricPrefix) {
+        requireNonNull(registry, "registry");
+        requireNonNull(executorName, "executorName");
+        requireNonNull(metricPrefix, "metricPrefix");
+        final String prefix = metricPrefix.isEmpty() ? "" : metricPrefix + '.';
+        final List<Tag> tags = ImmutableList.of(Tag.of("name", executorName));
+
+        Gauge.builder(prefix + "executor.active", this, VirtualThreadBlockingTaskExecutor::activeTasks)
+             .tags(tags)
+             .description("The approximate number of virtual threads that are actively executing tasks")
+             .baseUnit("threads")
+             .register(registry);
+        Gauge.builder(prefix + "executor.queued", this,
+                      VirtualThreadBlockingTaskExecutor::pendingScheduledTasks)
+             .tags(tags)
+             .description("The approximate number of delayed or periodic tasks that are waiting to run")
+             .baseUnit("tasks")
+             .register(registry);
+        FunctionCounter.builder(prefix + "executor.submitted", this,
+                                VirtualThreadBlockingTaskExecutor::submittedTasks)
+                       .tags(tags)
+                       .description("The total number of tasks handed off to a virtual thread")
+                       .baseUnit("tasks")
+                       .register(registry);
+        FunctionCounter.builder(prefix + "executor.completed", this,
+                                VirtualThreadBlockingTaskExecutor::completedTasks)
+                       .tags(tags)
+                       .description("The total number of tasks that have completed execution")
+                       .baseUnit("tasks")
+                       .register(registry);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        requireNonNull(command, "command");
+        if (shutdown) {
+            throw new RejectedExecutionException("executor shut down already");
+        }
+
+        final Runnable task = taskFunction.apply(command);
+        final Thread thread = threadFactory.newThread(() -> {
+            try {
+                task.run();
+            } finally {
+                runningThreads.remove(Thread.currentThread());
+                completedTasks.increment();
+                if (shutdown) {
+                    tryTerminate();
+                }
+            }
+        });
+
+        runningThreads.add(thread);
+        if (shutdown) {
+            // Lost the race with shutdown().
+            runningThreads.remove(thread);
+            tryTerminate();
+            throw new RejectedExecutionException("executor shut down already");
+        }
+        submittedTasks.increment();
+        thread.start();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        requireNonNull(command, "command");
+        return schedule(Executors.callable(command, null), delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        requireNonNull(callable, "callable");
+        requireNonNull(unit, "unit");
+        final ScheduledTask<V> task = new ScheduledTask<>(callable, 0);
+        startTimer(task, () -> scheduler.schedule(task::fire, delay, unit));
+        return task;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period,
+                                                  TimeUnit unit) {
+        requireNonNull(command, "command");
+        requireNonNull(unit, "unit");
+        if (period <= 0) {
+            throw new IllegalArgumentException("period: " + period + " (expected: > 0)");
+        }
+        final ScheduledTask<Void> task = new ScheduledTask<>(Executors.callable(command, null),
+                                                             unit.toNanos(period));
+        startTimer(task, () -> scheduler.scheduleAtFixedRate(task::fire, initialDelay, period, unit));
+        return task;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+                                                     TimeUnit unit) {
+        requireNonNull(command, "command");
+        requireNonNull(unit, "unit");
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay: " + delay + " (expected: > 0)");
+        }
+        final ScheduledTask<Void> task = new ScheduledTask<>(Executors.callable(command, null),
+                                                             -unit.toNanos(delay));
+        startTimer(task, () -> scheduler.schedule(task::fire, initialDelay, unit));
+        return task;
+    }
+
+    private void startTimer(ScheduledTask<?> task, Supplier<ScheduledFuture<?>> timerStarter) {
+        scheduledTasks.add(task);
+        try {
+            task.timerFuture = timerStarter.get();
+        } catch (RejectedExecutionException e) {
+            scheduledTasks.remove(task);
+            throw e;
+        }
+        if (shutdown) {
+            // Lost the race with shutdown(). Cancel the task so that nobody waits for it forever.
+            task.cancel(false);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        scheduler.shutdown();
+        cancelScheduledTasks();
+        tryTerminate();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        scheduler.shutdownNow();
+        final List<Runnable> pending = cancelScheduledTasks();
+        for (Thread thread : runningThreads) {
+            thread.interrupt();
+        }
+        tryTerminate();
+        return pending;
+    }
+
+    /**
+     * Cancels the delayed and periodic tasks which will never be run because the scheduler is shut down,
+     * so that the callers waiting for them are notified with a {@link CancellationException}.
+     */
+    private List<Runnable> cancelScheduledTasks() {
+        final ImmutableList.Builder<Runnable> cancelled = ImmutableList.builder();
+        for (ScheduledTask<?> task : scheduledTasks) {
+            if (task.cancel(false)) {
+                cancelled.add(task);
+            }
+        }
+        return cancelled.build();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminationLatch.getCount() == 0 && scheduler.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (!scheduler.awaitTermination(timeout, unit)) {
+            return false;
+        }
+        return terminationLatch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public ScheduledExecutorService unwrap() {
+        return this;
+    }
+
+    private void tryTerminate() {
+        if (runningThreads.isEmpty()) {
+            terminationLatch.countDown();
+        }
+    }
+
+    private final class ScheduledTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+        /**
+         * {@code 0} for a one-shot task, a positive value for a fixed-rate task and a negative value for
+         * a fixed-delay task.
+         */
+        private final long periodNanos;
+        private final AtomicBoolean running = new AtomicBoolean();
+        @Nullable
+        volatile ScheduledFuture<?> timerFuture;
+
+        ScheduledTask(Callable<V> callable, long periodNanos) {
+            super(callable);
+            this.periodNanos = periodNanos;
+        }
+
+        /**
+         * Invoked by the scheduler thread when this task is due.
+         */
+        void fire() {
+            if (isDone()) {
+                cancelTimer();
+                return;
+            }
+            if (periodNanos == 0) {
+                // Handed off to a virtual thread; shutdown() must not cancel it anymore.
+                scheduledTasks.remove(this);
+                execute0(this);
+                return;
+            }
+            if (!running.compareAndSet(false, true)) {
+                // The previous run of a fixed-rate task is still in progress. Skip this turn.
+                return;
+            }
+            execute0(this::runPeriodically);
+        }
+
+        private void runPeriodically() {
+            try {
+                if (!runAndReset()) {
+                    cancelTimer();
+                    return;
+                }
+            } finally {
+                running.set(false);
+            }
+
+            if (periodNanos < 0 && !isDone() && !shutdown) {
+                try {
+                    timerFuture = scheduler.schedule(this::fire, -periodNanos, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    setException(e);
+                }
+            }
+        }
+
+        private void execute0(Runnable task) {
+            try {
+                execute(task);
+            } catch (RejectedExecutionException e) {
+                running.set(false);
+                setException(e);
+                cancelTimer();
+            }
+        }
+
+        private void cancelTimer() {
+            final ScheduledFuture<?> timerFuture = this.timerFuture;
+            if (timerFuture != null) {
+                timerFuture.cancel(false);
+            }
+        }
+
+        @Override
+        protected void done() {
+            scheduledTasks.remove(this);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            cancelTimer();
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            final ScheduledFuture<?> timerFuture = this.timerFuture;
+            return timerFuture != null ? timerFuture.getDelay(unit) : 0;
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            if (o == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
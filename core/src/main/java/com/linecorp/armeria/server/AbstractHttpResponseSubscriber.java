@@ -28,6 +28,7 @@ import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.CancellationException;
 import com.linecorp.armeria.common.ClosedSessionException;
@@ -81,10 +82,17 @@ abstract class AbstractHttpResponseSubscriber extends AbstractHttpResponseHandle
     @Nullable
     private WriteDataFutureListener cachedWriteDataListener;
 
+    // The number of HttpObjects which are requested and written before the previous writes complete.
+    // If greater than 1, the writes are flushed once per event loop iteration.
+    private final int writeBatchSize;
+    private final Runnable flushTask = this::flushPendingWrites;
+    private boolean flushScheduled;
+
     AbstractHttpResponseSubscriber(ChannelHandlerContext ctx, ServerHttpObjectEncoder responseEncoder,
                                    DefaultServiceRequestContext reqCtx, DecodedHttpRequest req,
                                    CompletableFuture<Void> completionFuture) {
         super(ctx, responseEncoder, reqCtx, req, completionFuture);
+        writeBatchSize = reqCtx.config().server().config().responseWriteBatchSize();
     }
 
     @Override
@@ -101,8 +109,9 @@ abstract class AbstractHttpResponseSubscriber extends AbstractHttpResponseHandle
 
         scheduleTimeout();
 
-        // Start consuming.
-        subscription.request(1);
+        // Start consuming. Each completed write requests one more HttpObject, so that at most
+        // 'writeBatchSize' HttpObjects are being written at a time.
+        subscription.request(writeBatchSize);
     }
 
     @SuppressWarnings("checkstyle:FallThrough")
@@ -224,6 +233,17 @@ abstract class AbstractHttpResponseSubscriber extends AbstractHttpResponseHandle
                 return;
         }
 
+        if (writeBatchSize == 1 || state == State.DONE) {
+            ctx.flush();
+        } else if (!flushScheduled) {
+            // Flush the writes made during this event loop iteration together.
+            flushScheduled = true;
+            ctx.executor().execute(flushTask);
+        }
+    }
+
+    private void flushPendingWrites() {
+        flushScheduled = false;
         ctx.flush();
     }
 
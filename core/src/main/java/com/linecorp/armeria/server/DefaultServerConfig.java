@@ -30,6 +30,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -41,6 +42,7 @@ import com.linecorp.armeria.common.Http1HeaderNaming;
 import com.linecorp.armeria.common.RequestId;
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.util.BlockingTaskExecutor;
+import com.linecorp.armeria.internal.common.util.VirtualThreadBlockingTaskExecutor;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
@@ -72,6 +74,7 @@ final class DefaultServerConfig implements ServerConfig {
     private final boolean shutdownWorkerGroupOnStop;
     private final Executor startStopExecutor;
     private final int maxNumConnections;
+    private final int numAcceptorsPerPort;
 
     private final long idleTimeoutMillis;
     private final boolean keepAliveOnPing;
@@ -90,6 +93,7 @@ final class DefaultServerConfig implements ServerConfig {
     private final int http1MaxInitialLineLength;
     private final int http1MaxHeaderSize;
     private final int http1MaxChunkSize;
+    private final int responseWriteBatchSize;
 
     private final GracefulShutdown gracefulShutdown;
 
@@ -127,14 +131,15 @@ final class DefaultServerConfig implements ServerConfig {
             Iterable<ServerPort> ports,
             VirtualHost defaultVirtualHost, List<VirtualHost> virtualHosts,
             EventLoopGroup workerGroup, boolean shutdownWorkerGroupOnStop, Executor startStopExecutor,
-            int maxNumConnections, long idleTimeoutMillis, boolean keepAliveOnPing, long pingIntervalMillis,
+            int maxNumConnections, int numAcceptorsPerPort,
+            long idleTimeoutMillis, boolean keepAliveOnPing, long pingIntervalMillis,
             long maxConnectionAgeMillis,
             int maxNumRequestsPerConnection, long connectionDrainDurationMicros,
             int http2InitialConnectionWindowSize, int http2InitialStreamWindowSize,
             long http2MaxStreamsPerConnection, int http2MaxFrameSize, long http2MaxHeaderListSize,
             int http2MaxResetFramesPerWindow, int http2MaxResetFramesWindowSeconds,
             int http1MaxInitialLineLength, int http1MaxHeaderSize,
-            int http1MaxChunkSize, GracefulShutdown gracefulShutdown,
+            int http1MaxChunkSize, int responseWriteBatchSize, GracefulShutdown gracefulShutdown,
             BlockingTaskExecutor blockingTaskExecutor,
             MeterRegistry meterRegistry, int proxyProtocolMaxTlvSize,
             Map<ChannelOption<?>, Object> channelOptions,
@@ -161,6 +166,7 @@ final class DefaultServerConfig implements ServerConfig {
         this.shutdownWorkerGroupOnStop = shutdownWorkerGroupOnStop;
         this.startStopExecutor = requireNonNull(startStopExecutor, "startStopExecutor");
         this.maxNumConnections = validateMaxNumConnections(maxNumConnections);
+        this.numAcceptorsPerPort = numAcceptorsPerPort;
         this.idleTimeoutMillis = validateIdleTimeoutMillis(idleTimeoutMillis);
         this.keepAliveOnPing = keepAliveOnPing;
         this.pingIntervalMillis = validateNonNegative(pingIntervalMillis, "pingIntervalMillis");
@@ -182,6 +188,7 @@ final class DefaultServerConfig implements ServerConfig {
                 http1MaxHeaderSize, "http1MaxHeaderSize");
         this.http1MaxChunkSize = validateNonNegative(
                 http1MaxChunkSize, "http1MaxChunkSize");
+        this.responseWriteBatchSize = responseWriteBatchSize;
         this.gracefulShutdown = requireNonNull(gracefulShutdown, "gracefulShutdown");
 
         requireNonNull(blockingTaskExecutor, "blockingTaskExecutor");
@@ -322,6 +329,12 @@ final class DefaultServerConfig implements ServerConfig {
 
     private static BlockingTaskExecutor monitorBlockingTaskExecutor(BlockingTaskExecutor executor,
                                                                     MeterRegistry meterRegistry) {
+        final ScheduledExecutorService unwrapped = executor.unwrap();
+        if (unwrapped instanceof VirtualThreadBlockingTaskExecutor) {
+            ((VirtualThreadBlockingTaskExecutor) unwrapped).bindTo(meterRegistry, "blockingTaskExecutor",
+                                                                   "armeria");
+            return executor;
+        }
         new ExecutorServiceMetrics(
                 executor.unwrap(),
                 "blockingTaskExecutor", "armeria", ImmutableList.of())
@@ -491,6 +504,11 @@ final class DefaultServerConfig implements ServerConfig {
         return maxNumConnections;
     }
 
+    @Override
+    public int numAcceptorsPerPort() {
+        return numAcceptorsPerPort;
+    }
+
     @Override
     public long idleTimeoutMillis() {
         return idleTimeoutMillis;
@@ -536,6 +554,11 @@ final class DefaultServerConfig implements ServerConfig {
         return http1MaxChunkSize;
     }
 
+    @Override
+    public int responseWriteBatchSize() {
+        return responseWriteBatchSize;
+    }
+
     @Override
     public int http2InitialConnectionWindowSize() {
         return http2InitialConnectionWindowSize;
@@ -25,6 +25,7 @@ import com.linecorp.armeria.internal.common.InitiateConnectionShutdown;
 import com.linecorp.armeria.internal.common.KeepAliveHandler;
 import com.linecorp.armeria.internal.common.NoopKeepAliveHandler;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
@@ -46,10 +47,11 @@ final class Http2ServerConnectionHandler extends AbstractHttp2ConnectionHandler
 
     Http2ServerConnectionHandler(Http2ConnectionDecoder decoder, Http2ConnectionEncoder encoder,
                                  Http2Settings initialSettings, Channel channel, ServerConfig cfg,
-                                 Timer keepAliveTimer, GracefulShutdownSupport gracefulShutdownSupport,
-                                 AsciiString scheme) {
+                                 Timer keepAliveTimer, @Nullable DistributionSummary writesPerFlush,
+                                 GracefulShutdownSupport gracefulShutdownSupport, AsciiString scheme) {
 
-        super(decoder, encoder, initialSettings, newKeepAliveHandler(encoder, channel, cfg, keepAliveTimer));
+        super(decoder, encoder, initialSettings, newKeepAliveHandler(encoder, channel, cfg, keepAliveTimer),
+              writesPerFlush);
 
         this.cfg = cfg;
         this.gracefulShutdownSupport = gracefulShutdownSupport;
@@ -15,8 +15,10 @@
  */
 package com.linecorp.armeria.server;
 
+import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.internal.common.AbstractHttp2ConnectionHandlerBuilder;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
 import io.netty.channel.Channel;
 import io.netty.handler.codec.http2.Http2ConnectionDecoder;
@@ -30,14 +32,18 @@ final class Http2ServerConnectionHandlerBuilder
 
     private final ServerConfig config;
     private final Timer keepAliveTimer;
+    @Nullable
+    private final DistributionSummary writesPerFlush;
     private final GracefulShutdownSupport gracefulShutdownSupport;
     private final AsciiString scheme;
 
     Http2ServerConnectionHandlerBuilder(Channel ch, ServerConfig config, Timer keepAliveTimer,
+                                        @Nullable DistributionSummary writesPerFlush,
                                         GracefulShutdownSupport gracefulShutdownSupport, AsciiString scheme) {
         super(ch);
         this.config = config;
         this.keepAliveTimer = keepAliveTimer;
+        this.writesPerFlush = writesPerFlush;
         this.gracefulShutdownSupport = gracefulShutdownSupport;
         this.scheme = scheme;
         // Disable graceful shutdown timeout in a super class. Server-side HTTP/2 graceful shutdown is
@@ -52,6 +58,7 @@ final class Http2ServerConnectionHandlerBuilder
                                                  Http2ConnectionEncoder encoder,
                                                  Http2Settings initialSettings) throws Exception {
         return new Http2ServerConnectionHandler(decoder, encoder, initialSettings, channel(),
-                                                config, keepAliveTimer, gracefulShutdownSupport, scheme);
+                                                config, keepAliveTimer, writesPerFlush,
+                                                gracefulShutdownSupport, scheme);
     }
 }
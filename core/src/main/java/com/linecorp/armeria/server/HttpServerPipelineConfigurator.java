@@ -59,6 +59,7 @@ import com.linecorp.armeria.internal.common.util.CertificateUtil;
 import com.linecorp.armeria.internal.common.util.ChannelUtil;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 import io.netty.buffer.ByteBuf;
@@ -229,6 +230,17 @@ final class HttpServerPipelineConfigurator extends ChannelInitializer<Channel> {
                                    ImmutableList.of(Tag.of("protocol", protocol.uriText())));
     }
 
+    @Nullable
+    private DistributionSummary newWritesPerFlush(SessionProtocol protocol) {
+        if (!Flags.consolidateHttp2Flushes()) {
+            // Do not register the meter for the flush consolidation which is not enabled.
+            return null;
+        }
+        return MoreMeters.newDistributionSummary(config.meterRegistry(),
+                                                 "armeria.server.http2.writes.per.flush",
+                                                 ImmutableList.of(Tag.of("protocol", protocol.uriText())));
+    }
+
     private void configureHttps(ChannelPipeline p, @Nullable ProxiedAddresses proxiedAddresses) {
         p.addLast(newSniHandler(p));
         p.addLast(TrafficLoggingHandler.SERVER);
@@ -252,12 +264,14 @@ final class HttpServerPipelineConfigurator extends ChannelInitializer<Channel> {
     }
 
     private Http2ConnectionHandler newHttp2ConnectionHandler(ChannelPipeline pipeline, AsciiString scheme) {
-        final Timer keepAliveTimer = newKeepAliveTimer(scheme == SCHEME_HTTP ? H2C : H2);
+        final SessionProtocol protocol = scheme == SCHEME_HTTP ? H2C : H2;
+        final Timer keepAliveTimer = newKeepAliveTimer(protocol);
 
         final Http2Connection connection = new DefaultHttp2Connection(/* server */ true);
         final Http2ConnectionEncoder encoder = encoder(connection);
         final Http2ConnectionDecoder decoder = decoder(connection, encoder);
         return new Http2ServerConnectionHandlerBuilder(pipeline.channel(), config, keepAliveTimer,
+                                                       newWritesPerFlush(protocol),
                                                        gracefulShutdownSupport, scheme)
                 .codec(decoder, encoder)
                 .initialSettings(http2Settings())
@@ -92,6 +92,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPromise;
 import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
@@ -553,7 +554,9 @@ public final class Server implements ListenableAsyncCloseable {
                 }
             });
 
-            final EventLoopGroup bossGroup = EventLoopGroups.newEventLoopGroup(1, r -> {
+            final TransportType transportType = Flags.transportType();
+            final int numAcceptors = numAcceptors(port, transportType);
+            final EventLoopGroup bossGroup = EventLoopGroups.newEventLoopGroup(numAcceptors, r -> {
                 final FastThreadLocalThread thread = new FastThreadLocalThread(r, bossThreadName(port));
                 thread.setDaemon(false);
                 return thread;
@@ -590,7 +593,6 @@ public final class Server implements ListenableAsyncCloseable {
 
             final SocketAddress localAddress;
             final Class<? extends ServerChannel> channelType;
-            final TransportType transportType = Flags.transportType();
             if (port.isDomainSocket()) {
                 if (transportType.supportsDomainSockets()) {
                     // Convert to Netty's DomainSocketAddress type.
@@ -607,7 +609,65 @@ public final class Server implements ListenableAsyncCloseable {
             }
 
             b.channel(channelType);
-            return b.bind(localAddress);
+            if (numAcceptors == 1) {
+                return b.bind(localAddress);
+            }
+
+            final ChannelOption<Boolean> reusePortOption = ChannelUtil.reusePortOption(transportType);
+            assert reusePortOption != null;
+            b.option(reusePortOption, true);
+            return bindAcceptors(b, (InetSocketAddress) localAddress, numAcceptors);
+        }
+
+        private int numAcceptors(ServerPort port, TransportType transportType) {
+            final int numAcceptorsPerPort = config.numAcceptorsPerPort();
+            if (numAcceptorsPerPort == 1 || port.isDomainSocket()) {
+                return 1;
+            }
+            if (ChannelUtil.reusePortOption(transportType) == null) {
+                logger.warn("SO_REUSEPORT is not supported by the current transport type: {}. " +
+                            "Binding a single socket at {} instead of {}.",
+                            transportType, port.localAddress(), numAcceptorsPerPort);
+                return 1;
+            }
+            return numAcceptorsPerPort;
+        }
+
+        /**
+         * Binds the specified number of server channels with {@code SO_REUSEPORT} on the same port.
+         * The first channel is bound to the specified {@code localAddress} and the others are bound to
+         * the actual port of the first channel, so that an ephemeral port is shared by all of them.
+         * The returned future belongs to the first channel and is completed when all channels are bound.
+         */
+        private ChannelFuture bindAcceptors(ServerBootstrap b, InetSocketAddress localAddress,
+                                            int numAcceptors) {
+            final ChannelFuture primaryFuture = b.bind(localAddress);
+            final ChannelPromise promise = primaryFuture.channel().newPromise();
+            primaryFuture.addListener((ChannelFuture f) -> {
+                if (!f.isSuccess()) {
+                    promise.setFailure(f.cause());
+                    return;
+                }
+
+                final int actualPort = ((InetSocketAddress) f.channel().localAddress()).getPort();
+                final InetSocketAddress actualAddress =
+                        new InetSocketAddress(localAddress.getAddress(), actualPort);
+                final AtomicInteger remaining = new AtomicInteger(numAcceptors - 1);
+                for (int i = 1; i < numAcceptors; i++) {
+                    b.bind(actualAddress).addListener((ChannelFuture f2) -> {
+                        // Add the channel even on failure, so that it is closed when the server stops.
+                        serverChannels.add((ServerChannel) f2.channel());
+                        if (!f2.isSuccess()) {
+                            promise.tryFailure(f2.cause());
+                            return;
+                        }
+                        if (remaining.decrementAndGet() == 0) {
+                            promise.trySuccess();
+                        }
+                    });
+                }
+            });
+            return promise;
         }
 
         private void setupPendingResponsesMetrics() {
@@ -73,6 +73,7 @@ import com.linecorp.armeria.common.DependencyInjector;
 import com.linecorp.armeria.common.Flags;
 import com.linecorp.armeria.common.Http1HeaderNaming;
 import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpObject;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.Request;
@@ -89,11 +90,13 @@ import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.logging.RequestOnlyLog;
 import com.linecorp.armeria.common.util.BlockingTaskExecutor;
+import com.linecorp.armeria.common.util.BlockingTaskExecutorBuilder;
 import com.linecorp.armeria.common.util.DomainSocketAddress;
 import com.linecorp.armeria.common.util.EventLoopGroups;
 import com.linecorp.armeria.common.util.SystemInfo;
 import com.linecorp.armeria.common.util.ThreadFactories;
 import com.linecorp.armeria.common.util.TlsEngineType;
+import com.linecorp.armeria.common.util.TransportType;
 import com.linecorp.armeria.internal.common.BuiltInDependencyInjector;
 import com.linecorp.armeria.internal.common.ReflectiveDependencyInjector;
 import com.linecorp.armeria.internal.common.RequestContextUtil;
@@ -202,6 +205,7 @@ public final class ServerBuilder implements TlsSetters, ServiceConfigsBuilder<Se
     private Consumer<ChannelPipeline> childChannelPipelineCustomizer =
             DEFAULT_CHILD_CHANNEL_PIPELINE_CUSTOMIZER;
     private int maxNumConnections = Flags.maxNumConnections();
+    private int numAcceptorsPerPort = 1;
     private long idleTimeoutMillis = Flags.defaultServerIdleTimeoutMillis();
     private boolean keepAliveOnPing = Flags.defaultServerKeepAliveOnPing();
     private long pingIntervalMillis = Flags.defaultPingIntervalMillis();
@@ -216,6 +220,7 @@ public final class ServerBuilder implements TlsSetters, ServiceConfigsBuilder<Se
     private int http1MaxInitialLineLength = Flags.defaultHttp1MaxInitialLineLength();
     private int http1MaxHeaderSize = Flags.defaultHttp1MaxHeaderSize();
     private int http1MaxChunkSize = Flags.defaultHttp1MaxChunkSize();
+    private int responseWriteBatchSize = Flags.responseWriteBatchSize();
     private int proxyProtocolMaxTlvSize = PROXY_PROTOCOL_DEFAULT_MAX_TLV_SIZE;
     private GracefulShutdown gracefulShutdown = GracefulShutdown.disabled();
     private MeterRegistry meterRegistry = Flags.meterRegistry();
@@ -596,6 +601,25 @@ public final class ServerBuilder implements TlsSetters, ServiceConfigsBuilder<Se
         return maxNumConnections;
     }
 
+    /**
+     * Sets the number of listening sockets bound to each TCP/IP port. If greater than {@code 1},
+     * the {@link Server} binds the specified number of sockets with {@code SO_REUSEPORT} on the same port,
+     * each accepting connections in its own boss thread, so that the kernel load-balances incoming
+     * connections across them. This may reduce the accept latency when a large number of clients connect
+     * at once, e.g. right after a deployment.
+     *
+     * <p>This option is only effective with {@link TransportType#EPOLL} and {@link TransportType#IO_URING}.
+     * Only a single socket is bound for the other transport types and Unix domain sockets.
+     * If unspecified, {@code 1} is used.
+     */
+    @UnstableApi
+    public ServerBuilder numAcceptorsPerPort(int numAcceptorsPerPort) {
+        checkArgument(numAcceptorsPerPort > 0, "numAcceptorsPerPort: %s (expected: > 0)",
+                      numAcceptorsPerPort);
+        this.numAcceptorsPerPort = numAcceptorsPerPort;
+        return this;
+    }
+
     /**
      * Sets the idle timeout of a connection in milliseconds for keep-alive.
      *
@@ -885,6 +909,20 @@ public final class ServerBuilder implements TlsSetters, ServiceConfigsBuilder<Se
         return this;
     }
 
+    /**
+     * Sets the maximum number of the {@link HttpObject}s of a streaming response which are requested and
+     * written to a connection before the previous writes complete. If greater than {@code 1}, the written
+     * {@link HttpObject}s are flushed together once per event loop iteration rather than one by one.
+     * If not set, {@link Flags#responseWriteBatchSize()} is used by default.
+     */
+    @UnstableApi
+    public ServerBuilder responseWriteBatchSize(int responseWriteBatchSize) {
+        checkArgument(responseWriteBatchSize > 0, "responseWriteBatchSize: %s (expected: > 0)",
+                      responseWriteBatchSize);
+        this.responseWriteBatchSize = responseWriteBatchSize;
+        return this;
+    }
+
     /**
      * Sets the amount of time to wait after calling {@link Server#stop()} for
      * requests to go away before actually shutting down.
@@ -997,6 +1035,7 @@ public final class ServerBuilder implements TlsSetters, ServiceConfigsBuilder<Se
     /**
      * Sets the {@link BlockingTaskExecutor} dedicated to the execution of blocking tasks or invocations.
      * If not set, {@linkplain CommonPools#blockingTaskExecutor() the common pool} is used.
+     * Use {@link BlockingTaskExecutorBuilder#useVirtualThreads(boolean)} to run each task in a virtual thread.
      *
      * @param shutdownOnStop whether to shut down the {@link BlockingTaskExecutor} when the
      *                       {@link Server} stops
@@ -2414,14 +2453,14 @@ public final class ServerBuilder implements TlsSetters, ServiceConfigsBuilder<Se
         return new DefaultServerConfig(
                 ports, setSslContextIfAbsent(defaultVirtualHost, defaultSslContext),
                 virtualHosts, workerGroup, shutdownWorkerGroupOnStop, startStopExecutor, maxNumConnections,
-                idleTimeoutMillis, keepAliveOnPing, pingIntervalMillis, maxConnectionAgeMillis,
-                maxNumRequestsPerConnection,
+                numAcceptorsPerPort, idleTimeoutMillis, keepAliveOnPing, pingIntervalMillis,
+                maxConnectionAgeMillis, maxNumRequestsPerConnection,
                 connectionDrainDurationMicros, http2InitialConnectionWindowSize,
                 http2InitialStreamWindowSize, http2MaxStreamsPerConnection,
                 http2MaxFrameSize, http2MaxHeaderListSize,
                 http2MaxResetFramesPerWindow, http2MaxResetFramesWindowSeconds,
                 http1MaxInitialLineLength, http1MaxHeaderSize,
-                http1MaxChunkSize, gracefulShutdown,
+                http1MaxChunkSize, responseWriteBatchSize, gracefulShutdown,
                 blockingTaskExecutor,
                 meterRegistry, proxyProtocolMaxTlvSize, channelOptions, newChildChannelOptions,
                 childChannelPipelineCustomizer,
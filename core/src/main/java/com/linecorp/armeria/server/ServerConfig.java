@@ -28,6 +28,7 @@ import java.util.function.Predicate;
 
 import com.linecorp.armeria.common.DependencyInjector;
 import com.linecorp.armeria.common.Http1HeaderNaming;
+import com.linecorp.armeria.common.HttpObject;
 import com.linecorp.armeria.common.Request;
 import com.linecorp.armeria.common.RequestId;
 import com.linecorp.armeria.common.annotation.UnstableApi;
@@ -138,6 +139,14 @@ public interface ServerConfig {
      */
     int maxNumConnections();
 
+    /**
+     * Returns the number of listening sockets bound to each TCP/IP port with {@code SO_REUSEPORT}.
+     *
+     * @see ServerBuilder#numAcceptorsPerPort(int)
+     */
+    @UnstableApi
+    int numAcceptorsPerPort();
+
     /**
      * Returns the idle timeout of a connection in milliseconds for keep-alive.
      */
@@ -187,6 +196,15 @@ public interface ServerConfig {
      */
     int http1MaxChunkSize();
 
+    /**
+     * Returns the maximum number of the {@link HttpObject}s of a streaming response which are requested and
+     * written to a connection before the previous writes complete.
+     *
+     * @see ServerBuilder#responseWriteBatchSize(int)
+     */
+    @UnstableApi
+    int responseWriteBatchSize();
+
     /**
      * Returns the initial connection-level HTTP/2 flow control window size.
      */
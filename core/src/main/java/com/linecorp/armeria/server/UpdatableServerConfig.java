@@ -150,6 +150,11 @@ final class UpdatableServerConfig implements ServerConfig {
         return delegate.maxNumConnections();
     }
 
+    @Override
+    public int numAcceptorsPerPort() {
+        return delegate.numAcceptorsPerPort();
+    }
+
     @Override
     public long idleTimeoutMillis() {
         return delegate.idleTimeoutMillis();
@@ -195,6 +200,11 @@ final class UpdatableServerConfig implements ServerConfig {
         return delegate.http1MaxChunkSize();
     }
 
+    @Override
+    public int responseWriteBatchSize() {
+        return delegate.responseWriteBatchSize();
+    }
+
     @Override
     public int http2InitialConnectionWindowSize() {
         return delegate.http2InitialConnectionWindowSize();
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.cache;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpHeaders;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.ResponseHeaders;
+
+import io.netty.util.AsciiString;
+
+/**
+ * A response stored by {@link CachingService}.
+ */
+final class CachedResponse {
+
+    private static final AtomicIntegerFieldUpdater<CachedResponse> refreshingUpdater =
+            AtomicIntegerFieldUpdater.newUpdater(CachedResponse.class, "refreshing");
+
+    private final ResponseHeaders headers;
+    private final byte[] content;
+    private final HttpHeaders trailers;
+    private final long createdNanos;
+    private final long freshUntilNanos;
+    private final long staleUntilNanos;
+    private final int weight;
+    private final boolean shareable;
+
+    private volatile int refreshing;
+
+    CachedResponse(ResponseHeaders headers, byte[] content, HttpHeaders trailers,
+                   long createdNanos, long ttlNanos, long staleWhileRevalidateNanos, boolean shareable) {
+        this.headers = headers;
+        this.content = content;
+        this.trailers = trailers;
+        this.createdNanos = createdNanos;
+        freshUntilNanos = createdNanos + ttlNanos;
+        staleUntilNanos = freshUntilNanos + staleWhileRevalidateNanos;
+
+        int weight = content.length;
+        for (Map.Entry<AsciiString, String> e : headers) {
+            weight += e.getKey().length() + e.getValue().length();
+        }
+        this.weight = weight;
+        this.shareable = shareable;
+    }
+
+    boolean isFresh(long nowNanos) {
+        return nowNanos - freshUntilNanos < 0;
+    }
+
+    boolean isUsable(long nowNanos) {
+        return nowNanos - staleUntilNanos < 0;
+    }
+
+    /**
+     * Returns whether this response may be served to a request with credentials, i.e. its
+     * {@code "cache-control"} header has {@code "public"} or {@code "s-maxage"} directive.
+     */
+    boolean isShareable() {
+        return shareable;
+    }
+
+    long staleUntilNanos() {
+        return staleUntilNanos;
+    }
+
+    int weight() {
+        return weight;
+    }
+
+    /**
+     * Marks this response as being refreshed. Returns {@code false} if another request is already
+     * refreshing this response.
+     */
+    boolean tryStartRefresh() {
+        return refreshingUpdater.compareAndSet(this, 0, 1);
+    }
+
+    /**
+     * Allows another request to refresh this response, because the previous attempt did not produce
+     * a cacheable response.
+     */
+    void refreshFailed() {
+        refreshing = 0;
+    }
+
+    HttpResponse toResponse(long nowNanos) {
+        final long ageSeconds = NANOSECONDS.toSeconds(Math.max(0, nowNanos - createdNanos));
+        final ResponseHeaders headers = this.headers.toBuilder()
+                                                    .setLong(HttpHeaderNames.AGE, ageSeconds)
+                                                    .build();
+        return HttpResponse.of(headers, HttpData.wrap(content), trailers);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("headers", headers)
+                          .add("weight", weight)
+                          .add("shareable", shareable)
+                          .add("refreshing", refreshing)
+                          .toString();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.cache;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+
+/**
+ * The {@link CachedResponse}s of the same cache key which are distinguished by the request headers listed
+ * in the {@code "vary"} header of the responses. A response without {@code "vary"} has a single variant.
+ *
+ * <p>This class is immutable. A new instance is created whenever a variant is added so that
+ * the cache can re-weigh the entry.
+ */
+final class CachedVariants {
+
+    static String variantKey(List<String> varyNames, RequestHeaders headers) {
+        if (varyNames.isEmpty()) {
+            return "";
+        }
+        final StringBuilder buf = new StringBuilder();
+        for (String name : varyNames) {
+            buf.append(name).append('=');
+            for (String value : headers.getAll(name)) {
+                buf.append(value).append(',');
+            }
+            buf.append('\n');
+        }
+        return buf.toString();
+    }
+
+    private final List<String> varyNames;
+    private final Map<String, CachedResponse> variants;
+    private final int weight;
+    private final long staleUntilNanos;
+
+    CachedVariants(List<String> varyNames, String variantKey, CachedResponse response) {
+        this(varyNames, ImmutableMap.of(variantKey, response));
+    }
+
+    private CachedVariants(List<String> varyNames, Map<String, CachedResponse> variants) {
+        this.varyNames = ImmutableList.copyOf(varyNames);
+        this.variants = variants;
+        int weight = 0;
+        long staleUntilNanos = Long.MIN_VALUE;
+        for (Map.Entry<String, CachedResponse> e : variants.entrySet()) {
+            final CachedResponse response = e.getValue();
+            weight += e.getKey().length() + response.weight();
+            if (staleUntilNanos == Long.MIN_VALUE || response.staleUntilNanos() - staleUntilNanos > 0) {
+                staleUntilNanos = response.staleUntilNanos();
+            }
+        }
+        this.weight = weight;
+        this.staleUntilNanos = staleUntilNanos;
+    }
+
+    List<String> varyNames() {
+        return varyNames;
+    }
+
+    @Nullable
+    CachedResponse get(RequestHeaders headers) {
+        return variants.get(variantKey(varyNames, headers));
+    }
+
+    /**
+     * Returns a new {@link CachedVariants} which contains the specified {@link CachedResponse} and
+     * the variants of this instance which are still usable.
+     */
+    CachedVariants with(String variantKey, CachedResponse response, long nowNanos) {
+        final ImmutableMap.Builder<String, CachedResponse> builder = ImmutableMap.builder();
+        builder.put(variantKey, response);
+        for (Map.Entry<String, CachedResponse> e : variants.entrySet()) {
+            if (!e.getKey().equals(variantKey) && e.getValue().isUsable(nowNanos)) {
+                builder.put(e);
+            }
+        }
+        return new CachedVariants(varyNames, builder.build());
+    }
+
+    int weight() {
+        return weight;
+    }
+
+    long staleUntilNanos() {
+        return staleUntilNanos;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("varyNames", varyNames)
+                          .add("variants", variants)
+                          .toString();
+    }
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ascii;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpHeaders;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpObject;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.QueryParams;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.ServerCacheControl;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.util.Ticker;
+import com.linecorp.armeria.internal.common.metric.CaffeineMetricSupport;
+import com.linecorp.armeria.server.DecoratingService;
+import com.linecorp.armeria.server.HttpService;
+import com.linecorp.armeria.server.ServiceConfig;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.SimpleDecoratingHttpService;
+
+import io.netty.util.AsciiString;
+
+/**
+ * A {@link DecoratingService} that caches the responses of {@code GET} requests in memory and serves them
+ * without invoking the decorated {@link HttpService} until they expire.
+ *
+ * <p>A response is cached by the key which consists of the path, the query parameters and
+ * the request headers specified with {@link CachingServiceBuilder#keyHeaders(CharSequence...)}.
+ * The lifetime of a response is determined by the {@code "s-maxage"} or {@code "max-age"} directive of
+ * its {@code "cache-control"} header, or {@link CachingServiceBuilder#ttl(Duration)} if
+ * neither is specified. A response is not cached if:
+ * <ul>
+ *   <li>its status is not cacheable by default, e.g. {@code "500 Internal Server Error"},</li>
+ *   <li>its {@code "cache-control"} header has {@code "no-store"}, {@code "no-cache"} or
+ *       {@code "private"} directive (see {@link ServerCacheControl}),</li>
+ *   <li>it has {@code "set-cookie"} header or {@code "vary: *"},</li>
+ *   <li>its content is longer than {@link CachingServiceBuilder#maxContentLength(int)}, or</li>
+ *   <li>its request has {@code "authorization"} or {@code "cookie"} header, unless its
+ *       {@code "cache-control"} header has {@code "public"} or {@code "s-maxage"} directive.</li>
+ * </ul>
+ * A request with {@code "authorization"} or {@code "cookie"} header is served only with the cached responses
+ * which have {@code "public"} or {@code "s-maxage"} directive, so that the response to an authenticated
+ * request is never served to other clients.
+ * See <a href="https://datatracker.ietf.org/doc/html/rfc9111#section-3.5">RFC 9111, Section 3.5</a>.
+ * The request headers listed in the {@code "vary"} header of a response are used to distinguish
+ * the variants of the same key. The {@code "cache-control"} header of a request is ignored so that
+ * clients cannot bypass the cache.
+ *
+ * <p>If {@link CachingServiceBuilder#staleWhileRevalidate(Duration)} is set, an expired response
+ * is still served while a single request is forwarded to the decorated {@link HttpService} to refresh it.
+ *
+ * <pre>{@code
+ * ServerBuilder sb = Server.builder();
+ * sb.annotatedService("/catalog", new CatalogService(),
+ *                     CachingService.builder()
+ *                                   .ttl(Duration.ofSeconds(10))
+ *                                   .staleWhileRevalidate(Duration.ofSeconds(5))
+ *                                   .keyHeaders(HttpHeaderNames.ACCEPT_LANGUAGE)
+ *                                   .newDecorator());
+ * }</pre>
+ */
+@UnstableApi
+public final class CachingService extends SimpleDecoratingHttpService {
+
+    /**
+     * The status codes which are cacheable by default.
+     * See <a href="https://datatracker.ietf.org/doc/html/rfc9110#section-15.1">RFC 9110, Section 15.1</a>.
+     */
+    private static final Set<Integer> cacheableStatusCodes =
+            ImmutableSet.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501);
+
+    private static final Splitter VARY_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    /**
+     * Returns a new {@link HttpService} decorator that caches responses for the specified {@code ttl}
+     * if the responses do not specify their lifetime.
+     */
+    public static Function<? super HttpService, CachingService> newDecorator(Duration ttl) {
+        return builder().ttl(ttl).newDecorator();
+    }
+
+    /**
+     * Returns a new {@link CachingServiceBuilder}.
+     */
+    public static CachingServiceBuilder builder() {
+        return new CachingServiceBuilder();
+    }
+
+    private final Cache<String, CachedVariants> cache;
+    private final List<AsciiString> keyHeaders;
+    @Nullable
+    private final List<String> keyQueryParams;
+    private final long ttlNanos;
+    private final long staleWhileRevalidateNanos;
+    private final int maxContentLength;
+    private final Ticker ticker;
+
+    CachingService(HttpService delegate, long maxCacheSizeBytes, int maxContentLength,
+                   long ttlNanos, long staleWhileRevalidateNanos, List<AsciiString> keyHeaders,
+                   @Nullable List<String> keyQueryParams, Ticker ticker) {
+        super(delegate);
+        cache = Caffeine.newBuilder()
+                        .recordStats()
+                        .ticker(ticker::read)
+                        .maximumWeight(maxCacheSizeBytes)
+                        .<String, CachedVariants>weigher((key, value) -> key.length() + value.weight())
+                        .expireAfter(new VariantsExpiry())
+                        .build();
+        this.maxContentLength = maxContentLength;
+        this.ttlNanos = ttlNanos;
+        this.staleWhileRevalidateNanos = staleWhileRevalidateNanos;
+        this.keyHeaders = keyHeaders;
+        this.keyQueryParams = keyQueryParams;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public void serviceAdded(ServiceConfig cfg) throws Exception {
+        super.serviceAdded(cfg);
+        final MeterIdPrefix meterIdPrefix =
+                new MeterIdPrefix("armeria.server.response.cache",
+                                  "hostname.pattern", cfg.virtualHost().hostnamePattern(),
+                                  "route", cfg.route().patternString());
+        CaffeineMetricSupport.setup(cfg.server().meterRegistry(), meterIdPrefix, cache);
+    }
+
+    @Override
+    public HttpResponse serve(ServiceRequestContext ctx, HttpRequest req) throws Exception {
+        if (req.method() != HttpMethod.GET) {
+            return unwrap().serve(ctx, req);
+        }
+
+        final boolean hasCredentials = hasCredentials(req.headers());
+        final String key = cacheKey(ctx, req.headers());
+        final CachedVariants variants = cache.getIfPresent(key);
+        if (variants != null) {
+            final CachedResponse cached = variants.get(req.headers());
+            if (cached != null && (!hasCredentials || cached.isShareable())) {
+                final long now = ticker.read();
+                if (cached.isFresh(now)) {
+                    return cached.toResponse(now);
+                }
+                if (cached.isUsable(now)) {
+                    if (!cached.tryStartRefresh()) {
+                        // Another request is refreshing the response.
+                        return cached.toResponse(now);
+                    }
+                    return serveAndCache(ctx, req, key, hasCredentials, cached);
+                }
+            }
+        }
+        return serveAndCache(ctx, req, key, hasCredentials, null);
+    }
+
+    private static boolean hasCredentials(RequestHeaders headers) {
+        return headers.contains(HttpHeaderNames.AUTHORIZATION) || headers.contains(HttpHeaderNames.COOKIE);
+    }
+
+    private HttpResponse serveAndCache(ServiceRequestContext ctx, HttpRequest req, String key,
+                                       boolean hasCredentials, @Nullable CachedResponse stale)
+            throws Exception {
+        final RequestHeaders requestHeaders = req.headers();
+        final HttpResponse res = unwrap().serve(ctx, req);
+        final ResponseCollector collector = new ResponseCollector(hasCredentials);
+        // Store the response before the completion is signaled so that the subsequent requests can use it.
+        return HttpResponse.of(res.peek(collector).endWith(cause -> {
+            final boolean stored = cause == null && collector.store(key, requestHeaders);
+            if (!stored && stale != null) {
+                stale.refreshFailed();
+            }
+            return null;
+        }));
+    }
+
+    private String cacheKey(ServiceRequestContext ctx, RequestHeaders headers) {
+        final StringBuilder buf = new StringBuilder(64);
+        buf.append(ctx.config().virtualHost().hostnamePattern()).append(' ').append(ctx.path());
+        final List<String> keyQueryParams = this.keyQueryParams;
+        if (keyQueryParams == null) {
+            final String query = ctx.query();
+            if (query != null) {
+                buf.append('?').append(query);
+            }
+        } else if (!keyQueryParams.isEmpty()) {
+            final QueryParams params = ctx.queryParams();
+            buf.append('?');
+            for (String name : keyQueryParams) {
+                for (String value : params.getAll(name)) {
+                    buf.append(name).append('=').append(value).append('&');
+                }
+            }
+        }
+        for (AsciiString name : keyHeaders) {
+            buf.append('\n').append(name).append(':');
+            for (String value : headers.getAll(name)) {
+                buf.append(value).append(',');
+            }
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Returns the time to live of the response with the specified {@link ResponseHeaders} in nanoseconds,
+     * or {@code 0} if the response must not be cached.
+     */
+    private long ttlNanos(ResponseHeaders headers, ServerCacheControl cacheControl, boolean hasCredentials) {
+        if (!cacheableStatusCodes.contains(headers.status().code()) ||
+            headers.contains(HttpHeaderNames.SET_COOKIE)) {
+            return 0;
+        }
+        final long contentLength = headers.contentLength();
+        if (contentLength > maxContentLength) {
+            return 0;
+        }
+        for (String name : VARY_SPLITTER.split(headers.get(HttpHeaderNames.VARY, ""))) {
+            if ("*".equals(name)) {
+                return 0;
+            }
+        }
+
+        if (cacheControl.noStore() || cacheControl.noCache() || cacheControl.cachePrivate()) {
+            return 0;
+        }
+        if (hasCredentials && !isShareable(cacheControl)) {
+            // A shared cache must not reuse the response to an authenticated request unless it is
+            // explicitly allowed.
+            return 0;
+        }
+        if (cacheControl.sMaxAgeSeconds() >= 0) {
+            return TimeUnit.SECONDS.toNanos(cacheControl.sMaxAgeSeconds());
+        }
+        if (cacheControl.maxAgeSeconds() >= 0) {
+            return TimeUnit.SECONDS.toNanos(cacheControl.maxAgeSeconds());
+        }
+        return ttlNanos;
+    }
+
+    private static boolean isShareable(ServerCacheControl cacheControl) {
+        return cacheControl.cachePublic() || cacheControl.sMaxAgeSeconds() >= 0;
+    }
+
+    @VisibleForTesting
+    Cache<String, CachedVariants> cache() {
+        return cache;
+    }
+
+    /**
+     * Copies the {@link HttpObject}s of a cacheable response while they are sent to the client.
+     */
+    private final class ResponseCollector implements Consumer<HttpObject> {
+
+        private final boolean hasCredentials;
+        @Nullable
+        private ResponseHeaders headers;
+        @Nullable
+        private ByteArrayOutputStream content;
+        private HttpHeaders trailers = HttpHeaders.of();
+        private long responseTtlNanos;
+        private boolean shareable;
+
+        ResponseCollector(boolean hasCredentials) {
+            this.hasCredentials = hasCredentials;
+        }
+
+        @Override
+        public void accept(HttpObject obj) {
+            if (obj instanceof ResponseHeaders) {
+                final ResponseHeaders headers = (ResponseHeaders) obj;
+                if (headers.status().isInformational()) {
+                    return;
+                }
+                final ServerCacheControl cacheControl =
+                        ServerCacheControl.parse(headers.getAll(HttpHeaderNames.CACHE_CONTROL));
+                final long ttlNanos = ttlNanos(headers, cacheControl, hasCredentials);
+                if (ttlNanos > 0) {
+                    this.headers = headers;
+                    responseTtlNanos = ttlNanos;
+                    shareable = isShareable(cacheControl);
+                    content = new ByteArrayOutputStream();
+                }
+                return;
+            }
+
+            final ByteArrayOutputStream content = this.content;
+            if (content == null) {
+                return;
+            }
+            if (obj instanceof HttpData) {
+                final HttpData data = (HttpData) obj;
+                if (content.size() + data.length() > maxContentLength) {
+                    // Too large to cache.
+                    this.content = null;
+                    return;
+                }
+                content.write(data.array(), 0, data.length());
+            } else if (obj instanceof HttpHeaders) {
+                trailers = (HttpHeaders) obj;
+            }
+        }
+
+        boolean store(String key, RequestHeaders requestHeaders) {
+            final ResponseHeaders headers = this.headers;
+            final ByteArrayOutputStream content = this.content;
+            if (headers == null || content == null) {
+                return false;
+            }
+
+            final long now = ticker.read();
+            final CachedResponse response = new CachedResponse(headers, content.toByteArray(), trailers, now,
+                                                               responseTtlNanos, staleWhileRevalidateNanos,
+                                                               shareable);
+            final List<String> varyNames = ImmutableSet.copyOf(VARY_SPLITTER.split(
+                    Ascii.toLowerCase(headers.get(HttpHeaderNames.VARY, "")))).asList();
+            final String variantKey = CachedVariants.variantKey(varyNames, requestHeaders);
+            cache.asMap().compute(key, (unused, old) -> {
+                if (old == null || !old.varyNames().equals(varyNames)) {
+                    return new CachedVariants(varyNames, variantKey, response);
+                }
+                return old.with(variantKey, response, now);
+            });
+            return true;
+        }
+    }
+
+    private static final class VariantsExpiry implements Expiry<String, CachedVariants> {
+        @Override
+        public long expireAfterCreate(String key, CachedVariants value, long currentTime) {
+            return Math.max(0, value.staleUntilNanos() - currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedVariants value, long currentTime,
+                                      long currentDuration) {
+            return Math.max(0, value.staleUntilNanos() - currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedVariants value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
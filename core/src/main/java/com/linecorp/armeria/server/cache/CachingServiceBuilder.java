@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Streams;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.util.Ticker;
+import com.linecorp.armeria.server.HttpService;
+
+import io.netty.util.AsciiString;
+
+/**
+ * A builder for creating a new {@link CachingService}.
+ */
+@UnstableApi
+public final class CachingServiceBuilder {
+
+    static final long DEFAULT_TTL_MILLIS = 60_000;
+    static final long DEFAULT_MAX_CACHE_SIZE_BYTES = 64 * 1024 * 1024;
+    static final int DEFAULT_MAX_CONTENT_LENGTH = 1024 * 1024;
+
+    private Duration ttl = Duration.ofMillis(DEFAULT_TTL_MILLIS);
+    private Duration staleWhileRevalidate = Duration.ZERO;
+    private long maxCacheSizeBytes = DEFAULT_MAX_CACHE_SIZE_BYTES;
+    private int maxContentLength = DEFAULT_MAX_CONTENT_LENGTH;
+    private List<AsciiString> keyHeaders = ImmutableList.of();
+    @Nullable
+    private List<String> keyQueryParams;
+    private Ticker ticker = Ticker.systemTicker();
+
+    CachingServiceBuilder() {}
+
+    /**
+     * Sets the time to live of a cached response whose {@code "cache-control"} header does not have
+     * {@code "s-maxage"} or {@code "max-age"} directive.
+     * Defaults to {@value #DEFAULT_TTL_MILLIS} milliseconds if unspecified.
+     */
+    public CachingServiceBuilder ttl(Duration ttl) {
+        requireNonNull(ttl, "ttl");
+        checkArgument(!ttl.isNegative() && !ttl.isZero(), "ttl: %s (expected: > 0)", ttl);
+        this.ttl = ttl;
+        return this;
+    }
+
+    /**
+     * Sets how long an expired response may be served while it is being refreshed. When a request for
+     * an expired response arrives within the specified duration, the request is forwarded to the decorated
+     * {@link HttpService} to refresh the response, and the other requests are served with the expired
+     * response until the refreshed response is cached. Defaults to {@link Duration#ZERO} if unspecified.
+     */
+    public CachingServiceBuilder staleWhileRevalidate(Duration staleWhileRevalidate) {
+        requireNonNull(staleWhileRevalidate, "staleWhileRevalidate");
+        checkArgument(!staleWhileRevalidate.isNegative(), "staleWhileRevalidate: %s (expected: >= 0)",
+                      staleWhileRevalidate);
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        return this;
+    }
+
+    /**
+     * Sets the maximum total size of the cached responses in bytes, including their headers.
+     * Defaults to {@value #DEFAULT_MAX_CACHE_SIZE_BYTES} if unspecified.
+     */
+    public CachingServiceBuilder maxCacheSizeBytes(long maxCacheSizeBytes) {
+        checkArgument(maxCacheSizeBytes > 0, "maxCacheSizeBytes: %s (expected: > 0)", maxCacheSizeBytes);
+        this.maxCacheSizeBytes = maxCacheSizeBytes;
+        return this;
+    }
+
+    /**
+     * Sets the maximum length of the content of a response to be cached.
+     * Defaults to {@value #DEFAULT_MAX_CONTENT_LENGTH} if unspecified.
+     */
+    public CachingServiceBuilder maxContentLength(int maxContentLength) {
+        checkArgument(maxContentLength >= 0, "maxContentLength: %s (expected: >= 0)", maxContentLength);
+        this.maxContentLength = maxContentLength;
+        return this;
+    }
+
+    /**
+     * Sets the names of the request headers which are included in the cache key.
+     * No headers are included by default. Note that the headers listed in the {@code "vary"} header of
+     * a response are always taken into account.
+     */
+    public CachingServiceBuilder keyHeaders(CharSequence... keyHeaders) {
+        requireNonNull(keyHeaders, "keyHeaders");
+        return keyHeaders(ImmutableList.copyOf(keyHeaders));
+    }
+
+    /**
+     * Sets the names of the request headers which are included in the cache key.
+     * No headers are included by default. Note that the headers listed in the {@code "vary"} header of
+     * a response are always taken into account.
+     */
+    public CachingServiceBuilder keyHeaders(Iterable<? extends CharSequence> keyHeaders) {
+        requireNonNull(keyHeaders, "keyHeaders");
+        this.keyHeaders = Streams.stream(keyHeaders)
+                                 .map(AsciiString::of)
+                                 .map(AsciiString::toLowerCase)
+                                 .distinct()
+                                 .collect(ImmutableList.toImmutableList());
+        return this;
+    }
+
+    /**
+     * Sets the names of the query parameters which are included in the cache key. The other query
+     * parameters are ignored. If unspecified, the whole query string is included in the cache key.
+     */
+    public CachingServiceBuilder keyQueryParams(String... keyQueryParams) {
+        requireNonNull(keyQueryParams, "keyQueryParams");
+        return keyQueryParams(ImmutableList.copyOf(keyQueryParams));
+    }
+
+    /**
+     * Sets the names of the query parameters which are included in the cache key. The other query
+     * parameters are ignored. If unspecified, the whole query string is included in the cache key.
+     */
+    public CachingServiceBuilder keyQueryParams(Iterable<String> keyQueryParams) {
+        requireNonNull(keyQueryParams, "keyQueryParams");
+        this.keyQueryParams = ImmutableSortedSet.copyOf(keyQueryParams).asList();
+        return this;
+    }
+
+    @VisibleForTesting
+    CachingServiceBuilder ticker(Ticker ticker) {
+        this.ticker = requireNonNull(ticker, "ticker");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link CachingService} based on the properties of this builder.
+     */
+    public CachingService build(HttpService delegate) {
+        requireNonNull(delegate, "delegate");
+        return new CachingService(delegate, maxCacheSizeBytes, maxContentLength, ttl.toNanos(),
+                                  staleWhileRevalidate.toNanos(), keyHeaders, keyQueryParams, ticker);
+    }
+
+    /**
+     * Returns a newly-created decorator that decorates an {@link HttpService} with a new
+     * {@link CachingService} based on the properties of this builder.
+     */
+    public Function<? super HttpService, CachingService> newDecorator() {
+        return this::build;
+    }
+}
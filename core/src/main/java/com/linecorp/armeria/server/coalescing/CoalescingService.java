@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.coalescing;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.internal.common.RequestCoalescer;
+import com.linecorp.armeria.server.DecoratingService;
+import com.linecorp.armeria.server.HttpService;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.SimpleDecoratingHttpService;
+
+import io.netty.util.AsciiString;
+
+/**
+ * A {@link DecoratingService} that collapses concurrent identical {@code GET} and {@code HEAD} requests
+ * into a single invocation of the decorated {@link HttpService}. While a request is being served, the
+ * identical requests receive a duplicate of its response instead of invoking the decorated
+ * {@link HttpService}. This prevents a thundering herd, e.g. many clients requesting the same expensive
+ * resource right after a cache expires.
+ *
+ * <p>Two requests are identical if their method, path, query string and the request headers specified
+ * with {@link CoalescingServiceBuilder#keyHeaders(CharSequence...)} are equal. {@code "authorization"} and
+ * {@code "cookie"} headers are always compared so that the requests of different users are not collapsed.
+ */
+@UnstableApi
+public final class CoalescingService extends SimpleDecoratingHttpService {
+
+    /**
+     * Returns a new {@link HttpService} decorator that collapses identical requests.
+     */
+    public static Function<? super HttpService, CoalescingService> newDecorator() {
+        return builder().newDecorator();
+    }
+
+    /**
+     * Returns a new {@link CoalescingServiceBuilder}.
+     */
+    public static CoalescingServiceBuilder builder() {
+        return new CoalescingServiceBuilder();
+    }
+
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+    private final List<AsciiString> keyHeaders;
+    private final long maxResponseLength;
+
+    CoalescingService(HttpService delegate, List<AsciiString> keyHeaders, long maxResponseLength) {
+        super(delegate);
+        this.keyHeaders = keyHeaders;
+        this.maxResponseLength = maxResponseLength;
+    }
+
+    @Override
+    public HttpResponse serve(ServiceRequestContext ctx, HttpRequest req) throws Exception {
+        final HttpMethod method = req.method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return unwrap().serve(ctx, req);
+        }
+
+        final StringBuilder buf = new StringBuilder(64);
+        buf.append(ctx.config().virtualHost().hostnamePattern()).append(' ')
+           .append(method.name()).append(' ').append(ctx.path());
+        final String query = ctx.query();
+        if (query != null) {
+            buf.append('?').append(query);
+        }
+        RequestCoalescer.appendHeaders(buf, req.headers(), keyHeaders);
+        return coalescer.execute(buf.toString(), ctx.eventLoop(), maxResponseLength,
+                                 () -> unwrap().serve(ctx, req));
+    }
+
+    @VisibleForTesting
+    int numInflights() {
+        return coalescer.numInflights();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.coalescing;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Streams;
+
+import com.linecorp.armeria.common.ContentTooLargeException;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.server.HttpService;
+
+import io.netty.util.AsciiString;
+
+/**
+ * A builder for creating a new {@link CoalescingService}.
+ */
+@UnstableApi
+public final class CoalescingServiceBuilder {
+
+    private List<AsciiString> keyHeaders = ImmutableList.of();
+    private long maxResponseLength;
+
+    CoalescingServiceBuilder() {}
+
+    /**
+     * Sets the names of the request headers which must be equal for two requests to be collapsed,
+     * in addition to {@code "authorization"} and {@code "cookie"}. For example, {@code "accept"} should
+     * be specified if the service returns a different representation depending on it.
+     */
+    public CoalescingServiceBuilder keyHeaders(CharSequence... keyHeaders) {
+        requireNonNull(keyHeaders, "keyHeaders");
+        return keyHeaders(ImmutableList.copyOf(keyHeaders));
+    }
+
+    /**
+     * Sets the names of the request headers which must be equal for two requests to be collapsed,
+     * in addition to {@code "authorization"} and {@code "cookie"}. For example, {@code "accept"} should
+     * be specified if the service returns a different representation depending on it.
+     */
+    public CoalescingServiceBuilder keyHeaders(Iterable<? extends CharSequence> keyHeaders) {
+        requireNonNull(keyHeaders, "keyHeaders");
+        this.keyHeaders = Streams.stream(keyHeaders)
+                                 .map(AsciiString::of)
+                                 .map(AsciiString::toLowerCase)
+                                 .distinct()
+                                 .collect(ImmutableList.toImmutableList());
+        return this;
+    }
+
+    /**
+     * Sets the maximum length of a response which is shared by the collapsed requests. The content of
+     * the shared response is retained until all collapsed requests consume it, and the collapsed requests
+     * fail with a {@link ContentTooLargeException} if the content exceeds the limit. {@code 0} disables
+     * the limit. Defaults to {@code 0} if unspecified.
+     */
+    public CoalescingServiceBuilder maxResponseLength(long maxResponseLength) {
+        checkArgument(maxResponseLength >= 0, "maxResponseLength: %s (expected: >= 0)", maxResponseLength);
+        this.maxResponseLength = maxResponseLength;
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link CoalescingService} based on the properties of this builder.
+     */
+    public CoalescingService build(HttpService delegate) {
+        requireNonNull(delegate, "delegate");
+        return new CoalescingService(delegate, keyHeaders, maxResponseLength);
+    }
+
+    /**
+     * Returns a newly-created decorator that decorates an {@link HttpService} with a new
+     * {@link CoalescingService} based on the properties of this builder.
+     */
+    public Function<? super HttpService, CoalescingService> newDecorator() {
+        return this::build;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.encoding;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.encoding.CompressionLevel;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+
+/**
+ * An {@link EncodingPolicy} which adapts the {@link CompressionLevel} to the current load of the server and
+ * the entropy of the content.
+ *
+ * @see AdaptiveEncodingPolicyBuilder
+ */
+final class AdaptiveEncodingPolicy implements EncodingPolicy {
+
+    private static final OperatingSystemMXBean operatingSystemBean =
+            ManagementFactory.getOperatingSystemMXBean();
+
+    private static final double LOG_2 = Math.log(2);
+
+    /**
+     * Returns the system load average per available processor, or {@link Double#NaN} if not available.
+     */
+    static double systemLoadAverage() {
+        final double loadAverage = operatingSystemBean.getSystemLoadAverage();
+        if (loadAverage < 0) {
+            return Double.NaN;
+        }
+        return Math.min(loadAverage / operatingSystemBean.getAvailableProcessors(), 1.0);
+    }
+
+    private final double fastestCompressionCpuUsage;
+    private final double noCompressionCpuUsage;
+    private final int maxPendingTasks;
+    private final double maxEntropy;
+    private final int entropySampleBytes;
+    private final DoubleSupplier cpuUsageSupplier;
+    private final long cpuUsageUpdateIntervalNanos;
+
+    private volatile double cpuUsage = Double.NaN;
+    private volatile long cpuUsageUpdatedNanos;
+    private volatile boolean cpuUsageUpdated;
+
+    AdaptiveEncodingPolicy(double fastestCompressionCpuUsage, double noCompressionCpuUsage,
+                           int maxPendingTasks, double maxEntropy, int entropySampleBytes,
+                           DoubleSupplier cpuUsageSupplier, long cpuUsageUpdateIntervalMillis) {
+        this.fastestCompressionCpuUsage = fastestCompressionCpuUsage;
+        this.noCompressionCpuUsage = noCompressionCpuUsage;
+        this.maxPendingTasks = maxPendingTasks;
+        this.maxEntropy = maxEntropy;
+        this.entropySampleBytes = entropySampleBytes;
+        this.cpuUsageSupplier = cpuUsageSupplier;
+        cpuUsageUpdateIntervalNanos = TimeUnit.MILLISECONDS.toNanos(cpuUsageUpdateIntervalMillis);
+    }
+
+    @Override
+    public CompressionLevel compressionLevel(ServiceRequestContext ctx, ResponseHeaders headers) {
+        if (pendingTasks(ctx.eventLoop().withoutContext()) > maxPendingTasks) {
+            return CompressionLevel.NONE;
+        }
+        // NaN, i.e. an unknown CPU usage, is never greater than the thresholds.
+        final double cpuUsage = cpuUsage();
+        if (cpuUsage > noCompressionCpuUsage) {
+            return CompressionLevel.NONE;
+        }
+        if (cpuUsage > fastestCompressionCpuUsage) {
+            return CompressionLevel.FASTEST;
+        }
+        return CompressionLevel.DEFAULT;
+    }
+
+    @Override
+    public CompressionLevel compressionLevel(ServiceRequestContext ctx, HttpData firstContent,
+                                             CompressionLevel level) {
+        if (level == CompressionLevel.NONE) {
+            return level;
+        }
+        if (entropy(firstContent.byteBuf(), entropySampleBytes) > maxEntropy) {
+            return CompressionLevel.NONE;
+        }
+        return level;
+    }
+
+    private double cpuUsage() {
+        final long now = System.nanoTime();
+        if (!cpuUsageUpdated || now - cpuUsageUpdatedNanos >= cpuUsageUpdateIntervalNanos) {
+            // A race between threads is harmless because they will get a similar value.
+            cpuUsage = cpuUsageSupplier.getAsDouble();
+            cpuUsageUpdatedNanos = now;
+            cpuUsageUpdated = true;
+        }
+        return cpuUsage;
+    }
+
+    private static int pendingTasks(EventLoop eventLoop) {
+        if (eventLoop instanceof SingleThreadEventExecutor) {
+            return ((SingleThreadEventExecutor) eventLoop).pendingTasks();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the Shannon entropy in bits per byte of the first {@code sampleBytes} readable bytes of
+     * the specified {@link ByteBuf}.
+     */
+    @VisibleForTesting
+    static double entropy(ByteBuf buf, int sampleBytes) {
+        final int length = Math.min(buf.readableBytes(), sampleBytes);
+        if (length == 0) {
+            return 0;
+        }
+        final int[] counts = new int[256];
+        final int readerIndex = buf.readerIndex();
+        for (int i = 0; i < length; i++) {
+            counts[buf.getByte(readerIndex + i) & 0xFF]++;
+        }
+        double entropy = 0;
+        for (int count : counts) {
+            if (count != 0) {
+                final double p = (double) count / length;
+                entropy -= p * Math.log(p);
+            }
+        }
+        return entropy / LOG_2;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("fastestCompressionCpuUsage", fastestCompressionCpuUsage)
+                          .add("noCompressionCpuUsage", noCompressionCpuUsage)
+                          .add("maxPendingTasks", maxPendingTasks)
+                          .add("maxEntropy", maxEntropy)
+                          .add("entropySampleBytes", entropySampleBytes)
+                          .add("cpuUsageSupplier", cpuUsageSupplier)
+                          .add("cpuUsageUpdateIntervalNanos", cpuUsageUpdateIntervalNanos)
+                          .toString();
+    }
+}
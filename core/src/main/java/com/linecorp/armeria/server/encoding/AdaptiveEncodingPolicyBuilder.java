@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.encoding;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.function.DoubleSupplier;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.encoding.CompressionLevel;
+
+/**
+ * Builds an {@link EncodingPolicy} which adapts the {@link CompressionLevel} of a response to
+ * the current load of the server and the content:
+ * <ul>
+ *   <li>The content is compressed with {@link CompressionLevel#FASTEST} when the CPU usage exceeds
+ *       {@link #fastestCompressionCpuUsage(double)}.</li>
+ *   <li>The content is not compressed when the CPU usage exceeds {@link #noCompressionCpuUsage(double)}
+ *       or the event loop has more pending tasks than {@link #maxPendingTasks(int)}.</li>
+ *   <li>The content is not compressed when the Shannon entropy of the first bytes of the content exceeds
+ *       {@link #maxEntropy(double)}, which usually means the content is compressed or encrypted already.
+ *       </li>
+ * </ul>
+ * For example:
+ * <pre>{@code
+ * EncodingService.builder()
+ *                .encodingPolicy(EncodingPolicy.builder()
+ *                                              .fastestCompressionCpuUsage(0.6)
+ *                                              .noCompressionCpuUsage(0.85)
+ *                                              .build())
+ *                .newDecorator();
+ * }</pre>
+ */
+@UnstableApi
+public final class AdaptiveEncodingPolicyBuilder {
+
+    private static final double DEFAULT_FASTEST_COMPRESSION_CPU_USAGE = 0.7;
+    private static final double DEFAULT_NO_COMPRESSION_CPU_USAGE = 0.9;
+    private static final int DEFAULT_MAX_PENDING_TASKS = 1024;
+    private static final double DEFAULT_MAX_ENTROPY = 7.5;
+    private static final int DEFAULT_ENTROPY_SAMPLE_BYTES = 1024;
+    private static final long DEFAULT_CPU_USAGE_UPDATE_INTERVAL_MILLIS = 1000;
+
+    private double fastestCompressionCpuUsage = DEFAULT_FASTEST_COMPRESSION_CPU_USAGE;
+    private double noCompressionCpuUsage = DEFAULT_NO_COMPRESSION_CPU_USAGE;
+    private int maxPendingTasks = DEFAULT_MAX_PENDING_TASKS;
+    private double maxEntropy = DEFAULT_MAX_ENTROPY;
+    private int entropySampleBytes = DEFAULT_ENTROPY_SAMPLE_BYTES;
+    private DoubleSupplier cpuUsageSupplier = AdaptiveEncodingPolicy::systemLoadAverage;
+    private long cpuUsageUpdateIntervalMillis = DEFAULT_CPU_USAGE_UPDATE_INTERVAL_MILLIS;
+
+    AdaptiveEncodingPolicyBuilder() {}
+
+    /**
+     * Sets the CPU usage, between {@code 0.0} and {@code 1.0}, above which the content is compressed with
+     * {@link CompressionLevel#FASTEST}. The default is {@value DEFAULT_FASTEST_COMPRESSION_CPU_USAGE}.
+     */
+    public AdaptiveEncodingPolicyBuilder fastestCompressionCpuUsage(double fastestCompressionCpuUsage) {
+        checkArgument(fastestCompressionCpuUsage >= 0 && fastestCompressionCpuUsage <= 1,
+                      "fastestCompressionCpuUsage: %s (expected: 0 <= fastestCompressionCpuUsage <= 1)",
+                      fastestCompressionCpuUsage);
+        this.fastestCompressionCpuUsage = fastestCompressionCpuUsage;
+        return this;
+    }
+
+    /**
+     * Sets the CPU usage, between {@code 0.0} and {@code 1.0}, above which the content is not compressed.
+     * The default is {@value DEFAULT_NO_COMPRESSION_CPU_USAGE}.
+     */
+    public AdaptiveEncodingPolicyBuilder noCompressionCpuUsage(double noCompressionCpuUsage) {
+        checkArgument(noCompressionCpuUsage >= 0 && noCompressionCpuUsage <= 1,
+                      "noCompressionCpuUsage: %s (expected: 0 <= noCompressionCpuUsage <= 1)",
+                      noCompressionCpuUsage);
+        this.noCompressionCpuUsage = noCompressionCpuUsage;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of the pending tasks of the event loop which handles the request. The content
+     * is not compressed if the event loop has more pending tasks, so that the event loop catches up with
+     * the tasks rather than spending its time on compression.
+     * The default is {@value DEFAULT_MAX_PENDING_TASKS}.
+     */
+    public AdaptiveEncodingPolicyBuilder maxPendingTasks(int maxPendingTasks) {
+        checkArgument(maxPendingTasks >= 0, "maxPendingTasks: %s (expected: >= 0)", maxPendingTasks);
+        this.maxPendingTasks = maxPendingTasks;
+        return this;
+    }
+
+    /**
+     * Sets the maximum Shannon entropy in bits per byte, between {@code 0.0} and {@code 8.0}, of
+     * the content to compress. The content whose entropy exceeds this value is barely compressible, e.g.
+     * an image or an encrypted content, and thus is not compressed.
+     * The default is {@value DEFAULT_MAX_ENTROPY}.
+     */
+    public AdaptiveEncodingPolicyBuilder maxEntropy(double maxEntropy) {
+        checkArgument(maxEntropy >= 0 && maxEntropy <= 8,
+                      "maxEntropy: %s (expected: 0 <= maxEntropy <= 8)", maxEntropy);
+        this.maxEntropy = maxEntropy;
+        return this;
+    }
+
+    /**
+     * Sets the number of the first bytes of the content which are sampled to estimate the entropy of
+     * the content. The default is {@value DEFAULT_ENTROPY_SAMPLE_BYTES}.
+     */
+    public AdaptiveEncodingPolicyBuilder entropySampleBytes(int entropySampleBytes) {
+        checkArgument(entropySampleBytes > 0, "entropySampleBytes: %s (expected: > 0)", entropySampleBytes);
+        this.entropySampleBytes = entropySampleBytes;
+        return this;
+    }
+
+    /**
+     * Sets the {@link DoubleSupplier} which returns the current CPU usage between {@code 0.0} and
+     * {@code 1.0}. {@link Double#NaN} means that the CPU usage is unknown. If not set, the system load
+     * average divided by the number of the available processors is used, which is not available on
+     * some platforms such as Windows.
+     */
+    public AdaptiveEncodingPolicyBuilder cpuUsageSupplier(DoubleSupplier cpuUsageSupplier) {
+        this.cpuUsageSupplier = requireNonNull(cpuUsageSupplier, "cpuUsageSupplier");
+        return this;
+    }
+
+    /**
+     * Sets the interval to get the CPU usage from {@link #cpuUsageSupplier(DoubleSupplier)}. The CPU usage
+     * is cached in the meantime. The default is {@value DEFAULT_CPU_USAGE_UPDATE_INTERVAL_MILLIS} milliseconds.
+     */
+    public AdaptiveEncodingPolicyBuilder cpuUsageUpdateInterval(Duration cpuUsageUpdateInterval) {
+        requireNonNull(cpuUsageUpdateInterval, "cpuUsageUpdateInterval");
+        checkArgument(!cpuUsageUpdateInterval.isNegative(),
+                      "cpuUsageUpdateInterval: %s (expected: >= 0)", cpuUsageUpdateInterval);
+        return cpuUsageUpdateIntervalMillis(cpuUsageUpdateInterval.toMillis());
+    }
+
+    /**
+     * Sets the interval in milliseconds to get the CPU usage from {@link #cpuUsageSupplier(DoubleSupplier)}.
+     * The CPU usage is cached in the meantime.
+     * The default is {@value DEFAULT_CPU_USAGE_UPDATE_INTERVAL_MILLIS} milliseconds.
+     */
+    public AdaptiveEncodingPolicyBuilder cpuUsageUpdateIntervalMillis(long cpuUsageUpdateIntervalMillis) {
+        checkArgument(cpuUsageUpdateIntervalMillis >= 0,
+                      "cpuUsageUpdateIntervalMillis: %s (expected: >= 0)", cpuUsageUpdateIntervalMillis);
+        this.cpuUsageUpdateIntervalMillis = cpuUsageUpdateIntervalMillis;
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link EncodingPolicy} based on the properties of this builder.
+     */
+    public EncodingPolicy build() {
+        checkState(fastestCompressionCpuUsage <= noCompressionCpuUsage,
+                   "fastestCompressionCpuUsage: %s (expected: <= noCompressionCpuUsage(%s))",
+                   fastestCompressionCpuUsage, noCompressionCpuUsage);
+        return new AdaptiveEncodingPolicy(fastestCompressionCpuUsage, noCompressionCpuUsage,
+                                          maxPendingTasks, maxEntropy, entropySampleBytes,
+                                          cpuUsageSupplier, cpuUsageUpdateIntervalMillis);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.encoding;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.encoding.CompressionLevel;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+/**
+ * Decides whether and how hard an {@link EncodingService} compresses a response. A policy is consulted
+ * only for the responses which passed the other conditions of the {@link EncodingService}, such as
+ * the encodable content types and {@link EncodingServiceBuilder#minBytesToForceChunkedEncoding(int)}.
+ *
+ * @see EncodingServiceBuilder#encodingPolicy(EncodingPolicy)
+ */
+@UnstableApi
+@FunctionalInterface
+public interface EncodingPolicy {
+
+    /**
+     * Returns the {@link EncodingPolicy} which always compresses the content with
+     * {@link CompressionLevel#DEFAULT}.
+     */
+    static EncodingPolicy ofDefault() {
+        return (ctx, headers) -> CompressionLevel.DEFAULT;
+    }
+
+    /**
+     * Returns a new {@link AdaptiveEncodingPolicyBuilder} which builds an {@link EncodingPolicy} that
+     * adapts the {@link CompressionLevel} to the current CPU usage, the load of the event loop and
+     * the entropy of the content.
+     */
+    static AdaptiveEncodingPolicyBuilder builder() {
+        return new AdaptiveEncodingPolicyBuilder();
+    }
+
+    /**
+     * Returns the {@link CompressionLevel} of the response with the specified {@link ResponseHeaders}.
+     * If {@link CompressionLevel#NONE} is returned, the response is sent without encoding.
+     */
+    CompressionLevel compressionLevel(ServiceRequestContext ctx, ResponseHeaders headers);
+
+    /**
+     * Returns the {@link CompressionLevel} of the response with the specified first {@link HttpData}.
+     * The {@code "Content-Encoding"} header has been sent already when this method is invoked, so
+     * {@link CompressionLevel#NONE} writes the content in the encoding with the least effort instead of
+     * sending it as is. This method is not invoked if the response has no content.
+     *
+     * @param level the {@link CompressionLevel} returned by
+     *              {@link #compressionLevel(ServiceRequestContext, ResponseHeaders)}
+     */
+    default CompressionLevel compressionLevel(ServiceRequestContext ctx, HttpData firstContent,
+                                              CompressionLevel level) {
+        return level;
+    }
+}
@@ -31,7 +31,8 @@ import com.linecorp.armeria.server.ServiceRequestContext;
 import com.linecorp.armeria.server.SimpleDecoratingHttpService;
 
 /**
- * Decorates an {@link HttpService} to apply HTTP encoding (e.g., gzip) to an {@link HttpService}.
+ * Decorates an {@link HttpService} to apply HTTP encoding (e.g., gzip, br and zstd) to
+ * an {@link HttpService}.
  * HTTP encoding will be applied if:
  * <ul>
  *     <li>the client specifies it</li>
@@ -45,6 +46,8 @@ public final class EncodingService extends SimpleDecoratingHttpService {
     private final Predicate<MediaType> encodableContentTypePredicate;
     private final Predicate<? super RequestHeaders> encodableRequestHeadersPredicate;
     private final long minBytesToForceChunkedAndEncoding;
+    private final StreamEncoderFactory zstdEncoderFactory;
+    private final EncodingPolicy encodingPolicy;
 
     /**
      * Returns a new {@link EncodingServiceBuilder}.
@@ -66,11 +69,15 @@ public final class EncodingService extends SimpleDecoratingHttpService {
     EncodingService(HttpService delegate,
                     Predicate<MediaType> encodableContentTypePredicate,
                     Predicate<? super RequestHeaders> encodableRequestHeadersPredicate,
-                    long minBytesToForceChunkedAndEncoding) {
+                    long minBytesToForceChunkedAndEncoding,
+                    StreamEncoderFactory zstdEncoderFactory,
+                    EncodingPolicy encodingPolicy) {
         super(delegate);
         this.encodableContentTypePredicate = encodableContentTypePredicate;
         this.encodableRequestHeadersPredicate = encodableRequestHeadersPredicate;
         this.minBytesToForceChunkedAndEncoding = minBytesToForceChunkedAndEncoding;
+        this.zstdEncoderFactory = zstdEncoderFactory;
+        this.encodingPolicy = encodingPolicy;
     }
 
     @Override
@@ -81,12 +88,13 @@ public final class EncodingService extends SimpleDecoratingHttpService {
 
     @Override
     public HttpResponse serve(ServiceRequestContext ctx, HttpRequest req) throws Exception {
-        final StreamEncoderFactory encoderFactory = HttpEncoders.getEncoderFactory(req.headers());
+        final StreamEncoderFactory encoderFactory = HttpEncoders.getEncoderFactory(req.headers(),
+                                                                                zstdEncoderFactory);
         final HttpResponse delegateResponse = unwrap().serve(ctx, req);
         if (encoderFactory == null || !encodableRequestHeadersPredicate.test(req.headers())) {
             return delegateResponse;
         }
         return new HttpEncodedResponse(delegateResponse, encoderFactory, encodableContentTypePredicate,
-                                       ctx.alloc(), minBytesToForceChunkedAndEncoding);
+                                       ctx, minBytesToForceChunkedAndEncoding, encodingPolicy);
     }
 }
@@ -32,6 +32,11 @@ import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.encoding.StreamDecoderFactory;
+import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactories;
+import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactory;
+import com.linecorp.armeria.internal.common.encoding.ZstdStreamEncoderFactory;
 import com.linecorp.armeria.server.HttpService;
 
 /**
@@ -64,6 +69,10 @@ public final class EncodingServiceBuilder {
 
     private int minBytesToForceChunkedAndEncoding = DEFAULT_MIN_BYTES_TO_FORCE_CHUNKED_AND_ENCODING;
 
+    private StreamEncoderFactory zstdEncoderFactory = StreamEncoderFactories.ZSTD;
+
+    private EncodingPolicy encodingPolicy = EncodingPolicy.ofDefault();
+
     EncodingServiceBuilder() {}
 
     /**
@@ -120,12 +129,43 @@ public final class EncodingServiceBuilder {
         return this;
     }
 
+    /**
+     * Sets the dictionary to use when the content is encoded with {@code "zstd"}. A dictionary trained with
+     * the samples of the content, e.g. {@code zstd --train}, improves the compression ratio significantly
+     * for small payloads such as JSON API responses. Note that the client must decode the content with
+     * the same dictionary, e.g. using {@link StreamDecoderFactory#zstd(byte[])}, and thus this should be
+     * used only when all clients share the dictionary.
+     *
+     * <p>{@code "zstd"} is used only when <a href="https://github.com/luben/zstd-jni">zstd-jni</a> is in
+     * the class path.
+     */
+    @UnstableApi
+    public EncodingServiceBuilder zstdDictionary(byte[] dictionary) {
+        requireNonNull(dictionary, "dictionary");
+        zstdEncoderFactory = new ZstdStreamEncoderFactory(dictionary);
+        return this;
+    }
+
+    /**
+     * Sets the {@link EncodingPolicy} which decides whether and how hard a response is compressed, e.g.
+     * depending on the current CPU usage. The {@link EncodingPolicy} is consulted only when the response
+     * satisfies the other conditions of this builder. If not set, all the encodable responses are compressed
+     * with the default level of the encoding.
+     *
+     * @see EncodingPolicy#builder()
+     */
+    @UnstableApi
+    public EncodingServiceBuilder encodingPolicy(EncodingPolicy encodingPolicy) {
+        this.encodingPolicy = requireNonNull(encodingPolicy, "encodingPolicy");
+        return this;
+    }
+
     /**
      * Returns a newly-created {@link EncodingService} based on the properties of this builder.
      */
     public EncodingService build(HttpService delegate) {
         return new EncodingService(delegate, encodableContentTypePredicate, encodableRequestHeadersPredicate,
-                                   minBytesToForceChunkedAndEncoding);
+                                   minBytesToForceChunkedAndEncoding, zstdEncoderFactory, encodingPolicy);
     }
 
     /**
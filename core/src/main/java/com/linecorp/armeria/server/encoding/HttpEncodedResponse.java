@@ -40,8 +40,11 @@ import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.common.ResponseHeadersBuilder;
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.encoding.CompressionLevel;
 import com.linecorp.armeria.common.stream.FilteredStreamMessage;
 import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactory;
+import com.linecorp.armeria.internal.common.encoding.ZlibOutputStream;
+import com.linecorp.armeria.server.ServiceRequestContext;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
@@ -57,7 +60,8 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
     private final StreamEncoderFactory encoderFactory;
     private final Predicate<MediaType> encodableContentTypePredicate;
     private final long minBytesToForceChunkedAndEncoding;
-    private final ByteBufAllocator alloc;
+    private final ServiceRequestContext ctx;
+    private final EncodingPolicy encodingPolicy;
 
     @VisibleForTesting
     @Nullable
@@ -66,6 +70,11 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
     @Nullable
     private OutputStream encodingStream;
 
+    // The level chosen by the EncodingPolicy. The encoder is created lazily with the first content so that
+    // the EncodingPolicy can lower the level by inspecting it.
+    @Nullable
+    private CompressionLevel compressionLevel;
+
     private boolean headersSent;
 
     private boolean encoderClosed;
@@ -73,13 +82,16 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
     HttpEncodedResponse(HttpResponse delegate,
                         StreamEncoderFactory encoderFactory,
                         Predicate<MediaType> encodableContentTypePredicate,
-                        ByteBufAllocator alloc,
-                        long minBytesToForceChunkedAndEncoding) {
-        super(delegate);
+                        ServiceRequestContext ctx,
+                        long minBytesToForceChunkedAndEncoding,
+                        EncodingPolicy encodingPolicy) {
+        // Receive the pooled objects to compress them without copying into the heap when possible.
+        super(delegate, true);
         this.encoderFactory = encoderFactory;
         this.encodableContentTypePredicate = encodableContentTypePredicate;
-        this.alloc = alloc;
+        this.ctx = ctx;
         this.minBytesToForceChunkedAndEncoding = minBytesToForceChunkedAndEncoding;
+        this.encodingPolicy = encodingPolicy;
     }
 
     @Override
@@ -102,7 +114,13 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
             if (!shouldEncodeResponse(headers)) {
                 return obj;
             }
+            final CompressionLevel compressionLevel = encodingPolicy.compressionLevel(ctx, headers);
+            if (compressionLevel == CompressionLevel.NONE) {
+                return obj;
+            }
+            this.compressionLevel = compressionLevel;
 
+            final ByteBufAllocator alloc = ctx.alloc();
             final ByteBuf buf;
             final long contentLength = headers.contentLength();
             if (contentLength > 0) {
@@ -113,7 +131,6 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
                 buf = alloc.buffer();
             }
             encodedStream = new ByteBufOutputStream(buf);
-            encodingStream = encoderFactory.newEncoder(encodedStream);
 
             final ResponseHeadersBuilder mutable = headers.toBuilder();
             // Always use chunked encoding when compressing.
@@ -128,15 +145,24 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
             return obj;
         }
 
-        if (encodingStream == null) {
+        if (encodedStream == null) {
             // Encoding was disabled for this response.
             return obj;
         }
 
         final HttpData data = (HttpData) obj;
-        assert encodedStream != null;
-        try {
-            encodingStream.write(data.array());
+        try (HttpData unused = data) {
+            OutputStream encodingStream = this.encodingStream;
+            if (encodingStream == null) {
+                assert compressionLevel != null;
+                compressionLevel = encodingPolicy.compressionLevel(ctx, data, compressionLevel);
+                encodingStream = newEncodingStream();
+            }
+            if (encodingStream instanceof ZlibOutputStream) {
+                ((ZlibOutputStream) encodingStream).write(data.byteBuf());
+            } else {
+                encodingStream.write(data.array());
+            }
             encodingStream.flush();
             final ByteBuf encodedBuf = encodedStream.buffer();
             final HttpData httpData = HttpData.wrap(encodedBuf.retainedSlice());
@@ -188,12 +214,21 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
             return;
         }
         encoderClosed = true;
-        if (encodingStream == null) {
+        if (encodedStream == null) {
             return;
         }
         try {
+            OutputStream encodingStream = this.encodingStream;
+            if (encodingStream == null) {
+                if (releaseEncodedBuf) {
+                    encodedStream.buffer().release();
+                    return;
+                }
+                // Write an empty content in the encoding, e.g. the header and the trailer of gzip.
+                encodingStream = newEncodingStream();
+            }
             encodingStream.close();
-            if (encodedStream != null && releaseEncodedBuf) {
+            if (releaseEncodedBuf) {
                 encodedStream.buffer().release();
             }
         } catch (IOException e) {
@@ -201,6 +236,12 @@ final class HttpEncodedResponse extends FilteredHttpResponse {
         }
     }
 
+    private OutputStream newEncodingStream() {
+        assert encodedStream != null;
+        assert compressionLevel != null;
+        return encodingStream = encoderFactory.newEncoder(encodedStream, compressionLevel);
+    }
+
     private boolean shouldEncodeResponse(ResponseHeaders headers) {
         if (headers.status().isContentAlwaysEmpty()) {
             return false;
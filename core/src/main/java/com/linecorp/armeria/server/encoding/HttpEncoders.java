@@ -28,6 +28,7 @@ import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactories;
 import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactory;
 
 import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.Zstd;
 
 /**
  * Support utilities for dealing with HTTP encoding (e.g., gzip).
@@ -41,16 +42,27 @@ final class HttpEncoders {
 
     @Nullable
     static StreamEncoderFactory getEncoderFactory(RequestHeaders headers) {
+        return getEncoderFactory(headers, StreamEncoderFactories.ZSTD);
+    }
+
+    /**
+     * Returns the {@link StreamEncoderFactory} for the encoding accepted by the client. The specified
+     * {@code zstdEncoderFactory} is used when {@code "zstd"} is chosen.
+     */
+    @Nullable
+    static StreamEncoderFactory getEncoderFactory(RequestHeaders headers,
+                                                  StreamEncoderFactory zstdEncoderFactory) {
         final String acceptEncoding = headers.get(HttpHeaderNames.ACCEPT_ENCODING);
         if (acceptEncoding == null) {
             return null;
         }
-        return determineEncoder(acceptEncoding);
+        return determineEncoder(acceptEncoding, zstdEncoderFactory);
     }
 
     // Copied from netty's HttpContentCompressor.
     @Nullable
-    private static StreamEncoderFactory determineEncoder(String acceptEncoding) {
+    private static StreamEncoderFactory determineEncoder(String acceptEncoding,
+                                                         StreamEncoderFactory zstdEncoderFactory) {
         float starQ = -1.0f;
         final Map<StreamEncoderFactory, Float> encodings = new LinkedHashMap<>();
         for (String encoding : acceptEncoding.split(",")) {
@@ -66,6 +78,8 @@ final class HttpEncoders {
             }
             if (encoding.contains("*")) {
                 starQ = q;
+            } else if (encoding.contains("zstd") && Zstd.isAvailable()) {
+                encodings.put(zstdEncoderFactory, q);
             } else if (encoding.contains("br") && Brotli.isAvailable()) {
                 encodings.put(StreamEncoderFactories.BROTLI, q);
             } else if (encoding.contains("gzip")) {
@@ -97,6 +111,9 @@ final class HttpEncoders {
             if (!encodings.containsKey(StreamEncoderFactories.SNAPPY)) {
                 return StreamEncoderFactories.SNAPPY;
             }
+            if (!encodings.containsKey(zstdEncoderFactory) && Zstd.isAvailable()) {
+                return zstdEncoderFactory;
+            }
         }
         return null;
     }
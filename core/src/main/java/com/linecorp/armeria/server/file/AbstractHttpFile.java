@@ -18,6 +18,7 @@ package com.linecorp.armeria.server.file;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Clock;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -37,7 +38,9 @@ import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.common.ResponseHeadersBuilder;
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.util.Exceptions;
+import com.linecorp.armeria.internal.common.FileRegionHttpData;
 import com.linecorp.armeria.server.HttpService;
+import com.linecorp.armeria.server.ServiceRequestContext;
 
 import io.netty.buffer.ByteBufAllocator;
 
@@ -295,7 +298,10 @@ public abstract class AbstractHttpFile implements HttpFile {
                         }
                         break;
                     case GET:
-                        final HttpResponse res = read(ctx.blockingTaskExecutor(), ctx.alloc(), attrs);
+                        HttpResponse res = readFileRegion(ctx, attrs);
+                        if (res == null) {
+                            res = read(ctx.blockingTaskExecutor(), ctx.alloc(), attrs);
+                        }
                         if (res != null) {
                             return res;
                         }
@@ -310,6 +316,48 @@ public abstract class AbstractHttpFile implements HttpFile {
         };
     }
 
+    /**
+     * Returns a new {@link HttpResponse} whose content is transferred to the connection without being copied
+     * into the user space, or {@code null} if zero-copy transfer is disabled or not supported for
+     * the specified {@link ServiceRequestContext}.
+     */
+    @Nullable
+    private HttpResponse readFileRegion(ServiceRequestContext ctx, HttpFileAttributes attrs) {
+        final Path path = path();
+        final long length = attrs.length();
+        if (path == null || length == 0 || length > Integer.MAX_VALUE ||
+            !Boolean.TRUE.equals(ctx.attr(FileService.ZERO_COPY)) ||
+            !FileRegionHttpData.isSupported(ctx.sessionProtocol(), ctx.eventLoop().withoutContext())) {
+            return null;
+        }
+
+        final ResponseHeaders headers = readHeaders(attrs);
+        if (headers == null) {
+            return null;
+        }
+
+        // Open the file in the blocking task executor as the ordinary path does.
+        final Executor fileReadExecutor = ctx.blockingTaskExecutor();
+        return HttpResponse.of(CompletableFuture.supplyAsync(() -> {
+            try {
+                return HttpResponse.of(headers, FileRegionHttpData.of(path, 0, length));
+            } catch (IOException e) {
+                // Fall back to the ordinary path which handles the error.
+                final HttpResponse res = read(fileReadExecutor, ctx.alloc(), attrs);
+                return res != null ? res : HttpResponse.of(HttpStatus.NOT_FOUND);
+            }
+        }, fileReadExecutor));
+    }
+
+    /**
+     * Returns the {@link Path} of the file if its content can be transferred with
+     * a {@link FileRegionHttpData}, or {@code null} otherwise.
+     */
+    @Nullable
+    Path path() {
+        return null;
+    }
+
     private static boolean entityTagMatches(String entityTag, String ifNoneMatch) {
         for (String candidate : etagSplitter.split(ifNoneMatch)) {
             final String candidateETag = extractEntityTag(candidate);
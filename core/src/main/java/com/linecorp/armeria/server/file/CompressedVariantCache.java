@@ -0,0 +1,379 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.file;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Clock;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Ascii;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.util.Exceptions;
+import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactories;
+import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactory;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.util.AsciiString;
+
+/**
+ * A cache of the compressed variants of the files served by {@link FileService}. A file is compressed once,
+ * on the first request which accepts the encoding, using the blocking task executor. The later requests are
+ * served with the compressed content directly. A cached variant is never served for a modified file because
+ * the length and the last modified time of the file are part of the cache key.
+ */
+final class CompressedVariantCache {
+
+    /**
+     * The minimum length of a file to compress. Compressing a smaller file is not worth it.
+     */
+    private static final int MIN_LENGTH = 1024;
+
+    private static final Set<MediaType> compressibleMediaTypes =
+            ImmutableSet.of(MediaType.ANY_TEXT_TYPE,
+                            MediaType.APPLICATION_XML_UTF_8,
+                            MediaType.JAVASCRIPT_UTF_8,
+                            MediaType.JSON_UTF_8,
+                            MediaType.SVG_UTF_8);
+
+    private static final Set<AsciiString> regeneratedHeaders =
+            ImmutableSet.of(HttpHeaderNames.CONTENT_LENGTH, HttpHeaderNames.CONTENT_TYPE,
+                            HttpHeaderNames.CONTENT_ENCODING, HttpHeaderNames.DATE,
+                            HttpHeaderNames.LAST_MODIFIED, HttpHeaderNames.ETAG, HttpHeaderNames.VARY);
+
+    private static final Splitter COMMA_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    static {
+        // Invoke to load Brotli native binary.
+        Brotli.isAvailable();
+    }
+
+    private final long maxSizeBytes;
+    private final Clock clock;
+    private final AsyncCache<VariantKey, AggregatedHttpFile> cache;
+
+    CompressedVariantCache(long maxSizeBytes, Clock clock) {
+        checkArgument(maxSizeBytes > 0, "maxSizeBytes: %s (expected: > 0)", maxSizeBytes);
+        this.maxSizeBytes = maxSizeBytes;
+        this.clock = clock;
+        cache = Caffeine.newBuilder()
+                        .maximumWeight(maxSizeBytes)
+                        .weigher((VariantKey key, AggregatedHttpFile file) -> {
+                            final HttpFileAttributes attrs = file.attributes();
+                            assert attrs != null;
+                            return (int) attrs.length();
+                        })
+                        .recordStats()
+                        .buildAsync();
+    }
+
+    /**
+     * Serves the specified {@link HttpFile}, using its compressed variant if the client accepts one of
+     * the supported encodings and the file is compressible.
+     */
+    HttpResponse serve(ServiceRequestContext ctx, HttpRequest req, HttpFile file) {
+        final Executor executor = ctx.blockingTaskExecutor();
+        final StreamEncoderFactory encoderFactory = encoderFactory(req.headers());
+        return HttpResponse.of(file.readAttributes(executor).thenCompose(attrs -> {
+            if (attrs == null || attrs.length() < MIN_LENGTH || attrs.length() > maxSizeBytes ||
+                attrs.length() > Integer.MAX_VALUE) {
+                return CompletableFuture.completedFuture(serveUncompressed(ctx, req, file, false));
+            }
+
+            return file.readHeaders(executor).thenCompose(headers -> {
+                if (headers == null || !isCompressible(headers)) {
+                    return CompletableFuture.completedFuture(serveUncompressed(ctx, req, file, false));
+                }
+                if (encoderFactory == null) {
+                    return CompletableFuture.completedFuture(serveUncompressed(ctx, req, file, true));
+                }
+
+                final VariantKey key = new VariantKey(ctx.decodedMappedPath(), encoderFactory, attrs);
+                return cache.get(key, (unused1, unused2) -> compress(file, headers, attrs,
+                                                                      encoderFactory, executor))
+                            .handle((variant, cause) -> {
+                                if (cause != null) {
+                                    // Serve the file as it is. The failed entry has been removed from
+                                    // the cache, so it will be compressed again next time.
+                                    return serveUncompressed(ctx, req, file, true);
+                                }
+                                return serveFile(ctx, req, variant.toHttpFile());
+                            });
+            });
+        }));
+    }
+
+    private CompletableFuture<AggregatedHttpFile> compress(HttpFile file, ResponseHeaders headers,
+                                                           HttpFileAttributes attrs,
+                                                           StreamEncoderFactory encoderFactory,
+                                                           Executor executor) {
+        return file.aggregate(executor).thenApplyAsync(aggregated -> {
+            final HttpData content = aggregated.content();
+            final HttpFileAttributes aggregatedAttrs = aggregated.attributes();
+            if (content == null || !attrs.equals(aggregatedAttrs)) {
+                // Modified while being read.
+                throw new IllegalStateException("file modified: " + file);
+            }
+
+            final ByteBuf buf = Unpooled.buffer(content.length() / 2);
+            final byte[] compressed;
+            try {
+                try (OutputStream encoder = encoderFactory.newEncoder(new ByteBufOutputStream(buf))) {
+                    encoder.write(content.array());
+                }
+                compressed = ByteBufUtil.getBytes(buf);
+            } catch (IOException e) {
+                return Exceptions.throwUnsafely(e);
+            } finally {
+                buf.release();
+            }
+
+            final AggregatedHttpFileBuilder builder =
+                    AggregatedHttpFile.builder(HttpData.wrap(compressed), attrs.lastModifiedMillis())
+                                      .clock(clock)
+                                      .date(headers.contains(HttpHeaderNames.DATE))
+                                      .lastModified(headers.contains(HttpHeaderNames.LAST_MODIFIED));
+            final MediaType contentType = headers.contentType();
+            if (contentType != null) {
+                builder.contentType(contentType);
+            }
+            final String etag = variantEntityTag(headers.get(HttpHeaderNames.ETAG), encoderFactory);
+            if (etag != null) {
+                builder.entityTag((unused1, unused2) -> etag);
+            } else {
+                builder.entityTag(false);
+            }
+            for (Entry<AsciiString, String> e : headers) {
+                final AsciiString name = e.getKey();
+                if (!name.isEmpty() && name.byteAt(0) != ':' && !regeneratedHeaders.contains(name)) {
+                    builder.addHeader(name, e.getValue());
+                }
+            }
+            builder.setHeader(HttpHeaderNames.CONTENT_ENCODING, encoderFactory.encodingHeaderValue());
+            builder.setHeader(HttpHeaderNames.VARY, addAcceptEncoding(headers.get(HttpHeaderNames.VARY)));
+            return builder.build();
+        }, executor);
+    }
+
+    private static HttpResponse serveUncompressed(ServiceRequestContext ctx, HttpRequest req, HttpFile file,
+                                                  boolean compressible) {
+        final HttpResponse res = serveFile(ctx, req, file);
+        if (!compressible) {
+            return res;
+        }
+
+        // Tell the caches that the response varies by the 'accept-encoding' header.
+        return res.mapHeaders(headers -> {
+            final HttpStatus status = headers.status();
+            if ((status != HttpStatus.OK && status != HttpStatus.NOT_MODIFIED) ||
+                headers.contains(HttpHeaderNames.CONTENT_ENCODING)) {
+                return headers;
+            }
+            return headers.toBuilder()
+                          .set(HttpHeaderNames.VARY, addAcceptEncoding(headers.get(HttpHeaderNames.VARY)))
+                          .build();
+        });
+    }
+
+    private static HttpResponse serveFile(ServiceRequestContext ctx, HttpRequest req, HttpFile file) {
+        try {
+            return file.asService().serve(ctx, req);
+        } catch (Exception e) {
+            return Exceptions.throwUnsafely(e);
+        }
+    }
+
+    private static boolean isCompressible(ResponseHeaders headers) {
+        if (headers.contains(HttpHeaderNames.CONTENT_ENCODING)) {
+            // Pre-compressed already.
+            return false;
+        }
+        final MediaType contentType = headers.contentType();
+        if (contentType == null) {
+            return false;
+        }
+        for (MediaType mediaType : compressibleMediaTypes) {
+            if (contentType.belongsTo(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the {@link StreamEncoderFactory} of the most preferred encoding among the ones accepted by
+     * the client. Note that this does not take the quality values into account, except for {@code q=0}.
+     */
+    @Nullable
+    static StreamEncoderFactory encoderFactory(RequestHeaders headers) {
+        final String acceptEncoding = headers.get(HttpHeaderNames.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return null;
+        }
+
+        boolean brotli = false;
+        boolean zstd = false;
+        boolean gzip = false;
+        for (String encoding : COMMA_SPLITTER.split(Ascii.toLowerCase(acceptEncoding))) {
+            final int semicolonPos = encoding.indexOf(';');
+            final String name;
+            if (semicolonPos >= 0) {
+                if (isZeroQuality(encoding.substring(semicolonPos + 1))) {
+                    continue;
+                }
+                name = encoding.substring(0, semicolonPos).trim();
+            } else {
+                name = encoding;
+            }
+
+            if ("br".equals(name)) {
+                brotli = true;
+            } else if ("zstd".equals(name)) {
+                zstd = true;
+            } else if ("gzip".equals(name)) {
+                gzip = true;
+            }
+        }
+
+        // Prefer the encoding with the better compression ratio because a file is compressed only once.
+        if (brotli && Brotli.isAvailable()) {
+            return StreamEncoderFactories.BROTLI;
+        }
+        if (zstd && Zstd.isAvailable()) {
+            return StreamEncoderFactories.ZSTD;
+        }
+        if (gzip) {
+            return StreamEncoderFactories.GZIP;
+        }
+        return null;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        final int equalsPos = params.indexOf('=');
+        if (equalsPos < 0 || !"q".equals(params.substring(0, equalsPos).trim())) {
+            return false;
+        }
+        try {
+            return Float.parseFloat(params.substring(equalsPos + 1).trim()) <= 0.0f;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    @Nullable
+    private static String variantEntityTag(@Nullable String etag, StreamEncoderFactory encoderFactory) {
+        if (etag == null || etag.length() < 2 ||
+            etag.charAt(0) != '"' || etag.charAt(etag.length() - 1) != '"') {
+            return null;
+        }
+        return etag.substring(1, etag.length() - 1) + '-' + encoderFactory.encodingHeaderValue();
+    }
+
+    private static String addAcceptEncoding(@Nullable String vary) {
+        if (vary == null || vary.isEmpty()) {
+            return HttpHeaderNames.ACCEPT_ENCODING.toString();
+        }
+        for (String name : COMMA_SPLITTER.split(vary)) {
+            if ("*".equals(name) || HttpHeaderNames.ACCEPT_ENCODING.contentEqualsIgnoreCase(name)) {
+                return vary;
+            }
+        }
+        return vary + ", " + HttpHeaderNames.ACCEPT_ENCODING;
+    }
+
+    Cache<VariantKey, AggregatedHttpFile> cache() {
+        return cache.synchronous();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("maxSizeBytes", maxSizeBytes)
+                          .add("size", cache.synchronous().estimatedSize())
+                          .toString();
+    }
+
+    static final class VariantKey {
+
+        private final String path;
+        private final String encoding;
+        private final long length;
+        private final long lastModifiedMillis;
+
+        VariantKey(String path, StreamEncoderFactory encoderFactory, HttpFileAttributes attrs) {
+            this.path = path;
+            encoding = encoderFactory.encodingHeaderValue();
+            length = attrs.length();
+            lastModifiedMillis = attrs.lastModifiedMillis();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof VariantKey)) {
+                return false;
+            }
+            final VariantKey that = (VariantKey) obj;
+            return path.equals(that.path) && encoding.equals(that.encoding) &&
+                   length == that.length && lastModifiedMillis == that.lastModifiedMillis;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, encoding, length, lastModifiedMillis);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                              .add("path", path)
+                              .add("encoding", encoding)
+                              .add("length", length)
+                              .add("lastModifiedMillis", lastModifiedMillis)
+                              .toString();
+        }
+    }
+}
@@ -51,6 +51,14 @@ final class DeferredHttpFile implements HttpFile {
         }
     }
 
+    /**
+     * Returns the {@link HttpFile} produced by the stage, or {@code null} if the stage is not complete yet.
+     */
+    @Nullable
+    HttpFile delegate() {
+        return delegate;
+    }
+
     @Override
     public CompletableFuture<HttpFileAttributes> readAttributes(Executor fileReadExecutor) {
         requireNonNull(fileReadExecutor, "fileReadExecutor");
@@ -63,6 +63,7 @@ import com.linecorp.armeria.server.encoding.EncodingService;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.handler.codec.compression.Brotli;
+import io.netty.util.AttributeKey;
 
 /**
  * An {@link HttpService} that serves static files from a file system.
@@ -78,6 +79,11 @@ public final class FileService extends AbstractHttpService {
     private static final UnmodifiableFuture<HttpFile> NON_EXISTENT_FILE_FUTURE =
             UnmodifiableFuture.completedFuture(HttpFile.nonExistent());
 
+    /**
+     * Tells {@link AbstractHttpFile} that the content of a file can be transferred without being copied.
+     */
+    static final AttributeKey<Boolean> ZERO_COPY = AttributeKey.valueOf(FileService.class, "ZERO_COPY");
+
     /**
      * Returns a new {@link FileService} for the specified {@code rootDir} in an O/S file system.
      */
@@ -139,6 +145,10 @@ public final class FileService extends AbstractHttpService {
 
     @Nullable
     private final Cache<PathAndEncoding, AggregatedHttpFile> cache;
+    @Nullable
+    private final MappedFileCache mappedFileCache;
+    @Nullable
+    private final CompressedVariantCache compressedVariantCache;
 
     FileService(FileServiceConfig config) {
         this.config = requireNonNull(config, "config");
@@ -148,6 +158,19 @@ public final class FileService extends AbstractHttpService {
         } else {
             cache = null;
         }
+        final long mappedCacheSizeBytes = config.mappedCacheSizeBytes();
+        if (mappedCacheSizeBytes > 0) {
+            mappedFileCache = new MappedFileCache(mappedCacheSizeBytes);
+        } else {
+            mappedFileCache = null;
+        }
+        final long compressedVariantCacheSizeBytes = config.compressedVariantCacheSizeBytes();
+        if (compressedVariantCacheSizeBytes > 0) {
+            compressedVariantCache = new CompressedVariantCache(compressedVariantCacheSizeBytes,
+                                                                config.clock());
+        } else {
+            compressedVariantCache = null;
+        }
     }
 
     private static Cache<PathAndEncoding, AggregatedHttpFile> newCache(String cacheSpec) {
@@ -177,12 +200,32 @@ public final class FileService extends AbstractHttpService {
 
             CaffeineMetricSupport.setup(registry, meterIdPrefix, cache);
         }
+        if (mappedFileCache != null) {
+            final MeterIdPrefix meterIdPrefix =
+                    new MeterIdPrefix("armeria.server.file.vfs.mapped.cache",
+                                      "hostname.pattern",
+                                      cfg.virtualHost().hostnamePattern(),
+                                      "route", cfg.route().patternString(),
+                                      "vfs", config.vfs().meterTag());
+
+            CaffeineMetricSupport.setup(registry, meterIdPrefix, mappedFileCache.cache());
+        }
+        if (compressedVariantCache != null) {
+            final MeterIdPrefix meterIdPrefix =
+                    new MeterIdPrefix("armeria.server.file.vfs.compressed.cache",
+                                      "hostname.pattern",
+                                      cfg.virtualHost().hostnamePattern(),
+                                      "route", cfg.route().patternString(),
+                                      "vfs", config.vfs().meterTag());
+
+            CaffeineMetricSupport.setup(registry, meterIdPrefix, compressedVariantCache.cache());
+        }
     }
 
     @Override
     public boolean shouldCachePath(String path, @Nullable String query, Route route) {
         // We assume that if a file cache is enabled, the number of paths is also finite.
-        return cache != null;
+        return cache != null || mappedFileCache != null;
     }
 
     /**
@@ -194,7 +237,14 @@ public final class FileService extends AbstractHttpService {
 
     @Override
     protected HttpResponse doGet(ServiceRequestContext ctx, HttpRequest req) throws Exception {
-        return findFile(ctx, req).asService().serve(ctx, req);
+        if (config.zeroCopy()) {
+            ctx.setAttr(ZERO_COPY, true);
+        }
+        final HttpFile file = findFile(ctx, req);
+        if (compressedVariantCache != null) {
+            return compressedVariantCache.serve(ctx, req, file);
+        }
+        return file.asService().serve(ctx, req);
     }
 
     private HttpFile findFile(ServiceRequestContext ctx, HttpRequest req) {
@@ -321,18 +371,20 @@ public final class FileService extends AbstractHttpService {
                                                        config.mediaTypeResolver());
 
         return uncachedFile.readAttributes(readExecutor).thenApply(uncachedAttrs -> {
+            final boolean decompressing = decompress && encoding != null;
             if (cache == null) {
                 if (uncachedAttrs != null) {
-                    if (decompress && encoding != null) {
+                    if (decompressing) {
                         // The compressed data will be decompressed while being served.
                         final MediaType contentType =
                                 config.mediaTypeResolver()
                                       .guessFromPath(path, contentEncoding);
                         return new DecompressingHttpFile(uncachedFile, encoding, contentType);
                     } else {
-                        return uncachedFile;
+                        return findMappedFile(uncachedFile, uncachedAttrs);
                     }
                 }
+                invalidateMappedFile(uncachedFile);
                 return null;
             }
 
@@ -340,13 +392,14 @@ public final class FileService extends AbstractHttpService {
             if (uncachedAttrs == null) {
                 // Non-existent file. Invalidate the cache just in case it existed before.
                 cache.invalidate(pathAndEncoding);
+                invalidateMappedFile(uncachedFile);
                 return null;
             }
 
             if (uncachedAttrs.length() > config.maxCacheEntrySizeBytes()) {
                 // Invalidate the cache just in case the file was small previously.
                 cache.invalidate(pathAndEncoding);
-                return uncachedFile;
+                return decompressing ? uncachedFile : findMappedFile(uncachedFile, uncachedAttrs);
             }
 
             @Nullable
@@ -433,6 +486,52 @@ public final class FileService extends AbstractHttpService {
         });
     }
 
+    /**
+     * Returns the memory-mapped {@link HttpFile} of the specified {@code uncachedFile} if it is a large file
+     * in the file system and the memory-mapped file cache is enabled. Otherwise, returns
+     * the {@code uncachedFile} as it is.
+     */
+    private HttpFile findMappedFile(HttpFile uncachedFile, HttpFileAttributes uncachedAttrs) {
+        if (mappedFileCache == null) {
+            return uncachedFile;
+        }
+        final FileSystemHttpFile fileSystemFile = fileSystemFile(uncachedFile);
+        if (fileSystemFile == null) {
+            return uncachedFile;
+        }
+
+        if (uncachedAttrs.length() <= config.maxCacheEntrySizeBytes() ||
+            !mappedFileCache.isCacheable(uncachedAttrs)) {
+            // Invalidate the cache just in case the file was cacheable previously.
+            mappedFileCache.invalidate(fileSystemFile.path());
+            return uncachedFile;
+        }
+
+        final HttpFile mappedFile = mappedFileCache.get(fileSystemFile, uncachedAttrs);
+        return mappedFile != null ? mappedFile : uncachedFile;
+    }
+
+    private void invalidateMappedFile(HttpFile uncachedFile) {
+        if (mappedFileCache == null) {
+            return;
+        }
+        final FileSystemHttpFile fileSystemFile = fileSystemFile(uncachedFile);
+        if (fileSystemFile != null) {
+            mappedFileCache.invalidate(fileSystemFile.path());
+        }
+    }
+
+    @Nullable
+    private static FileSystemHttpFile fileSystemFile(HttpFile file) {
+        if (file instanceof DeferredHttpFile) {
+            final HttpFile delegate = ((DeferredHttpFile) file).delegate();
+            if (delegate != null) {
+                file = delegate;
+            }
+        }
+        return file instanceof FileSystemHttpFile ? (FileSystemHttpFile) file : null;
+    }
+
     private HttpFile cache(ServiceRequestContext ctx, PathAndEncoding pathAndEncoding, HttpFile uncachedFile,
                            @Nullable ContentEncoding encoding, boolean decompress) {
 
@@ -18,7 +18,9 @@ package com.linecorp.armeria.server.file;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
+import static com.linecorp.armeria.server.file.FileServiceConfig.validateCompressedVariantCacheSizeBytes;
 import static com.linecorp.armeria.server.file.FileServiceConfig.validateEntryCacheSpec;
+import static com.linecorp.armeria.server.file.FileServiceConfig.validateMappedCacheSizeBytes;
 import static com.linecorp.armeria.server.file.FileServiceConfig.validateMaxCacheEntrySizeBytes;
 import static com.linecorp.armeria.server.file.FileServiceConfig.validateNonNegativeParameter;
 import static java.util.Objects.requireNonNull;
@@ -39,6 +41,7 @@ import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.server.encoding.EncodingService;
 
 /**
  * Builds a new {@link FileService} and its {@link FileServiceConfig}. Use the factory methods in
@@ -66,6 +69,9 @@ public final class FileServiceBuilder {
 
     @Nullable
     private ImmutableList.Builder<String> fallbackFileExtensions;
+    private boolean zeroCopy;
+    private long mappedCacheSizeBytes;
+    private long compressedVariantCacheSizeBytes;
 
     FileServiceBuilder(HttpVfs vfs) {
         this.vfs = requireNonNull(vfs, "vfs");
@@ -141,6 +147,28 @@ public final class FileServiceBuilder {
         return this;
     }
 
+    /**
+     * Sets the maximum total size of the compressed variants of the files which are cached. When set,
+     * {@link FileService} compresses a text file, such as HTML, CSS, JavaScript, JSON and SVG, once on
+     * the first request which {@link HttpHeaderNames#ACCEPT_ENCODING accepts} brotli, zstd or gzip, using
+     * the blocking task executor. The later requests are served with the cached compressed content directly,
+     * with the {@link HttpHeaderNames#ETAG} of the variant and {@code "vary: accept-encoding"}.
+     * A file is compressed again when its length or last modified time is changed. The files smaller than
+     * 1024 bytes or bigger than this value are not compressed. Pre-compressed files found by
+     * {@link #serveCompressedFiles(boolean)} are served as they are.
+     * If not set or {@code 0}, the compressed variant cache is disabled.
+     *
+     * <p>Unlike {@link EncodingService}, which compresses the content for every request, the same content is
+     * compressed only once. Consider removing {@link EncodingService} from the {@link FileService} when
+     * enabling this feature.
+     */
+    @UnstableApi
+    public FileServiceBuilder compressedVariantCacheSizeBytes(long compressedVariantCacheSizeBytes) {
+        this.compressedVariantCacheSizeBytes =
+                validateCompressedVariantCacheSizeBytes(compressedVariantCacheSizeBytes);
+        return this;
+    }
+
     /**
      * Sets the maximum allowed size of a cached file entry. The file bigger than this value will not be
      * cached. If not set, {@value #DEFAULT_MAX_CACHE_ENTRY_SIZE_BYTES} is used by default.
@@ -150,6 +178,23 @@ public final class FileServiceBuilder {
         return this;
     }
 
+    /**
+     * Sets the maximum total size of the files which are mapped into the memory and cached. The files in
+     * the file system which are bigger than {@link #maxCacheEntrySizeBytes(int)} are mapped once and
+     * served from the mapped region, instead of being kept on the heap or read for every request.
+     * When the total size exceeds this value, the files served less frequently are unmapped first.
+     * A cached file is mapped again when its length or last modified time is changed.
+     * If not set or {@code 0}, the memory-mapped file cache is disabled.
+     *
+     * <p>Note that the content of a mapped file must not be modified or truncated in place while being
+     * served. Replace the file atomically, e.g. by renaming a new file, instead.
+     */
+    @UnstableApi
+    public FileServiceBuilder mappedCacheSizeBytes(long mappedCacheSizeBytes) {
+        this.mappedCacheSizeBytes = validateMappedCacheSizeBytes(mappedCacheSizeBytes);
+        return this;
+    }
+
     /**
      * Sets whether {@link FileService} auto-generates a directory listing for a directory without an
      * {@code index.html} file. By default, this feature is disabled. Consider the security implications of
@@ -160,6 +205,22 @@ public final class FileServiceBuilder {
         return this;
     }
 
+    /**
+     * Sets whether the content of a file in the file system is transferred to a cleartext HTTP/1 connection
+     * without being copied into the user space, e.g. using {@code sendfile()}. The content is read and
+     * copied as usual for TLS and HTTP/2 connections and for the transports that do not support
+     * zero-copy transfer, such as {@code io_uring}. By default, this feature is disabled.
+     *
+     * <p>Note that a decorator which transforms or inspects the content, such as {@link EncodingService},
+     * reads the whole file into the memory on demand when this feature is enabled. Do not enable this
+     * feature if such a decorator is applied to the large files served by the {@link FileService}.
+     */
+    @UnstableApi
+    public FileServiceBuilder zeroCopy(boolean zeroCopy) {
+        this.zeroCopy = zeroCopy;
+        return this;
+    }
+
     /**
      * Adds the file extensions to be considered when resolving file names.
      * This method allows specifying alternative file names by appending the provided extensions
@@ -295,13 +356,15 @@ public final class FileServiceBuilder {
         return new FileService(new FileServiceConfig(
                 vfs, clock, entryCacheSpec, maxCacheEntrySizeBytes,
                 serveCompressedFiles, autoDecompress, autoIndex, buildHeaders(),
-                mediaTypeResolver.orElse(MediaTypeResolver.ofDefault()), fallbackFileExtensions()));
+                mediaTypeResolver.orElse(MediaTypeResolver.ofDefault()), fallbackFileExtensions(),
+                zeroCopy, mappedCacheSizeBytes, compressedVariantCacheSizeBytes));
     }
 
     @Override
     public String toString() {
         return FileServiceConfig.toString(this, vfs, clock, entryCacheSpec, maxCacheEntrySizeBytes,
                                           serveCompressedFiles, autoIndex, headers, mediaTypeResolver,
-                                          fallbackFileExtensions());
+                                          fallbackFileExtensions(), zeroCopy, mappedCacheSizeBytes,
+                                          compressedVariantCacheSizeBytes);
     }
 }
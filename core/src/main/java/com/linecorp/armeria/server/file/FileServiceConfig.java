@@ -49,11 +49,15 @@ public final class FileServiceConfig {
     private final HttpHeaders headers;
     private final MediaTypeResolver mediaTypeResolver;
     private final List<String> fallbackFileExtensions;
+    private final boolean zeroCopy;
+    private final long mappedCacheSizeBytes;
+    private final long compressedVariantCacheSizeBytes;
 
     FileServiceConfig(HttpVfs vfs, Clock clock, @Nullable String entryCacheSpec, int maxCacheEntrySizeBytes,
                       boolean serveCompressedFiles, boolean autoDecompress, boolean autoIndex,
                       HttpHeaders headers, MediaTypeResolver mediaTypeResolver,
-                      List<String> fallbackFileExtensions) {
+                      List<String> fallbackFileExtensions, boolean zeroCopy, long mappedCacheSizeBytes,
+                      long compressedVariantCacheSizeBytes) {
         this.vfs = requireNonNull(vfs, "vfs");
         this.clock = requireNonNull(clock, "clock");
         this.entryCacheSpec = validateEntryCacheSpec(entryCacheSpec);
@@ -64,6 +68,10 @@ public final class FileServiceConfig {
         this.headers = requireNonNull(headers, "headers");
         this.mediaTypeResolver = requireNonNull(mediaTypeResolver, "mediaTypeResolver");
         this.fallbackFileExtensions = requireNonNull(fallbackFileExtensions, "fallbackFileExtensions");
+        this.zeroCopy = zeroCopy;
+        this.mappedCacheSizeBytes = validateMappedCacheSizeBytes(mappedCacheSizeBytes);
+        this.compressedVariantCacheSizeBytes =
+                validateCompressedVariantCacheSizeBytes(compressedVariantCacheSizeBytes);
     }
 
     @Nullable
@@ -83,6 +91,23 @@ public final class FileServiceConfig {
         return validateNonNegativeParameter(maxCacheEntrySizeBytes, "maxCacheEntrySizeBytes");
     }
 
+    static long validateMappedCacheSizeBytes(long mappedCacheSizeBytes) {
+        if (mappedCacheSizeBytes < 0) {
+            throw new IllegalArgumentException(
+                    "mappedCacheSizeBytes: " + mappedCacheSizeBytes + " (expected: >= 0)");
+        }
+        return mappedCacheSizeBytes;
+    }
+
+    static long validateCompressedVariantCacheSizeBytes(long compressedVariantCacheSizeBytes) {
+        if (compressedVariantCacheSizeBytes < 0) {
+            throw new IllegalArgumentException(
+                    "compressedVariantCacheSizeBytes: " + compressedVariantCacheSizeBytes +
+                    " (expected: >= 0)");
+        }
+        return compressedVariantCacheSizeBytes;
+    }
+
     static int validateNonNegativeParameter(int value, String name) {
         if (value < 0) {
             throw new IllegalArgumentException(name + ": " + value + " (expected: >= 0)");
@@ -165,18 +190,48 @@ public final class FileServiceConfig {
         return fallbackFileExtensions;
     }
 
+    /**
+     * Returns whether the content of a file is transferred to a cleartext HTTP/1 connection without being
+     * copied into the user space.
+     */
+    @UnstableApi
+    public boolean zeroCopy() {
+        return zeroCopy;
+    }
+
+    /**
+     * Returns the maximum total size of the large files which are mapped into the memory and cached.
+     * {@code 0} means the memory-mapped file cache is disabled.
+     */
+    @UnstableApi
+    public long mappedCacheSizeBytes() {
+        return mappedCacheSizeBytes;
+    }
+
+    /**
+     * Returns the maximum total size of the compressed variants of the files which are compressed on
+     * the first request and cached. {@code 0} means the compressed variant cache is disabled.
+     */
+    @UnstableApi
+    public long compressedVariantCacheSizeBytes() {
+        return compressedVariantCacheSizeBytes;
+    }
+
     @Override
     public String toString() {
         return toString(this, vfs(), clock(), entryCacheSpec(), maxCacheEntrySizeBytes(),
                         serveCompressedFiles(), autoIndex(), headers(), mediaTypeResolver(),
-                        fallbackFileExtensions());
+                        fallbackFileExtensions(), zeroCopy(), mappedCacheSizeBytes(),
+                        compressedVariantCacheSizeBytes());
     }
 
     static String toString(Object holder, HttpVfs vfs, Clock clock,
                            @Nullable String entryCacheSpec, int maxCacheEntrySizeBytes,
                            boolean serveCompressedFiles, boolean autoIndex,
                            @Nullable Iterable<Entry<AsciiString, String>> headers,
-                           MediaTypeResolver mediaTypeResolver, @Nullable List<String> fallbackFileExtensions) {
+                           MediaTypeResolver mediaTypeResolver, @Nullable List<String> fallbackFileExtensions,
+                           boolean zeroCopy, long mappedCacheSizeBytes,
+                           long compressedVariantCacheSizeBytes) {
 
         return MoreObjects.toStringHelper(holder).omitNullValues()
                           .add("vfs", vfs)
@@ -188,6 +243,9 @@ public final class FileServiceConfig {
                           .add("headers", headers)
                           .add("mediaTypeResolver", mediaTypeResolver)
                           .add("fallbackFileExtensions", fallbackFileExtensions)
+                          .add("zeroCopy", zeroCopy)
+                          .add("mappedCacheSizeBytes", mappedCacheSizeBytes)
+                          .add("compressedVariantCacheSizeBytes", compressedVariantCacheSizeBytes)
                           .toString();
     }
 }
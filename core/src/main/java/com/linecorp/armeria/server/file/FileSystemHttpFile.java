@@ -18,7 +18,10 @@ package com.linecorp.armeria.server.file;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.channels.ScatteringByteChannel;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
@@ -32,11 +35,13 @@ import java.util.function.BiFunction;
 
 import com.google.common.base.MoreObjects;
 
+import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpHeaders;
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.util.Exceptions;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 final class FileSystemHttpFile extends StreamingHttpFile<ByteChannel> {
 
@@ -55,6 +60,32 @@ final class FileSystemHttpFile extends StreamingHttpFile<ByteChannel> {
         this.path = requireNonNull(path, "path");
     }
 
+    @Override
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Maps the content of this file into the memory and returns a new {@link AggregatedHttpFile} whose
+     * content is a read-only view of the mapped region. The mapped region is unmapped when the returned
+     * {@link AggregatedHttpFile} and all its content are released and garbage-collected.
+     *
+     * @param attrs the attributes of this file which were read before mapping the file
+     * @throws IOException if failed to map the file or the file has been modified since {@code attrs} was read
+     */
+    AggregatedHttpFile map(HttpFileAttributes attrs) throws IOException {
+        final MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size != attrs.length()) {
+                throw new IOException("file size changed: " + size + " (expected: " + attrs.length() + ')');
+            }
+            mapped = channel.map(MapMode.READ_ONLY, 0, size);
+        }
+        final HttpData data = HttpData.wrap(Unpooled.wrappedBuffer(mapped)).withEndOfStream();
+        return newAggregatedFile(data, attrs);
+    }
+
     @Override
     protected String pathOrUri() {
         return path.toString();
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.file;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+/**
+ * A cache of the memory-mapped files, which serves large files without keeping their content on the heap
+ * or reading them for every request. The total size of the mapped files is limited, and the files which
+ * are served less frequently are evicted first. An entry is replaced when the length or the last modified
+ * time of the file is changed.
+ *
+ * <p>Note that the mapped content of an evicted entry is never released explicitly, because the
+ * {@link HttpFile}s returned by {@link #get(FileSystemHttpFile, HttpFileAttributes)} may still be read by
+ * the responses being sent. The file is unmapped when the content is garbage-collected.
+ */
+final class MappedFileCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedFileCache.class);
+
+    private final long maxSizeBytes;
+    private final Cache<Path, AggregatedHttpFile> cache;
+
+    MappedFileCache(long maxSizeBytes) {
+        checkArgument(maxSizeBytes > 0, "maxSizeBytes: %s (expected: > 0)", maxSizeBytes);
+        this.maxSizeBytes = maxSizeBytes;
+        cache = Caffeine.newBuilder()
+                        .maximumWeight(maxSizeBytes)
+                        .weigher((Path path, AggregatedHttpFile file) -> {
+                            final HttpFileAttributes attrs = file.attributes();
+                            assert attrs != null;
+                            return (int) attrs.length();
+                        })
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Returns whether the file with the specified {@link HttpFileAttributes} can be cached.
+     */
+    boolean isCacheable(HttpFileAttributes attrs) {
+        final long length = attrs.length();
+        return length > 0 && length <= Integer.MAX_VALUE && length <= maxSizeBytes;
+    }
+
+    /**
+     * Returns the cached {@link HttpFile} of the specified {@link FileSystemHttpFile}, mapping the file
+     * into the memory if not cached or the cached one is out of date.
+     *
+     * @return the cached {@link HttpFile}, or {@code null} if failed to map the file
+     */
+    @Nullable
+    HttpFile get(FileSystemHttpFile file, HttpFileAttributes attrs) {
+        final Path path = file.path();
+        final AggregatedHttpFile cachedFile = cache.getIfPresent(path);
+        if (cachedFile != null && attrs.equals(cachedFile.attributes())) {
+            // Cache hit, and the cached file is up-to-date.
+            return cachedFile.toHttpFile();
+        }
+
+        // Cache miss, or the cached file is out of date. Map the file atomically so that the concurrent
+        // requests for the same file do not map it more than once.
+        final AggregatedHttpFile mappedFile = cache.asMap().compute(path, (unused, oldFile) -> {
+            if (oldFile != null && attrs.equals(oldFile.attributes())) {
+                // Mapped by another request already.
+                return oldFile;
+            }
+            try {
+                return file.map(attrs);
+            } catch (IOException e) {
+                logger.warn("Failed to map a file: {}", file, e);
+                // Remove the out-of-date entry, if any.
+                return null;
+            }
+        });
+        return mappedFile != null ? mappedFile.toHttpFile() : null;
+    }
+
+    /**
+     * Invalidates the cached entry of the file at the specified {@link Path}.
+     */
+    void invalidate(Path path) {
+        cache.invalidate(path);
+    }
+
+    Cache<Path, AggregatedHttpFile> cache() {
+        return cache;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("maxSizeBytes", maxSizeBytes)
+                          .add("size", cache.estimatedSize())
+                          .toString();
+    }
+}
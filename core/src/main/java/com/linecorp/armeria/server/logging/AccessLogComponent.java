@@ -106,6 +106,10 @@ interface AccessLogComponent {
             this.text = requireNonNull(text, "text");
         }
 
+        String text() {
+            return text;
+        }
+
         @Override
         public Object getMessage(RequestLog log) {
             return text;
@@ -154,6 +158,10 @@ interface AccessLogComponent {
             formatter = findFormatter(variable);
         }
 
+        DateTimeFormatter formatter() {
+            return formatter;
+        }
+
         @Nullable
         @Override
         public Object getMessage(RequestLog log) {
@@ -202,7 +210,6 @@ interface AccessLogComponent {
         }
 
         @Nullable
-        @VisibleForTesting
         Function<ResponseHeaders, Boolean> condition() {
             return condition;
         }
@@ -262,6 +269,10 @@ interface AccessLogComponent {
             this.variable = variable;
         }
 
+        AccessLogType type() {
+            return type;
+        }
+
         @Nullable
         @Override
         public Object getMessage0(RequestLog log) {
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.server.logging.AccessLogComponent.CommonComponent;
+import com.linecorp.armeria.server.logging.AccessLogComponent.TextComponent;
+import com.linecorp.armeria.server.logging.AccessLogComponent.TimestampComponent;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * Encodes an access log into a {@link ByteBuf} directly, without building a {@link String}.
+ * The {@link AccessLogComponent}s of a format are compiled in advance as follows:
+ * <ul>
+ *   <li>Adjacent text components are merged and pre-encoded into a byte array.</li>
+ *   <li>A timestamp is rendered only once for the requests started in the same second
+ *       (or millisecond for a user-specified format) and the rendered bytes are reused.</li>
+ *   <li>A status code and a response length are written as ASCII digits without boxing.</li>
+ *   <li>Other components are written as UTF-8 without an intermediate {@link String} if possible.</li>
+ * </ul>
+ * The output is the same as {@link AccessLogger#format(List, RequestLog)}.
+ */
+final class AccessLogEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogEncoder.class);
+
+    private static final byte[] EMPTY_FIELD = { '-' };
+    private static final byte[] QUOTED_EMPTY_FIELD = { '"', '-', '"' };
+
+    static AccessLogEncoder of(List<AccessLogComponent> format) {
+        final List<ComponentEncoder> encoders = new ArrayList<>();
+        final StringBuilder text = new StringBuilder();
+        for (AccessLogComponent component : format) {
+            if (component instanceof TextComponent) {
+                text.append(((TextComponent) component).text());
+                continue;
+            }
+            if (text.length() > 0) {
+                encoders.add(new LiteralEncoder(text.toString()));
+                text.setLength(0);
+            }
+            encoders.add(compile(component));
+        }
+        if (text.length() > 0) {
+            encoders.add(new LiteralEncoder(text.toString()));
+        }
+        return new AccessLogEncoder(encoders.toArray(new ComponentEncoder[0]));
+    }
+
+    private static ComponentEncoder compile(AccessLogComponent component) {
+        if (component instanceof TimestampComponent) {
+            return new TimestampEncoder((TimestampComponent) component);
+        }
+        if (component instanceof CommonComponent) {
+            final CommonComponent common = (CommonComponent) component;
+            switch (common.type()) {
+                case RESPONSE_STATUS_CODE:
+                    return new NumberEncoder(common, log -> log.responseHeaders().status().code());
+                case RESPONSE_LENGTH:
+                    return new NumberEncoder(common, RequestLog::responseLength);
+                default:
+                    break;
+            }
+        }
+        // e.g. HttpHeaderComponent whose value is a String already, so that it is written without
+        // an additional allocation.
+        return new GenericEncoder(component);
+    }
+
+    private final ComponentEncoder[] encoders;
+
+    private AccessLogEncoder(ComponentEncoder[] encoders) {
+        this.encoders = encoders;
+    }
+
+    /**
+     * Encodes the access log of the specified {@link RequestLog} into the specified {@link ByteBuf}.
+     */
+    void encode(RequestLog log, ByteBuf out) {
+        for (ComponentEncoder encoder : encoders) {
+            final int writerIndex = out.writerIndex();
+            try {
+                encoder.encode(log, out);
+            } catch (Throwable e) {
+                logger.debug("Caught an exception while formatting an access log:", e);
+                out.writerIndex(writerIndex);
+                out.writeBytes(encoder.addQuote() ? QUOTED_EMPTY_FIELD : EMPTY_FIELD);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    static void writeText(ByteBuf out, CharSequence text, boolean addQuote) {
+        if (!addQuote) {
+            ByteBufUtil.writeUtf8(out, text);
+            return;
+        }
+
+        // Escape only '"' which is not escaped already, as AccessLogger.escapeAndQuote() does.
+        out.writeByte('"');
+        int start = 0;
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(i) == '"' && (i == 0 || text.charAt(i - 1) != '\\')) {
+                ByteBufUtil.writeUtf8(out, text, start, i);
+                out.writeByte('\\');
+                start = i;
+            }
+        }
+        ByteBufUtil.writeUtf8(out, text, start, length);
+        out.writeByte('"');
+    }
+
+    @VisibleForTesting
+    static void writeDigits(ByteBuf out, long value) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                out.writeCharSequence(Long.toString(value), StandardCharsets.US_ASCII);
+                return;
+            }
+            out.writeByte('-');
+            value = -value;
+        }
+
+        int numDigits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            numDigits++;
+        }
+        out.ensureWritable(numDigits);
+        final int writerIndex = out.writerIndex();
+        for (int i = writerIndex + numDigits - 1; i >= writerIndex; i--) {
+            out.setByte(i, (int) ('0' + value % 10));
+            value /= 10;
+        }
+        out.writerIndex(writerIndex + numDigits);
+    }
+
+    private interface ComponentEncoder {
+
+        void encode(RequestLog log, ByteBuf out);
+
+        boolean addQuote();
+    }
+
+    private static final class LiteralEncoder implements ComponentEncoder {
+
+        private final byte[] bytes;
+
+        LiteralEncoder(String text) {
+            bytes = text.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void encode(RequestLog log, ByteBuf out) {
+            out.writeBytes(bytes);
+        }
+
+        @Override
+        public boolean addQuote() {
+            return false;
+        }
+    }
+
+    private static final class TimestampEncoder implements ComponentEncoder {
+
+        private final DateTimeFormatter formatter;
+        private final boolean addQuote;
+        // The default format has a resolution of a second.
+        private final long resolutionMillis;
+
+        // A stale cache only causes an extra rendering, so it does not need to be volatile.
+        @Nullable
+        private RenderedTimestamp cache;
+
+        TimestampEncoder(TimestampComponent component) {
+            formatter = component.formatter();
+            addQuote = component.addQuote();
+            resolutionMillis = formatter == TimestampComponent.defaultDateTimeFormatter ? 1000 : 1;
+        }
+
+        @Override
+        public void encode(RequestLog log, ByteBuf out) {
+            final long timeMillis = log.requestStartTimeMillis();
+            final long key = Math.floorDiv(timeMillis, resolutionMillis);
+            RenderedTimestamp cache = this.cache;
+            if (cache == null || cache.key != key) {
+                final String rendered = formatter.format(ZonedDateTime.ofInstant(
+                        Instant.ofEpochMilli(timeMillis), TimestampComponent.defaultZoneId));
+                this.cache = cache = new RenderedTimestamp(key, rendered);
+            }
+
+            if (addQuote) {
+                out.writeBytes(cache.quotedBytes);
+            } else {
+                out.writeBytes(cache.bytes);
+            }
+        }
+
+        @Override
+        public boolean addQuote() {
+            return addQuote;
+        }
+    }
+
+    private static final class RenderedTimestamp {
+
+        final long key;
+        final byte[] bytes;
+        final byte[] quotedBytes;
+
+        RenderedTimestamp(long key, String rendered) {
+            this.key = key;
+            bytes = rendered.getBytes(StandardCharsets.UTF_8);
+            quotedBytes = ('"' + rendered + '"').getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class NumberEncoder implements ComponentEncoder {
+
+        @Nullable
+        private final Function<ResponseHeaders, Boolean> condition;
+        private final boolean addQuote;
+        private final ToLongFunction<RequestLog> function;
+
+        NumberEncoder(CommonComponent component, ToLongFunction<RequestLog> function) {
+            condition = component.condition();
+            addQuote = component.addQuote();
+            this.function = function;
+        }
+
+        @Override
+        public void encode(RequestLog log, ByteBuf out) {
+            if (condition != null && !condition.apply(log.responseHeaders())) {
+                out.writeBytes(addQuote ? QUOTED_EMPTY_FIELD : EMPTY_FIELD);
+                return;
+            }
+
+            final long value = function.applyAsLong(log);
+            if (addQuote) {
+                out.writeByte('"');
+                writeDigits(out, value);
+                out.writeByte('"');
+            } else {
+                writeDigits(out, value);
+            }
+        }
+
+        @Override
+        public boolean addQuote() {
+            return addQuote;
+        }
+    }
+
+    private static final class GenericEncoder implements ComponentEncoder {
+
+        private final AccessLogComponent component;
+        private final boolean addQuote;
+
+        GenericEncoder(AccessLogComponent component) {
+            this.component = component;
+            addQuote = component.addQuote();
+        }
+
+        @Override
+        public void encode(RequestLog log, ByteBuf out) {
+            final Object message = component.getMessage(log);
+            if (message == null) {
+                out.writeBytes(addQuote ? QUOTED_EMPTY_FIELD : EMPTY_FIELD);
+                return;
+            }
+            writeText(out, message instanceof CharSequence ? (CharSequence) message : message.toString(),
+                      addQuote);
+        }
+
+        @Override
+        public boolean addQuote() {
+            return addQuote;
+        }
+    }
+}
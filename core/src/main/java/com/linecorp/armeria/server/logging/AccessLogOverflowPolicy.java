@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * Specifies what an asynchronous {@link AccessLogWriter} does when its queue is full, i.e. the access logs
+ * are produced faster than the delegate {@link AccessLogWriter} writes them.
+ *
+ * @see AsyncAccessLogWriterBuilder#overflowPolicy(AccessLogOverflowPolicy)
+ */
+@UnstableApi
+public enum AccessLogOverflowPolicy {
+    /**
+     * Drops the access logs which do not fit into the queue.
+     */
+    DROP,
+    /**
+     * Blocks the caller until the queue has room for the access log. Note that the caller is usually
+     * an event loop, so a slow delegate {@link AccessLogWriter} will stall the I/O of the server.
+     */
+    BLOCK,
+    /**
+     * Samples the access logs once the queue is more than half full, as specified by
+     * {@link AsyncAccessLogWriterBuilder#samplingRate(double)}, and drops the access logs which do not
+     * fit into the queue.
+     */
+    SAMPLE
+}
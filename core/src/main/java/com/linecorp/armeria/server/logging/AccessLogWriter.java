@@ -20,9 +20,12 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.linecorp.armeria.server.logging.AccessLogFormats.parseCustom;
 import static java.util.Objects.requireNonNull;
 
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.logging.RequestLog;
 import com.linecorp.armeria.common.util.UnmodifiableFuture;
 import com.linecorp.armeria.server.Service;
@@ -64,6 +67,26 @@ public interface AccessLogWriter {
         return requestLog -> AccessLogger.write(accessLogFormat, requestLog);
     }
 
+    /**
+     * Returns an access log writer which writes the access logs with the specified {@code formatStr} to
+     * the specified {@link WritableByteChannel}, e.g. a {@link FileChannel} opened in the append mode.
+     * Unlike {@link #custom(String)}, an access log is encoded into bytes directly without creating
+     * a {@link String}, and each access log is terminated with a line feed.
+     *
+     * <p>Note that the returned {@link AccessLogWriter} writes to the channel in the calling thread,
+     * which is usually an event loop. Consider using {@link #asynchronous()} to write from
+     * a dedicated thread. The {@link WritableByteChannel} is closed when the returned {@link AccessLogWriter}
+     * is {@linkplain #shutdown() shut down}.
+     */
+    @UnstableApi
+    static AccessLogWriter custom(String formatStr, WritableByteChannel channel) {
+        requireNonNull(formatStr, "formatStr");
+        requireNonNull(channel, "channel");
+        final List<AccessLogComponent> accessLogFormat = parseCustom(formatStr);
+        checkArgument(!accessLogFormat.isEmpty(), "Invalid access log format string: %s", formatStr);
+        return new ChannelAccessLogWriter(AccessLogEncoder.of(accessLogFormat), channel);
+    }
+
     /**
      * Logs the specified {@link RequestLog}.
      */
@@ -98,6 +121,16 @@ public interface AccessLogWriter {
         };
     }
 
+    /**
+     * Returns a new {@link AccessLogWriter} which writes the access logs asynchronously using this
+     * {@link AccessLogWriter} on a dedicated thread. Use {@link AsyncAccessLogWriter#builder(AccessLogWriter)}
+     * to customize the queue and the {@link AccessLogOverflowPolicy}.
+     */
+    @UnstableApi
+    default AccessLogWriter asynchronous() {
+        return AsyncAccessLogWriter.of(this);
+    }
+
     /**
      * Shuts down this {@link AccessLogWriter}.
      *
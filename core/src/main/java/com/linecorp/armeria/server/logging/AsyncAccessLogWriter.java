@@ -0,0 +1,256 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jctools.queues.MpscArrayQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.util.ThreadFactories;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * An {@link AccessLogWriter} which writes the access logs asynchronously using the delegate
+ * {@link AccessLogWriter} on a dedicated thread, so that a slow log appender does not stall the event
+ * loops which complete the requests.
+ *
+ * <p>The {@link RequestLog}s are pushed into a bounded multi-producer single-consumer queue and
+ * the writer thread formats and writes them in batches. The capacity of the queue is rounded up to
+ * the next power of two. When the queue is full, the access logs are handled according to
+ * the {@link AccessLogOverflowPolicy}. The following meters are exported:
+ * <ul>
+ *   <li>{@code <prefix>.queue.size} - the number of the access logs waiting to be written</li>
+ *   <li>{@code <prefix>.dropped} - the number of the access logs dropped or sampled out</li>
+ * </ul>
+ */
+@UnstableApi
+public final class AsyncAccessLogWriter implements AccessLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncAccessLogWriter.class);
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private static final AtomicIntegerFieldUpdater<AsyncAccessLogWriter> numPendingLogCallsUpdater =
+            AtomicIntegerFieldUpdater.newUpdater(AsyncAccessLogWriter.class, "numPendingLogCalls");
+
+    /**
+     * Returns a new {@link AsyncAccessLogWriter} which writes the access logs using the specified
+     * {@link AccessLogWriter} with the default settings.
+     */
+    public static AsyncAccessLogWriter of(AccessLogWriter delegate) {
+        return builder(delegate).build();
+    }
+
+    /**
+     * Returns a new {@link AsyncAccessLogWriterBuilder} for the specified {@link AccessLogWriter}.
+     */
+    public static AsyncAccessLogWriterBuilder builder(AccessLogWriter delegate) {
+        requireNonNull(delegate, "delegate");
+        return new AsyncAccessLogWriterBuilder(delegate);
+    }
+
+    private final AccessLogWriter delegate;
+    private final MpscArrayQueue<RequestLog> queue;
+    private final int samplingThreshold;
+    private final int batchSize;
+    private final AccessLogOverflowPolicy overflowPolicy;
+    private final double samplingRate;
+    private final LongAdder numDroppedLogs = new LongAdder();
+    private final Thread writerThread;
+    private final CompletableFuture<Void> shutdownFuture = new CompletableFuture<>();
+
+    private volatile boolean sleeping;
+    private volatile boolean shuttingDown;
+    // The number of the log() calls in progress. The writer thread waits for them before its final drain,
+    // so that the access log offered by a call which passed the shuttingDown check is never lost.
+    private volatile int numPendingLogCalls;
+
+    AsyncAccessLogWriter(AccessLogWriter delegate, int queueCapacity, int batchSize,
+                         AccessLogOverflowPolicy overflowPolicy, double samplingRate,
+                         MeterRegistry meterRegistry, MeterIdPrefix meterIdPrefix) {
+        this.delegate = delegate;
+        queue = new MpscArrayQueue<>(Math.max(2, queueCapacity));
+        samplingThreshold = queue.capacity() >>> 1;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.samplingRate = samplingRate;
+
+        Gauge.builder(meterIdPrefix.name("queue.size"), queue, MpscArrayQueue::size)
+             .tags(meterIdPrefix.tags())
+             .description("The number of the access logs waiting to be written")
+             .register(meterRegistry);
+        FunctionCounter.builder(meterIdPrefix.name("dropped"), numDroppedLogs, LongAdder::doubleValue)
+                       .tags(meterIdPrefix.tags())
+                       .description("The number of the access logs dropped due to a full queue")
+                       .register(meterRegistry);
+
+        writerThread = ThreadFactories.newThreadFactory("armeria-access-log-writer", true)
+                                      .newThread(this::run);
+        writerThread.start();
+    }
+
+    @Override
+    public void log(RequestLog log) {
+        numPendingLogCallsUpdater.incrementAndGet(this);
+        try {
+            log0(log);
+        } finally {
+            numPendingLogCallsUpdater.decrementAndGet(this);
+        }
+    }
+
+    private void log0(RequestLog log) {
+        if (shuttingDown) {
+            numDroppedLogs.increment();
+            return;
+        }
+
+        if (overflowPolicy == AccessLogOverflowPolicy.SAMPLE && queue.size() >= samplingThreshold &&
+            ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+            numDroppedLogs.increment();
+            return;
+        }
+
+        if (!queue.offer(log)) {
+            if (overflowPolicy != AccessLogOverflowPolicy.BLOCK || !offerBlocking(log)) {
+                numDroppedLogs.increment();
+                return;
+            }
+        }
+
+        if (sleeping) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private boolean offerBlocking(RequestLog log) {
+        if (Thread.currentThread() == writerThread) {
+            // The delegate logged to this writer. Blocking here would never end.
+            return false;
+        }
+        do {
+            if (sleeping) {
+                LockSupport.unpark(writerThread);
+            }
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+            if (shuttingDown) {
+                return false;
+            }
+        } while (!queue.offer(log));
+        return true;
+    }
+
+    /**
+     * Returns the number of the access logs waiting to be written.
+     */
+    public int queueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of the access logs dropped or sampled out so far.
+     */
+    public long numDroppedLogs() {
+        return numDroppedLogs.sum();
+    }
+
+    private void run() {
+        for (;;) {
+            if (queue.drain(this::write, batchSize) > 0) {
+                continue;
+            }
+
+            if (shuttingDown) {
+                // Wait until the log() calls which did not see the shuttingDown flag offer their logs.
+                // The log() calls made by the delegate are done already because they are made by this thread.
+                while (numPendingLogCalls != 0) {
+                    LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+                }
+                // Write the remaining access logs before shutting down the delegate.
+                while (queue.drain(this::write, batchSize) > 0) {
+                    continue;
+                }
+                break;
+            }
+
+            sleeping = true;
+            if (queue.isEmpty() && !shuttingDown) {
+                LockSupport.park(this);
+            }
+            sleeping = false;
+        }
+
+        try {
+            delegate.shutdown().handle((unused, cause) -> {
+                if (cause != null) {
+                    shutdownFuture.completeExceptionally(cause);
+                } else {
+                    shutdownFuture.complete(null);
+                }
+                return null;
+            });
+        } catch (Throwable cause) {
+            shutdownFuture.completeExceptionally(cause);
+        }
+    }
+
+    private void write(RequestLog log) {
+        try {
+            delegate.log(log);
+        } catch (Throwable cause) {
+            logger.warn("Unexpected exception while writing an access log: {}", log, cause);
+        }
+    }
+
+    /**
+     * Writes the access logs in the queue and shuts down the delegate {@link AccessLogWriter}.
+     * The access logs submitted after this method is invoked are dropped.
+     */
+    @Override
+    public CompletableFuture<Void> shutdown() {
+        shuttingDown = true;
+        LockSupport.unpark(writerThread);
+        return shutdownFuture;
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("delegate", delegate)
+                .add("queueCapacity", queue.capacity())
+                .add("batchSize", batchSize)
+                .add("overflowPolicy", overflowPolicy)
+                .add("samplingRate", samplingRate)
+                .toString();
+    }
+}
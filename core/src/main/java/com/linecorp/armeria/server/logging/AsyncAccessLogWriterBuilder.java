@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * A builder for creating an {@link AsyncAccessLogWriter}.
+ */
+@UnstableApi
+public final class AsyncAccessLogWriterBuilder {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 8192;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final double DEFAULT_SAMPLING_RATE = 0.1;
+
+    private final AccessLogWriter delegate;
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private AccessLogOverflowPolicy overflowPolicy = AccessLogOverflowPolicy.DROP;
+    private double samplingRate = DEFAULT_SAMPLING_RATE;
+    private MeterRegistry meterRegistry = Flags.meterRegistry();
+    @Nullable
+    private MeterIdPrefix meterIdPrefix;
+
+    AsyncAccessLogWriterBuilder(AccessLogWriter delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Sets the maximum number of the access logs waiting to be written.
+     * Defaults to {@value #DEFAULT_QUEUE_CAPACITY} if unspecified.
+     *
+     * <p>Note that the specified value is rounded up to the next power of two, e.g. {@code 5000} becomes
+     * {@code 8192}, because the queue is backed by a ring buffer.
+     */
+    public AsyncAccessLogWriterBuilder queueCapacity(int queueCapacity) {
+        checkArgument(queueCapacity > 0, "queueCapacity: %s (expected: > 0)", queueCapacity);
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of the access logs written at once by the writer thread.
+     * Defaults to {@value #DEFAULT_BATCH_SIZE} if unspecified.
+     */
+    public AsyncAccessLogWriterBuilder batchSize(int batchSize) {
+        checkArgument(batchSize > 0, "batchSize: %s (expected: > 0)", batchSize);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the {@link AccessLogOverflowPolicy} which determines what to do when the queue is full.
+     * Defaults to {@link AccessLogOverflowPolicy#DROP} if unspecified.
+     */
+    public AsyncAccessLogWriterBuilder overflowPolicy(AccessLogOverflowPolicy overflowPolicy) {
+        this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+        return this;
+    }
+
+    /**
+     * Sets the rate of the access logs to keep when the queue is more than half full and
+     * {@link AccessLogOverflowPolicy#SAMPLE} is used. Defaults to {@value #DEFAULT_SAMPLING_RATE}
+     * if unspecified.
+     */
+    public AsyncAccessLogWriterBuilder samplingRate(double samplingRate) {
+        checkArgument(samplingRate >= 0 && samplingRate <= 1,
+                      "samplingRate: %s (expected: 0.0 <= samplingRate <= 1.0)", samplingRate);
+        this.samplingRate = samplingRate;
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterRegistry} where the queue size and the number of the dropped access logs are
+     * exported. Defaults to {@link Flags#meterRegistry()} if unspecified.
+     */
+    public AsyncAccessLogWriterBuilder meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterIdPrefix} of the exported meters. Defaults to
+     * {@code armeria.server.access.log.writer} if unspecified.
+     */
+    public AsyncAccessLogWriterBuilder meterIdPrefix(MeterIdPrefix meterIdPrefix) {
+        this.meterIdPrefix = requireNonNull(meterIdPrefix, "meterIdPrefix");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link AsyncAccessLogWriter} based on the properties of this builder.
+     */
+    public AsyncAccessLogWriter build() {
+        final MeterIdPrefix meterIdPrefix =
+                this.meterIdPrefix != null ? this.meterIdPrefix
+                                           : new MeterIdPrefix("armeria.server.access.log.writer");
+        return new AsyncAccessLogWriter(delegate, queueCapacity, batchSize, overflowPolicy, samplingRate,
+                                        meterRegistry, meterIdPrefix);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * The binary format of the files written by {@link BinaryAccessLogWriter}. A file starts with
+ * a {@value #FILE_HEADER_SIZE}-byte header which consists of {@link #MAGIC} and {@link #VERSION},
+ * and is followed by the records. All numbers are in big-endian.
+ *
+ * <p>A record consists of:
+ * <ul>
+ *   <li>the length of the payload (4 bytes)</li>
+ *   <li>the CRC32 of the payload (4 bytes)</li>
+ *   <li>the payload, which consists of the following fields in the order:
+ *     <ul>
+ *       <li>request start time in microseconds since the epoch (8 bytes)</li>
+ *       <li>total duration in nanoseconds (8 bytes)</li>
+ *       <li>request length (8 bytes)</li>
+ *       <li>response length (8 bytes)</li>
+ *       <li>response status code (4 bytes)</li>
+ *       <li>request ID, session protocol, method, authority, path, client address, service name and
+ *           the class name of the response cause, each of which is a string</li>
+ *     </ul>
+ *   </li>
+ * </ul>
+ * A string is written as the length of its UTF-8 bytes (4 bytes) followed by the bytes, where
+ * the length of {@code -1} means {@code null}.
+ *
+ * <p>A payload length of {@code 0} marks the end of the records because the unused region of a file
+ * is filled with zeros. The payload length is written after the payload so that a reader which reads
+ * a file being written never sees a partially written record with a valid CRC.
+ */
+final class BinaryAccessLogFormat {
+
+    static final int MAGIC = 0x414C4F47; // "ALOG"
+    static final int VERSION = 1;
+    static final int FILE_HEADER_SIZE = 8;
+    static final int RECORD_HEADER_SIZE = 8;
+
+    /**
+     * Encodes the payload of the record of the specified {@link RequestLog} into the specified
+     * {@link ByteBuf}.
+     */
+    static void encodePayload(RequestLog log, ByteBuf out) {
+        out.writeLong(log.requestStartTimeMicros());
+        out.writeLong(log.totalDurationNanos());
+        out.writeLong(log.requestLength());
+        out.writeLong(log.responseLength());
+        out.writeInt(log.responseHeaders().status().code());
+
+        writeString(out, log.context().id().text());
+        writeString(out, log.sessionProtocol().uriText());
+        writeString(out, log.requestHeaders().method().name());
+        writeString(out, log.requestHeaders().authority());
+        writeString(out, log.requestHeaders().path());
+        final InetAddress clientAddress = ((ServiceRequestContext) log.context()).clientAddress();
+        writeString(out, clientAddress.getHostAddress());
+        writeString(out, log.serviceName());
+        final Throwable responseCause = log.responseCause();
+        writeString(out, responseCause != null ? responseCause.getClass().getName() : null);
+    }
+
+    private static void writeString(ByteBuf out, @Nullable String value) {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final int lengthIndex = out.writerIndex();
+        out.writeInt(0);
+        final int length = ByteBufUtil.writeUtf8(out, value);
+        out.setInt(lengthIndex, length);
+    }
+
+    /**
+     * Decodes the specified payload into a {@link BinaryAccessLogRecord}.
+     */
+    static BinaryAccessLogRecord decodePayload(ByteBuffer in) {
+        final long requestStartTimeMicros = in.getLong();
+        final long totalDurationNanos = in.getLong();
+        final long requestLength = in.getLong();
+        final long responseLength = in.getLong();
+        final int statusCode = in.getInt();
+        final String requestId = readString(in);
+        final String protocol = readString(in);
+        final String method = readString(in);
+        final String authority = readString(in);
+        final String path = readString(in);
+        final String clientAddress = readString(in);
+        final String serviceName = readString(in);
+        final String responseCause = readString(in);
+        return new BinaryAccessLogRecord(requestStartTimeMicros, totalDurationNanos, requestLength,
+                                         responseLength, statusCode, requestId,
+                                         protocol != null ? SessionProtocol.find(protocol) : null,
+                                         method, authority, path, clientAddress, serviceName, responseCause);
+    }
+
+    @Nullable
+    private static String readString(ByteBuffer in) {
+        final int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        } else {
+            final byte[] bytes = new byte[length];
+            in.duplicate().get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        in.position(in.position() + length);
+        return value;
+    }
+
+    static int crc32(ByteBuffer payload) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(payload.duplicate());
+        return (int) crc32.getValue();
+    }
+
+    private BinaryAccessLogFormat() {}
+}
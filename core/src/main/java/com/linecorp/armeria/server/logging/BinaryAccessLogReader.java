@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import static com.linecorp.armeria.server.logging.BinaryAccessLogFormat.FILE_HEADER_SIZE;
+import static com.linecorp.armeria.server.logging.BinaryAccessLogFormat.RECORD_HEADER_SIZE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.util.SafeCloseable;
+
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Reads the {@link BinaryAccessLogRecord}s from a file written by {@link BinaryAccessLogWriter}.
+ * A file being written can also be read, in which case only the records written before
+ * the {@link BinaryAccessLogReader} reaches the end are returned.
+ *
+ * <pre>{@code
+ * try (BinaryAccessLogReader reader = BinaryAccessLogReader.of(path)) {
+ *     BinaryAccessLogRecord record;
+ *     while ((record = reader.read()) != null) {
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ */
+@UnstableApi
+public final class BinaryAccessLogReader implements SafeCloseable {
+
+    /**
+     * Returns a new {@link BinaryAccessLogReader} which reads the file at the specified {@link Path}.
+     *
+     * @throws IOException if failed to open the file or the file is not written by
+     *                     {@link BinaryAccessLogWriter}
+     */
+    public static BinaryAccessLogReader of(Path path) throws IOException {
+        requireNonNull(path, "path");
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < FILE_HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("not a binary access log file: " + path);
+            }
+            buffer = channel.map(MapMode.READ_ONLY, 0, size);
+        }
+
+        final int magic = buffer.getInt();
+        final int version = buffer.getInt();
+        if (magic != BinaryAccessLogFormat.MAGIC || version != BinaryAccessLogFormat.VERSION) {
+            PlatformDependent.freeDirectBuffer(buffer);
+            throw new IOException("not a binary access log file: " + path +
+                                  " (magic: " + Integer.toHexString(magic) + ", version: " + version + ')');
+        }
+        return new BinaryAccessLogReader(path, buffer);
+    }
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private boolean closed;
+
+    private BinaryAccessLogReader(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Reads the next {@link BinaryAccessLogRecord}.
+     *
+     * @return the next {@link BinaryAccessLogRecord}, or {@code null} if there are no more records or
+     *         the next record is incomplete or corrupted, e.g. by a crash of the host
+     */
+    @Nullable
+    public BinaryAccessLogRecord read() {
+        if (closed) {
+            throw new IllegalStateException("closed already");
+        }
+        final int position = buffer.position();
+        if (buffer.remaining() < RECORD_HEADER_SIZE) {
+            return null;
+        }
+        final int payloadLength = buffer.getInt(position);
+        if (payloadLength <= 0 || payloadLength > buffer.remaining() - RECORD_HEADER_SIZE) {
+            return null;
+        }
+        final int crc = buffer.getInt(position + 4);
+
+        final ByteBuffer payload = buffer.duplicate();
+        payload.position(position + RECORD_HEADER_SIZE);
+        payload.limit(position + RECORD_HEADER_SIZE + payloadLength);
+        if (BinaryAccessLogFormat.crc32(payload) != crc) {
+            return null;
+        }
+
+        final BinaryAccessLogRecord record;
+        try {
+            record = BinaryAccessLogFormat.decodePayload(payload);
+        } catch (RuntimeException e) {
+            // A record with a valid CRC but a malformed payload.
+            return null;
+        }
+        buffer.position(position + RECORD_HEADER_SIZE + payloadLength);
+        return record;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        PlatformDependent.freeDirectBuffer(buffer);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("path", path)
+                          .add("position", buffer.position())
+                          .toString();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLog;
+
+/**
+ * An access log record read by {@link BinaryAccessLogReader}, which was written by
+ * {@link BinaryAccessLogWriter}.
+ */
+@UnstableApi
+public final class BinaryAccessLogRecord {
+
+    private final long requestStartTimeMicros;
+    private final long totalDurationNanos;
+    private final long requestLength;
+    private final long responseLength;
+    private final int statusCode;
+    @Nullable
+    private final String requestId;
+    @Nullable
+    private final SessionProtocol sessionProtocol;
+    @Nullable
+    private final String method;
+    @Nullable
+    private final String authority;
+    @Nullable
+    private final String path;
+    @Nullable
+    private final String clientAddress;
+    @Nullable
+    private final String serviceName;
+    @Nullable
+    private final String responseCause;
+
+    BinaryAccessLogRecord(long requestStartTimeMicros, long totalDurationNanos, long requestLength,
+                          long responseLength, int statusCode, @Nullable String requestId,
+                          @Nullable SessionProtocol sessionProtocol, @Nullable String method,
+                          @Nullable String authority, @Nullable String path, @Nullable String clientAddress,
+                          @Nullable String serviceName, @Nullable String responseCause) {
+        this.requestStartTimeMicros = requestStartTimeMicros;
+        this.totalDurationNanos = totalDurationNanos;
+        this.requestLength = requestLength;
+        this.responseLength = responseLength;
+        this.statusCode = statusCode;
+        this.requestId = requestId;
+        this.sessionProtocol = sessionProtocol;
+        this.method = method;
+        this.authority = authority;
+        this.path = path;
+        this.clientAddress = clientAddress;
+        this.serviceName = serviceName;
+        this.responseCause = responseCause;
+    }
+
+    /**
+     * Returns the time when the request started, in microseconds since the epoch.
+     *
+     * @see RequestLog#requestStartTimeMicros()
+     */
+    public long requestStartTimeMicros() {
+        return requestStartTimeMicros;
+    }
+
+    /**
+     * Returns the amount of time taken to process the request and the response, in nanoseconds.
+     *
+     * @see RequestLog#totalDurationNanos()
+     */
+    public long totalDurationNanos() {
+        return totalDurationNanos;
+    }
+
+    /**
+     * Returns the length of the request content.
+     */
+    public long requestLength() {
+        return requestLength;
+    }
+
+    /**
+     * Returns the length of the response content.
+     */
+    public long responseLength() {
+        return responseLength;
+    }
+
+    /**
+     * Returns the HTTP status code of the response.
+     */
+    public int statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns the text form of the {@link com.linecorp.armeria.common.RequestId}.
+     */
+    @Nullable
+    public String requestId() {
+        return requestId;
+    }
+
+    /**
+     * Returns the {@link SessionProtocol} of the request.
+     */
+    @Nullable
+    public SessionProtocol sessionProtocol() {
+        return sessionProtocol;
+    }
+
+    /**
+     * Returns the method of the request.
+     */
+    @Nullable
+    public String method() {
+        return method;
+    }
+
+    /**
+     * Returns the authority of the request.
+     */
+    @Nullable
+    public String authority() {
+        return authority;
+    }
+
+    /**
+     * Returns the path of the request, including the query string.
+     */
+    @Nullable
+    public String path() {
+        return path;
+    }
+
+    /**
+     * Returns the IP address of the client.
+     */
+    @Nullable
+    public String clientAddress() {
+        return clientAddress;
+    }
+
+    /**
+     * Returns the name of the service which handled the request.
+     */
+    @Nullable
+    public String serviceName() {
+        return serviceName;
+    }
+
+    /**
+     * Returns the class name of the cause of the response processing failure.
+     * {@code null} if the response was processed completely.
+     */
+    @Nullable
+    public String responseCause() {
+        return responseCause;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .omitNullValues()
+                          .add("requestStartTimeMicros", requestStartTimeMicros)
+                          .add("totalDurationNanos", totalDurationNanos)
+                          .add("requestLength", requestLength)
+                          .add("responseLength", responseLength)
+                          .add("statusCode", statusCode)
+                          .add("requestId", requestId)
+                          .add("sessionProtocol", sessionProtocol)
+                          .add("method", method)
+                          .add("authority", authority)
+                          .add("path", path)
+                          .add("clientAddress", clientAddress)
+                          .add("serviceName", serviceName)
+                          .add("responseCause", responseCause)
+                          .toString();
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import static com.linecorp.armeria.server.logging.BinaryAccessLogFormat.FILE_HEADER_SIZE;
+import static com.linecorp.armeria.server.logging.BinaryAccessLogFormat.RECORD_HEADER_SIZE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.util.ThreadFactories;
+import com.linecorp.armeria.internal.common.util.ReentrantShortLock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * An {@link AccessLogWriter} which writes the access logs as compact binary records to the rolling
+ * memory-mapped files in a directory, so that they can be shipped later by another process.
+ * Use {@link BinaryAccessLogReader} to read the written files.
+ *
+ * <p>A record is copied into the memory-mapped file in the calling thread without a system call,
+ * and a new file is created when the current file does not have enough room for a record.
+ * The written records are flushed to the storage device periodically, as well as when a file is rolled
+ * over or this writer is shut down, by a dedicated thread. A rolled file is truncated to the size of
+ * its records. The files are named {@code <prefix>-<sequence number>.alog}, and a new sequence number
+ * greater than the existing files' is used when a writer is created.
+ */
+@UnstableApi
+public final class BinaryAccessLogWriter implements AccessLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BinaryAccessLogWriter.class);
+
+    static final String FILE_EXTENSION = ".alog";
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private static final FastThreadLocal<ByteBuf> buffers = new FastThreadLocal<ByteBuf>() {
+        @Override
+        protected ByteBuf initialValue() {
+            return Unpooled.buffer(INITIAL_BUFFER_SIZE);
+        }
+    };
+
+    /**
+     * Returns a new {@link BinaryAccessLogWriter} which writes the access logs to the files in
+     * the specified directory with the default settings.
+     */
+    public static BinaryAccessLogWriter of(Path directory) {
+        return builder(directory).build();
+    }
+
+    /**
+     * Returns a new {@link BinaryAccessLogWriterBuilder} which builds a {@link BinaryAccessLogWriter}
+     * writing the access logs to the files in the specified directory.
+     */
+    public static BinaryAccessLogWriterBuilder builder(Path directory) {
+        return new BinaryAccessLogWriterBuilder(requireNonNull(directory, "directory"));
+    }
+
+    private final Path directory;
+    private final String filePrefix;
+    private final int segmentSize;
+    private final ScheduledExecutorService syncExecutor;
+    @Nullable
+    private final ScheduledFuture<?> syncFuture;
+    private final CompletableFuture<Void> shutdownFuture = new CompletableFuture<>();
+
+    private final Lock lock = new ReentrantShortLock();
+    @Nullable
+    private Segment currentSegment; // Guarded by lock
+    private long nextSequence; // Guarded by lock
+    private boolean shutdown; // Guarded by lock
+
+    BinaryAccessLogWriter(Path directory, String filePrefix, int segmentSize, long syncIntervalMillis) {
+        this.directory = directory;
+        this.filePrefix = filePrefix;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            nextSequence = findLastSequence(directory, filePrefix) + 1;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("failed to prepare the directory: " + directory, e);
+        }
+
+        syncExecutor = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactories.newThreadFactory("armeria-binary-access-log-sync", true));
+        if (syncIntervalMillis > 0) {
+            syncFuture = syncExecutor.scheduleWithFixedDelay(this::sync, syncIntervalMillis,
+                                                             syncIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            syncFuture = null;
+        }
+    }
+
+    private static long findLastSequence(Path directory, String filePrefix) throws IOException {
+        long lastSequence = 0;
+        try (DirectoryStream<Path> stream =
+                     Files.newDirectoryStream(directory, filePrefix + "-*" + FILE_EXTENSION)) {
+            for (Path path : stream) {
+                final String fileName = path.getFileName().toString();
+                final String sequence = fileName.substring(filePrefix.length() + 1,
+                                                           fileName.length() - FILE_EXTENSION.length());
+                try {
+                    lastSequence = Math.max(lastSequence, Long.parseLong(sequence));
+                } catch (NumberFormatException ignored) {
+                    // Not a file written by this writer.
+                }
+            }
+        }
+        return lastSequence;
+    }
+
+    @Override
+    public void log(RequestLog log) {
+        ByteBuf buf = buffers.get();
+        buf.clear();
+        try {
+            buf.writerIndex(RECORD_HEADER_SIZE);
+            try {
+                BinaryAccessLogFormat.encodePayload(log, buf);
+            } catch (Throwable e) {
+                logger.debug("Caught an exception while encoding an access log:", e);
+                return;
+            }
+            final int payloadLength = buf.readableBytes() - RECORD_HEADER_SIZE;
+            buf.setInt(0, payloadLength);
+            buf.setInt(4, BinaryAccessLogFormat.crc32(buf.nioBuffer(RECORD_HEADER_SIZE, payloadLength)));
+
+            if (buf.readableBytes() > segmentSize - FILE_HEADER_SIZE) {
+                logger.warn("Dropping an access log of {} bytes which is larger than the segment size: {}",
+                            buf.readableBytes(), segmentSize);
+                return;
+            }
+            append(buf);
+        } finally {
+            if (buf.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                buf = Unpooled.buffer(INITIAL_BUFFER_SIZE);
+                buffers.set(buf);
+            }
+        }
+    }
+
+    private void append(ByteBuf record) {
+        lock.lock();
+        try {
+            if (shutdown) {
+                return;
+            }
+            Segment segment = currentSegment;
+            if (segment == null || segment.remaining() < record.readableBytes()) {
+                segment = rollOver();
+                if (segment == null) {
+                    return;
+                }
+            }
+            segment.append(record);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Nullable
+    private Segment rollOver() {
+        final Segment oldSegment = currentSegment;
+        if (oldSegment != null) {
+            currentSegment = null;
+            closeLater(oldSegment);
+        }
+
+        for (;;) {
+            final Path path = directory.resolve(fileName(filePrefix, nextSequence++));
+            try {
+                return currentSegment = Segment.create(path, segmentSize);
+            } catch (FileAlreadyExistsException e) {
+                // Created by someone else. Try the next sequence number.
+            } catch (IOException e) {
+                logger.warn("Failed to create an access log file: {}", path, e);
+                return null;
+            }
+        }
+    }
+
+    @VisibleForTesting
+    static String fileName(String filePrefix, long sequence) {
+        return String.format("%s-%019d%s", filePrefix, sequence, FILE_EXTENSION);
+    }
+
+    private void closeLater(Segment segment) {
+        // Close in the sync thread to avoid blocking the caller and to ensure the segment is not being
+        // synced when unmapped.
+        segment.retire();
+        syncExecutor.execute(segment::close);
+    }
+
+    private void sync() {
+        final Segment segment;
+        lock.lock();
+        try {
+            segment = currentSegment;
+        } finally {
+            lock.unlock();
+        }
+        if (segment != null) {
+            // A rolled-over segment is closed by a task submitted after this task, so it is safe to
+            // flush it without the lock.
+            segment.force();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> shutdown() {
+        lock.lock();
+        try {
+            if (shutdown) {
+                return shutdownFuture;
+            }
+            shutdown = true;
+            if (syncFuture != null) {
+                syncFuture.cancel(false);
+            }
+            final Segment segment = currentSegment;
+            currentSegment = null;
+            if (segment != null) {
+                closeLater(segment);
+            }
+            syncExecutor.execute(() -> shutdownFuture.complete(null));
+            syncExecutor.shutdown();
+        } finally {
+            lock.unlock();
+        }
+        return shutdownFuture;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("directory", directory)
+                          .add("filePrefix", filePrefix)
+                          .add("segmentSize", segmentSize)
+                          .toString();
+    }
+
+    private static final class Segment {
+
+        static Segment create(Path path, int size) throws IOException {
+            final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                                                         StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                final MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, size);
+                buffer.putInt(BinaryAccessLogFormat.MAGIC);
+                buffer.putInt(BinaryAccessLogFormat.VERSION);
+                return new Segment(path, channel, buffer);
+            } catch (Throwable t) {
+                channel.close();
+                throw t;
+            }
+        }
+
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int size;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        int remaining() {
+            return buffer.remaining();
+        }
+
+        void append(ByteBuf record) {
+            // Write the payload length at last so that a reader never sees a partially written record.
+            final int position = buffer.position();
+            final int length = record.readableBytes();
+            buffer.position(position + 4);
+            buffer.put(record.nioBuffer(record.readerIndex() + 4, length - 4));
+            buffer.putInt(position, record.getInt(record.readerIndex()));
+        }
+
+        void retire() {
+            size = buffer.position();
+        }
+
+        void force() {
+            try {
+                buffer.force();
+            } catch (Throwable t) {
+                logger.warn("Failed to flush an access log file: {}", path, t);
+            }
+        }
+
+        void close() {
+            force();
+            PlatformDependent.freeDirectBuffer(buffer);
+            try {
+                channel.truncate(size);
+            } catch (IOException e) {
+                logger.warn("Failed to truncate an access log file: {}", path, e);
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close an access log file: {}", path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * A builder for creating a {@link BinaryAccessLogWriter}.
+ */
+@UnstableApi
+public final class BinaryAccessLogWriterBuilder {
+
+    private static final String DEFAULT_FILE_PREFIX = "access";
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+    // The file header and a record of a reasonable size.
+    private static final int MIN_SEGMENT_SIZE = 4096;
+
+    private final Path directory;
+    private String filePrefix = DEFAULT_FILE_PREFIX;
+    private int segmentSize = DEFAULT_SEGMENT_SIZE;
+    private long syncIntervalMillis = DEFAULT_SYNC_INTERVAL_MILLIS;
+
+    BinaryAccessLogWriterBuilder(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Sets the prefix of the names of the access log files.
+     * Defaults to {@value #DEFAULT_FILE_PREFIX} if unspecified.
+     */
+    public BinaryAccessLogWriterBuilder filePrefix(String filePrefix) {
+        requireNonNull(filePrefix, "filePrefix");
+        checkArgument(!filePrefix.isEmpty() && filePrefix.indexOf('/') < 0 && filePrefix.indexOf('\\') < 0,
+                      "filePrefix: %s (expected: a non-empty file name)", filePrefix);
+        this.filePrefix = filePrefix;
+        return this;
+    }
+
+    /**
+     * Sets the size of an access log file in bytes. A new file is created when the current file does
+     * not have enough room for an access log. Defaults to {@value #DEFAULT_SEGMENT_SIZE} if unspecified.
+     */
+    public BinaryAccessLogWriterBuilder segmentSize(int segmentSize) {
+        checkArgument(segmentSize >= MIN_SEGMENT_SIZE,
+                      "segmentSize: %s (expected: >= %s)", segmentSize, MIN_SEGMENT_SIZE);
+        this.segmentSize = segmentSize;
+        return this;
+    }
+
+    /**
+     * Sets the interval of flushing the written access logs to the storage device.
+     * {@link Duration#ZERO} disables the periodic flush, so that the access logs are flushed only when
+     * an access log file is rolled over or the {@link BinaryAccessLogWriter} is shut down.
+     * Defaults to 1 second if unspecified.
+     */
+    public BinaryAccessLogWriterBuilder syncInterval(Duration syncInterval) {
+        requireNonNull(syncInterval, "syncInterval");
+        checkArgument(!syncInterval.isNegative(), "syncInterval: %s (expected: >= 0)", syncInterval);
+        return syncIntervalMillis(syncInterval.toMillis());
+    }
+
+    /**
+     * Sets the interval of flushing the written access logs to the storage device in milliseconds.
+     * {@code 0} disables the periodic flush, so that the access logs are flushed only when
+     * an access log file is rolled over or the {@link BinaryAccessLogWriter} is shut down.
+     * Defaults to {@value #DEFAULT_SYNC_INTERVAL_MILLIS} if unspecified.
+     */
+    public BinaryAccessLogWriterBuilder syncIntervalMillis(long syncIntervalMillis) {
+        checkArgument(syncIntervalMillis >= 0, "syncIntervalMillis: %s (expected: >= 0)", syncIntervalMillis);
+        this.syncIntervalMillis = syncIntervalMillis;
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link BinaryAccessLogWriter} based on the properties of this builder.
+     *
+     * @throws IllegalArgumentException if failed to create the directory
+     */
+    public BinaryAccessLogWriter build() {
+        return new BinaryAccessLogWriter(directory, filePrefix, segmentSize, syncIntervalMillis);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.util.UnmodifiableFuture;
+import com.linecorp.armeria.internal.common.util.ReentrantShortLock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.concurrent.FastThreadLocal;
+
+/**
+ * An {@link AccessLogWriter} which encodes an access log into bytes using an {@link AccessLogEncoder} and
+ * writes them to a {@link WritableByteChannel}, without creating a {@link String} for each access log.
+ * The bytes are encoded into a thread-local buffer, so only the write to the channel is serialized.
+ */
+final class ChannelAccessLogWriter implements AccessLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChannelAccessLogWriter.class);
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    // Do not keep a large buffer which was grown by an exceptionally long access log.
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private static final FastThreadLocal<ByteBuf> buffers = new FastThreadLocal<ByteBuf>() {
+        @Override
+        protected ByteBuf initialValue() {
+            return Unpooled.buffer(INITIAL_BUFFER_SIZE);
+        }
+    };
+
+    private final AccessLogEncoder encoder;
+    private final WritableByteChannel channel;
+    private final Lock lock = new ReentrantShortLock();
+
+    ChannelAccessLogWriter(AccessLogEncoder encoder, WritableByteChannel channel) {
+        this.encoder = encoder;
+        this.channel = channel;
+    }
+
+    @Override
+    public void log(RequestLog log) {
+        ByteBuf buf = buffers.get();
+        buf.clear();
+        try {
+            encoder.encode(log, buf);
+            buf.writeByte('\n');
+            write(buf.internalNioBuffer(buf.readerIndex(), buf.readableBytes()));
+        } finally {
+            if (buf.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                buf = Unpooled.buffer(INITIAL_BUFFER_SIZE);
+                buffers.set(buf);
+            }
+        }
+    }
+
+    private void write(ByteBuffer nioBuf) {
+        lock.lock();
+        try {
+            while (nioBuf.hasRemaining()) {
+                channel.write(nioBuf);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to write an access log to {}:", channel, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> shutdown() {
+        lock.lock();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close {}:", channel, e);
+        } finally {
+            lock.unlock();
+        }
+        return UnmodifiableFuture.completedFuture(null);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("channel", channel)
+                          .toString();
+    }
+}
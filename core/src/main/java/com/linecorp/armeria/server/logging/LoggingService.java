@@ -61,12 +61,17 @@ public final class LoggingService extends SimpleDecoratingHttpService {
 
     LoggingService(HttpService delegate, LogWriter logWriter,
                    Sampler<? super ServiceRequestContext> successSampler,
-                   Sampler<? super ServiceRequestContext> failureSampler) {
+                   Sampler<? super ServiceRequestContext> failureSampler,
+                   Sampler<? super RequestLog> tailSampler) {
         super(requireNonNull(delegate, "delegate"));
         this.logWriter = requireNonNull(logWriter, "logWriter");
         requireNonNull(successSampler, "successSampler");
         requireNonNull(failureSampler, "failureSampler");
+        requireNonNull(tailSampler, "tailSampler");
         sampler = requestLog -> {
+            if (tailSampler.isSampled(requestLog)) {
+                return true;
+            }
             final ServiceRequestContext ctx = (ServiceRequestContext) requestLog.context();
             if (ctx.config().successFunction().isSuccess(ctx, requestLog)) {
                 return successSampler.isSampled(ctx);
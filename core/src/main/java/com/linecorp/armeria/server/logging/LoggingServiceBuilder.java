@@ -30,6 +30,7 @@ import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.HttpStatusClass;
 import com.linecorp.armeria.common.RequestContext;
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.logging.LogLevel;
 import com.linecorp.armeria.common.logging.LogWriter;
 import com.linecorp.armeria.common.logging.LoggingDecoratorBuilder;
@@ -37,6 +38,7 @@ import com.linecorp.armeria.common.logging.RequestLog;
 import com.linecorp.armeria.common.logging.RequestLogLevelMapper;
 import com.linecorp.armeria.common.logging.RequestOnlyLog;
 import com.linecorp.armeria.common.logging.ResponseLogLevelMapper;
+import com.linecorp.armeria.common.logging.TailSampler;
 import com.linecorp.armeria.common.util.Sampler;
 import com.linecorp.armeria.server.HttpService;
 import com.linecorp.armeria.server.ServiceRequestContext;
@@ -50,6 +52,8 @@ public final class LoggingServiceBuilder extends LoggingDecoratorBuilder {
 
     private Sampler<? super ServiceRequestContext> failureSampler = Sampler.always();
 
+    private Sampler<? super RequestLog> tailSampler = Sampler.never();
+
     LoggingServiceBuilder() {}
 
     /**
@@ -118,12 +122,25 @@ public final class LoggingServiceBuilder extends LoggingDecoratorBuilder {
         return failureSampler(Sampler.random(failureSamplingRate));
     }
 
+    /**
+     * Sets the {@link Sampler} that determines which request needs logging when its {@link RequestLog} is
+     * complete, e.g. a {@link TailSampler} which samples the slow or failed requests. A request is logged
+     * if it is sampled by either this {@link Sampler} or the success and failure samplers, so that
+     * you can log a small fraction of the requests and all the requests which need attention.
+     * No request is sampled by default.
+     */
+    @UnstableApi
+    public LoggingServiceBuilder tailSampler(Sampler<? super RequestLog> tailSampler) {
+        this.tailSampler = requireNonNull(tailSampler, "tailSampler");
+        return this;
+    }
+
     /**
      * Returns a newly-created {@link LoggingService} decorating {@link HttpService} based on the properties
      * of this builder.
      */
     public LoggingService build(HttpService delegate) {
-        return new LoggingService(delegate, logWriter(), successSampler, failureSampler);
+        return new LoggingService(delegate, logWriter(), successSampler, failureSampler, tailSampler);
     }
 
     /**
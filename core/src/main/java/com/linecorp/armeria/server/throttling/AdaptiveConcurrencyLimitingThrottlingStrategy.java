@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.throttling;
+
+import java.util.concurrent.CompletionStage;
+
+import com.linecorp.armeria.common.Request;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.util.UnmodifiableFuture;
+import com.linecorp.armeria.internal.common.util.AdaptiveConcurrencyLimiter;
+import com.linecorp.armeria.server.RequestTimeoutException;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * A {@link ThrottlingStrategy} that limits the number of concurrent requests with a limit adjusted
+ * automatically from the observed latency, rather than a fixed number of requests per second.
+ *
+ * <p>The latency of each accepted request is measured with {@link RequestLog#totalDurationNanos()}.
+ * When the latency of recent requests goes up compared to the long-term average, which usually means
+ * the requests are queued somewhere, the limit is reduced. While the latency is stable, the limit grows
+ * gradually. The limit is also reduced when a request times out.
+ *
+ * <p>The following meters are exported with the {@link MeterIdPrefix} specified in
+ * {@link AdaptiveConcurrencyLimitingThrottlingStrategyBuilder#meterIdPrefix(MeterIdPrefix)}:
+ * <ul>
+ *   <li>{@code <prefix>.limit} (gauge) - the current concurrency limit</li>
+ *   <li>{@code <prefix>.in.flight} (gauge) - the number of requests being handled</li>
+ * </ul>
+ *
+ * <p>Note that this strategy is not suitable for long-lived streaming requests, whose latency does not
+ * represent the load of the server.
+ *
+ * @see ThrottlingStrategy#adaptiveConcurrencyLimiting()
+ */
+@UnstableApi
+public final class AdaptiveConcurrencyLimitingThrottlingStrategy<T extends Request>
+        extends ThrottlingStrategy<T> {
+
+    /**
+     * Returns a new {@link AdaptiveConcurrencyLimitingThrottlingStrategyBuilder}.
+     */
+    public static <T extends Request> AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> builder() {
+        return new AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<>();
+    }
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    AdaptiveConcurrencyLimitingThrottlingStrategy(AdaptiveConcurrencyLimiter limiter,
+                                                  MeterRegistry meterRegistry,
+                                                  @Nullable MeterIdPrefix meterIdPrefix,
+                                                  @Nullable String name) {
+        super(name);
+        this.limiter = limiter;
+
+        if (meterIdPrefix == null) {
+            meterIdPrefix = new MeterIdPrefix("armeria.server.throttling.concurrency", "strategy", name());
+        }
+        Gauge.builder(meterIdPrefix.name("limit"), limiter, AdaptiveConcurrencyLimiter::limit)
+             .tags(meterIdPrefix.tags())
+             .description("The current concurrency limit")
+             .register(meterRegistry);
+        Gauge.builder(meterIdPrefix.name("in.flight"), limiter, AdaptiveConcurrencyLimiter::inFlight)
+             .tags(meterIdPrefix.tags())
+             .description("The number of requests being handled")
+             .register(meterRegistry);
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     */
+    public int limit() {
+        return limiter.limit();
+    }
+
+    /**
+     * Returns the number of the accepted requests which are not completed yet.
+     */
+    public int inFlight() {
+        return limiter.inFlight();
+    }
+
+    @Override
+    public CompletionStage<Boolean> accept(ServiceRequestContext ctx, T request) {
+        if (!limiter.tryAcquire()) {
+            return UnmodifiableFuture.completedFuture(false);
+        }
+
+        ctx.log().whenComplete().thenAccept(log -> {
+            final boolean timedOut = log.responseCause() instanceof RequestTimeoutException;
+            limiter.release(log.totalDurationNanos(), timedOut);
+        });
+        return UnmodifiableFuture.completedFuture(true);
+    }
+
+    @Override
+    public String toString() {
+        return name() + '(' + limiter + ')';
+    }
+}
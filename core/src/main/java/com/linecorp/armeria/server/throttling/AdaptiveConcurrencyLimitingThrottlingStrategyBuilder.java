@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.throttling;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.Request;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.util.Ticker;
+import com.linecorp.armeria.internal.common.util.AdaptiveConcurrencyLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * A builder for creating a new {@link AdaptiveConcurrencyLimitingThrottlingStrategy}.
+ */
+@UnstableApi
+public final class AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T extends Request> {
+
+    static final int DEFAULT_INITIAL_LIMIT = 20;
+    static final int DEFAULT_MIN_LIMIT = 1;
+    static final int DEFAULT_MAX_LIMIT = 1000;
+    static final double DEFAULT_SMOOTHING = 0.2;
+    static final double DEFAULT_TOLERANCE = 1.5;
+    static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    static final int DEFAULT_LONG_TERM_WINDOWS = 600;
+    static final long DEFAULT_WINDOW_MILLIS = 100;
+
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double smoothing = DEFAULT_SMOOTHING;
+    private double tolerance = DEFAULT_TOLERANCE;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private int longTermWindows = DEFAULT_LONG_TERM_WINDOWS;
+    private Duration window = Duration.ofMillis(DEFAULT_WINDOW_MILLIS);
+    private MeterRegistry meterRegistry = Flags.meterRegistry();
+    @Nullable
+    private MeterIdPrefix meterIdPrefix;
+    @Nullable
+    private String name;
+    private Ticker ticker = Ticker.systemTicker();
+
+    AdaptiveConcurrencyLimitingThrottlingStrategyBuilder() {}
+
+    /**
+     * Sets the name of the {@link AdaptiveConcurrencyLimitingThrottlingStrategy}.
+     * The name is used as the {@code strategy} tag of the meters, so it is recommended to specify a unique
+     * name when more than one strategy is used in a server.
+     */
+    public AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> name(String name) {
+        this.name = requireNonNull(name, "name");
+        return this;
+    }
+
+    /**
+     * Sets the initial concurrency limit. Defaults to {@value #DEFAULT_INITIAL_LIMIT} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> initialLimit(int initialLimit) {
+        checkArgument(initialLimit > 0, "initialLimit: %s (expected: > 0)", initialLimit);
+        this.initialLimit = initialLimit;
+        return this;
+    }
+
+    /**
+     * Sets the minimum and maximum of the concurrency limit. Defaults to {@value #DEFAULT_MIN_LIMIT} and
+     * {@value #DEFAULT_MAX_LIMIT} respectively if unspecified.
+     */
+    public AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> limitRange(int minLimit, int maxLimit) {
+        checkArgument(minLimit > 0, "minLimit: %s (expected: > 0)", minLimit);
+        checkArgument(maxLimit >= minLimit, "maxLimit: %s (expected: >= %s)", maxLimit, minLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    /**
+     * Sets the weight of a newly calculated limit against the current limit, between {@code 0} (exclusive)
+     * and {@code 1} (inclusive). A smaller value makes the limit change more slowly.
+     * Defaults to {@value #DEFAULT_SMOOTHING} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> smoothing(double smoothing) {
+        checkArgument(smoothing > 0 && smoothing <= 1, "smoothing: %s (expected: 0 < smoothing <= 1)",
+                      smoothing);
+        this.smoothing = smoothing;
+        return this;
+    }
+
+    /**
+     * Sets how much the recent latency may exceed the long-term average latency before the limit is
+     * reduced. For example, {@code 1.5} tolerates 50% increase of the latency.
+     * Defaults to {@value #DEFAULT_TOLERANCE} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> tolerance(double tolerance) {
+        checkArgument(tolerance >= 1, "tolerance: %s (expected: >= 1)", tolerance);
+        this.tolerance = tolerance;
+        return this;
+    }
+
+    /**
+     * Sets the ratio to multiply to the limit when a request timed out.
+     * Defaults to {@value #DEFAULT_BACKOFF_RATIO} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> backoffRatio(double backoffRatio) {
+        checkArgument(backoffRatio > 0 && backoffRatio < 1,
+                      "backoffRatio: %s (expected: 0 < backoffRatio < 1)", backoffRatio);
+        this.backoffRatio = backoffRatio;
+        return this;
+    }
+
+    /**
+     * Sets the duration of a sampling window. The limit is recalculated at most once per window.
+     * Defaults to {@value #DEFAULT_WINDOW_MILLIS} milliseconds if unspecified.
+     */
+    public AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> window(Duration window) {
+        requireNonNull(window, "window");
+        checkArgument(!window.isNegative() && !window.isZero(), "window: %s (expected: > 0)", window);
+        this.window = window;
+        return this;
+    }
+
+    /**
+     * Sets the duration of a sampling window in milliseconds. The limit is recalculated at most once
+     * per window. Defaults to {@value #DEFAULT_WINDOW_MILLIS} milliseconds if unspecified.
+     */
+    public AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> windowMillis(long windowMillis) {
+        return window(Duration.ofMillis(windowMillis));
+    }
+
+    /**
+     * Sets the number of sampling windows that the long-term average latency is calculated over.
+     * Defaults to {@value #DEFAULT_LONG_TERM_WINDOWS} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> longTermWindows(int longTermWindows) {
+        checkArgument(longTermWindows > 0, "longTermWindows: %s (expected: > 0)", longTermWindows);
+        this.longTermWindows = longTermWindows;
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterRegistry} where the current limit is exported.
+     * Defaults to {@link Flags#meterRegistry()} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterIdPrefix} of the exported meters. Defaults to
+     * {@code armeria.server.throttling.concurrency{strategy=<name>}} if unspecified.
+     */
+    public AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> meterIdPrefix(MeterIdPrefix meterIdPrefix) {
+        this.meterIdPrefix = requireNonNull(meterIdPrefix, "meterIdPrefix");
+        return this;
+    }
+
+    @VisibleForTesting
+    AdaptiveConcurrencyLimitingThrottlingStrategyBuilder<T> ticker(Ticker ticker) {
+        this.ticker = requireNonNull(ticker, "ticker");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link AdaptiveConcurrencyLimitingThrottlingStrategy} based on the properties
+     * of this builder.
+     */
+    public AdaptiveConcurrencyLimitingThrottlingStrategy<T> build() {
+        checkState(initialLimit >= minLimit && initialLimit <= maxLimit,
+                   "initialLimit: %s (expected: %s <= initialLimit <= %s)", initialLimit, minLimit, maxLimit);
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                initialLimit, minLimit, maxLimit, smoothing, tolerance, backoffRatio,
+                longTermWindows, window.toNanos(), ticker);
+        return new AdaptiveConcurrencyLimitingThrottlingStrategy<>(limiter, meterRegistry, meterIdPrefix, name);
+    }
+}
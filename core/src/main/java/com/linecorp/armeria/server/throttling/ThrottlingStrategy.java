@@ -21,6 +21,7 @@ import java.util.function.BiFunction;
 
 import com.linecorp.armeria.common.Request;
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.util.UnmodifiableFuture;
 import com.linecorp.armeria.server.ServiceRequestContext;
 
@@ -113,6 +114,16 @@ public abstract class ThrottlingStrategy<T extends Request> {
         return new RateLimitingThrottlingStrategy<>(requestsPerSecond, name);
     }
 
+    /**
+     * Returns a new {@link ThrottlingStrategy} that limits the number of concurrent requests with a limit
+     * adjusted automatically from the observed latency, using the default settings.
+     * Use {@link AdaptiveConcurrencyLimitingThrottlingStrategy#builder()} to customize the settings.
+     */
+    @UnstableApi
+    public static <T extends Request> ThrottlingStrategy<T> adaptiveConcurrencyLimiting() {
+        return AdaptiveConcurrencyLimitingThrottlingStrategy.<T>builder().build();
+    }
+
     private final String name;
 
     /**
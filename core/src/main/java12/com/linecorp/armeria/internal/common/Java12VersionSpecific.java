@@ -18,7 +18,9 @@ package com.linecorp.armeria.internal.common;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
+import java.util.zip.Deflater;
 
 import com.linecorp.armeria.common.RequestContext;
 
@@ -41,4 +43,15 @@ class Java12VersionSpecific extends JavaVersionSpecific {
     public <T> CompletableFuture<T> newContextAwareFuture(RequestContext ctx) {
         return new Java12ContextAwareFuture<>(requireNonNull(ctx, "ctx"));
     }
+
+    @Override
+    public void setInput(Deflater deflater, ByteBuffer input) {
+        // Read the direct buffer without copying it into a byte array.
+        deflater.setInput(input);
+    }
+
+    @Override
+    public int deflate(Deflater deflater, ByteBuffer output, int flush) {
+        return deflater.deflate(output, flush);
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.linecorp.armeria.client.BlockingWebClient;
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class CachingClientTest {
+
+    private static final AtomicInteger counter = new AtomicInteger();
+    private static final AtomicInteger notModifiedCounter = new AtomicInteger();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.service("/max-age", (ctx, req) -> {
+                return HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                                                      .contentType(MediaType.PLAIN_TEXT_UTF_8)
+                                                      .set(HttpHeaderNames.CACHE_CONTROL, "max-age=10")
+                                                      .build(),
+                                       HttpData.ofUtf8(String.valueOf(counter.incrementAndGet())));
+            });
+            sb.service("/etag", (ctx, req) -> {
+                counter.incrementAndGet();
+                if ("\"v1\"".equals(req.headers().get(HttpHeaderNames.IF_NONE_MATCH))) {
+                    notModifiedCounter.incrementAndGet();
+                    return HttpResponse.of(ResponseHeaders.builder(HttpStatus.NOT_MODIFIED)
+                                                          .set(HttpHeaderNames.ETAG, "\"v1\"")
+                                                          .set(HttpHeaderNames.CACHE_CONTROL, "no-cache")
+                                                          .build());
+                }
+                return HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                                                      .contentType(MediaType.PLAIN_TEXT_UTF_8)
+                                                      .set(HttpHeaderNames.ETAG, "\"v1\"")
+                                                      .set(HttpHeaderNames.CACHE_CONTROL, "no-cache")
+                                                      .build(),
+                                       HttpData.ofUtf8("etag"));
+            });
+            sb.service("/no-store", (ctx, req) -> {
+                return HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                                                      .set(HttpHeaderNames.CACHE_CONTROL, "no-store")
+                                                      .build(),
+                                       HttpData.ofUtf8(String.valueOf(counter.incrementAndGet())));
+            });
+            sb.service("/vary", (ctx, req) -> {
+                counter.incrementAndGet();
+                return HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                                                      .set(HttpHeaderNames.CACHE_CONTROL, "max-age=10")
+                                                      .set(HttpHeaderNames.VARY, "accept-language")
+                                                      .build(),
+                                       HttpData.ofUtf8(req.headers().get(HttpHeaderNames.ACCEPT_LANGUAGE,
+                                                                         "none")));
+            });
+        }
+    };
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        counter.set(0);
+        notModifiedCounter.set(0);
+    }
+
+    private BlockingWebClient newClient(boolean offHeap) {
+        return WebClient.builder(server.httpUri())
+                        .decorator(CachingClient.builder()
+                                                .offHeap(offHeap)
+                                                .ticker(ticker::get)
+                                                .newDecorator())
+                        .build()
+                        .blocking();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void servesFreshResponseFromCache(boolean offHeap) {
+        final BlockingWebClient client = newClient(offHeap);
+        assertThat(client.get("/max-age").contentUtf8()).isEqualTo("1");
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        final AggregatedHttpResponse cached = client.get("/max-age");
+        assertThat(cached.contentUtf8()).isEqualTo("1");
+        assertThat(cached.headers().getLong(HttpHeaderNames.AGE)).isEqualTo(5);
+        assertThat(counter).hasValue(1);
+
+        // Becomes stale after 10 seconds.
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        assertThat(client.get("/max-age").contentUtf8()).isEqualTo("2");
+        assertThat(client.get("/max-age").contentUtf8()).isEqualTo("2");
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void revalidatesWithEtag() {
+        final BlockingWebClient client = newClient(false);
+        assertThat(client.get("/etag").contentUtf8()).isEqualTo("etag");
+        for (int i = 0; i < 3; i++) {
+            final AggregatedHttpResponse res = client.get("/etag");
+            assertThat(res.status()).isEqualTo(HttpStatus.OK);
+            assertThat(res.contentUtf8()).isEqualTo("etag");
+        }
+        assertThat(counter).hasValue(4);
+        assertThat(notModifiedCounter).hasValue(3);
+    }
+
+    @Test
+    void respectsRequestCacheControl() {
+        final BlockingWebClient client = newClient(false);
+        final RequestHeaders onlyIfCached = RequestHeaders.builder(HttpMethod.GET, "/max-age")
+                                                          .set(HttpHeaderNames.CACHE_CONTROL,
+                                                               "only-if-cached")
+                                                          .build();
+        assertThat(client.execute(onlyIfCached).status()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(client.get("/max-age").contentUtf8()).isEqualTo("1");
+        assertThat(client.execute(onlyIfCached).contentUtf8()).isEqualTo("1");
+
+        final RequestHeaders noCache = RequestHeaders.builder(HttpMethod.GET, "/max-age")
+                                                     .set(HttpHeaderNames.CACHE_CONTROL, "no-cache")
+                                                     .build();
+        assertThat(client.execute(noCache).contentUtf8()).isEqualTo("2");
+        assertThat(client.get("/max-age").contentUtf8()).isEqualTo("2");
+    }
+
+    @Test
+    void doesNotCacheNoStore() {
+        final BlockingWebClient client = newClient(false);
+        assertThat(client.get("/no-store").contentUtf8()).isEqualTo("1");
+        assertThat(client.get("/no-store").contentUtf8()).isEqualTo("2");
+    }
+
+    @Test
+    void unsafeMethodInvalidatesCache() {
+        final BlockingWebClient client = newClient(false);
+        assertThat(client.get("/max-age").contentUtf8()).isEqualTo("1");
+        assertThat(client.post("/max-age", "").contentUtf8()).isEqualTo("2");
+        assertThat(client.get("/max-age").contentUtf8()).isEqualTo("3");
+    }
+
+    @Test
+    void vary() {
+        final BlockingWebClient client = newClient(false);
+        final RequestHeaders en = RequestHeaders.builder(HttpMethod.GET, "/vary")
+                                                .set(HttpHeaderNames.ACCEPT_LANGUAGE, "en")
+                                                .build();
+        final RequestHeaders ko = RequestHeaders.builder(HttpMethod.GET, "/vary")
+                                                .set(HttpHeaderNames.ACCEPT_LANGUAGE, "ko")
+                                                .build();
+        assertThat(client.execute(en).contentUtf8()).isEqualTo("en");
+        assertThat(client.execute(en).contentUtf8()).isEqualTo("en");
+        assertThat(counter).hasValue(1);
+        assertThat(client.execute(ko).contentUtf8()).isEqualTo("ko");
+        assertThat(counter).hasValue(2);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class CoalescingClientTest {
+
+    private static final AtomicInteger counter = new AtomicInteger();
+    private static final AtomicReference<CompletableFuture<HttpResponse>> pending = new AtomicReference<>();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.service("/", (ctx, req) -> {
+                final int count = counter.incrementAndGet();
+                final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+                pending.set(future);
+                return HttpResponse.of(future.thenApply(
+                        unused -> HttpResponse.of(count + ":" + req.headers().get("x-user", "none"))));
+            });
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        counter.set(0);
+    }
+
+    private static void completePending() {
+        await().until(() -> pending.get() != null);
+        pending.getAndSet(null).complete(null);
+    }
+
+    @Test
+    void collapsesIdenticalRequests() {
+        final WebClient client = WebClient.builder(server.httpUri())
+                                          .decorator(CoalescingClient.newDecorator())
+                                          .build();
+        final List<CompletableFuture<AggregatedHttpResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(client.get("/").aggregate());
+        }
+        completePending();
+        for (CompletableFuture<AggregatedHttpResponse> future : futures) {
+            assertThat(future.join().contentUtf8()).isEqualTo("1:none");
+        }
+        assertThat(counter).hasValue(1);
+
+        // A new request is sent after the response is complete.
+        final CompletableFuture<AggregatedHttpResponse> future = client.get("/").aggregate();
+        completePending();
+        assertThat(future.join().contentUtf8()).isEqualTo("2:none");
+    }
+
+    @Test
+    void doesNotCollapseDifferentRequests() {
+        final WebClient client = WebClient.builder(server.httpUri())
+                                          .decorator(CoalescingClient.builder()
+                                                                     .keyHeaders("x-user")
+                                                                     .newDecorator())
+                                          .build();
+        final CompletableFuture<AggregatedHttpResponse> foo = client.execute(
+                RequestHeaders.builder(HttpMethod.GET, "/").set("x-user", "foo").build()).aggregate();
+        completePending();
+        final CompletableFuture<AggregatedHttpResponse> bar = client.execute(
+                RequestHeaders.builder(HttpMethod.GET, "/").set("x-user", "bar").build()).aggregate();
+        completePending();
+        final CompletableFuture<AggregatedHttpResponse> post = client.post("/", "").aggregate();
+        completePending();
+        final CompletableFuture<AggregatedHttpResponse> authorized = client.execute(
+                RequestHeaders.builder(HttpMethod.GET, "/")
+                              .set("x-user", "foo")
+                              .set(HttpHeaderNames.AUTHORIZATION, "Bearer foo")
+                              .build()).aggregate();
+        completePending();
+
+        assertThat(foo.join().contentUtf8()).isEqualTo("1:foo");
+        assertThat(bar.join().contentUtf8()).isEqualTo("2:bar");
+        assertThat(post.join().contentUtf8()).isEqualTo("3:none");
+        assertThat(authorized.join().contentUtf8()).isEqualTo("4:foo");
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.endpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.ToLongFunction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.google.common.collect.ImmutableList;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.RequestHeaders;
+
+class ConsistentHashEndpointSelectionStrategyTest {
+
+    private static final ToLongFunction<ClientRequestContext> hasher =
+            ctx -> ctx.request().headers().get("x-user-id", "").hashCode();
+
+    private static ClientRequestContext newContext(String userId) {
+        return ClientRequestContext.of(HttpRequest.of(RequestHeaders.builder(HttpMethod.GET, "/")
+                                                                    .set("x-user-id", userId)
+                                                                    .build()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void select(boolean maglev) {
+        final EndpointSelectionStrategy strategy = maglev ? EndpointSelectionStrategy.maglev(hasher)
+                                                          : EndpointSelectionStrategy.ringHash(hasher);
+        final DynamicEndpointGroup group = new DynamicEndpointGroup(strategy);
+        group.setEndpoints(ImmutableList.of(Endpoint.of("a.com", 8080), Endpoint.of("b.com", 8080),
+                                            Endpoint.of("c.com", 8080)));
+
+        final Endpoint selected = group.selectNow(newContext("foo"));
+        assertThat(selected).isNotNull();
+        for (int i = 0; i < 10; i++) {
+            assertThat(group.selectNow(newContext("foo"))).isSameAs(selected);
+        }
+
+        // Keep the selection when an unrelated endpoint is added.
+        group.addEndpoint(Endpoint.of("d.com", 8080));
+        final Endpoint newSelected = group.selectNow(newContext("foo"));
+        if (!"d.com".equals(newSelected.host())) {
+            assertThat(newSelected).isEqualTo(selected);
+        }
+    }
+
+    @Test
+    void keyIgnoresWeight() {
+        final Endpoint endpoint = Endpoint.of("foo.com", 8080).withIpAddr("10.0.0.1");
+        assertThat(ConsistentHashEndpointSelectionStrategy.key(endpoint))
+                .isEqualTo("foo.com:8080/10.0.0.1")
+                .isEqualTo(ConsistentHashEndpointSelectionStrategy.key(endpoint.withWeight(1)));
+        assertThat(ConsistentHashEndpointSelectionStrategy.key(Endpoint.of("foo.com")))
+                .isEqualTo("foo.com");
+    }
+}
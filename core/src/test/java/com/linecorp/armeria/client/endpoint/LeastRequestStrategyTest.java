@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.endpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.client.endpoint.LeastRequestStrategy.LeastRequestLoadBalancerFactory;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.loadbalancer.LoadBalancer;
+
+class LeastRequestStrategyTest {
+
+    private static final Endpoint foo = Endpoint.of("foo.com");
+    private static final Endpoint bar = Endpoint.of("bar.com");
+
+    private static ClientRequestContext newContext() {
+        return ClientRequestContext.of(HttpRequest.of(HttpMethod.GET, "/"));
+    }
+
+    @Test
+    void select() {
+        final EndpointGroup group = EndpointGroup.of(EndpointSelectionStrategy.leastRequest(), foo, bar);
+        assertThat(group.selectNow(newContext())).isIn(foo, bar);
+        assertThat(EndpointGroup.of(EndpointSelectionStrategy.leastRequest()).selectNow(newContext()))
+                .isNull();
+    }
+
+    @Test
+    void tracksOutstandingRequests() {
+        final LeastRequestLoadBalancerFactory factory = new LeastRequestLoadBalancerFactory();
+        final LoadBalancer<Endpoint, ClientRequestContext> loadBalancer =
+                factory.newLoadBalancer(null, ImmutableList.of(foo, bar));
+
+        final List<ClientRequestContext> contexts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final ClientRequestContext ctx = newContext();
+            loadBalancer.pick(ctx);
+            contexts.add(ctx);
+        }
+        assertThat(factory.numRequests(foo) + factory.numRequests(bar)).isEqualTo(10);
+        // The requests are spread because the endpoint with fewer requests is preferred.
+        assertThat(Math.abs(factory.numRequests(foo) - factory.numRequests(bar))).isLessThanOrEqualTo(2);
+
+        for (ClientRequestContext ctx : contexts) {
+            ctx.logBuilder().endRequest();
+            ctx.logBuilder().endResponse();
+        }
+        assertThat(factory.numRequests(foo)).isZero();
+        assertThat(factory.numRequests(bar)).isZero();
+    }
+
+    @Test
+    void keepsCountersOnUpdate() {
+        final LeastRequestLoadBalancerFactory factory = new LeastRequestLoadBalancerFactory();
+        LoadBalancer<Endpoint, ClientRequestContext> loadBalancer =
+                factory.newLoadBalancer(null, ImmutableList.of(foo));
+        loadBalancer.pick(newContext());
+        assertThat(factory.numRequests(foo)).isOne();
+
+        loadBalancer = factory.newLoadBalancer(loadBalancer, ImmutableList.of(foo, bar));
+        assertThat(factory.numRequests(foo)).isOne();
+        // 'bar' is preferred because 'foo' has an outstanding request.
+        for (int i = 0; i < 10; i++) {
+            final ClientRequestContext ctx = newContext();
+            assertThat(loadBalancer.pick(ctx)).isSameAs(bar);
+            ctx.logBuilder().endRequest();
+            ctx.logBuilder().endResponse();
+        }
+
+        factory.newLoadBalancer(loadBalancer, ImmutableList.of(bar));
+        assertThat(factory.numRequests(foo)).isZero();
+    }
+}
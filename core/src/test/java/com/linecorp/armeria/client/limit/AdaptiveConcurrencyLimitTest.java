@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Endpoint;
+import com.linecorp.armeria.client.ResponseTimeoutException;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MoreMeters;
+import com.linecorp.armeria.common.util.SafeCloseable;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final Endpoint fooEndpoint = Endpoint.of("foo.com", 8080);
+    private static final Endpoint barEndpoint = Endpoint.of("bar.com", 8080);
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private static ClientRequestContext newContext(Endpoint endpoint) {
+        return ClientRequestContext.builder(HttpRequest.of(HttpMethod.GET, "/"))
+                                   .endpoint(endpoint)
+                                   .build();
+    }
+
+    /**
+     * Closes the specified permit and completes the {@link RequestLog} of the specified context, which gives
+     * the permit back to the limit.
+     */
+    private static void release(SafeCloseable permit, ClientRequestContext ctx) {
+        permit.close();
+        ctx.logBuilder().endRequest();
+        ctx.logBuilder().endResponse();
+    }
+
+    private AdaptiveConcurrencyLimitBuilder newBuilder() {
+        return AdaptiveConcurrencyLimit.builder()
+                                       .meterRegistry(new SimpleMeterRegistry())
+                                       .initialLimit(4)
+                                       .limitRange(2, 100)
+                                       .smoothing(1)
+                                       .windowMillis(100)
+                                       .ticker(ticker::get);
+    }
+
+    @Test
+    void rejectsWhenLimitReached() {
+        final AdaptiveConcurrencyLimit limit = newBuilder().build();
+        final List<ClientRequestContext> contexts = new ArrayList<>();
+        final List<SafeCloseable> permits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final ClientRequestContext ctx = newContext(fooEndpoint);
+            contexts.add(ctx);
+            permits.add(limit.acquire(ctx).join());
+        }
+        assertThat(limit.inFlight(fooEndpoint)).isEqualTo(4);
+        assertThatThrownBy(() -> limit.acquire(newContext(fooEndpoint)).join())
+                .hasCauseInstanceOf(TooManyPendingAcquisitionsException.class);
+
+        // The other endpoint has its own limit.
+        final ClientRequestContext barCtx = newContext(barEndpoint);
+        final SafeCloseable barPermit = limit.acquire(barCtx).join();
+        assertThat(limit.inFlight(barEndpoint)).isOne();
+
+        for (int i = 0; i < 4; i++) {
+            release(permits.get(i), contexts.get(i));
+        }
+        release(barPermit, barCtx);
+        assertThat(limit.inFlight(fooEndpoint)).isZero();
+        assertThat(limit.inFlight(barEndpoint)).isZero();
+        assertThat(limit.acquire(newContext(fooEndpoint)).join()).isNotNull();
+    }
+
+    @Test
+    void growsWhileLatencyIsStable() {
+        final AdaptiveConcurrencyLimit limit = newBuilder().build();
+        for (int i = 0; i < 10; i++) {
+            final List<ClientRequestContext> contexts = new ArrayList<>();
+            final List<SafeCloseable> permits = new ArrayList<>();
+            final int currentLimit = Math.max(limit.limit(fooEndpoint), 4);
+            for (int j = 0; j < currentLimit; j++) {
+                final ClientRequestContext ctx = newContext(fooEndpoint);
+                contexts.add(ctx);
+                permits.add(limit.acquire(ctx).join());
+            }
+            ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(101));
+            for (int j = 0; j < currentLimit; j++) {
+                release(permits.get(j), contexts.get(j));
+            }
+        }
+        assertThat(limit.limit(fooEndpoint)).isGreaterThan(4);
+        assertThat(limit.limit(barEndpoint)).isEqualTo(-1);
+    }
+
+    @Test
+    void shrinksWhenUpstreamIsOverloaded() {
+        final AdaptiveConcurrencyLimit limit = newBuilder().initialLimit(50).build();
+        for (int i = 0; i < 10; i++) {
+            final ClientRequestContext ctx = newContext(fooEndpoint);
+            final SafeCloseable permit = limit.acquire(ctx).join();
+            ctx.logBuilder().responseHeaders(ResponseHeaders.of(HttpStatus.SERVICE_UNAVAILABLE));
+            ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(101));
+            release(permit, ctx);
+        }
+        assertThat(limit.limit(fooEndpoint)).isLessThan(50);
+    }
+
+    @Test
+    void classifiesWithCompleteLog() {
+        final AdaptiveConcurrencyLimit limit = newBuilder().initialLimit(50).build();
+        for (int i = 0; i < 10; i++) {
+            final ClientRequestContext ctx = newContext(fooEndpoint);
+            final SafeCloseable permit = limit.acquire(ctx).join();
+            ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(101));
+            // The response stream is closed before the response cause is set.
+            permit.close();
+            assertThat(limit.inFlight(fooEndpoint)).isOne();
+            ctx.logBuilder().endRequest();
+            ctx.logBuilder().endResponse(ResponseTimeoutException.get());
+            assertThat(limit.inFlight(fooEndpoint)).isZero();
+        }
+        assertThat(limit.limit(fooEndpoint)).isLessThan(50);
+    }
+
+    @Test
+    void removesIdleEndpoints() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final AdaptiveConcurrencyLimit limit = newBuilder().meterRegistry(registry)
+                                                           .idleTimeoutMillis(1000)
+                                                           .build();
+        final ClientRequestContext fooCtx = newContext(fooEndpoint);
+        release(limit.acquire(fooCtx).join(), fooCtx);
+        assertThat(limit.numEndpointLimits()).isOne();
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("armeria.client.concurrency.limit.limit#value{endpoint=foo.com:8080}", 4.0)
+                .containsEntry("armeria.client.concurrency.limit.in.flight#value{endpoint=foo.com:8080}", 0.0);
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        final ClientRequestContext barCtx = newContext(barEndpoint);
+        release(limit.acquire(barCtx).join(), barCtx);
+        assertThat(limit.numEndpointLimits()).isOne();
+        assertThat(limit.limit(fooEndpoint)).isEqualTo(-1);
+        assertThat(MoreMeters.measureAll(registry))
+                .doesNotContainKey("armeria.client.concurrency.limit.limit#value{endpoint=foo.com:8080}")
+                .containsKey("armeria.client.concurrency.limit.limit#value{endpoint=bar.com:8080}");
+    }
+
+    @Test
+    void doesNotRemoveEndpointInUse() {
+        final AdaptiveConcurrencyLimit limit = newBuilder().idleTimeoutMillis(1000).build();
+        final ClientRequestContext fooCtx = newContext(fooEndpoint);
+        final SafeCloseable fooPermit = limit.acquire(fooCtx).join();
+        // Closed, but the log is not complete yet.
+        fooPermit.close();
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        final ClientRequestContext barCtx = newContext(barEndpoint);
+        release(limit.acquire(barCtx).join(), barCtx);
+        assertThat(limit.numEndpointLimits()).isEqualTo(2);
+        assertThat(limit.inFlight(fooEndpoint)).isOne();
+
+        fooCtx.logBuilder().endRequest();
+        fooCtx.logBuilder().endResponse();
+        assertThat(limit.inFlight(fooEndpoint)).isZero();
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        final ClientRequestContext barCtx2 = newContext(barEndpoint);
+        release(limit.acquire(barCtx2).join(), barCtx2);
+        assertThat(limit.limit(fooEndpoint)).isEqualTo(-1);
+    }
+
+    @Test
+    void skipsRequestsNotMatchingPredicate() {
+        final AdaptiveConcurrencyLimit limit = newBuilder().predicate(ctx -> false).build();
+        for (int i = 0; i < 10; i++) {
+            limit.acquire(newContext(fooEndpoint)).join();
+        }
+        assertThat(limit.inFlight(fooEndpoint)).isZero();
+    }
+}
@@ -27,6 +27,8 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
@@ -47,6 +49,8 @@ import com.linecorp.armeria.common.logging.LogFormatter;
 import com.linecorp.armeria.common.logging.LogLevel;
 import com.linecorp.armeria.common.logging.LogWriter;
 import com.linecorp.armeria.common.logging.RegexBasedSanitizer;
+import com.linecorp.armeria.common.logging.TailSampler;
+import com.linecorp.armeria.common.util.SystemInfo;
 import com.linecorp.armeria.internal.common.logging.LoggingTestUtil;
 import com.linecorp.armeria.internal.testing.ImmediateEventLoop;
 
@@ -408,6 +412,97 @@ class LoggingClientTest {
         verifyNoInteractions(logger);
     }
 
+    @Test
+    void shouldLogSlowResponseSampledByTailSampler() throws Exception {
+        final HttpRequest req = HttpRequest.of(HttpMethod.GET, "/");
+        // The request started 2 seconds ago.
+        final ClientRequestContext ctx =
+                ClientRequestContext.builder(req)
+                                    .eventLoop(ImmediateEventLoop.INSTANCE)
+                                    .requestStartTime(System.nanoTime() - TimeUnit.SECONDS.toNanos(2),
+                                                      SystemInfo.currentTimeMicros() -
+                                                      TimeUnit.SECONDS.toMicros(2))
+                                    .build();
+
+        final Logger logger = LoggingTestUtil.newMockLogger(ctx, capturedCause);
+        when(logger.isDebugEnabled()).thenReturn(true);
+
+        final LoggingClient customLoggerClient =
+                LoggingClient.builder()
+                             .logWriter(LogWriter.of(logger))
+                             .successSamplingRate(0.0f)
+                             .tailSampler(TailSampler.builder()
+                                                     .totalDurationThreshold(Duration.ofSeconds(1))
+                                                     .build())
+                             .build(delegate);
+
+        customLoggerClient.execute(ctx, req);
+
+        // verify request log
+        verify(logger).debug(argThat((String actLog) -> actLog.contains("Request:") &&
+                                                        actLog.endsWith("headers=[:method=GET, :path=/]}")));
+
+        // verify response log
+        verify(logger).debug(argThat((String actLog) -> actLog.contains("Response:") &&
+                                                        actLog.endsWith("headers=[:status=0]}")));
+    }
+
+    @Test
+    void shouldNotLogFastResponseNotSampledByTailSampler() throws Exception {
+        final HttpRequest req = HttpRequest.of(HttpMethod.GET, "/");
+        final ClientRequestContext ctx = clientRequestContext(req);
+
+        final Logger logger = LoggingTestUtil.newMockLogger(ctx, capturedCause);
+
+        final LoggingClient customLoggerClient =
+                LoggingClient.builder()
+                             .logWriter(LogWriter.of(logger))
+                             .successSamplingRate(0.0f)
+                             .tailSampler(TailSampler.builder()
+                                                     .totalDurationThreshold(Duration.ofSeconds(10))
+                                                     .build())
+                             .build(delegate);
+
+        customLoggerClient.execute(ctx, req);
+
+        verifyNoInteractions(logger);
+    }
+
+    @Test
+    void shouldLogFailedResponseSampledByTailSampler() throws Exception {
+        final HttpRequest req = HttpRequest.of(HttpMethod.GET, "/");
+        final ClientRequestContext ctx = clientRequestContext(req);
+        final IllegalStateException cause = new IllegalStateException("Failed");
+        ctx.logBuilder().endResponse(cause);
+
+        final Logger logger = LoggingTestUtil.newMockLogger(ctx, capturedCause);
+        when(logger.isDebugEnabled()).thenReturn(false);
+        when(logger.isWarnEnabled()).thenReturn(true);
+
+        // Neither the successful nor the failed requests are sampled without the tail sampler.
+        final LoggingClient customLoggerClient =
+                LoggingClient.builder()
+                             .logWriter(LogWriter.of(logger))
+                             .samplingRate(0.0f)
+                             .tailSampler(TailSampler.builder()
+                                                     .responseCause(IllegalStateException.class)
+                                                     .build())
+                             .build(delegate);
+
+        customLoggerClient.execute(ctx, req);
+
+        verify(logger, times(1)).isWarnEnabled();
+
+        // verify request log
+        verify(logger).warn(argThat((String actLog) -> actLog.contains("Request:") &&
+                                                       actLog.endsWith("headers=[:method=GET, :path=/]}")));
+
+        // verify response log
+        verify(logger).warn(argThat((String actLog) -> actLog.contains("Response:") &&
+                                                       actLog.endsWith("headers=[:status=0]}")),
+                            same(cause));
+    }
+
     @Test
     void sanitizerAndLogWriterCanNotSetTogether() {
         assertThatThrownBy(() -> LoggingClient
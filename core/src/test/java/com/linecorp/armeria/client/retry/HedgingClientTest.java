@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.common.base.Stopwatch;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.ClientRequestContextCaptor;
+import com.linecorp.armeria.client.Clients;
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.internal.common.util.LatencyPercentileTracker;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class HedgingClientTest {
+
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.service("/slow-first", (ctx, req) -> {
+                final int count = counter.getAndIncrement();
+                final String retryCount = req.headers().get(AbstractRetryingClient.ARMERIA_RETRY_COUNT, "0");
+                if (count == 0) {
+                    return HttpResponse.delayed(HttpResponse.of("slow:" + retryCount), Duration.ofSeconds(5));
+                }
+                return HttpResponse.of("fast:" + retryCount);
+            });
+            sb.service("/fail-first", (ctx, req) -> {
+                if (counter.getAndIncrement() == 0) {
+                    return HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR);
+                }
+                return HttpResponse.of("ok");
+            });
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        counter.set(0);
+    }
+
+    @Test
+    void hedgedAttemptWins() {
+        final WebClient client =
+                WebClient.builder(server.httpUri())
+                         .decorator(HedgingClient.newDecorator(RetryRule.onServerErrorStatus(),
+                                                               Duration.ofMillis(100)))
+                         .build();
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final ClientRequestContext ctx;
+        final AggregatedHttpResponse res;
+        try (ClientRequestContextCaptor captor = Clients.newContextCaptor()) {
+            res = client.get("/slow-first").aggregate().join();
+            ctx = captor.get();
+        }
+        assertThat(res.contentUtf8()).isEqualTo("fast:1");
+        assertThat(stopwatch.elapsed()).isLessThan(Duration.ofSeconds(3));
+        assertThat(counter).hasValue(2);
+
+        final RequestLog log = ctx.log().whenComplete().join();
+        assertThat(log.responseHeaders().status()).isEqualTo(HttpStatus.OK);
+        assertThat(log.children()).hasSize(2);
+        // The slow attempt was cancelled.
+        assertThat(log.children().get(0).whenComplete().join().responseCause()).isNotNull();
+    }
+
+    @Test
+    void sendsNextAttemptImmediatelyOnRetryableResponse() {
+        final WebClient client =
+                WebClient.builder(server.httpUri())
+                         .decorator(HedgingClient.newDecorator(RetryRule.onServerErrorStatus(),
+                                                               Duration.ofSeconds(10)))
+                         .build();
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final AggregatedHttpResponse res = client.get("/fail-first").aggregate().join();
+        assertThat(res.contentUtf8()).isEqualTo("ok");
+        assertThat(stopwatch.elapsed()).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void respectsMaxTotalAttempts() {
+        final RetryConfig<HttpResponse> config = RetryConfig.builder(RetryRule.onServerErrorStatus())
+                                                            .maxTotalAttempts(1)
+                                                            .build();
+        final WebClient client =
+                WebClient.builder(server.httpUri())
+                         .decorator(HedgingClient.builder(config)
+                                                 .hedgingDelayMillis(100)
+                                                 .newDecorator())
+                         .build();
+        final AggregatedHttpResponse res = client.get("/fail-first").aggregate().join();
+        assertThat(res.status()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void clampsSubMillisecondPercentile() {
+        final LatencyPercentileTracker tracker = new LatencyPercentileTracker(0.9, 16, 16, 0, () -> 0L);
+        for (int i = 0; i < 16; i++) {
+            tracker.record(TimeUnit.MICROSECONDS.toNanos(300));
+        }
+        final RetryConfig<HttpResponse> config =
+                RetryConfig.builder(RetryRule.onServerErrorStatus()).build();
+        final HedgingClient client = new HedgingClient((ctx, req) -> HttpResponse.of(HttpStatus.OK),
+                                                       config, 100, tracker);
+        assertThat(client.hedgingDelayMillis()).isOne();
+    }
+
+    @Test
+    void rejectsRetryRuleWithContent() {
+        final RetryConfig<HttpResponse> config =
+                RetryConfig.builder(RetryRuleWithContent.<HttpResponse>onResponse(
+                        (ctx, res) -> res.aggregate().thenApply(unused -> false))).build();
+        assertThatThrownBy(() -> HedgingClient.builder(config))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.common.ContentTooLargeException;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactories;
+import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactory;
+import com.linecorp.armeria.internal.common.encoding.ZstdStreamEncoderFactory;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+
+@EnabledIf("io.netty.handler.codec.compression.Zstd#isAvailable")
+class ZstdStreamDecoderTest {
+
+    private static final String CONTENT =
+            Strings.repeat("{\"id\":1234,\"name\":\"armeria\",\"tags\":[\"http\",\"grpc\",\"thrift\"]}", 128);
+
+    private static final byte[] DICTIONARY =
+            Strings.repeat("{\"id\":,\"name\":\"\",\"tags\":[\"http\",\"grpc\",\"thrift\"]}", 16)
+                   .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void decodeInChunks() throws IOException {
+        final byte[] encoded = encode(StreamEncoderFactories.ZSTD, CONTENT);
+        assertThat(encoded.length).isLessThan(CONTENT.length());
+        final StreamDecoder decoder = StreamDecoderFactory.zstd().newDecoder(ByteBufAllocator.DEFAULT);
+        assertThat(decodeInChunks(decoder, encoded, 7)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void decodeWithDictionary() throws IOException {
+        final byte[] encoded = encode(new ZstdStreamEncoderFactory(DICTIONARY), CONTENT);
+        assertThat(encoded.length).isLessThan(encode(StreamEncoderFactories.ZSTD, CONTENT).length);
+
+        final StreamDecoder decoder =
+                StreamDecoderFactory.zstd(DICTIONARY).newDecoder(ByteBufAllocator.DEFAULT);
+        assertThat(decodeInChunks(decoder, encoded, 16)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void decodeWithoutDictionaryUsingDictionaryDecoder() throws IOException {
+        final byte[] encoded = encode(StreamEncoderFactories.ZSTD, CONTENT);
+        final StreamDecoder decoder =
+                StreamDecoderFactory.zstd(DICTIONARY).newDecoder(ByteBufAllocator.DEFAULT);
+        assertThat(decodeInChunks(decoder, encoded, encoded.length)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void maxLength() throws IOException {
+        final byte[] encoded = encode(StreamEncoderFactories.ZSTD, CONTENT);
+        final StreamDecoder decoder = StreamDecoderFactory.zstd().newDecoder(ByteBufAllocator.DEFAULT, 100);
+        assertThatThrownBy(() -> decodeInChunks(decoder, encoded, encoded.length))
+                .isInstanceOf(ContentTooLargeException.class);
+    }
+
+    private static byte[] encode(StreamEncoderFactory encoderFactory, String content) throws IOException {
+        final ByteBuf buf = Unpooled.buffer();
+        try (OutputStream encoder = encoderFactory.newEncoder(new ByteBufOutputStream(buf))) {
+            encoder.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        final byte[] encoded = new byte[buf.readableBytes()];
+        buf.readBytes(encoded);
+        buf.release();
+        return encoded;
+    }
+
+    private static String decodeInChunks(StreamDecoder decoder, byte[] encoded, int chunkSize) {
+        final StringBuilder decoded = new StringBuilder();
+        for (int i = 0; i < encoded.length; i += chunkSize) {
+            final int length = Math.min(chunkSize, encoded.length - i);
+            final ByteBuf chunk = ByteBufAllocator.DEFAULT.buffer(length).writeBytes(encoded, i, length);
+            try (HttpData data = decoder.decode(HttpData.wrap(chunk))) {
+                decoded.append(data.toStringUtf8());
+            }
+        }
+        try (HttpData data = decoder.finish()) {
+            decoded.append(data.toStringUtf8());
+        }
+        return decoded.toString();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.google.common.collect.ImmutableList;
+
+import com.linecorp.armeria.client.Endpoint;
+
+class ConsistentHashLoadBalancerTest {
+
+    private static final int NUM_KEYS = 10000;
+
+    enum Algorithm {
+        MAGLEV(endpoints -> LoadBalancer.maglev(endpoints, Endpoint::authority, key -> key)),
+        RING_HASH(endpoints -> LoadBalancer.ringHash(endpoints, Endpoint::authority, key -> key));
+
+        private final Function<List<Endpoint>, LoadBalancer<Endpoint, Long>> factory;
+
+        Algorithm(Function<List<Endpoint>, LoadBalancer<Endpoint, Long>> factory) {
+            this.factory = factory;
+        }
+
+        LoadBalancer<Endpoint, Long> newLoadBalancer(List<Endpoint> endpoints) {
+            return factory.apply(endpoints);
+        }
+    }
+
+    private static List<Endpoint> newEndpoints(int numEndpoints) {
+        final List<Endpoint> endpoints = new ArrayList<>();
+        for (int i = 0; i < numEndpoints; i++) {
+            endpoints.add(Endpoint.of("10.0.0." + i, 8080));
+        }
+        return endpoints;
+    }
+
+    @ParameterizedTest
+    @EnumSource(Algorithm.class)
+    void empty(Algorithm algorithm) {
+        assertThat(algorithm.newLoadBalancer(ImmutableList.of()).pick(1L)).isNull();
+        assertThat(algorithm.newLoadBalancer(ImmutableList.of(Endpoint.of("foo.com").withWeight(0)))
+                            .pick(1L)).isNull();
+    }
+
+    @ParameterizedTest
+    @EnumSource(Algorithm.class)
+    void sameKeyToSameEndpoint(Algorithm algorithm) {
+        final List<Endpoint> endpoints = newEndpoints(5);
+        final LoadBalancer<Endpoint, Long> loadBalancer = algorithm.newLoadBalancer(endpoints);
+        final List<Endpoint> reversed = new ArrayList<>(endpoints);
+        Collections.reverse(reversed);
+        final LoadBalancer<Endpoint, Long> reversedLoadBalancer = algorithm.newLoadBalancer(reversed);
+        for (long key = 0; key < NUM_KEYS; key++) {
+            final Endpoint endpoint = loadBalancer.pick(key);
+            assertThat(loadBalancer.pick(key)).isSameAs(endpoint);
+            // The order of the candidates does not matter.
+            assertThat(reversedLoadBalancer.pick(key)).isSameAs(endpoint);
+        }
+    }
+
+    @Test
+    void maglevMinimalDisruptionOnRemoval() {
+        final int[] result = removeEndpoint(Algorithm.MAGLEV);
+        final int removed = result[0];
+        final int moved = result[1];
+        assertThat(removed).isPositive();
+        // Most of the remapped keys were mapped to the removed endpoint.
+        assertThat(moved).isBetween(removed, removed + NUM_KEYS / 100);
+    }
+
+    @Test
+    void ringHashMinimalDisruptionOnRemoval() {
+        final int[] result = removeEndpoint(Algorithm.RING_HASH);
+        final int removed = result[0];
+        final int moved = result[1];
+        assertThat(removed).isPositive();
+        // Only the keys which were mapped to the removed endpoint are remapped.
+        assertThat(moved).isEqualTo(removed);
+    }
+
+    /**
+     * Removes an endpoint and returns the number of the keys which were mapped to the removed endpoint
+     * and the number of the keys which were remapped.
+     */
+    private static int[] removeEndpoint(Algorithm algorithm) {
+        final List<Endpoint> endpoints = newEndpoints(10);
+        final LoadBalancer<Endpoint, Long> loadBalancer = algorithm.newLoadBalancer(endpoints);
+        final Endpoint removedEndpoint = endpoints.remove(3);
+        final LoadBalancer<Endpoint, Long> newLoadBalancer = algorithm.newLoadBalancer(endpoints);
+
+        int removed = 0;
+        int moved = 0;
+        for (long key = 0; key < NUM_KEYS; key++) {
+            final Endpoint oldEndpoint = loadBalancer.pick(key);
+            if (oldEndpoint == removedEndpoint) {
+                removed++;
+            }
+            if (oldEndpoint != newLoadBalancer.pick(key)) {
+                moved++;
+            }
+        }
+        return new int[] { removed, moved };
+    }
+
+    @ParameterizedTest
+    @EnumSource(Algorithm.class)
+    void respectsWeight(Algorithm algorithm) {
+        final List<Endpoint> endpoints = newEndpoints(4);
+        endpoints.set(0, endpoints.get(0).withWeight(3000));
+        final LoadBalancer<Endpoint, Long> loadBalancer = algorithm.newLoadBalancer(endpoints);
+        final Map<Endpoint, Integer> counts = new HashMap<>();
+        for (long key = 0; key < NUM_KEYS; key++) {
+            counts.merge(loadBalancer.pick(key), 1, Integer::sum);
+        }
+        assertThat(counts).hasSize(4);
+        // The heavier endpoint gets about a half of the keys.
+        assertThat(counts.get(endpoints.get(0))).isBetween(NUM_KEYS * 4 / 10, NUM_KEYS * 6 / 10);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import com.linecorp.armeria.client.Endpoint;
+
+class LeastRequestLoadBalancerTest {
+
+    @Test
+    void emptyAndSingleCandidate() {
+        assertThat(LoadBalancer.<Endpoint>ofLeastRequest(ImmutableList.of(), e -> 0).pick()).isNull();
+
+        final Endpoint endpoint = Endpoint.of("foo.com");
+        assertThat(LoadBalancer.ofLeastRequest(ImmutableList.of(endpoint), e -> 100).pick())
+                .isSameAs(endpoint);
+    }
+
+    @Test
+    void prefersCandidateWithFewerRequests() {
+        final Endpoint idle = Endpoint.of("idle.com");
+        final Endpoint busy = Endpoint.of("busy.com");
+        final Map<Endpoint, Long> numRequests = ImmutableMap.of(idle, 0L, busy, 10L);
+        final SimpleLoadBalancer<Endpoint> loadBalancer =
+                LoadBalancer.ofLeastRequest(ImmutableList.of(idle, busy), numRequests::get);
+        for (int i = 0; i < 100; i++) {
+            assertThat(loadBalancer.pick()).isSameAs(idle);
+        }
+    }
+
+    @Test
+    void considersWeight() {
+        final Endpoint small = Endpoint.of("small.com").withWeight(1);
+        final Endpoint large = Endpoint.of("large.com").withWeight(10);
+        // 'large' has more requests, but fewer requests per weight.
+        final Map<Endpoint, Long> numRequests = ImmutableMap.of(small, 2L, large, 5L);
+        final SimpleLoadBalancer<Endpoint> loadBalancer =
+                LoadBalancer.ofLeastRequest(ImmutableList.of(small, large), numRequests::get);
+        for (int i = 0; i < 100; i++) {
+            assertThat(loadBalancer.pick()).isSameAs(large);
+        }
+    }
+
+    @Test
+    void excludesZeroWeight() {
+        final Endpoint zero = Endpoint.of("zero.com").withWeight(0);
+        final Endpoint one = Endpoint.of("one.com");
+        final LeastRequestLoadBalancer<Endpoint> loadBalancer =
+                (LeastRequestLoadBalancer<Endpoint>) LoadBalancer.ofLeastRequest(
+                        ImmutableList.of(zero, one), e -> 0);
+        assertThat(loadBalancer.candidates()).hasSize(1);
+        assertThat(loadBalancer.pick()).isSameAs(one);
+    }
+
+    @Test
+    void balancesWhenRequestsAreEqual() {
+        final List<String> candidates = ImmutableList.of("a", "b", "c", "d");
+        final SimpleLoadBalancer<String> loadBalancer =
+                LoadBalancer.ofLeastRequest(candidates, c -> 1, c -> 0);
+        final Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 4000; i++) {
+            counts.merge(loadBalancer.pick(), 1, Integer::sum);
+        }
+        assertThat(counts).containsOnlyKeys(candidates);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(700, 1300));
+    }
+}
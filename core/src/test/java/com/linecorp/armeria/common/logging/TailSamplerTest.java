@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.HttpStatusClass;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+class TailSamplerTest {
+
+    @Test
+    void totalDuration() {
+        final TailSampler sampler = TailSampler.builder()
+                                               .totalDurationThreshold(Duration.ofMillis(100))
+                                               .build();
+        assertThat(sampler.isSampled(newLog(HttpStatus.OK, null, 99))).isFalse();
+        assertThat(sampler.isSampled(newLog(HttpStatus.OK, null, 100))).isTrue();
+        assertThat(sampler.isSampled(newLog(HttpStatus.OK, null, 1000))).isTrue();
+    }
+
+    @Test
+    void status() {
+        final TailSampler sampler = TailSampler.builder()
+                                               .status(HttpStatus.TOO_MANY_REQUESTS)
+                                               .statusClass(HttpStatusClass.SERVER_ERROR)
+                                               .build();
+        assertThat(sampler.isSampled(newLog(HttpStatus.OK, null, 0))).isFalse();
+        assertThat(sampler.isSampled(newLog(HttpStatus.NOT_FOUND, null, 0))).isFalse();
+        assertThat(sampler.isSampled(newLog(HttpStatus.TOO_MANY_REQUESTS, null, 0))).isTrue();
+        assertThat(sampler.isSampled(newLog(HttpStatus.SERVICE_UNAVAILABLE, null, 0))).isTrue();
+        // The duration is not taken into account if unspecified.
+        assertThat(sampler.isSampled(newLog(HttpStatus.OK, null, 1_000_000))).isFalse();
+    }
+
+    @Test
+    void responseCause() {
+        final TailSampler sampler = TailSampler.builder()
+                                               .responseCause(IllegalStateException.class)
+                                               .build();
+        assertThat(sampler.isSampled(newLog(HttpStatus.OK, null, 0))).isFalse();
+        assertThat(sampler.isSampled(newLog(HttpStatus.OK, new IllegalArgumentException(), 0))).isFalse();
+        assertThat(sampler.isSampled(newLog(HttpStatus.OK, new IllegalStateException(), 0))).isTrue();
+
+        final TailSampler anySampler = TailSampler.builder().anyResponseCause().build();
+        assertThat(anySampler.isSampled(newLog(HttpStatus.OK, null, 0))).isFalse();
+        assertThat(anySampler.isSampled(newLog(HttpStatus.OK, new IllegalArgumentException(), 0))).isTrue();
+    }
+
+    private static RequestLog newLog(HttpStatus status, @Nullable Throwable cause, long durationMillis) {
+        final ServiceRequestContext ctx = ServiceRequestContext.of(HttpRequest.of(HttpMethod.GET, "/"));
+        final RequestLogBuilder logBuilder = ctx.logBuilder();
+        logBuilder.endRequest();
+        logBuilder.responseHeaders(ResponseHeaders.of(status));
+        final long endTimeNanos = ctx.log().partial().requestStartTimeNanos() +
+                                  TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        if (cause != null) {
+            logBuilder.endResponse(cause, endTimeNanos);
+        } else {
+            logBuilder.endResponse(endTimeNanos);
+        }
+        return ctx.log().ensureComplete();
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.util.concurrent.ImmediateEventExecutor;
+
+class StreamMessageBroadcasterTest {
+
+    @Test
+    void broadcastToAllSubscribers() {
+        final StreamWriter<Integer> writer = StreamMessage.streaming();
+        final StreamMessageBroadcaster<Integer> broadcaster = newBroadcaster(writer, SlowSubscriberPolicy.LAG);
+        final RecordingSubscriber first = subscribe(broadcaster);
+        final RecordingSubscriber second = subscribe(broadcaster);
+        assertThat(broadcaster.numSubscribers()).isEqualTo(2);
+        first.subscription.request(Long.MAX_VALUE);
+        second.subscription.request(Long.MAX_VALUE);
+
+        for (int i = 0; i < 10; i++) {
+            writer.write(i);
+        }
+        writer.close();
+
+        assertThat(first.elements).containsExactlyElementsOf(range(0, 10));
+        assertThat(second.elements).containsExactlyElementsOf(range(0, 10));
+        assertThat(first.completed).isTrue();
+        assertThat(second.completed).isTrue();
+        assertThat(broadcaster.numSubscribers()).isZero();
+    }
+
+    @Test
+    void receiveOnlyElementsPublishedAfterSubscription() {
+        final StreamWriter<Integer> writer = StreamMessage.streaming();
+        final StreamMessageBroadcaster<Integer> broadcaster = newBroadcaster(writer, SlowSubscriberPolicy.DROP);
+        writer.write(0);
+        writer.write(1);
+
+        final RecordingSubscriber subscriber = subscribe(broadcaster);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        writer.write(2);
+        writer.close();
+
+        assertThat(subscriber.elements).containsExactly(2);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void dropElementsForSlowSubscriber() {
+        final StreamWriter<Integer> writer = StreamMessage.streaming();
+        final StreamMessageBroadcaster<Integer> broadcaster = newBroadcaster(writer, SlowSubscriberPolicy.DROP);
+        final RecordingSubscriber fast = subscribe(broadcaster);
+        final RecordingSubscriber slow = subscribe(broadcaster);
+        fast.subscription.request(Long.MAX_VALUE);
+
+        for (int i = 0; i < 20; i++) {
+            writer.write(i);
+        }
+        assertThat(fast.elements).containsExactlyElementsOf(range(0, 20));
+        assertThat(slow.elements).isEmpty();
+
+        // Only the most recent 8 elements are kept in the ring buffer.
+        slow.subscription.request(Long.MAX_VALUE);
+        assertThat(slow.elements).containsExactlyElementsOf(range(12, 20));
+        writer.close();
+        assertThat(slow.completed).isTrue();
+    }
+
+    @Test
+    void disconnectSlowSubscriber() {
+        final StreamWriter<Integer> writer = StreamMessage.streaming();
+        final StreamMessageBroadcaster<Integer> broadcaster =
+                newBroadcaster(writer, SlowSubscriberPolicy.DISCONNECT);
+        final RecordingSubscriber fast = subscribe(broadcaster);
+        final RecordingSubscriber slow = subscribe(broadcaster);
+        fast.subscription.request(Long.MAX_VALUE);
+        slow.subscription.request(1);
+
+        for (int i = 0; i < 9; i++) {
+            writer.write(i);
+        }
+        assertThat(slow.elements).containsExactly(0);
+        assertThat(slow.cause).isNull();
+
+        writer.write(9);
+        assertThat(slow.cause).isInstanceOf(SlowSubscriberException.class);
+        assertThat(broadcaster.numSubscribers()).isOne();
+        writer.close();
+        assertThat(fast.elements).containsExactlyElementsOf(range(0, 10));
+        assertThat(fast.completed).isTrue();
+    }
+
+    @Test
+    void holdBackUpstreamForLaggingSubscriber() {
+        final StreamWriter<Integer> writer = StreamMessage.streaming();
+        final StreamMessageBroadcaster<Integer> broadcaster = newBroadcaster(writer, SlowSubscriberPolicy.LAG);
+        final RecordingSubscriber fast = subscribe(broadcaster);
+        final RecordingSubscriber slow = subscribe(broadcaster);
+        fast.subscription.request(Long.MAX_VALUE);
+
+        for (int i = 0; i < 20; i++) {
+            writer.write(i);
+        }
+        // The upstream is held back by the slow subscriber.
+        assertThat(fast.elements).containsExactlyElementsOf(range(0, 8));
+
+        slow.subscription.request(Long.MAX_VALUE);
+        writer.close();
+        assertThat(slow.elements).containsExactlyElementsOf(range(0, 20));
+        assertThat(fast.elements).containsExactlyElementsOf(range(0, 20));
+        assertThat(slow.completed).isTrue();
+        assertThat(fast.completed).isTrue();
+    }
+
+    @Test
+    void cancelSubscription() {
+        final StreamWriter<Integer> writer = StreamMessage.streaming();
+        final StreamMessageBroadcaster<Integer> broadcaster = newBroadcaster(writer, SlowSubscriberPolicy.LAG);
+        final StreamMessage<Integer> stream = broadcaster.newStream();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        stream.subscribe(subscriber, ImmediateEventExecutor.INSTANCE);
+        subscriber.subscription.cancel();
+
+        assertThat(stream.whenComplete()).isCompletedExceptionally();
+        assertThat(broadcaster.numSubscribers()).isZero();
+        // Cancellation is not notified without SubscriptionOption.NOTIFY_CANCELLATION.
+        assertThat(subscriber.cause).isNull();
+        writer.close();
+    }
+
+    @Test
+    void abort() {
+        final StreamWriter<Integer> writer = StreamMessage.streaming();
+        final StreamMessageBroadcaster<Integer> broadcaster = newBroadcaster(writer, SlowSubscriberPolicy.LAG);
+        final RecordingSubscriber subscriber = subscribe(broadcaster);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        writer.write(0);
+
+        broadcaster.abort();
+        assertThat(subscriber.elements).containsExactly(0);
+        assertThat(subscriber.cause).isInstanceOf(AbortedStreamException.class);
+        assertThat(writer.whenComplete().isDone()).isTrue();
+        assertThatThrownBy(broadcaster::newStream).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void closePreventsNewStreams() {
+        final StreamWriter<Integer> writer = StreamMessage.streaming();
+        final StreamMessageBroadcaster<Integer> broadcaster = newBroadcaster(writer, SlowSubscriberPolicy.LAG);
+        final StreamMessage<Integer> stream = broadcaster.newStream();
+        broadcaster.close();
+        assertThatThrownBy(broadcaster::newStream).isInstanceOf(IllegalStateException.class);
+
+        final List<Integer> collected = new ArrayList<>();
+        stream.subscribe(new RecordingSubscriber() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                super.onSubscribe(s);
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Integer integer) {
+                collected.add(integer);
+            }
+        }, ImmediateEventExecutor.INSTANCE);
+        writer.write(1);
+        writer.close();
+        assertThat(collected).containsExactly(1);
+        assertThat(stream.whenComplete()).isCompleted();
+    }
+
+    @Test
+    void lateSubscriber() {
+        final StreamWriter<Integer> writer = StreamMessage.streaming();
+        final StreamMessageBroadcaster<Integer> broadcaster = newBroadcaster(writer, SlowSubscriberPolicy.LAG);
+        final StreamMessage<Integer> stream = broadcaster.newStream();
+        stream.subscribe(new RecordingSubscriber(), ImmediateEventExecutor.INSTANCE);
+        final RecordingSubscriber late = new RecordingSubscriber();
+        stream.subscribe(late, ImmediateEventExecutor.INSTANCE);
+        assertThat(late.cause).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> stream.collect().join()).isInstanceOf(CompletionException.class)
+                                                         .hasCauseInstanceOf(IllegalStateException.class);
+        writer.close();
+    }
+
+    private static StreamMessageBroadcaster<Integer> newBroadcaster(StreamMessage<Integer> upstream,
+                                                                    SlowSubscriberPolicy policy) {
+        return StreamMessageBroadcaster.builder(upstream)
+                                       .bufferSize(8)
+                                       .slowSubscriberPolicy(policy)
+                                       .executor(ImmediateEventExecutor.INSTANCE)
+                                       .build();
+    }
+
+    private static RecordingSubscriber subscribe(StreamMessageBroadcaster<Integer> broadcaster) {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        broadcaster.newStream().subscribe(subscriber, ImmediateEventExecutor.INSTANCE);
+        return subscriber;
+    }
+
+    private static List<Integer> range(int start, int end) {
+        return IntStream.range(start, end).boxed().collect(Collectors.toList());
+    }
+
+    private static class RecordingSubscriber implements Subscriber<Integer> {
+
+        final List<Integer> elements = new ArrayList<>();
+        @Nullable
+        Subscription subscription;
+        @Nullable
+        Throwable cause;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(Integer integer) {
+            elements.add(integer);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            cause = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
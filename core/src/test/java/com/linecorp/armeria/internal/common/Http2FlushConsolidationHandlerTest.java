@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+class Http2FlushConsolidationHandlerTest {
+
+    @Test
+    void consolidateFlushes() {
+        final DistributionSummary writesPerFlush =
+                DistributionSummary.builder("writes.per.flush").register(new SimpleMeterRegistry());
+        final Http2FlushConsolidationHandler handler = new Http2FlushConsolidationHandler(writesPerFlush);
+        final EmbeddedChannel ch = new EmbeddedChannel(handler);
+
+        for (int i = 0; i < 3; i++) {
+            ch.write(Unpooled.wrappedBuffer(new byte[] { (byte) i }));
+            ch.flush();
+        }
+        // Not flushed until the event loop runs the scheduled flush.
+        assertThat(handler.pendingWrites()).isEqualTo(3);
+        assertThat((Object) ch.readOutbound()).isNull();
+
+        ch.runPendingTasks();
+        assertThat(handler.pendingWrites()).isZero();
+        for (int i = 0; i < 3; i++) {
+            final ByteBuf buf = ch.readOutbound();
+            assertThat(buf.readByte()).isEqualTo((byte) i);
+            buf.release();
+        }
+        assertThat(writesPerFlush.count()).isOne();
+        assertThat(writesPerFlush.totalAmount()).isEqualTo(3);
+        ch.finishAndReleaseAll();
+    }
+
+    @Test
+    void consolidateDeferredFlush() {
+        final DistributionSummary writesPerFlush =
+                DistributionSummary.builder("writes.per.flush").register(new SimpleMeterRegistry());
+        final Http2FlushConsolidationHandler handler = new Http2FlushConsolidationHandler(writesPerFlush);
+        final EmbeddedChannel ch = new EmbeddedChannel(handler);
+
+        // Flush from a task like a response subscriber which batches its writes.
+        ch.eventLoop().execute(() -> {
+            ch.write(Unpooled.wrappedBuffer(new byte[] { 1 }));
+            ch.flush();
+        });
+        ch.write(Unpooled.wrappedBuffer(new byte[] { 0 }));
+        ch.flush();
+
+        // The flush deferred twice is still done when the pending tasks run, together with the other writes.
+        ch.runPendingTasks();
+        assertThat(handler.pendingWrites()).isZero();
+        for (int i = 0; i < 2; i++) {
+            final ByteBuf buf = ch.readOutbound();
+            assertThat(buf.readByte()).isEqualTo((byte) i);
+            buf.release();
+        }
+        assertThat(writesPerFlush.count()).isOne();
+        assertThat(writesPerFlush.totalAmount()).isEqualTo(2);
+        ch.finishAndReleaseAll();
+    }
+
+    @Test
+    void flushOnClose() {
+        final DistributionSummary writesPerFlush =
+                DistributionSummary.builder("writes.per.flush").register(new SimpleMeterRegistry());
+        final Http2FlushConsolidationHandler handler = new Http2FlushConsolidationHandler(writesPerFlush);
+        final EmbeddedChannel ch = new EmbeddedChannel(handler);
+
+        ch.writeAndFlush(Unpooled.wrappedBuffer(new byte[] { 1 }));
+        ch.close();
+        final ByteBuf buf = ch.readOutbound();
+        assertThat(buf.readByte()).isEqualTo((byte) 1);
+        buf.release();
+        assertThat(writesPerFlush.count()).isOne();
+        ch.finishAndReleaseAll();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.primitives.Bytes;
+
+import com.linecorp.armeria.common.AggregatedHttpRequest;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.AggregationOptions;
+import com.linecorp.armeria.common.FileBackedHttpData;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaders;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpRequestWriter;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+
+import io.netty.buffer.ByteBufAllocator;
+
+class SpillingHttpObjectCollectorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void spillRequest() {
+        final byte[] chunk1 = randomBytes(4096);
+        final byte[] chunk2 = randomBytes(4096);
+        final byte[] chunk3 = randomBytes(4096);
+        final HttpRequest req = HttpRequest.of(RequestHeaders.of(HttpMethod.POST, "/upload"),
+                                               HttpData.wrap(chunk1), HttpData.wrap(chunk2),
+                                               HttpData.wrap(chunk3));
+        final AggregatedHttpRequest agg =
+                req.aggregate(AggregationOptions.builder().spillToFile(5000, tempDir).build()).join();
+        final HttpData content = agg.content();
+        assertThat(content).isInstanceOf(FileRegionHttpData.class);
+        assertThat(((FileRegionHttpData) content).isLoaded()).isFalse();
+        assertThat(content.length()).isEqualTo(12288);
+        assertThat(content.array()).isEqualTo(Bytes.concat(chunk1, chunk2, chunk3));
+        assertThat(((FileRegionHttpData) content).isLoaded()).isTrue();
+    }
+
+    @Test
+    void spillWithPooledObjects() {
+        final byte[] chunk1 = randomBytes(4096);
+        final byte[] chunk2 = randomBytes(4096);
+        final HttpRequestWriter req = HttpRequest.streaming(RequestHeaders.of(HttpMethod.POST, "/upload"));
+        req.write(HttpData.wrap(ByteBufAllocator.DEFAULT.buffer().writeBytes(chunk1)));
+        req.write(HttpData.wrap(ByteBufAllocator.DEFAULT.buffer().writeBytes(chunk2)));
+        req.write(HttpHeaders.of("foo", "bar"));
+        req.close();
+        final AggregatedHttpRequest agg =
+                req.aggregate(AggregationOptions.builder()
+                                                .usePooledObjects(ByteBufAllocator.DEFAULT)
+                                                .spillToFile(1000, tempDir)
+                                                .build()).join();
+        assertThat(agg.trailers().get("foo")).isEqualTo("bar");
+        try (HttpData content = agg.content()) {
+            assertThat(content).isInstanceOf(FileRegionHttpData.class);
+            assertThat(content.array()).isEqualTo(Bytes.concat(chunk1, chunk2));
+        }
+    }
+
+    @Test
+    void spillResponse() {
+        final byte[] chunk1 = randomBytes(4096);
+        final byte[] chunk2 = randomBytes(4096);
+        final HttpResponse res = HttpResponse.of(ResponseHeaders.of(HttpStatus.CONTINUE),
+                                                 ResponseHeaders.of(HttpStatus.OK),
+                                                 HttpData.wrap(chunk1), HttpData.wrap(chunk2));
+        final AggregatedHttpResponse agg =
+                res.aggregate(AggregationOptions.builder().spillToFile(5000).build()).join();
+        assertThat(agg.informationals()).containsExactly(ResponseHeaders.of(HttpStatus.CONTINUE));
+        assertThat(agg.status()).isEqualTo(HttpStatus.OK);
+        try (HttpData content = agg.content()) {
+            assertThat(content).isInstanceOf(FileRegionHttpData.class);
+            assertThat(content.array()).isEqualTo(Bytes.concat(chunk1, chunk2));
+        }
+    }
+
+    @Test
+    void streamSpilledContent() throws IOException {
+        final byte[] chunk1 = randomBytes(4096);
+        final byte[] chunk2 = randomBytes(4096);
+        final HttpRequest req = HttpRequest.of(RequestHeaders.of(HttpMethod.POST, "/upload"),
+                                               HttpData.wrap(chunk1), HttpData.wrap(chunk2));
+        final AggregatedHttpRequest agg =
+                req.aggregate(AggregationOptions.builder().spillToFile(5000, tempDir).build()).join();
+        assertThat(agg.content()).isInstanceOf(FileBackedHttpData.class);
+        final FileBackedHttpData content = (FileBackedHttpData) agg.content();
+        assertThat(content.path()).startsWith(tempDir);
+        assertThat(content.position()).isZero();
+        assertThat(content.contentLength()).isEqualTo(8192);
+
+        try (InputStream in = content.toInputStream()) {
+            assertThat(in.read()).isEqualTo(chunk1[0] & 0xFF);
+            assertThat(in.skip(4095)).isEqualTo(4095);
+            assertThat(in.available()).isEqualTo(4096);
+            final byte[] rest = new byte[8192];
+            int offset = 0;
+            for (;;) {
+                final int readBytes = in.read(rest, offset, rest.length - offset);
+                if (readBytes < 0) {
+                    break;
+                }
+                offset += readBytes;
+            }
+            assertThat(offset).isEqualTo(4096);
+            assertThat(rest).startsWith(chunk2);
+        }
+        // Streaming does not read the content into the memory, and closing the stream closes the content.
+        assertThat(((FileRegionHttpData) content).isLoaded()).isFalse();
+        assertThatThrownBy(content::toInputStream).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void keepSmallContentInMemory() {
+        final HttpRequest req = HttpRequest.of(RequestHeaders.of(HttpMethod.POST, "/upload"),
+                                               HttpData.ofUtf8("foo"), HttpData.ofUtf8("bar"));
+        final AggregatedHttpRequest agg =
+                req.aggregate(AggregationOptions.builder().spillToFile(1024, tempDir).build()).join();
+        assertThat(agg.content()).isNotInstanceOf(FileRegionHttpData.class);
+        assertThat(agg.contentUtf8()).isEqualTo("foobar");
+    }
+
+    @Test
+    void failWhenDirectoryDoesNotExist() {
+        final HttpRequest req = HttpRequest.of(RequestHeaders.of(HttpMethod.POST, "/upload"),
+                                               HttpData.wrap(randomBytes(4096)));
+        final Path directory = tempDir.resolve("non-existent");
+        assertThatThrownBy(() -> req.aggregate(AggregationOptions.builder()
+                                                                 .spillToFile(1000, directory)
+                                                                 .build()).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void disallowSpillWithCache() {
+        assertThatThrownBy(() -> AggregationOptions.builder().cacheResult(true).spillToFile(1024))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> AggregationOptions.builder().spillToFile(1024).cacheResult(true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static byte[] randomBytes(int length) {
+        final byte[] bytes = new byte[length];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+
+import com.linecorp.armeria.common.CommonPools;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.EventLoop;
+
+class ZlibOutputStreamTest {
+
+    private static final String CONTENT = Strings.repeat("Armeria compresses this text. ", 1000);
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void roundTrip(boolean gzip) throws IOException {
+        final ByteBuf out = ByteBufAllocator.DEFAULT.directBuffer();
+        final byte[] bytes = CONTENT.getBytes(StandardCharsets.UTF_8);
+        final int third = bytes.length / 3;
+        try (ZlibOutputStream encoder = newEncoder(out, gzip)) {
+            // A heap buffer.
+            encoder.write(bytes, 0, third);
+            encoder.flush();
+            final int flushedBytes = out.readableBytes();
+            assertThat(flushedBytes).isPositive();
+
+            // A direct buffer.
+            final ByteBuf direct = Unpooled.directBuffer().writeBytes(bytes, third, third);
+            encoder.write(direct);
+            assertThat(direct.readableBytes()).isEqualTo(third);
+            direct.release();
+
+            // A composite buffer.
+            final CompositeByteBuf composite = Unpooled.compositeBuffer();
+            final int remaining = bytes.length - third * 2;
+            composite.addComponent(true, Unpooled.wrappedBuffer(bytes, third * 2, remaining / 2));
+            composite.addComponent(true, Unpooled.directBuffer().writeBytes(bytes, third * 2 + remaining / 2,
+                                                                             remaining - remaining / 2));
+            encoder.write(composite);
+            composite.release();
+            encoder.flush();
+            assertThat(out.readableBytes()).isGreaterThan(flushedBytes);
+        }
+
+        assertThat(out.readableBytes()).isLessThan(CONTENT.length());
+        assertThat(decode(out, gzip)).isEqualTo(CONTENT);
+        out.release();
+    }
+
+    @Test
+    void sameOutputAsJdkGzip() throws IOException {
+        final ByteBuf out = Unpooled.buffer();
+        try (OutputStream encoder = newEncoder(out, true)) {
+            encoder.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+        }
+        final ByteBuf jdkOut = Unpooled.buffer();
+        try (OutputStream encoder = new GZIPOutputStream(new ByteBufOutputStream(jdkOut))) {
+            encoder.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+        }
+        assertThat(out).isEqualTo(jdkOut);
+    }
+
+    @Test
+    void writeAfterClose() {
+        final ZlibOutputStream encoder = newEncoder(Unpooled.buffer(), true);
+        encoder.close();
+        // Closing twice does nothing.
+        encoder.close();
+        assertThatThrownBy(() -> encoder.write(new byte[1])).isInstanceOf(IOException.class);
+        assertThatThrownBy(encoder::flush).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void deflaterIsPooledInEventLoop() throws Exception {
+        final EventLoop eventLoop = CommonPools.workerGroup().next();
+        eventLoop.submit(() -> {
+            final int numPooled = DeflaterPool.numPooled(true);
+            final ZlibOutputStream encoder = newEncoder(Unpooled.buffer(), true);
+            if (numPooled > 0) {
+                assertThat(DeflaterPool.numPooled(true)).isEqualTo(numPooled - 1);
+            }
+            encoder.close();
+            assertThat(DeflaterPool.numPooled(true)).isEqualTo(Math.max(1, numPooled));
+
+            // Never pooled more than the limit.
+            final ZlibOutputStream[] encoders = new ZlibOutputStream[DeflaterPool.MAX_POOLED_DEFLATERS + 1];
+            for (int i = 0; i < encoders.length; i++) {
+                encoders[i] = newEncoder(Unpooled.buffer(), true);
+            }
+            for (ZlibOutputStream e : encoders) {
+                e.close();
+            }
+            assertThat(DeflaterPool.numPooled(true)).isEqualTo(DeflaterPool.MAX_POOLED_DEFLATERS);
+            return null;
+        }).get();
+    }
+
+    @Test
+    void deflaterIsNotPooledInNonEventLoop() {
+        newEncoder(Unpooled.buffer(), false).close();
+        assertThat(DeflaterPool.numPooled(false)).isZero();
+    }
+
+    private static ZlibOutputStream newEncoder(ByteBuf out, boolean gzip) {
+        final ByteBufOutputStream os = new ByteBufOutputStream(out);
+        return gzip ? ZlibOutputStream.gzip(os) : ZlibOutputStream.deflate(os);
+    }
+
+    private static String decode(ByteBuf buf, boolean gzip) throws IOException {
+        final byte[] compressed = new byte[buf.readableBytes()];
+        buf.getBytes(buf.readerIndex(), compressed);
+        final InputStream in = new ByteArrayInputStream(compressed);
+        try (InputStream decoder = gzip ? new GZIPInputStream(in) : new InflaterInputStream(in)) {
+            return new String(ByteStreams.toByteArray(decoder), StandardCharsets.UTF_8);
+        }
+    }
+}
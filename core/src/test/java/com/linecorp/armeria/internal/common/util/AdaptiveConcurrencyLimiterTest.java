@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter newLimiter() {
+        return new AdaptiveConcurrencyLimiter(10, 1, 100, 1.0, 1.0, 0.5, 1000, WINDOW_NANOS, ticker::get);
+    }
+
+    @Test
+    void shouldRejectWhenLimitIsReached() {
+        final AdaptiveConcurrencyLimiter limiter = newLimiter();
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(10);
+
+        limiter.release();
+        assertThat(limiter.inFlight()).isEqualTo(9);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void shouldGrowWhileLatencyIsStable() {
+        final AdaptiveConcurrencyLimiter limiter = newLimiter();
+        acquire(limiter, 10);
+
+        // Not updated until the window is over.
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+        assertThat(limiter.limit()).isEqualTo(10);
+
+        ticker.addAndGet(WINDOW_NANOS);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+        // 10 * 1.0 + sqrt(10)
+        assertThat(limiter.limit()).isEqualTo(13);
+    }
+
+    @Test
+    void shouldNotGrowWhenUnderutilized() {
+        final AdaptiveConcurrencyLimiter limiter = newLimiter();
+        acquire(limiter, 2);
+        ticker.addAndGet(WINDOW_NANOS);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldShrinkWhenLatencyIncreases() {
+        final AdaptiveConcurrencyLimiter limiter = newLimiter();
+        acquire(limiter, 10);
+        ticker.addAndGet(WINDOW_NANOS);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+        assertThat(limiter.limit()).isEqualTo(13);
+
+        acquire(limiter, 4);
+        ticker.addAndGet(WINDOW_NANOS);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(40), false);
+        assertThat(limiter.limit()).isLessThan(13);
+    }
+
+    @Test
+    void shouldBackOffOnDrop() {
+        final AdaptiveConcurrencyLimiter limiter = newLimiter();
+        acquire(limiter, 10);
+        ticker.addAndGet(WINDOW_NANOS);
+        limiter.release(0, true);
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldStayWithinRange() {
+        final AdaptiveConcurrencyLimiter limiter = newLimiter();
+        for (int i = 0; i < 10; i++) {
+            acquire(limiter, 1);
+            ticker.addAndGet(WINDOW_NANOS);
+            limiter.release(0, true);
+        }
+        assertThat(limiter.limit()).isOne();
+    }
+
+    private static void acquire(AdaptiveConcurrencyLimiter limiter, int numPermits) {
+        for (int i = 0; i < numPermits; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyPercentileTrackerTest {
+
+    @Test
+    void percentile() {
+        final AtomicLong ticker = new AtomicLong();
+        final LatencyPercentileTracker tracker = new LatencyPercentileTracker(0.9, 128, 10, 100, ticker::get);
+        for (int i = 1; i <= 9; i++) {
+            tracker.record(i);
+        }
+        // Not enough samples.
+        assertThat(tracker.percentileNanos()).isEqualTo(-1);
+
+        tracker.record(10);
+        // Not updated until the update interval passes.
+        assertThat(tracker.percentileNanos()).isEqualTo(-1);
+        ticker.addAndGet(100);
+        assertThat(tracker.percentileNanos()).isEqualTo(9);
+
+        for (int i = 11; i <= 100; i++) {
+            tracker.record(i);
+        }
+        ticker.addAndGet(100);
+        assertThat(tracker.percentileNanos()).isEqualTo(90);
+    }
+
+    @Test
+    void keepsOnlyLatestSamples() {
+        final AtomicLong ticker = new AtomicLong();
+        final LatencyPercentileTracker tracker = new LatencyPercentileTracker(0.5, 16, 16, 0, ticker::get);
+        for (int i = 0; i < 16; i++) {
+            tracker.record(1000);
+        }
+        for (int i = 0; i < 16; i++) {
+            tracker.record(10);
+        }
+        assertThat(tracker.percentileNanos()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import com.linecorp.armeria.common.ContextAwareBlockingTaskExecutor;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.RequestContext;
+import com.linecorp.armeria.common.metric.MoreMeters;
+import com.linecorp.armeria.common.util.BlockingTaskExecutor;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadBlockingTaskExecutorTest {
+
+    @Test
+    void runsTasksInVirtualThreads() throws Exception {
+        final BlockingTaskExecutor executor = BlockingTaskExecutor.builder()
+                                                                  .threadNamePrefix("vt-test")
+                                                                  .useVirtualThreads(true)
+                                                                  .build();
+        assertThat(executor).isInstanceOf(VirtualThreadBlockingTaskExecutor.class);
+        final AtomicReference<Thread> threadRef = new AtomicReference<>();
+        executor.submit(() -> threadRef.set(Thread.currentThread())).get();
+        assertThat(threadRef.get().getName()).startsWith("vt-test-");
+        assertThat(threadRef.get().isDaemon()).isTrue();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.isTerminated()).isTrue();
+        assertThatThrownBy(() -> executor.execute(() -> {}))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void runsMoreTasksThanPlatformThreads() throws Exception {
+        final BlockingTaskExecutor executor = BlockingTaskExecutor.builder()
+                                                                  .numThreads(1)
+                                                                  .useVirtualThreads(true)
+                                                                  .build();
+        final int numTasks = 1000;
+        final CountDownLatch started = new CountDownLatch(numTasks);
+        final CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < numTasks; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        // All tasks block at the same time, which is impossible with a single-thread pool.
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void scheduledTasks() throws Exception {
+        final BlockingTaskExecutor executor = BlockingTaskExecutor.builder()
+                                                                  .useVirtualThreads(true)
+                                                                  .build();
+        final ScheduledFuture<String> future = executor.schedule(() -> "foo", 100, TimeUnit.MILLISECONDS);
+        assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo("foo");
+
+        final AtomicInteger counter = new AtomicInteger();
+        final ScheduledFuture<?> fixedRate =
+                executor.scheduleAtFixedRate(counter::incrementAndGet, 0, 10, TimeUnit.MILLISECONDS);
+        await().untilAsserted(() -> assertThat(counter).hasValueGreaterThanOrEqualTo(3));
+        fixedRate.cancel(false);
+        assertThat(fixedRate.isCancelled()).isTrue();
+
+        counter.set(0);
+        final ScheduledFuture<?> fixedDelay =
+                executor.scheduleWithFixedDelay(counter::incrementAndGet, 0, 10, TimeUnit.MILLISECONDS);
+        await().untilAsserted(() -> assertThat(counter).hasValueGreaterThanOrEqualTo(3));
+        fixedDelay.cancel(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void cancelsPendingScheduledTasksOnShutdown() throws Exception {
+        final BlockingTaskExecutor executor = BlockingTaskExecutor.builder()
+                                                                  .useVirtualThreads(true)
+                                                                  .build();
+        final ScheduledFuture<String> delayed = executor.schedule(() -> "foo", 1, TimeUnit.HOURS);
+        final ScheduledFuture<?> fixedRate =
+                executor.scheduleAtFixedRate(() -> {}, 1, 1, TimeUnit.HOURS);
+        final ScheduledFuture<?> fixedDelay =
+                executor.scheduleWithFixedDelay(() -> {}, 1, 1, TimeUnit.HOURS);
+
+        assertThat(executor.shutdownNow()).hasSize(3);
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        for (ScheduledFuture<?> future : new ScheduledFuture<?>[] { delayed, fixedRate, fixedDelay }) {
+            assertThat(future.isCancelled()).isTrue();
+            assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(CancellationException.class);
+        }
+    }
+
+    @Test
+    void completesHandedOffTasksOnShutdown() throws Exception {
+        final BlockingTaskExecutor executor = BlockingTaskExecutor.builder()
+                                                                  .useVirtualThreads(true)
+                                                                  .build();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ScheduledFuture<String> running = executor.schedule(() -> {
+            started.countDown();
+            release.await();
+            return "foo";
+        }, 0, TimeUnit.MILLISECONDS);
+        final ScheduledFuture<String> pending = executor.schedule(() -> "bar", 1, TimeUnit.HOURS);
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // A graceful shutdown cancels only the tasks which are not due yet.
+        executor.shutdown();
+        assertThat(pending.isCancelled()).isTrue();
+        release.countDown();
+        assertThat(running.get(10, TimeUnit.SECONDS)).isEqualTo("foo");
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void propagatesContext() throws Exception {
+        final BlockingTaskExecutor executor = BlockingTaskExecutor.builder()
+                                                                  .useVirtualThreads(true)
+                                                                  .build();
+        final ServiceRequestContext ctx = ServiceRequestContext.of(HttpRequest.of(HttpMethod.GET, "/"));
+        final ContextAwareBlockingTaskExecutor contextAware = ContextAwareBlockingTaskExecutor.of(ctx,
+                                                                                                  executor);
+        final AtomicReference<RequestContext> ctxRef = new AtomicReference<>();
+        contextAware.submit(() -> ctxRef.set(RequestContext.currentOrNull())).get();
+        assertThat(ctxRef.get()).isSameAs(ctx);
+        executor.shutdown();
+    }
+
+    @Test
+    void metrics() throws Exception {
+        final VirtualThreadBlockingTaskExecutor executor =
+                (VirtualThreadBlockingTaskExecutor) BlockingTaskExecutor.builder()
+                                                                        .useVirtualThreads(true)
+                                                                        .build();
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executor.bindTo(registry, "blockingTaskExecutor", "armeria");
+        executor.submit(() -> {}).get();
+        await().untilAsserted(() -> assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("armeria.executor.submitted#count{name=blockingTaskExecutor}", 1.0)
+                .containsEntry("armeria.executor.completed#count{name=blockingTaskExecutor}", 1.0)
+                .containsEntry("armeria.executor.active#value{name=blockingTaskExecutor}", 0.0)
+                .containsEntry("armeria.executor.queued#value{name=blockingTaskExecutor}", 0.0));
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.CommonPools;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpObject;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpResponseWriter;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.EventLoop;
+
+class HttpResponseSubscriberWriteBatchTest {
+
+    private static final int WRITE_BATCH_SIZE = 4;
+    private static final int NUM_CHUNKS = 512;
+    private static final int CHUNK_SIZE = 1024;
+
+    private static final AtomicReference<HttpResponseWriter> partialResponse = new AtomicReference<>();
+    private static final AtomicInteger numFlushes = new AtomicInteger();
+    private static final AtomicInteger numUnbatchedFlushes = new AtomicInteger();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.responseWriteBatchSize(WRITE_BATCH_SIZE);
+            sb.childChannelPipelineCustomizer(pipeline -> pipeline.addFirst(new FlushCounter(numFlushes)));
+            sb.service("/stream", (ctx, req) -> {
+                final HttpResponseWriter res = HttpResponse.streaming();
+                res.write(ResponseHeaders.of(HttpStatus.OK));
+                stream(res, 0);
+                return res;
+            });
+            sb.service("/partial", (ctx, req) -> {
+                final HttpResponseWriter res = HttpResponse.streaming();
+                res.write(ResponseHeaders.of(HttpStatus.OK));
+                // Fewer than the batch size, and the stream is not closed.
+                res.write(HttpData.ofUtf8(chunk(0)));
+                res.write(HttpData.ofUtf8(chunk(1)));
+                partialResponse.set(res);
+                return res;
+            });
+            sb.requestTimeoutMillis(0);
+        }
+    };
+
+    @RegisterExtension
+    static final ServerExtension unbatchedServer = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.responseWriteBatchSize(1);
+            sb.childChannelPipelineCustomizer(
+                    pipeline -> pipeline.addFirst(new FlushCounter(numUnbatchedFlushes)));
+            sb.service("/stream", (ctx, req) -> {
+                final HttpResponseWriter res = HttpResponse.streaming();
+                res.write(ResponseHeaders.of(HttpStatus.OK));
+                stream(res, 0);
+                return res;
+            });
+            sb.requestTimeoutMillis(0);
+        }
+    };
+
+    @ParameterizedTest
+    @EnumSource(value = SessionProtocol.class, names = { "H1C", "H2C" })
+    void streamsAllChunksInOrder(SessionProtocol protocol) {
+        final String content = WebClient.of(server.uri(protocol)).get("/stream").aggregate().join()
+                                        .contentUtf8();
+        assertThat(content).isEqualTo(expectedContent(NUM_CHUNKS));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SessionProtocol.class, names = { "H1C", "H2C" })
+    void flushesFewerTimesThanWrites(SessionProtocol protocol) {
+        numFlushes.set(0);
+        numUnbatchedFlushes.set(0);
+        assertThat(WebClient.of(server.uri(protocol)).get("/stream").aggregate().join().contentUtf8())
+                .isEqualTo(expectedContent(NUM_CHUNKS));
+        assertThat(WebClient.of(unbatchedServer.uri(protocol)).get("/stream").aggregate().join()
+                            .contentUtf8())
+                .isEqualTo(expectedContent(NUM_CHUNKS));
+
+        // Every chunk is flushed separately without batching.
+        assertThat(numUnbatchedFlushes).hasValueGreaterThanOrEqualTo(NUM_CHUNKS);
+        // The chunks written in the same event loop iteration are flushed together.
+        assertThat(numFlushes).hasValueLessThan(NUM_CHUNKS);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SessionProtocol.class, names = { "H1C", "H2C" })
+    void flushesPartialBatch(SessionProtocol protocol) {
+        partialResponse.set(null);
+        final CollectingSubscriber subscriber = new CollectingSubscriber(null);
+        WebClient.of(server.uri(protocol)).get("/partial").subscribe(subscriber);
+
+        // The chunks should be flushed even if the batch is not full and the stream is still open.
+        await().untilAsserted(() -> assertThat(subscriber.content()).isEqualTo(expectedContent(2)));
+        assertThat(subscriber.completionFuture).isNotDone();
+
+        partialResponse.get().close();
+        subscriber.completionFuture.join();
+        assertThat(subscriber.content()).isEqualTo(expectedContent(2));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SessionProtocol.class, names = { "H1C", "H2C" })
+    void slowClient(SessionProtocol protocol) {
+        final EventLoop eventLoop = CommonPools.workerGroup().next();
+        final CollectingSubscriber subscriber = new CollectingSubscriber(eventLoop);
+        WebClient.builder(server.uri(protocol))
+                 .responseTimeoutMillis(0)
+                 .build()
+                 .get("/stream")
+                 .subscribe(subscriber, eventLoop);
+        subscriber.completionFuture.join();
+        assertThat(subscriber.content()).isEqualTo(expectedContent(NUM_CHUNKS));
+    }
+
+    private static void stream(HttpResponseWriter res, int index) {
+        if (index == NUM_CHUNKS) {
+            res.close();
+            return;
+        }
+        // Do not write the next chunk until the previous one is consumed, so that the server does not
+        // buffer the whole content when the client is slow.
+        res.write(HttpData.ofUtf8(chunk(index)));
+        res.whenConsumed().thenRun(() -> stream(res, index + 1));
+    }
+
+    private static String chunk(int index) {
+        return Strings.padStart(index + "\n", CHUNK_SIZE, '.');
+    }
+
+    private static String expectedContent(int numChunks) {
+        final StringBuilder buf = new StringBuilder(numChunks * CHUNK_SIZE);
+        for (int i = 0; i < numChunks; i++) {
+            buf.append(chunk(i));
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Counts the flushes of a server-side connection.
+     */
+    private static final class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+        private final AtomicInteger counter;
+
+        FlushCounter(AtomicInteger counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            counter.incrementAndGet();
+            ctx.flush();
+        }
+    }
+
+    /**
+     * Collects the content of a response. If an {@link EventLoop} is given, requests the next
+     * {@link HttpObject} only after a delay to simulate a slow client.
+     */
+    private static final class CollectingSubscriber implements Subscriber<HttpObject> {
+
+        final CompletableFuture<Void> completionFuture = new CompletableFuture<>();
+        private final StringBuffer content = new StringBuffer();
+        @Nullable
+        private final EventLoop slowEventLoop;
+        @Nullable
+        private Subscription subscription;
+
+        CollectingSubscriber(@Nullable EventLoop slowEventLoop) {
+            this.slowEventLoop = slowEventLoop;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(slowEventLoop != null ? 1 : Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(HttpObject obj) {
+            if (obj instanceof HttpData) {
+                content.append(((HttpData) obj).toString(StandardCharsets.UTF_8));
+            }
+            if (slowEventLoop != null) {
+                assert subscription != null;
+                slowEventLoop.schedule(() -> subscription.request(1), 1, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            completionFuture.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            completionFuture.complete(null);
+        }
+
+        String content() {
+            return content.toString();
+        }
+    }
+}
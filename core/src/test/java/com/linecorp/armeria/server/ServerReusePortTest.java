@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.client.ClientFactory;
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class ServerReusePortTest {
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.http(0);
+            sb.numAcceptorsPerPort(4);
+            sb.service("/", (ctx, req) -> HttpResponse.of(HttpStatus.OK));
+        }
+    };
+
+    @Test
+    void shouldServeConnectionsFromAllAcceptors() {
+        assertThat(server.server().config().numAcceptorsPerPort()).isEqualTo(4);
+        assertThat(server.server().activePorts()).hasSize(1);
+
+        final List<CompletableFuture<AggregatedHttpResponse>> futures = new ArrayList<>();
+        final List<ClientFactory> factories = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            // Use a new ClientFactory to open a new connection for each request.
+            final ClientFactory factory = ClientFactory.builder().build();
+            factories.add(factory);
+            futures.add(WebClient.builder(server.httpUri())
+                                 .factory(factory)
+                                 .build()
+                                 .get("/")
+                                 .aggregate());
+        }
+        for (CompletableFuture<AggregatedHttpResponse> future : futures) {
+            assertThat(future.join().status()).isEqualTo(HttpStatus.OK);
+        }
+        factories.forEach(ClientFactory::closeAsync);
+    }
+
+    @Test
+    void shouldRejectNonPositiveValue() {
+        assertThatThrownBy(() -> Server.builder().numAcceptorsPerPort(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.client.BlockingWebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class CachingServiceTest {
+
+    private static final AtomicInteger counter = new AtomicInteger();
+    private static final AtomicLong ticker = new AtomicLong();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.service("/counter", (ctx, req) -> HttpResponse.of(String.valueOf(counter.incrementAndGet())));
+            sb.service("/max-age", (ctx, req) -> {
+                return HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                                                      .set(HttpHeaderNames.CACHE_CONTROL, "max-age=1")
+                                                      .build(),
+                                       HttpData.ofUtf8(String.valueOf(counter.incrementAndGet())));
+            });
+            sb.service("/no-store", (ctx, req) -> {
+                return HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                                                      .set(HttpHeaderNames.CACHE_CONTROL, "no-store")
+                                                      .build(),
+                                       HttpData.ofUtf8(String.valueOf(counter.incrementAndGet())));
+            });
+            sb.service("/error", (ctx, req) -> {
+                counter.incrementAndGet();
+                return HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR);
+            });
+            sb.service("/vary", (ctx, req) -> {
+                counter.incrementAndGet();
+                return HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                                                      .set(HttpHeaderNames.VARY, "accept-language")
+                                                      .build(),
+                                       HttpData.ofUtf8(req.headers().get(HttpHeaderNames.ACCEPT_LANGUAGE,
+                                                                         "none")));
+            });
+            sb.service("/whoami", (ctx, req) -> {
+                return HttpResponse.of(whoami(req.headers(), counter.incrementAndGet()));
+            });
+            sb.service("/public", (ctx, req) -> {
+                return HttpResponse.of(ResponseHeaders.builder(HttpStatus.OK)
+                                                      .set(HttpHeaderNames.CACHE_CONTROL, "public")
+                                                      .build(),
+                                       HttpData.ofUtf8(whoami(req.headers(), counter.incrementAndGet())));
+            });
+            sb.decorator(CachingService.builder()
+                                       .ttl(Duration.ofSeconds(10))
+                                       .staleWhileRevalidate(Duration.ofSeconds(5))
+                                       .keyQueryParams("id")
+                                       .ticker(ticker::get)
+                                       .newDecorator());
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        counter.set(0);
+        // Expire all cached responses of the previous test.
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(1));
+    }
+
+    @Test
+    void servesCachedResponseUntilTtl() {
+        final BlockingWebClient client = server.blockingWebClient();
+        assertThat(client.get("/counter").contentUtf8()).isEqualTo("1");
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        final AggregatedHttpResponse cached = client.get("/counter");
+        assertThat(cached.contentUtf8()).isEqualTo("1");
+        assertThat(cached.headers().getLong(HttpHeaderNames.AGE)).isEqualTo(3);
+
+        // Expired but within stale-while-revalidate. This request refreshes the response.
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(8));
+        assertThat(client.get("/counter").contentUtf8()).isEqualTo("2");
+        assertThat(client.get("/counter").contentUtf8()).isEqualTo("2");
+
+        // Expired completely.
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        assertThat(client.get("/counter").contentUtf8()).isEqualTo("3");
+    }
+
+    @Test
+    void staleResponseWhileRefreshing() throws Exception {
+        final BlockingWebClient client = server.blockingWebClient();
+        assertThat(client.get("/counter").contentUtf8()).isEqualTo("1");
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(11));
+
+        // Another request is refreshing the response.
+        final CachedVariants variants = cachingService("/counter").cache().asMap().values().iterator().next();
+        final CachedResponse stale = variants.get(RequestHeaders.of(HttpMethod.GET, "/counter"));
+        assertThat(stale.tryStartRefresh()).isTrue();
+        assertThat(client.get("/counter").contentUtf8()).isEqualTo("1");
+        assertThat(counter).hasValue(1);
+
+        stale.refreshFailed();
+        assertThat(client.get("/counter").contentUtf8()).isEqualTo("2");
+    }
+
+    @Test
+    void respectsCacheControl() {
+        final BlockingWebClient client = server.blockingWebClient();
+        assertThat(client.get("/max-age").contentUtf8()).isEqualTo("1");
+        assertThat(client.get("/max-age").contentUtf8()).isEqualTo("1");
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        // Expired but within stale-while-revalidate. This request refreshes the response.
+        assertThat(client.get("/max-age").contentUtf8()).isEqualTo("2");
+
+        assertThat(client.get("/no-store").contentUtf8()).isEqualTo("3");
+        assertThat(client.get("/no-store").contentUtf8()).isEqualTo("4");
+    }
+
+    @Test
+    void doesNotCacheErrors() {
+        final BlockingWebClient client = server.blockingWebClient();
+        assertThat(client.get("/error").status()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(client.get("/error").status()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void keyQueryParams() {
+        final BlockingWebClient client = server.blockingWebClient();
+        assertThat(client.get("/counter?id=1&ignored=a").contentUtf8()).isEqualTo("1");
+        assertThat(client.get("/counter?ignored=b&id=1").contentUtf8()).isEqualTo("1");
+        assertThat(client.get("/counter?id=2").contentUtf8()).isEqualTo("2");
+    }
+
+    @Test
+    void vary() {
+        final BlockingWebClient client = server.blockingWebClient();
+        final RequestHeaders en = RequestHeaders.builder(HttpMethod.GET, "/vary")
+                                                .set(HttpHeaderNames.ACCEPT_LANGUAGE, "en")
+                                                .build();
+        final RequestHeaders ko = RequestHeaders.builder(HttpMethod.GET, "/vary")
+                                                .set(HttpHeaderNames.ACCEPT_LANGUAGE, "ko")
+                                                .build();
+        assertThat(client.execute(en).contentUtf8()).isEqualTo("en");
+        assertThat(client.execute(ko).contentUtf8()).isEqualTo("ko");
+        assertThat(client.execute(en).contentUtf8()).isEqualTo("en");
+        assertThat(client.execute(ko).contentUtf8()).isEqualTo("ko");
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void doesNotShareAuthenticatedResponses() {
+        final BlockingWebClient client = server.blockingWebClient();
+        assertThat(client.execute(authenticated("/whoami", "alice")).contentUtf8()).isEqualTo("alice:1");
+        // The response to Alice must not be served to Bob or an anonymous client.
+        assertThat(client.execute(authenticated("/whoami", "bob")).contentUtf8()).isEqualTo("bob:2");
+        assertThat(client.get("/whoami").contentUtf8()).isEqualTo("anonymous:3");
+        assertThat(client.get("/whoami").contentUtf8()).isEqualTo("anonymous:3");
+        // The response to an anonymous client must not be served to Alice either.
+        assertThat(client.execute(authenticated("/whoami", "alice")).contentUtf8()).isEqualTo("alice:4");
+
+        final RequestHeaders withCookie = RequestHeaders.builder(HttpMethod.GET, "/whoami")
+                                                        .set(HttpHeaderNames.COOKIE, "session=carol")
+                                                        .build();
+        assertThat(client.execute(withCookie).contentUtf8()).isEqualTo("anonymous:5");
+        assertThat(client.execute(withCookie).contentUtf8()).isEqualTo("anonymous:6");
+    }
+
+    @Test
+    void sharesPublicAuthenticatedResponses() {
+        final BlockingWebClient client = server.blockingWebClient();
+        assertThat(client.execute(authenticated("/public", "alice")).contentUtf8()).isEqualTo("alice:1");
+        // Explicitly allowed by "cache-control: public".
+        assertThat(client.execute(authenticated("/public", "bob")).contentUtf8()).isEqualTo("alice:1");
+        assertThat(client.get("/public").contentUtf8()).isEqualTo("alice:1");
+    }
+
+    private static RequestHeaders authenticated(String path, String user) {
+        return RequestHeaders.builder(HttpMethod.GET, path)
+                             .set(HttpHeaderNames.AUTHORIZATION, "Bearer " + user)
+                             .build();
+    }
+
+    private static String whoami(RequestHeaders headers, int count) {
+        final String authorization = headers.get(HttpHeaderNames.AUTHORIZATION, "Bearer anonymous");
+        return authorization.substring("Bearer ".length()) + ':' + count;
+    }
+
+    private static CachingService cachingService(String path) {
+        return server.server().serviceConfigs().stream()
+                     .filter(cfg -> cfg.route().patternString().equals(path))
+                     .findFirst().get()
+                     .service().as(CachingService.class);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class CoalescingServiceTest {
+
+    private static final AtomicInteger counter = new AtomicInteger();
+    private static final AtomicInteger numJoined = new AtomicInteger();
+    private static final CompletableFuture<Void> release = new CompletableFuture<>();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.service("/slow", (ctx, req) -> {
+                final int count = counter.incrementAndGet();
+                return HttpResponse.of(release.thenApply(unused -> HttpResponse.of("slow:" + count)));
+            });
+            sb.service("/fast", (ctx, req) -> {
+                return HttpResponse.of(ctx.query() + ':' + counter.incrementAndGet());
+            });
+            sb.decorator(CoalescingService.newDecorator());
+            sb.decorator((delegate, ctx, req) -> {
+                final HttpResponse res = delegate.serve(ctx, req);
+                numJoined.incrementAndGet();
+                return res;
+            });
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        counter.set(0);
+        numJoined.set(0);
+    }
+
+    @Test
+    void collapsesIdenticalRequests() {
+        final WebClient client = server.webClient();
+        final List<CompletableFuture<AggregatedHttpResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(client.get("/slow").aggregate());
+        }
+        await().until(() -> numJoined.get() == 10);
+        release.complete(null);
+        for (CompletableFuture<AggregatedHttpResponse> future : futures) {
+            assertThat(future.join().contentUtf8()).isEqualTo("slow:1");
+        }
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void doesNotCollapseCompletedRequests() {
+        final WebClient client = server.webClient();
+        assertThat(client.get("/fast?a").aggregate().join().contentUtf8()).isEqualTo("a:1");
+        assertThat(client.get("/fast?a").aggregate().join().contentUtf8()).isEqualTo("a:2");
+        assertThat(client.get("/fast?b").aggregate().join().contentUtf8()).isEqualTo("b:3");
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.util.concurrent.AtomicDouble;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.encoding.CompressionLevel;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.netty.buffer.Unpooled;
+
+class AdaptiveEncodingPolicyTest {
+
+    private static final ServiceRequestContext ctx =
+            ServiceRequestContext.of(HttpRequest.of(HttpMethod.GET, "/"));
+    private static final ResponseHeaders headers = ResponseHeaders.of(HttpStatus.OK);
+
+    @Test
+    void cpuUsage() {
+        final AtomicDouble cpuUsage = new AtomicDouble();
+        final EncodingPolicy policy = EncodingPolicy.builder()
+                                                    .fastestCompressionCpuUsage(0.5)
+                                                    .noCompressionCpuUsage(0.8)
+                                                    .cpuUsageSupplier(cpuUsage::get)
+                                                    .cpuUsageUpdateIntervalMillis(0)
+                                                    .build();
+        cpuUsage.set(0.1);
+        assertThat(policy.compressionLevel(ctx, headers)).isEqualTo(CompressionLevel.DEFAULT);
+        cpuUsage.set(0.6);
+        assertThat(policy.compressionLevel(ctx, headers)).isEqualTo(CompressionLevel.FASTEST);
+        cpuUsage.set(0.9);
+        assertThat(policy.compressionLevel(ctx, headers)).isEqualTo(CompressionLevel.NONE);
+        // Compress when the CPU usage is unknown.
+        cpuUsage.set(Double.NaN);
+        assertThat(policy.compressionLevel(ctx, headers)).isEqualTo(CompressionLevel.DEFAULT);
+    }
+
+    @Test
+    void cachedCpuUsage() {
+        final AtomicDouble cpuUsage = new AtomicDouble(0.1);
+        final EncodingPolicy policy = EncodingPolicy.builder()
+                                                    .cpuUsageSupplier(cpuUsage::get)
+                                                    .cpuUsageUpdateIntervalMillis(60_000)
+                                                    .build();
+        assertThat(policy.compressionLevel(ctx, headers)).isEqualTo(CompressionLevel.DEFAULT);
+        cpuUsage.set(1.0);
+        assertThat(policy.compressionLevel(ctx, headers)).isEqualTo(CompressionLevel.DEFAULT);
+    }
+
+    @Test
+    void entropy() {
+        final EncodingPolicy policy = EncodingPolicy.builder()
+                                                    .cpuUsageSupplier(() -> 0)
+                                                    .build();
+        final HttpData text = HttpData.ofUtf8("Lorem ipsum dolor sit amet, consectetur adipiscing elit. " +
+                                              "Sed do eiusmod tempor incididunt ut labore et dolore.");
+        assertThat(policy.compressionLevel(ctx, text, CompressionLevel.FASTEST))
+                .isEqualTo(CompressionLevel.FASTEST);
+
+        final byte[] random = new byte[4096];
+        ThreadLocalRandom.current().nextBytes(random);
+        assertThat(policy.compressionLevel(ctx, HttpData.wrap(random), CompressionLevel.DEFAULT))
+                .isEqualTo(CompressionLevel.NONE);
+    }
+
+    @Test
+    void shannonEntropy() {
+        assertThat(AdaptiveEncodingPolicy.entropy(Unpooled.EMPTY_BUFFER, 1024)).isZero();
+        assertThat(AdaptiveEncodingPolicy.entropy(
+                Unpooled.wrappedBuffer("aaaa".getBytes(StandardCharsets.US_ASCII)), 1024)).isZero();
+        assertThat(AdaptiveEncodingPolicy.entropy(
+                Unpooled.wrappedBuffer("abab".getBytes(StandardCharsets.US_ASCII)), 1024))
+                .isCloseTo(1.0, within(1e-9));
+        // Only the first 2 bytes are sampled.
+        assertThat(AdaptiveEncodingPolicy.entropy(
+                Unpooled.wrappedBuffer("aabc".getBytes(StandardCharsets.US_ASCII)), 2)).isZero();
+
+        final byte[] allBytes = new byte[256];
+        for (int i = 0; i < allBytes.length; i++) {
+            allBytes[i] = (byte) i;
+        }
+        assertThat(AdaptiveEncodingPolicy.entropy(Unpooled.wrappedBuffer(allBytes), 1024))
+                .isCloseTo(8.0, within(1e-9));
+    }
+
+    @Test
+    void invalidThresholds() {
+        assertThatThrownBy(() -> EncodingPolicy.builder()
+                                               .fastestCompressionCpuUsage(0.9)
+                                               .noCompressionCpuUsage(0.5)
+                                               .build())
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> EncodingPolicy.builder().maxEntropy(9))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
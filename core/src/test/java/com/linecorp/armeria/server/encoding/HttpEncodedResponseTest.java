@@ -24,6 +24,7 @@ import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -34,11 +35,15 @@ import org.reactivestreams.Subscription;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.AggregationOptions;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.HttpObject;
+import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.encoding.CompressionLevel;
 import com.linecorp.armeria.common.encoding.StreamDecoder;
 import com.linecorp.armeria.common.encoding.StreamDecoderFactory;
 import com.linecorp.armeria.common.stream.AbortedStreamException;
@@ -47,6 +52,7 @@ import com.linecorp.armeria.common.stream.NoopSubscriber;
 import com.linecorp.armeria.common.stream.SubscriptionOption;
 import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactories;
 import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactory;
+import com.linecorp.armeria.server.ServiceRequestContext;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
@@ -57,6 +63,9 @@ import reactor.test.StepVerifier;
 
 class HttpEncodedResponseTest {
 
+    private static final ServiceRequestContext ctx =
+            ServiceRequestContext.of(HttpRequest.of(HttpMethod.GET, "/"));
+
     @Test
     void testLeakOnSubscribe() {
         final ByteBuf buf = Unpooled.directBuffer();
@@ -67,7 +76,7 @@ class HttpEncodedResponseTest {
                                           MediaType.PLAIN_TEXT_UTF_8,
                                           HttpData.wrap(buf).withEndOfStream()).toHttpResponse();
         final HttpEncodedResponse encoded = new HttpEncodedResponse(
-                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, ByteBufAllocator.DEFAULT, 1);
+                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, ctx, 1, EncodingPolicy.ofDefault());
 
         // Drain the stream.
         encoded.subscribe(NoopSubscriber.get(), ImmediateEventExecutor.INSTANCE);
@@ -101,7 +110,7 @@ class HttpEncodedResponseTest {
             }
         };
         final HttpEncodedResponse encoded = new HttpEncodedResponse(
-                orig, throwingEncoderFactory, mediaType -> true, ByteBufAllocator.DEFAULT, 1);
+                orig, throwingEncoderFactory, mediaType -> true, ctx, 1, EncodingPolicy.ofDefault());
 
         assertThatThrownBy(() -> {
             encoded.aggregate(AggregationOptions.usePooledObjects(ByteBufAllocator.DEFAULT)).join();
@@ -121,7 +130,7 @@ class HttpEncodedResponseTest {
                                 HttpData.ofUtf8("bar"),
                                 HttpData.ofUtf8("baz"));
         final HttpEncodedResponse encoded = new HttpEncodedResponse(
-                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, ByteBufAllocator.DEFAULT, 1);
+                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, ctx, 1, EncodingPolicy.ofDefault());
 
         final AtomicReference<Throwable> causeRef = new AtomicReference<>();
         // Drain the stream.
@@ -172,7 +181,7 @@ class HttpEncodedResponseTest {
                                 HttpData.ofUtf8("bar"),
                                 HttpData.ofUtf8("baz"));
         final HttpEncodedResponse encoded = new HttpEncodedResponse(
-                orig, StreamEncoderFactories.BROTLI, mediaType -> true, ByteBufAllocator.DEFAULT, 1);
+                orig, StreamEncoderFactories.BROTLI, mediaType -> true, ctx, 1, EncodingPolicy.ofDefault());
 
         final AtomicReference<Throwable> causeRef = new AtomicReference<>();
         encoded.subscribe(new Subscriber<HttpObject>() {
@@ -221,7 +230,7 @@ class HttpEncodedResponseTest {
         final HttpResponse orig = HttpResponse.of(ResponseHeaders.of(HttpStatus.CONTINUE), headers,
                                                   HttpData.ofUtf8("foo"));
         final HttpEncodedResponse encoded = new HttpEncodedResponse(
-                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, ByteBufAllocator.DEFAULT, 1);
+                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, ctx, 1, EncodingPolicy.ofDefault());
         StepVerifier.create(encoded)
                     .expectNext(ResponseHeaders.of(HttpStatus.CONTINUE))
                     .expectNext(headers)
@@ -238,7 +247,7 @@ class HttpEncodedResponseTest {
                                 HttpData.ofUtf8("bar"),
                                 HttpData.ofUtf8("baz"));
         final HttpEncodedResponse encoded = new HttpEncodedResponse(
-                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, ByteBufAllocator.DEFAULT, 1);
+                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, ctx, 1, EncodingPolicy.ofDefault());
         final List<HttpData> data = encoded.split().body().collect().join();
         final StreamDecoder decoder = StreamDecoderFactory.deflate().newDecoder(ByteBufAllocator.DEFAULT);
 
@@ -254,4 +263,41 @@ class HttpEncodedResponseTest {
         assertThat(result).isEqualTo("foobarbaz");
         assertThat(encoded.encodedStream.buffer().refCnt()).isZero();
     }
+
+    @Test
+    void shouldNotEncodeWhenPolicyReturnsNone() {
+        final ResponseHeaders headers = ResponseHeaders.of(HttpStatus.OK);
+        final HttpResponse orig = HttpResponse.of(headers, HttpData.ofUtf8("foo"));
+        final HttpEncodedResponse encoded = new HttpEncodedResponse(
+                orig, StreamEncoderFactories.DEFLATE, mediaType -> true, ctx, 1,
+                (unusedCtx, unusedHeaders) -> CompressionLevel.NONE);
+        StepVerifier.create(encoded)
+                    .expectNext(headers)
+                    .expectNext(HttpData.ofUtf8("foo"))
+                    .expectComplete()
+                    .verify();
+        assertThat(encoded.encodedStream).isNull();
+    }
+
+    @Test
+    void shouldLowerLevelWithFirstContent() {
+        final byte[] content = new byte[8192];
+        ThreadLocalRandom.current().nextBytes(content);
+        final HttpResponse orig = HttpResponse.of(ResponseHeaders.of(HttpStatus.OK), HttpData.wrap(content));
+        final EncodingPolicy policy = EncodingPolicy.builder()
+                                                    .cpuUsageSupplier(() -> 0)
+                                                    .build();
+        final HttpEncodedResponse encoded = new HttpEncodedResponse(
+                orig, StreamEncoderFactories.GZIP, mediaType -> true, ctx, 1, policy);
+        final AggregatedHttpResponse res = encoded.aggregate().join();
+        assertThat(res.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+        // The random content is written as stored blocks, which are slightly larger than the content.
+        assertThat(res.content().length()).isGreaterThan(content.length);
+
+        final StreamDecoder decoder = StreamDecoderFactory.gzip().newDecoder(ByteBufAllocator.DEFAULT);
+        try (HttpData decoded = decoder.decode(res.content());
+             HttpData finish = decoder.finish()) {
+            assertThat(decoded.length() + finish.length()).isEqualTo(content.length);
+        }
+    }
 }
@@ -17,6 +17,7 @@
 package com.linecorp.armeria.server.encoding;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.mock;
 
 import org.junit.jupiter.api.Test;
 
@@ -24,8 +25,10 @@ import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactories;
+import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactory;
 
 import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.Zstd;
 
 class HttpEncodersTest {
     @Test
@@ -108,4 +111,30 @@ class HttpEncodersTest {
                                                          "gzip;q=0.0, br;q=0.0, *;q=0.1");
         assertThat(HttpEncoders.getEncoderFactory(headers)).isEqualTo(StreamEncoderFactories.DEFLATE);
     }
+
+    @Test
+    void acceptEncodingZstd() {
+        final RequestHeaders headers = RequestHeaders.of(HttpMethod.GET, "/",
+                                                         HttpHeaderNames.ACCEPT_ENCODING, "zstd");
+        assertThat(HttpEncoders.getEncoderFactory(headers)).isEqualTo(
+                Zstd.isAvailable() ? StreamEncoderFactories.ZSTD : null);
+    }
+
+    @Test
+    void acceptEncodingZstdWithQualityValues() {
+        final RequestHeaders headers = RequestHeaders.of(HttpMethod.GET, "/",
+                                                         HttpHeaderNames.ACCEPT_ENCODING,
+                                                         "gzip;q=0.8, zstd, br;q=0.9");
+        assertThat(HttpEncoders.getEncoderFactory(headers)).isEqualTo(
+                Zstd.isAvailable() ? StreamEncoderFactories.ZSTD : StreamEncoderFactories.GZIP);
+    }
+
+    @Test
+    void acceptEncodingZstdWithDictionary() {
+        final RequestHeaders headers = RequestHeaders.of(HttpMethod.GET, "/",
+                                                         HttpHeaderNames.ACCEPT_ENCODING, "zstd");
+        final StreamEncoderFactory zstdEncoderFactory = mock(StreamEncoderFactory.class);
+        assertThat(HttpEncoders.getEncoderFactory(headers, zstdEncoderFactory)).isEqualTo(
+                Zstd.isAvailable() ? zstdEncoderFactory : null);
+    }
 }
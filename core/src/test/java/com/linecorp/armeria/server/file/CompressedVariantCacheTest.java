@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.internal.common.encoding.StreamEncoderFactories;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class CompressedVariantCacheTest {
+
+    @TempDir
+    static Path tmpDir;
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.serviceUnder("/", FileService.builder(tmpDir)
+                                            .compressedVariantCacheSizeBytes(1024 * 1024)
+                                            .build());
+        }
+    };
+
+    @Test
+    void servesCompressedVariant() throws Exception {
+        final String content = Strings.repeat("Hello, Armeria! ", 1024);
+        final Path path = tmpDir.resolve("compressed.txt");
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+
+        final AggregatedHttpResponse res = get("/compressed.txt", "gzip");
+        assertThat(res.status()).isSameAs(HttpStatus.OK);
+        assertThat(res.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(res.headers().get(HttpHeaderNames.VARY)).contains("accept-encoding");
+        assertThat(res.headers().contentType()).isEqualTo(MediaType.PLAIN_TEXT_UTF_8);
+        assertThat(res.content().length()).isLessThan(content.length());
+        assertThat(gunzip(res.content().array())).isEqualTo(content);
+
+        final String etag = res.headers().get(HttpHeaderNames.ETAG);
+        assertThat(etag).endsWith("-gzip\"");
+
+        // Served from the cache.
+        final AggregatedHttpResponse cached = get("/compressed.txt", "gzip");
+        assertThat(cached.headers().get(HttpHeaderNames.ETAG)).isEqualTo(etag);
+        assertThat(gunzip(cached.content().array())).isEqualTo(content);
+
+        // Conditional request with the entity tag of the variant.
+        final AggregatedHttpResponse notModified =
+                server.blockingWebClient().execute(
+                        RequestHeaders.builder(HttpMethod.GET, "/compressed.txt")
+                                      .add(HttpHeaderNames.ACCEPT_ENCODING, "gzip")
+                                      .add(HttpHeaderNames.IF_NONE_MATCH, etag)
+                                      .build());
+        assertThat(notModified.status()).isSameAs(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void servesIdentityWithVary() throws Exception {
+        final String content = Strings.repeat("a", 2048);
+        Files.write(tmpDir.resolve("identity.txt"), content.getBytes(StandardCharsets.UTF_8));
+
+        final AggregatedHttpResponse res = get("/identity.txt", null);
+        assertThat(res.status()).isSameAs(HttpStatus.OK);
+        assertThat(res.headers().contains(HttpHeaderNames.CONTENT_ENCODING)).isFalse();
+        assertThat(res.headers().get(HttpHeaderNames.VARY)).contains("accept-encoding");
+        assertThat(res.contentUtf8()).isEqualTo(content);
+    }
+
+    @Test
+    void doesNotCompressSmallFile() throws Exception {
+        Files.write(tmpDir.resolve("small.txt"), "small".getBytes(StandardCharsets.UTF_8));
+
+        final AggregatedHttpResponse res = get("/small.txt", "gzip");
+        assertThat(res.status()).isSameAs(HttpStatus.OK);
+        assertThat(res.headers().contains(HttpHeaderNames.CONTENT_ENCODING)).isFalse();
+        assertThat(res.contentUtf8()).isEqualTo("small");
+    }
+
+    @Test
+    void compressesModifiedFileAgain() throws Exception {
+        final Path path = tmpDir.resolve("modified.txt");
+        Files.write(path, Strings.repeat("a", 2048).getBytes(StandardCharsets.UTF_8));
+        final FileTime lastModified = Files.getLastModifiedTime(path);
+
+        final AggregatedHttpResponse res1 = get("/modified.txt", "gzip");
+        assertThat(gunzip(res1.content().array())).isEqualTo(Strings.repeat("a", 2048));
+
+        Files.write(path, Strings.repeat("b", 4096).getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified.toMillis() + 10000));
+
+        final AggregatedHttpResponse res2 = get("/modified.txt", "gzip");
+        assertThat(gunzip(res2.content().array())).isEqualTo(Strings.repeat("b", 4096));
+        assertThat(res2.headers().get(HttpHeaderNames.ETAG))
+                .isNotEqualTo(res1.headers().get(HttpHeaderNames.ETAG));
+    }
+
+    @Test
+    void encoderFactory() {
+        assertThat(CompressedVariantCache.encoderFactory(headers(null))).isNull();
+        assertThat(CompressedVariantCache.encoderFactory(headers("identity"))).isNull();
+        assertThat(CompressedVariantCache.encoderFactory(headers("gzip, deflate")))
+                .isSameAs(StreamEncoderFactories.GZIP);
+        assertThat(CompressedVariantCache.encoderFactory(headers("GZIP;q=0.5")))
+                .isSameAs(StreamEncoderFactories.GZIP);
+        assertThat(CompressedVariantCache.encoderFactory(headers("gzip;q=0"))).isNull();
+        assertThat(CompressedVariantCache.encoderFactory(headers("br;q=0, gzip")))
+                .isSameAs(StreamEncoderFactories.GZIP);
+    }
+
+    private static AggregatedHttpResponse get(String path, @Nullable String acceptEncoding) {
+        final RequestHeaders headers = headers(acceptEncoding).toBuilder().path(path).build();
+        return server.blockingWebClient().execute(headers);
+    }
+
+    private static RequestHeaders headers(@Nullable String acceptEncoding) {
+        final RequestHeaders headers = RequestHeaders.of(HttpMethod.GET, "/");
+        if (acceptEncoding == null) {
+            return headers;
+        }
+        return headers.toBuilder().add(HttpHeaderNames.ACCEPT_ENCODING, acceptEncoding).build();
+    }
+
+    private static String gunzip(byte[] compressed) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.linecorp.armeria.client.ClientFactory;
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.client.encoding.DecodingClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.internal.common.FileRegionHttpData;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.encoding.EncodingService;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class FileServiceZeroCopyTest {
+
+    @TempDir
+    static Path tmpDir;
+
+    private static byte[] content;
+
+    private static final Queue<HttpData> servedData = new ConcurrentLinkedQueue<>();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.http(0);
+            sb.https(0);
+            sb.tlsSelfSigned();
+            sb.decorator((delegate, ctx, req) -> delegate.serve(ctx, req).peekData(servedData::add));
+            sb.serviceUnder("/zero-copy/", FileService.builder(tmpDir)
+                                                      .maxCacheEntries(0)
+                                                      .zeroCopy(true)
+                                                      .build());
+            sb.serviceUnder("/encoded/", FileService.builder(tmpDir)
+                                                    .maxCacheEntries(0)
+                                                    .zeroCopy(true)
+                                                    .build()
+                                                    .decorate(EncodingService.builder()
+                                                                             .minBytesToForceChunkedEncoding(1)
+                                                                             .newDecorator()));
+            sb.serviceUnder("/copy/", FileService.builder(tmpDir)
+                                                 .maxCacheEntries(0)
+                                                 .build());
+        }
+    };
+
+    @BeforeAll
+    static void createFile() throws Exception {
+        content = new byte[1024 * 1024 + 7];
+        ThreadLocalRandom.current().nextBytes(content);
+        Files.write(tmpDir.resolve("foo.bin"), content);
+        Files.write(tmpDir.resolve("foo.txt"), "Hello, world!\n".getBytes());
+    }
+
+    @BeforeEach
+    void clear() {
+        servedData.clear();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "H1C, /zero-copy/foo.bin, true",
+            "H1C, /copy/foo.bin, false",
+            "H2C, /zero-copy/foo.bin, false",
+            "H1, /zero-copy/foo.bin, false",
+            "H2, /zero-copy/foo.bin, false",
+    })
+    void transferFile(SessionProtocol protocol, String path, boolean zeroCopy) {
+        final WebClient client = WebClient.builder(server.uri(protocol))
+                                          .factory(ClientFactory.insecure())
+                                          .maxResponseLength(0)
+                                          .build();
+        for (int i = 0; i < 3; i++) {
+            // Make sure the connection is reused correctly after transferring a file region.
+            final AggregatedHttpResponse res = client.get(path).aggregate().join();
+            assertThat(res.status()).isEqualTo(HttpStatus.OK);
+            assertThat(res.headers().contentLength()).isEqualTo(content.length);
+            assertThat(res.content().array()).isEqualTo(content);
+        }
+        assertThat(servedData).isNotEmpty();
+        if (zeroCopy) {
+            assertThat(servedData).allMatch(data -> data instanceof FileRegionHttpData);
+        } else {
+            assertThat(servedData).noneMatch(data -> data instanceof FileRegionHttpData);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "H1C", "H2C" })
+    void transformedByDecorator(SessionProtocol protocol) {
+        final WebClient client = WebClient.builder(server.uri(protocol))
+                                          .decorator(DecodingClient.newDecorator())
+                                          .build();
+        final AggregatedHttpResponse res = client.get("/encoded/foo.txt").aggregate().join();
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        assertThat(res.contentUtf8()).isEqualTo("Hello, world!\n");
+        // The content was compressed by EncodingService.
+        assertThat(servedData).noneMatch(data -> data instanceof FileRegionHttpData);
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "H1C", "H2C" })
+    void nonExistentFile(SessionProtocol protocol) {
+        final AggregatedHttpResponse res = WebClient.of(server.uri(protocol))
+                                                    .get("/zero-copy/bar.bin").aggregate().join();
+        assertThat(res.status()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.client.BlockingWebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class MappedFileCacheTest {
+
+    @TempDir
+    static Path tmpDir;
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.serviceUnder("/", FileService.builder(tmpDir)
+                                            .maxCacheEntrySizeBytes(16)
+                                            .mappedCacheSizeBytes(1024 * 1024)
+                                            .build());
+        }
+    };
+
+    @Test
+    void cachesMappedFile() throws Exception {
+        final Path path = tmpDir.resolve("foo.txt");
+        Files.write(path, Strings.repeat("a", 100).getBytes(StandardCharsets.US_ASCII));
+
+        final MappedFileCache cache = new MappedFileCache(1024);
+        final FileSystemHttpFile file = (FileSystemHttpFile) HttpFile.of(path);
+        final HttpFileAttributes attrs = file.readAttributes(ForkJoinPool.commonPool()).join();
+        assertThat(cache.isCacheable(attrs)).isTrue();
+
+        final AggregatedHttpFile aggregated = cache.get(file, attrs).aggregate(ForkJoinPool.commonPool())
+                                                   .join();
+        assertThat(aggregated.content().toStringAscii()).isEqualTo(Strings.repeat("a", 100));
+        assertThat(aggregated.content().isPooled()).isTrue();
+        final AggregatedHttpFile cached = cache.cache().getIfPresent(path);
+        assertThat(cached).isNotNull();
+
+        // Cache hit.
+        cache.get(file, attrs);
+        assertThat(cache.cache().getIfPresent(path)).isSameAs(cached);
+
+        // The file has been modified.
+        Files.write(path, Strings.repeat("b", 100).getBytes(StandardCharsets.US_ASCII));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(attrs.lastModifiedMillis() + 10000));
+        final HttpFileAttributes newAttrs = file.readAttributes(ForkJoinPool.commonPool()).join();
+        final AggregatedHttpFile newAggregated =
+                cache.get(file, newAttrs).aggregate(ForkJoinPool.commonPool()).join();
+        assertThat(newAggregated.content().toStringAscii()).isEqualTo(Strings.repeat("b", 100));
+        assertThat(cache.cache().getIfPresent(path)).isNotSameAs(cached);
+    }
+
+    @Test
+    void evictsBySize() throws Exception {
+        final MappedFileCache cache = new MappedFileCache(100);
+        for (int i = 0; i < 3; i++) {
+            final Path path = tmpDir.resolve("evict" + i + ".txt");
+            Files.write(path, Strings.repeat("c", 60).getBytes(StandardCharsets.US_ASCII));
+            final FileSystemHttpFile file = (FileSystemHttpFile) HttpFile.of(path);
+            final HttpFileAttributes attrs = file.readAttributes(ForkJoinPool.commonPool()).join();
+            assertThat(cache.get(file, attrs)).isNotNull();
+        }
+        cache.cache().cleanUp();
+        assertThat(cache.cache().estimatedSize()).isOne();
+        assertThat(cache.cache().policy().eviction().get().weightedSize().getAsLong()).isEqualTo(60);
+    }
+
+    @Test
+    void readableAfterEviction() throws Exception {
+        final Path path = tmpDir.resolve("evicted.txt");
+        Files.write(path, Strings.repeat("f", 100).getBytes(StandardCharsets.US_ASCII));
+
+        final MappedFileCache cache = new MappedFileCache(1024);
+        final FileSystemHttpFile file = (FileSystemHttpFile) HttpFile.of(path);
+        final HttpFileAttributes attrs = file.readAttributes(ForkJoinPool.commonPool()).join();
+        final HttpFile cachedFile = cache.get(file, attrs);
+        assertThat(cachedFile).isNotNull();
+
+        // A response which got the file before the eviction should still be able to read it.
+        cache.invalidate(path);
+        cache.cache().cleanUp();
+        assertThat(cache.cache().estimatedSize()).isZero();
+        for (int i = 0; i < 2; i++) {
+            final AggregatedHttpFile aggregated = cachedFile.aggregate(ForkJoinPool.commonPool()).join();
+            assertThat(aggregated.content().toStringAscii()).isEqualTo(Strings.repeat("f", 100));
+        }
+    }
+
+    @Test
+    void notCacheable() {
+        final MappedFileCache cache = new MappedFileCache(100);
+        assertThat(cache.isCacheable(new HttpFileAttributes(0, 0))).isFalse();
+        assertThat(cache.isCacheable(new HttpFileAttributes(100, 0))).isTrue();
+        assertThat(cache.isCacheable(new HttpFileAttributes(101, 0))).isFalse();
+    }
+
+    @Test
+    void serveMappedFile() throws Exception {
+        final Path path = tmpDir.resolve("bar.txt");
+        Files.write(path, Strings.repeat("d", 1000).getBytes(StandardCharsets.US_ASCII));
+
+        final BlockingWebClient client = server.blockingWebClient();
+        for (int i = 0; i < 3; i++) {
+            final AggregatedHttpResponse res = client.get("/bar.txt");
+            assertThat(res.status()).isEqualTo(HttpStatus.OK);
+            assertThat(res.contentAscii()).isEqualTo(Strings.repeat("d", 1000));
+        }
+
+        // Should serve the new content once the file is modified.
+        final long lastModified = Files.getLastModifiedTime(path).toMillis();
+        Files.write(path, Strings.repeat("e", 2000).getBytes(StandardCharsets.US_ASCII));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified + 10000));
+        final AggregatedHttpResponse res = client.get("/bar.txt");
+        assertThat(res.contentAscii()).isEqualTo(Strings.repeat("e", 2000));
+
+        Files.delete(path);
+        assertThat(client.get("/bar.txt").status()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.logging.RequestLogBuilder;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+class AccessLogEncoderTest {
+
+    // The timestamp of first commit in Armeria project.
+    private static final long requestStartTimeMillis = 1447656026L * 1000;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "%h %l %u %t \"%r\" %s %b",
+            "%h %l %u %t \"%r\" %s %b \"%{Referer}i\" \"%{User-Agent}i\" \"%{Cookie}i\"",
+            "%{BASIC_ISO_DATE}t %{yyyy MM dd HH:mm:ss.SSS}t %{ISO_INSTANT}t",
+            "%200,304{User-Agent}i %!200,304{Referer}i %{Content-Type}o %{X-Not-Found}i",
+            "%200s %!200s %200b %!200b %{Cookie}i %I %{requestLength}L %{method}L",
+            "\"%{X-Quote}i\" %{X-Quote}i \u00fcnicode %{X-Unicode}i",
+    })
+    void sameAsStringFormat(String formatStr) {
+        final List<AccessLogComponent> format = AccessLogFormats.parseCustom(formatStr);
+        final RequestLog log = newRequestLog();
+        final ByteBuf buf = Unpooled.buffer();
+        try {
+            AccessLogEncoder.of(format).encode(log, buf);
+            assertThat(buf.toString(StandardCharsets.UTF_8)).isEqualTo(AccessLogger.format(format, log));
+        } finally {
+            buf.release();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, 9, 10, 99, 100, 1024, -1, -10, Long.MAX_VALUE, Long.MIN_VALUE })
+    void writeDigits(long value) {
+        final ByteBuf buf = Unpooled.buffer(1);
+        try {
+            AccessLogEncoder.writeDigits(buf, value);
+            assertThat(buf.toString(StandardCharsets.US_ASCII)).isEqualTo(Long.toString(value));
+        } finally {
+            buf.release();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "%h %l %u %t \"%r\" %s %b", "%{yyyy MM dd HH:mm:ss.SSS}t" })
+    void channelWriter(String formatStr) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final AccessLogWriter writer = AccessLogWriter.custom(formatStr, Channels.newChannel(out));
+        final RequestLog log = newRequestLog();
+        writer.log(log);
+        writer.log(log);
+        writer.shutdown().join();
+
+        final String expected = AccessLogger.format(AccessLogFormats.parseCustom(formatStr), log) + '\n';
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(expected + expected);
+    }
+
+    private static RequestLog newRequestLog() {
+        final HttpRequest req = HttpRequest.of(
+                RequestHeaders.of(HttpMethod.POST, "/armeria/log",
+                                  HttpHeaderNames.USER_AGENT, "armeria/x.y.z",
+                                  HttpHeaderNames.REFERER, "http://log.example.com",
+                                  HttpHeaderNames.COOKIE, "a=1;b=2",
+                                  "X-Quote", "a\"b\\\"c\"",
+                                  "X-Unicode", "\ud55c\uae00"));
+        final ServiceRequestContext ctx =
+                ServiceRequestContext.builder(req)
+                                     .requestStartTime(requestStartTimeMillis * 1_000_000,
+                                                       requestStartTimeMillis * 1000)
+                                     .build();
+        final RequestLogBuilder logBuilder = ctx.logBuilder();
+        logBuilder.authenticatedUser("foo");
+        logBuilder.requestLength(128);
+        logBuilder.endRequest();
+        logBuilder.responseHeaders(ResponseHeaders.of(HttpStatus.OK,
+                                                      HttpHeaderNames.CONTENT_TYPE,
+                                                      MediaType.PLAIN_TEXT_UTF_8));
+        logBuilder.responseLength(1024);
+        logBuilder.endResponse();
+        return ctx.log().ensureComplete();
+    }
+}
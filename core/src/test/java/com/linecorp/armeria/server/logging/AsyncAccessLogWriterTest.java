@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Test;
+
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.metric.MoreMeters;
+import com.linecorp.armeria.common.util.UnmodifiableFuture;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AsyncAccessLogWriterTest {
+
+    @Test
+    void writeOnDedicatedThread() {
+        final List<RequestLog> written = new CopyOnWriteArrayList<>();
+        final List<String> threadNames = new CopyOnWriteArrayList<>();
+        final AtomicBoolean delegateShutdown = new AtomicBoolean();
+        final AccessLogWriter delegate = new AccessLogWriter() {
+            @Override
+            public void log(RequestLog log) {
+                written.add(log);
+                threadNames.add(Thread.currentThread().getName());
+            }
+
+            @Override
+            public CompletableFuture<Void> shutdown() {
+                delegateShutdown.set(true);
+                return UnmodifiableFuture.completedFuture(null);
+            }
+        };
+
+        final AsyncAccessLogWriter writer = AsyncAccessLogWriter.builder(delegate)
+                                                                .meterRegistry(new SimpleMeterRegistry())
+                                                                .build();
+        final RequestLog log = newRequestLog();
+        for (int i = 0; i < 10; i++) {
+            writer.log(log);
+        }
+        await().untilAsserted(() -> assertThat(written).hasSize(10));
+        assertThat(threadNames).allSatisfy(name -> assertThat(name).startsWith("armeria-access-log-writer"));
+
+        writer.shutdown().join();
+        assertThat(delegateShutdown).isTrue();
+
+        // Dropped after shutdown.
+        writer.log(log);
+        assertThat(written).hasSize(10);
+        assertThat(writer.numDroppedLogs()).isOne();
+    }
+
+    @Test
+    void dropWhenQueueIsFull() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch unblock = new CountDownLatch(1);
+        final List<RequestLog> written = new CopyOnWriteArrayList<>();
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final AsyncAccessLogWriter writer =
+                AsyncAccessLogWriter.builder(log -> {
+                                        blocked.countDown();
+                                        try {
+                                            unblock.await();
+                                        } catch (InterruptedException e) {
+                                            throw new RuntimeException(e);
+                                        }
+                                        written.add(log);
+                                    })
+                                    .queueCapacity(4)
+                                    .meterRegistry(meterRegistry)
+                                    .meterIdPrefix(new MeterIdPrefix("access.log"))
+                                    .build();
+
+        final RequestLog log = newRequestLog();
+        writer.log(log);
+        // Wait until the writer thread takes the first log.
+        blocked.await();
+        for (int i = 0; i < 10; i++) {
+            writer.log(log);
+        }
+        assertThat(writer.queueSize()).isEqualTo(4);
+        assertThat(writer.numDroppedLogs()).isEqualTo(6);
+        assertThat(MoreMeters.measureAll(meterRegistry))
+                .containsEntry("access.log.queue.size#value", 4.0)
+                .containsEntry("access.log.dropped#count", 6.0);
+
+        unblock.countDown();
+        writer.shutdown().join();
+        assertThat(written).hasSize(5);
+        assertThat(writer.queueSize()).isZero();
+    }
+
+    @Test
+    void sampleWhenQueueIsFilling() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch unblock = new CountDownLatch(1);
+        final AsyncAccessLogWriter writer =
+                AsyncAccessLogWriter.builder(log -> {
+                                        blocked.countDown();
+                                        try {
+                                            unblock.await();
+                                        } catch (InterruptedException e) {
+                                            throw new RuntimeException(e);
+                                        }
+                                    })
+                                    .queueCapacity(8)
+                                    .overflowPolicy(AccessLogOverflowPolicy.SAMPLE)
+                                    .samplingRate(0)
+                                    .meterRegistry(new SimpleMeterRegistry())
+                                    .build();
+
+        final RequestLog log = newRequestLog();
+        writer.log(log);
+        blocked.await();
+        for (int i = 0; i < 10; i++) {
+            writer.log(log);
+        }
+        // Sampled out once the queue is half full.
+        assertThat(writer.queueSize()).isEqualTo(4);
+        assertThat(writer.numDroppedLogs()).isEqualTo(6);
+
+        unblock.countDown();
+        writer.shutdown().join();
+    }
+
+    @Test
+    void queueCapacityIsRoundedUp() {
+        final AsyncAccessLogWriter writer = AsyncAccessLogWriter.builder(log -> {})
+                                                                .queueCapacity(5000)
+                                                                .meterRegistry(new SimpleMeterRegistry())
+                                                                .build();
+        assertThat(writer.toString()).contains("queueCapacity=8192");
+        writer.shutdown().join();
+    }
+
+    @Test
+    void noLogsLostOnShutdown() throws Exception {
+        final LongAdder numWrittenLogs = new LongAdder();
+        final AsyncAccessLogWriter writer = AsyncAccessLogWriter.builder(log -> numWrittenLogs.increment())
+                                                                .meterRegistry(new SimpleMeterRegistry())
+                                                                .build();
+        final RequestLog log = newRequestLog();
+        final int numThreads = 4;
+        final int numLogsPerThread = 10000;
+        final CountDownLatch started = new CountDownLatch(numThreads);
+        final Thread[] threads = new Thread[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            threads[i] = new Thread(() -> {
+                started.countDown();
+                for (int j = 0; j < numLogsPerThread; j++) {
+                    writer.log(log);
+                }
+            });
+            threads[i].start();
+        }
+        started.await();
+        writer.shutdown().join();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Every access log is either written or counted as dropped.
+        assertThat(numWrittenLogs.sum() + writer.numDroppedLogs()).isEqualTo(numThreads * numLogsPerThread);
+        assertThat(writer.queueSize()).isZero();
+    }
+
+    private static RequestLog newRequestLog() {
+        return ServiceRequestContext.of(HttpRequest.of(HttpMethod.GET, "/")).log().partial();
+    }
+}
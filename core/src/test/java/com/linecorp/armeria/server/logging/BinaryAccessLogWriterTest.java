@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.logging.RequestLogBuilder;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+class BinaryAccessLogWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeAndRead() throws Exception {
+        final BinaryAccessLogWriter writer = BinaryAccessLogWriter.of(tempDir);
+        final RequestLog log = newRequestLog("/foo?bar=baz", null);
+        writer.log(log);
+        writer.log(newRequestLog("/qux", new IllegalStateException()));
+        writer.shutdown().join();
+
+        final List<Path> files = listFiles();
+        assertThat(files).containsExactly(tempDir.resolve(BinaryAccessLogWriter.fileName("access", 1)));
+        final List<BinaryAccessLogRecord> records = readAll(files.get(0));
+        assertThat(records).hasSize(2);
+
+        final BinaryAccessLogRecord record = records.get(0);
+        assertThat(record.requestStartTimeMicros()).isEqualTo(log.requestStartTimeMicros());
+        assertThat(record.totalDurationNanos()).isEqualTo(log.totalDurationNanos());
+        assertThat(record.requestLength()).isEqualTo(128);
+        assertThat(record.responseLength()).isEqualTo(1024);
+        assertThat(record.statusCode()).isEqualTo(200);
+        assertThat(record.requestId()).isEqualTo(log.context().id().text());
+        assertThat(record.sessionProtocol()).isEqualTo(SessionProtocol.H2C);
+        assertThat(record.method()).isEqualTo("POST");
+        assertThat(record.path()).isEqualTo("/foo?bar=baz");
+        assertThat(record.clientAddress()).isEqualTo(
+                ((ServiceRequestContext) log.context()).clientAddress().getHostAddress());
+        assertThat(record.serviceName()).isEqualTo(log.serviceName());
+        assertThat(record.responseCause()).isNull();
+
+        assertThat(records.get(1).path()).isEqualTo("/qux");
+        assertThat(records.get(1).responseCause()).isEqualTo(IllegalStateException.class.getName());
+    }
+
+    @Test
+    void rollOver() throws Exception {
+        final BinaryAccessLogWriter writer = BinaryAccessLogWriter.builder(tempDir)
+                                                                  .segmentSize(4096)
+                                                                  .syncIntervalMillis(10)
+                                                                  .build();
+        for (int i = 0; i < 100; i++) {
+            writer.log(newRequestLog("/" + i, null));
+        }
+        writer.shutdown().join();
+
+        final List<Path> files = listFiles();
+        assertThat(files.size()).isGreaterThan(1);
+        final List<String> paths = new ArrayList<>();
+        for (Path file : files) {
+            // A rolled-over file is truncated to the size of its records.
+            assertThat(Files.size(file)).isLessThan(4096);
+            for (BinaryAccessLogRecord record : readAll(file)) {
+                paths.add(record.path());
+            }
+        }
+        assertThat(paths).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(paths.get(i)).isEqualTo("/" + i);
+        }
+
+        // A new writer should not overwrite the existing files.
+        final BinaryAccessLogWriter writer2 = BinaryAccessLogWriter.of(tempDir);
+        writer2.log(newRequestLog("/new", null));
+        writer2.shutdown().join();
+        final List<Path> newFiles = listFiles();
+        assertThat(newFiles).hasSize(files.size() + 1);
+        assertThat(readAll(newFiles.get(newFiles.size() - 1)))
+                .extracting(BinaryAccessLogRecord::path).containsExactly("/new");
+    }
+
+    @Test
+    void stopAtCorruptedRecord() throws Exception {
+        final BinaryAccessLogWriter writer = BinaryAccessLogWriter.of(tempDir);
+        writer.log(newRequestLog("/1", null));
+        writer.log(newRequestLog("/2", null));
+        writer.shutdown().join();
+
+        final Path file = listFiles().get(0);
+        // Corrupt the last byte of the second record.
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            final ByteBuf buf = Unpooled.wrappedBuffer(new byte[] { 42 });
+            channel.write(buf.nioBuffer(), channel.size() - 1);
+        }
+        assertThat(readAll(file)).extracting(BinaryAccessLogRecord::path).containsExactly("/1");
+    }
+
+    @Test
+    void rejectUnknownFile() throws Exception {
+        final Path file = tempDir.resolve("foo");
+        Files.write(file, new byte[16]);
+        assertThatThrownBy(() -> BinaryAccessLogReader.of(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("not a binary access log file");
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> stream = Files.list(tempDir)) {
+            return stream.filter(p -> p.toString().endsWith(BinaryAccessLogWriter.FILE_EXTENSION))
+                         .sorted()
+                         .collect(Collectors.toList());
+        }
+    }
+
+    private static List<BinaryAccessLogRecord> readAll(Path file) throws IOException {
+        final List<BinaryAccessLogRecord> records = new ArrayList<>();
+        try (BinaryAccessLogReader reader = BinaryAccessLogReader.of(file)) {
+            BinaryAccessLogRecord record;
+            while ((record = reader.read()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private static RequestLog newRequestLog(String path, @Nullable Throwable cause) {
+        final HttpRequest req = HttpRequest.of(RequestHeaders.of(HttpMethod.POST, path));
+        final ServiceRequestContext ctx = ServiceRequestContext.of(req);
+        final RequestLogBuilder logBuilder = ctx.logBuilder();
+        logBuilder.requestLength(128);
+        logBuilder.endRequest();
+        logBuilder.responseHeaders(ResponseHeaders.of(HttpStatus.OK));
+        logBuilder.responseLength(1024);
+        if (cause != null) {
+            logBuilder.endResponse(cause);
+        } else {
+            logBuilder.endResponse();
+        }
+        return ctx.log().ensureComplete();
+    }
+}
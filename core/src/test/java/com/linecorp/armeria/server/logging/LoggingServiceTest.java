@@ -45,6 +45,7 @@ import com.linecorp.armeria.common.HttpHeaders;
 import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatusClass;
 import com.linecorp.armeria.common.RequestContext;
 import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.common.ResponseHeaders;
@@ -52,6 +53,7 @@ import com.linecorp.armeria.common.logging.LogFormatter;
 import com.linecorp.armeria.common.logging.LogLevel;
 import com.linecorp.armeria.common.logging.LogWriter;
 import com.linecorp.armeria.common.logging.RegexBasedSanitizer;
+import com.linecorp.armeria.common.logging.TailSampler;
 import com.linecorp.armeria.internal.common.logging.LoggingTestUtil;
 import com.linecorp.armeria.internal.testing.ImmediateEventLoop;
 import com.linecorp.armeria.server.HttpResponseException;
@@ -641,6 +643,51 @@ class LoggingServiceTest {
         verifyNoInteractions(logger);
     }
 
+    @Test
+    void shouldLogFailedRequestSampledByTailSampler() throws Exception {
+        final ServiceRequestContext ctx = serviceRequestContext();
+        final IllegalStateException cause = new IllegalStateException("Failed");
+        ctx.logBuilder().endResponse(cause);
+        final Logger logger = LoggingTestUtil.newMockLogger(ctx, capturedCause);
+        when(logger.isDebugEnabled()).thenReturn(false);
+        when(logger.isWarnEnabled()).thenReturn(true);
+
+        final LoggingService service =
+                LoggingService.builder()
+                              .logWriter(LogWriter.of(logger))
+                              .samplingRate(0.0f)
+                              .tailSampler(TailSampler.builder()
+                                                      .responseCause(IllegalStateException.class)
+                                                      .build())
+                              .newDecorator().apply(delegate);
+
+        service.serve(ctx, ctx.request());
+        verify(logger).isWarnEnabled();
+        verify(logger).warn(matches(".*Request:.*headers=\\[:method=GET, :path=/].*"));
+        verify(logger).warn(matches(".* Response: .*cause=java\\.lang\\.IllegalStateException: Failed.*"),
+                            same(cause));
+        verifyNoMoreInteractions(logger);
+    }
+
+    @Test
+    void shouldNotLogRequestNotSampledByTailSampler() throws Exception {
+        final ServiceRequestContext ctx = serviceRequestContext();
+        final Logger logger = LoggingTestUtil.newMockLogger(ctx, capturedCause);
+
+        final LoggingService service =
+                LoggingService.builder()
+                              .logWriter(LogWriter.of(logger))
+                              .samplingRate(0.0f)
+                              .tailSampler(TailSampler.builder()
+                                                      .statusClass(HttpStatusClass.SERVER_ERROR)
+                                                      .anyResponseCause()
+                                                      .build())
+                              .newDecorator().apply(delegate);
+
+        service.serve(ctx, ctx.request());
+        verifyNoInteractions(logger);
+    }
+
     @Test
     void responseCauseFilter() throws Exception {
         final ServiceRequestContext ctx = serviceRequestContext();
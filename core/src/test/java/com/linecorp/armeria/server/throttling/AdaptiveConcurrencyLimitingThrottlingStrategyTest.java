@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.throttling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.metric.MoreMeters;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdaptiveConcurrencyLimitingThrottlingStrategyTest {
+
+    @Test
+    void shouldReleasePermitWhenLogIsComplete() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final AdaptiveConcurrencyLimitingThrottlingStrategy<HttpRequest> strategy =
+                AdaptiveConcurrencyLimitingThrottlingStrategy.<HttpRequest>builder()
+                                                             .name("test")
+                                                             .initialLimit(2)
+                                                             .meterRegistry(meterRegistry)
+                                                             .build();
+
+        final ServiceRequestContext ctx1 = newContext();
+        final ServiceRequestContext ctx2 = newContext();
+        final ServiceRequestContext ctx3 = newContext();
+        assertThat(accept(strategy, ctx1)).isTrue();
+        assertThat(accept(strategy, ctx2)).isTrue();
+        assertThat(accept(strategy, ctx3)).isFalse();
+        assertThat(strategy.inFlight()).isEqualTo(2);
+        assertThat(MoreMeters.measureAll(meterRegistry))
+                .containsEntry("armeria.server.throttling.concurrency.limit#value{strategy=test}", 2.0)
+                .containsEntry("armeria.server.throttling.concurrency.in.flight#value{strategy=test}", 2.0);
+
+        ctx1.logBuilder().endRequest();
+        ctx1.logBuilder().endResponse();
+        assertThat(strategy.inFlight()).isOne();
+        assertThat(accept(strategy, newContext())).isTrue();
+    }
+
+    @Test
+    void shouldValidateLimitRange() {
+        assertThatThrownBy(() -> AdaptiveConcurrencyLimitingThrottlingStrategy.builder()
+                                                                              .initialLimit(10)
+                                                                              .limitRange(1, 5)
+                                                                              .build())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static boolean accept(ThrottlingStrategy<HttpRequest> strategy, ServiceRequestContext ctx) {
+        return strategy.accept(ctx, ctx.request()).toCompletableFuture().join();
+    }
+
+    private static ServiceRequestContext newContext() {
+        return ServiceRequestContext.of(HttpRequest.of(HttpMethod.GET, "/"));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.grpc;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStreamNoFinalizer;
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
+
+/**
+ * A {@link Codec} which compresses and decompresses gRPC messages with Zstandard ({@code "zstd"}).
+ * <a href="https://github.com/luben/zstd-jni">zstd-jni</a> must be in the class path.
+ *
+ * <p>Register it to the {@link CompressorRegistry} and the {@link DecompressorRegistry} of the server and
+ * the client:
+ * <pre>{@code
+ * final ZstdCodec zstd = ZstdCodec.of();
+ * final CompressorRegistry compressorRegistry = CompressorRegistry.newEmptyInstance();
+ * compressorRegistry.register(zstd);
+ * final DecompressorRegistry decompressorRegistry =
+ *         DecompressorRegistry.getDefaultInstance().with(zstd, true);
+ *
+ * GrpcService.builder()
+ *            .compressorRegistry(compressorRegistry)
+ *            .decompressorRegistry(decompressorRegistry)
+ *            ...
+ *
+ * GrpcClients.builder(uri)
+ *            .compressor(zstd)
+ *            .decompressorRegistry(decompressorRegistry)
+ *            ...
+ * }</pre>
+ */
+@UnstableApi
+public final class ZstdCodec implements Codec {
+
+    // The default level of Zstandard, which compresses better than gzip at a higher speed.
+    private static final int LEVEL = 3;
+
+    private static final ZstdCodec DEFAULT = new ZstdCodec(null, null, 0);
+
+    /**
+     * Returns the {@link ZstdCodec} which compresses messages without a dictionary.
+     */
+    public static ZstdCodec of() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a new {@link ZstdCodec} which compresses and decompresses messages with the specified
+     * dictionary. A dictionary trained with the sample messages improves the compression ratio of
+     * small messages significantly. The peer must use the same dictionary.
+     */
+    public static ZstdCodec of(byte[] dictionary) {
+        requireNonNull(dictionary, "dictionary");
+        checkArgument(dictionary.length > 0, "dictionary is empty.");
+        return new ZstdCodec(new ZstdDictCompress(dictionary, LEVEL), new ZstdDictDecompress(dictionary),
+                             dictionary.length);
+    }
+
+    @Nullable
+    private final ZstdDictCompress compressDictionary;
+    @Nullable
+    private final ZstdDictDecompress decompressDictionary;
+    private final int dictionaryLength;
+
+    private ZstdCodec(@Nullable ZstdDictCompress compressDictionary,
+                      @Nullable ZstdDictDecompress decompressDictionary, int dictionaryLength) {
+        this.compressDictionary = compressDictionary;
+        this.decompressDictionary = decompressDictionary;
+        this.dictionaryLength = dictionaryLength;
+    }
+
+    @Override
+    public String getMessageEncoding() {
+        return "zstd";
+    }
+
+    @Override
+    public OutputStream compress(OutputStream os) throws IOException {
+        // A compressing stream is always closed by the framer, which releases the native resources.
+        final ZstdOutputStreamNoFinalizer out = new ZstdOutputStreamNoFinalizer(os, LEVEL);
+        if (compressDictionary != null) {
+            out.setDict(compressDictionary);
+        }
+        return out;
+    }
+
+    @Override
+    public InputStream decompress(InputStream is) throws IOException {
+        // A decompressing stream may not be closed if a message is not parsed, so the one with a finalizer
+        // is used.
+        final ZstdInputStream in = new ZstdInputStream(is);
+        if (decompressDictionary != null) {
+            in.setDict(decompressDictionary);
+        }
+        return in;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("encoding", getMessageEncoding())
+                          .add("dictionaryLength", dictionaryLength)
+                          .toString();
+    }
+}
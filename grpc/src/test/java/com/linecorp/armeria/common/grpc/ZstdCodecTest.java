@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.grpc;
+
+import static com.linecorp.armeria.internal.common.grpc.GrpcTestUtil.REQUEST_MESSAGE;
+import static com.linecorp.armeria.internal.common.grpc.GrpcTestUtil.RESPONSE_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedTransferQueue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.client.grpc.GrpcClients;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.grpc.GrpcService;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
+import io.grpc.stub.StreamObserver;
+import testing.grpc.Messages.SimpleRequest;
+import testing.grpc.Messages.SimpleResponse;
+import testing.grpc.UnitTestServiceGrpc.UnitTestServiceBlockingStub;
+import testing.grpc.UnitTestServiceGrpc.UnitTestServiceImplBase;
+
+@EnabledIf("io.netty.handler.codec.compression.Zstd#isAvailable")
+class ZstdCodecTest {
+
+    private static final byte[] DICTIONARY =
+            Strings.repeat("armeria grpc zstd dictionary ", 32).getBytes(StandardCharsets.UTF_8);
+
+    private static final BlockingQueue<RequestLog> requestLogs = new LinkedTransferQueue<>();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.service(newService(ZstdCodec.of()));
+            sb.serviceUnder("/dictionary", newService(ZstdCodec.of(DICTIONARY)));
+            sb.decorator((delegate, ctx, req) -> {
+                ctx.log().whenComplete().thenAccept(requestLogs::add);
+                return delegate.serve(ctx, req);
+            });
+        }
+    };
+
+    private static GrpcService newService(ZstdCodec zstd) {
+        final CompressorRegistry compressorRegistry = CompressorRegistry.newEmptyInstance();
+        compressorRegistry.register(zstd);
+        return GrpcService.builder()
+                          .autoCompression(true)
+                          .compressorRegistry(compressorRegistry)
+                          .decompressorRegistry(DecompressorRegistry.emptyInstance().with(zstd, true))
+                          .addService(new UnitTestServiceImpl())
+                          .build();
+    }
+
+    @Test
+    void zstd() throws Exception {
+        final ZstdCodec zstd = ZstdCodec.of();
+        final UnitTestServiceBlockingStub client =
+                GrpcClients.builder(server.httpUri())
+                           .compressor(zstd)
+                           .decompressorRegistry(DecompressorRegistry.emptyInstance().with(zstd, true))
+                           .build(UnitTestServiceBlockingStub.class);
+        assertThat(client.staticUnaryCall(REQUEST_MESSAGE)).isEqualTo(RESPONSE_MESSAGE);
+
+        final RequestLog log = requestLogs.take();
+        assertThat(log.requestHeaders().get("grpc-encoding")).isEqualTo("zstd");
+        assertThat(log.responseHeaders().get("grpc-encoding")).isEqualTo("zstd");
+    }
+
+    @Test
+    void zstdWithDictionary() throws Exception {
+        final ZstdCodec zstd = ZstdCodec.of(DICTIONARY);
+        final UnitTestServiceBlockingStub client =
+                GrpcClients.builder(server.httpUri().resolve("/dictionary/"))
+                           .compressor(zstd)
+                           .decompressorRegistry(DecompressorRegistry.emptyInstance().with(zstd, true))
+                           .build(UnitTestServiceBlockingStub.class);
+        assertThat(client.staticUnaryCall(REQUEST_MESSAGE)).isEqualTo(RESPONSE_MESSAGE);
+
+        final RequestLog log = requestLogs.take();
+        assertThat(log.requestHeaders().get("grpc-encoding")).isEqualTo("zstd");
+        assertThat(log.responseHeaders().get("grpc-encoding")).isEqualTo("zstd");
+    }
+
+    private static class UnitTestServiceImpl extends UnitTestServiceImplBase {
+
+        @Override
+        public void staticUnaryCall(SimpleRequest request, StreamObserver<SimpleResponse> responseObserver) {
+            if (!request.equals(REQUEST_MESSAGE)) {
+                responseObserver.onError(new IllegalArgumentException("Unexpected request: " + request));
+                return;
+            }
+            responseObserver.onNext(RESPONSE_MESSAGE);
+            responseObserver.onCompleted();
+        }
+    }
+}
@@ -19,6 +19,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.apache.kafka.clients.producer.Callback;
@@ -28,8 +29,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.metric.MoreMeters;
+import com.linecorp.armeria.server.logging.AccessLogOverflowPolicy;
 import com.linecorp.armeria.server.logging.AccessLogWriter;
+import com.linecorp.armeria.server.logging.AsyncAccessLogWriter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 /**
  * An {@link AccessLogWriter} that sends access logs to a Kafka backend.
@@ -37,16 +47,58 @@ import com.linecorp.armeria.server.logging.AccessLogWriter;
  * <p>This method returns immediately after the {@link Producer#send(ProducerRecord, Callback)} returns rather
  * than waiting for returned {@link Future} completes so logs which are written and are not yet flushed can
  * be lost if an application crashes in unclean way.
+ *
+ * <p>Note that {@link Producer#send(ProducerRecord, Callback)} may block the calling thread, which is usually
+ * an event loop, when the buffer of the {@link Producer} is full, e.g. when the Kafka cluster is slow.
+ * Use {@link #builder(Producer, String, Function)} to create a {@link KafkaAccessLogWriter} which extracts
+ * and sends the records in batches from a dedicated thread through a bounded queue. It also exports
+ * the following meters:
+ * <ul>
+ *   <li>{@code <prefix>.queue.size} - the number of the access logs waiting to be sent</li>
+ *   <li>{@code <prefix>.dropped} - the number of the access logs dropped due to a full queue</li>
+ *   <li>{@code <prefix>.sent} - the number of the records sent to Kafka successfully</li>
+ *   <li>{@code <prefix>.failed} - the number of the records failed to be sent to Kafka</li>
+ *   <li>{@code <prefix>.serialization.duration} - the time taken to extract the key and the value of
+ *       a record</li>
+ *   <li>{@code <prefix>.send.duration} - the time taken by {@link Producer#send(ProducerRecord, Callback)},
+ *       which includes the time blocked due to a full buffer</li>
+ * </ul>
  */
 public final class KafkaAccessLogWriter<K, V> implements AccessLogWriter {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaAccessLogWriter.class);
 
+    /**
+     * Returns a new {@link KafkaAccessLogWriterBuilder} which builds a {@link KafkaAccessLogWriter} sending
+     * the access logs in batches from a dedicated thread.
+     *
+     * @param producer a Kafka {@link Producer} which is used to send logs to Kafka
+     * @param topic the name of topic which is used to send logs
+     * @param valueExtractor a {@link Function} that extracts a {@code V}-typed record value from
+     *                       a {@link RequestLog}. The {@link Function} is allowed to return {@code null}
+     *                       to skip logging for the given {@link RequestLog}.
+     */
+    @UnstableApi
+    public static <K, V> KafkaAccessLogWriterBuilder<K, V> builder(
+            Producer<K, V> producer, String topic,
+            Function<? super RequestLog, ? extends @Nullable V> valueExtractor) {
+        requireNonNull(producer, "producer");
+        requireNonNull(topic, "topic");
+        requireNonNull(valueExtractor, "valueExtractor");
+        return new KafkaAccessLogWriterBuilder<>(producer, topic, valueExtractor);
+    }
+
     private final Producer<K, V> producer;
     private final String topic;
     private final Function<? super RequestLog, ? extends @Nullable K> keyExtractor;
     private final Function<? super RequestLog, ? extends @Nullable V> valueExtractor;
 
+    // Set only when created by KafkaAccessLogWriterBuilder.
+    @Nullable
+    private final AsyncAccessLogWriter asyncWriter;
+    @Nullable
+    private final Meters meters;
+
     /**
      * Creates a new instance.
      *
@@ -80,10 +132,41 @@ public final class KafkaAccessLogWriter<K, V> implements AccessLogWriter {
         this.topic = requireNonNull(topic, "topic");
         this.keyExtractor = requireNonNull(keyExtractor, "keyExtractor");
         this.valueExtractor = requireNonNull(valueExtractor, "valueExtractor");
+        asyncWriter = null;
+        meters = null;
+    }
+
+    KafkaAccessLogWriter(Producer<K, V> producer, String topic,
+                         Function<? super RequestLog, ? extends @Nullable K> keyExtractor,
+                         Function<? super RequestLog, ? extends @Nullable V> valueExtractor,
+                         int queueCapacity, int batchSize, AccessLogOverflowPolicy overflowPolicy,
+                         MeterRegistry meterRegistry, MeterIdPrefix meterIdPrefix) {
+        this.producer = producer;
+        this.topic = topic;
+        this.keyExtractor = keyExtractor;
+        this.valueExtractor = valueExtractor;
+        meters = new Meters(meterRegistry, meterIdPrefix);
+        asyncWriter = AsyncAccessLogWriter.builder(this::send)
+                                          .queueCapacity(queueCapacity)
+                                          .batchSize(batchSize)
+                                          .overflowPolicy(overflowPolicy)
+                                          .meterRegistry(meterRegistry)
+                                          .meterIdPrefix(meterIdPrefix)
+                                          .build();
     }
 
     @Override
     public void log(RequestLog log) {
+        if (asyncWriter != null) {
+            asyncWriter.log(log);
+        } else {
+            send(log);
+        }
+    }
+
+    private void send(RequestLog log) {
+        final Meters meters = this.meters;
+        final long serializationStartNanos = meters != null ? System.nanoTime() : 0;
         final V value = valueExtractor.apply(log);
         if (value == null) {
             return;
@@ -91,15 +174,63 @@ public final class KafkaAccessLogWriter<K, V> implements AccessLogWriter {
 
         final K key = keyExtractor.apply(log);
         final ProducerRecord<K, V> producerRecord = new ProducerRecord<>(topic, key, value);
-        producer.send(producerRecord, (metadata, exception) -> {
-            if (exception != null) {
-                logger.warn("Failed to send a record to Kafka: {}", producerRecord, exception);
-            }
-        });
+        if (meters == null) {
+            producer.send(producerRecord, (metadata, exception) -> {
+                if (exception != null) {
+                    logger.warn("Failed to send a record to Kafka: {}", producerRecord, exception);
+                }
+            });
+            return;
+        }
+
+        final long sendStartNanos = System.nanoTime();
+        meters.serializationDuration.record(sendStartNanos - serializationStartNanos, TimeUnit.NANOSECONDS);
+        try {
+            producer.send(producerRecord, (metadata, exception) -> {
+                if (exception != null) {
+                    meters.failed.increment();
+                    logger.warn("Failed to send a record to Kafka: {}", producerRecord, exception);
+                } else {
+                    meters.sent.increment();
+                }
+            });
+        } catch (RuntimeException e) {
+            meters.failed.increment();
+            logger.warn("Failed to send a record to Kafka: {}", producerRecord, e);
+        } finally {
+            meters.sendDuration.record(System.nanoTime() - sendStartNanos, TimeUnit.NANOSECONDS);
+        }
     }
 
     @Override
     public CompletableFuture<Void> shutdown() {
+        if (asyncWriter != null) {
+            // Send the queued access logs before closing the producer.
+            return asyncWriter.shutdown().handle((unused, cause) -> null)
+                              .thenRunAsync(producer::close);
+        }
         return CompletableFuture.runAsync(producer::close);
     }
+
+    private static final class Meters {
+
+        final Counter sent;
+        final Counter failed;
+        final Timer serializationDuration;
+        final Timer sendDuration;
+
+        Meters(MeterRegistry registry, MeterIdPrefix idPrefix) {
+            sent = Counter.builder(idPrefix.name("sent"))
+                          .tags(idPrefix.tags())
+                          .description("The number of the records sent to Kafka successfully")
+                          .register(registry);
+            failed = Counter.builder(idPrefix.name("failed"))
+                            .tags(idPrefix.tags())
+                            .description("The number of the records failed to be sent to Kafka")
+                            .register(registry);
+            serializationDuration = MoreMeters.newTimer(registry, idPrefix.name("serialization.duration"),
+                                                        idPrefix.tags());
+            sendDuration = MoreMeters.newTimer(registry, idPrefix.name("send.duration"), idPrefix.tags());
+        }
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.logging.kafka;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import org.apache.kafka.clients.producer.Producer;
+
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.server.logging.AccessLogOverflowPolicy;
+import com.linecorp.armeria.server.logging.AsyncAccessLogWriterBuilder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * A builder for creating a {@link KafkaAccessLogWriter} which sends the access logs in batches from
+ * a dedicated thread.
+ *
+ * @see KafkaAccessLogWriter#builder(Producer, String, Function)
+ */
+@UnstableApi
+public final class KafkaAccessLogWriterBuilder<K, V> {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 8192;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final Producer<K, V> producer;
+    private final String topic;
+    private final Function<? super RequestLog, ? extends @Nullable V> valueExtractor;
+    private Function<? super RequestLog, ? extends @Nullable K> keyExtractor = log -> null;
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private AccessLogOverflowPolicy overflowPolicy = AccessLogOverflowPolicy.DROP;
+    private MeterRegistry meterRegistry = Flags.meterRegistry();
+    @Nullable
+    private MeterIdPrefix meterIdPrefix;
+
+    KafkaAccessLogWriterBuilder(Producer<K, V> producer, String topic,
+                                Function<? super RequestLog, ? extends @Nullable V> valueExtractor) {
+        this.producer = producer;
+        this.topic = topic;
+        this.valueExtractor = valueExtractor;
+    }
+
+    /**
+     * Sets the {@link Function} that extracts a {@code K}-typed record key from a {@link RequestLog}.
+     * The {@link Function} is allowed to return {@code null} to leave the record key unspecified.
+     * The record key is left unspecified if unset.
+     */
+    public KafkaAccessLogWriterBuilder<K, V> keyExtractor(
+            Function<? super RequestLog, ? extends @Nullable K> keyExtractor) {
+        this.keyExtractor = requireNonNull(keyExtractor, "keyExtractor");
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of the access logs waiting to be sent.
+     * Defaults to {@value #DEFAULT_QUEUE_CAPACITY} if unspecified.
+     *
+     * @see AsyncAccessLogWriterBuilder#queueCapacity(int)
+     */
+    public KafkaAccessLogWriterBuilder<K, V> queueCapacity(int queueCapacity) {
+        checkArgument(queueCapacity > 0, "queueCapacity: %s (expected: > 0)", queueCapacity);
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of the access logs sent at once by the sender thread.
+     * Defaults to {@value #DEFAULT_BATCH_SIZE} if unspecified.
+     *
+     * @see AsyncAccessLogWriterBuilder#batchSize(int)
+     */
+    public KafkaAccessLogWriterBuilder<K, V> batchSize(int batchSize) {
+        checkArgument(batchSize > 0, "batchSize: %s (expected: > 0)", batchSize);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the {@link AccessLogOverflowPolicy} which determines what to do when the queue is full,
+     * e.g. when the Kafka cluster is slow and {@link Producer#send} blocks.
+     * Defaults to {@link AccessLogOverflowPolicy#DROP} if unspecified.
+     */
+    public KafkaAccessLogWriterBuilder<K, V> overflowPolicy(AccessLogOverflowPolicy overflowPolicy) {
+        this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterRegistry} where the metrics of the {@link KafkaAccessLogWriter} are exported.
+     * Defaults to {@link Flags#meterRegistry()} if unspecified.
+     */
+    public KafkaAccessLogWriterBuilder<K, V> meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterIdPrefix} of the exported meters. Defaults to
+     * {@code armeria.server.access.log.kafka} if unspecified.
+     */
+    public KafkaAccessLogWriterBuilder<K, V> meterIdPrefix(MeterIdPrefix meterIdPrefix) {
+        this.meterIdPrefix = requireNonNull(meterIdPrefix, "meterIdPrefix");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link KafkaAccessLogWriter} based on the properties of this builder.
+     */
+    public KafkaAccessLogWriter<K, V> build() {
+        final MeterIdPrefix meterIdPrefix =
+                this.meterIdPrefix != null ? this.meterIdPrefix
+                                           : new MeterIdPrefix("armeria.server.access.log.kafka");
+        return new KafkaAccessLogWriter<>(producer, topic, keyExtractor, valueExtractor,
+                                          queueCapacity, batchSize, overflowPolicy,
+                                          meterRegistry, meterIdPrefix);
+    }
+}
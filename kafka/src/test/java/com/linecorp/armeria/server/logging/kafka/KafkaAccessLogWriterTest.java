@@ -17,6 +17,8 @@ package com.linecorp.armeria.server.logging.kafka;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
@@ -26,6 +28,7 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 
 import com.linecorp.armeria.common.HttpHeaderNames;
@@ -33,9 +36,13 @@ import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.common.logging.RequestLog;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.metric.MoreMeters;
 import com.linecorp.armeria.internal.testing.GenerateNativeImageTrace;
 import com.linecorp.armeria.server.ServiceRequestContext;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @GenerateNativeImageTrace
 class KafkaAccessLogWriterTest {
 
@@ -60,6 +67,9 @@ class KafkaAccessLogWriterTest {
     @Captor
     private ArgumentCaptor<ProducerRecord<String, String>> captor;
 
+    @Captor
+    private ArgumentCaptor<Callback> callbackCaptor;
+
     @Test
     void withoutKeyExtractor() {
         final KafkaAccessLogWriter<String, String> service =
@@ -98,4 +108,41 @@ class KafkaAccessLogWriterTest {
         service.shutdown().join();
         verify(producer, times(1)).close();
     }
+
+    @Test
+    void batching() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final KafkaAccessLogWriter<String, String> service =
+                KafkaAccessLogWriter.builder(producer, TOPIC_NAME,
+                                             log -> log.requestHeaders().authority())
+                                    .keyExtractor(log -> log.context().decodedPath())
+                                    .meterRegistry(registry)
+                                    .meterIdPrefix(new MeterIdPrefix("kafka"))
+                                    .build();
+
+        service.log(log);
+        service.log(log);
+
+        verify(producer, timeout(10000).times(2)).send(captor.capture(), callbackCaptor.capture());
+        for (ProducerRecord<String, String> record : captor.getAllValues()) {
+            assertThat(record.key()).isEqualTo("/kyuto");
+            assertThat(record.value()).isEqualTo("kawamuray");
+        }
+        callbackCaptor.getAllValues().get(0).onCompletion(null, null);
+        callbackCaptor.getAllValues().get(1).onCompletion(null, new IllegalStateException());
+
+        // The queued access logs are sent before closing the producer.
+        service.shutdown().join();
+        final InOrder inOrder = inOrder(producer);
+        inOrder.verify(producer, times(2)).send(any(), any(Callback.class));
+        inOrder.verify(producer).close();
+
+        assertThat(MoreMeters.measureAll(registry))
+                .containsEntry("kafka.queue.size#value", 0.0)
+                .containsEntry("kafka.dropped#count", 0.0)
+                .containsEntry("kafka.sent#count", 1.0)
+                .containsEntry("kafka.failed#count", 1.0)
+                .containsEntry("kafka.serialization.duration#count", 2.0)
+                .containsEntry("kafka.send.duration#count", 2.0);
+    }
 }